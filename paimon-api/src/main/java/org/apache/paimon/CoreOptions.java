@@ -599,6 +599,33 @@ public class CoreOptions implements Serializable {
                     .defaultValue(Duration.ofHours(1))
                     .withDescription("The maximum time of completed snapshots to retain.");
 
+    public static final ConfigOption<Boolean> SNAPSHOT_TIMELINE_INDEX_ENABLED =
+            key("snapshot.timeline-index.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the committer maintains a timeline index file in the snapshot directory. "
+                                    + "The index holds the commit time, watermark, commit user and commit identifier "
+                                    + "of each snapshot, so that time travel and commit identifier lookups can be "
+                                    + "resolved with one file read instead of probing snapshot files.");
+
+    public static final ConfigOption<Integer> SNAPSHOT_TIMELINE_INDEX_INTERVAL =
+            key("snapshot.timeline-index.interval")
+                    .intType()
+                    .defaultValue(20)
+                    .withDescription(
+                            "The number of snapshots between two updates of the timeline index. Snapshots "
+                                    + "committed after the last update are still probed from snapshot files.");
+
+    public static final ConfigOption<Integer> SNAPSHOT_TIMELINE_INDEX_MAX_READS =
+            key("snapshot.timeline-index.max-reads-per-update")
+                    .intType()
+                    .defaultValue(100)
+                    .withDescription(
+                            "The maximum number of snapshot files read by the committer to update the "
+                                    + "timeline index. Newer snapshots are indexed first, older snapshots "
+                                    + "of an existing table are indexed over the following updates.");
+
     public static final ConfigOption<Integer> CHANGELOG_NUM_RETAINED_MIN =
             key("changelog.num-retained.min")
                     .intType()
@@ -771,6 +798,16 @@ public class CoreOptions implements Serializable {
                     .defaultValue(true)
                     .withDescription("Whether the write buffer can be spillable.");
 
+    public static final ConfigOption<Boolean> WRITE_BUFFER_ASYNC_FLUSH =
+            key("write-buffer-async-flush")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "This option only works for primary key table. Whether to split the "
+                                    + "write buffer into two halves, so that one half is flushed to "
+                                    + "level 0 files in the background while the other half keeps "
+                                    + "accepting records.");
+
     public static final ConfigOption<Boolean> WRITE_BUFFER_FOR_APPEND =
             key("write-buffer-for-append")
                     .booleanType()
@@ -926,6 +963,40 @@ public class CoreOptions implements Serializable {
                             "The size amplification is defined as the amount (in percentage) of additional storage "
                                     + "needed to store a single byte of data in the merge tree for changelog mode table.");
 
+    public static final ConfigOption<Boolean> COMPACTION_ADAPTIVE_ENABLED =
+            key("compaction.adaptive.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to adapt the sorted run compaction trigger of each bucket to its lookup "
+                                    + "read pressure. Hot buckets compact eagerly to reduce read amplification, cold "
+                                    + "buckets let sorted runs, including level 0 files, accumulate up to "
+                                    + "'num-sorted-run.stop-trigger'. The read pressure is only observed from the "
+                                    + "table queries served in the same JVM as the writer, it is neither persisted "
+                                    + "nor shared with other processes, so a bucket whose queries run elsewhere keeps "
+                                    + "the configured trigger. Only takes effect for tables that lookup during "
+                                    + "compaction.");
+
+    public static final ConfigOption<Double> COMPACTION_ADAPTIVE_HOT_PROBES_PER_SECOND =
+            key("compaction.adaptive.hot-probes-per-second")
+                    .doubleType()
+                    .defaultValue(1000d)
+                    .withDescription(
+                            "The rate of file probes by lookups at which a bucket is considered fully hot by "
+                                    + "adaptive compaction, lower rates interpolate the trigger towards the stop trigger. "
+                                    + "The rate is scaled by the observed write amplification of the bucket, so that "
+                                    + "buckets rewriting much data need more lookups to compact eagerly.");
+
+    public static final ConfigOption<MemorySize> COMPACTION_ADAPTIVE_IO_BUDGET =
+            key("compaction.adaptive.io-budget")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The bytes per second each writer may rewrite by optional adaptive compactions, "
+                                    + "shared by all its buckets. Only rewritten files are charged, files upgraded to "
+                                    + "another level are free. Full compactions and compactions at the stop "
+                                    + "trigger are never deferred by the budget.");
+
     public static final ConfigOption<Boolean> COMPACTION_FORCE_UP_LEVEL_0 =
             key("compaction.force-up-level-0")
                     .booleanType()
@@ -1485,6 +1556,16 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The fraction of cache memory that is reserved for high-priority data like index, filter.");
 
+    public static final ConfigOption<Boolean> LOOKUP_CACHE_SHARED =
+            key("lookup.cache.shared")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to share the lookup block cache among all lookup files and tables "
+                                    + "with the same cache memory size and high priority pool ratio in "
+                                    + "the process. The shared cache is concurrent and uses frequency-based "
+                                    + "admission, which reduces cache churn when a process hosts many lookup files.");
+
     public static final ConfigOption<Boolean> LOOKUP_CACHE_BLOOM_FILTER_ENABLED =
             key("lookup.cache.bloom.filter.enabled")
                     .booleanType()
@@ -1498,6 +1579,17 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Define the default false positive probability for lookup cache bloom filters.");
 
+    public static final ConfigOption<Integer> LOOKUP_PREFETCH_PARALLELISM =
+            key("lookup.prefetch.parallelism")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "When set, the lookup files of the data files of a bucket are created "
+                                    + "concurrently by this number of threads as soon as the bucket is "
+                                    + "first accessed by table query, instead of one at a time on demand. "
+                                    + "Only files which fit into the free capacity of the lookup cache "
+                                    + "are prefetched.");
+
     public static final ConfigOption<Boolean> LOOKUP_REMOTE_FILE_ENABLED =
             key("lookup.remote-file.enabled")
                     .booleanType()
@@ -1518,6 +1610,17 @@ public class CoreOptions implements Serializable {
                     .defaultValue(1024)
                     .withDescription("Read batch size for any file format if it supports.");
 
+    public static final ConfigOption<Boolean> READ_LATE_MATERIALIZATION =
+            key("read.late-materialization.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to materialize columns lazily when reading parquet and orc files "
+                                    + "with pushed down filters. The columns referenced by the filters "
+                                    + "are decoded first and the filters are evaluated per row, the "
+                                    + "other columns are only decoded for the matched rows. Rows not "
+                                    + "matching the filters are dropped by the file reader.");
+
     public static final ConfigOption<Integer> WRITE_BATCH_SIZE =
             key("write.batch-size")
                     .intType()
@@ -2051,6 +2154,17 @@ public class CoreOptions implements Serializable {
                     .defaultValue(false)
                     .withDescription("Whether to enable modifying deletion vectors mode.");
 
+    public static final ConfigOption<MemorySize> DELETION_VECTOR_INDEX_FILE_DELTA_THRESHOLD =
+            key("deletion-vector.index-file.delta-threshold")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "If set, a commit of a bucket only writes the changed deletion vectors "
+                                    + "since the last full deletion vector index file into a delta "
+                                    + "index file, instead of rewriting all deletion vectors of the "
+                                    + "bucket. Once the delta index file exceeds this threshold, "
+                                    + "the next commit folds the delta back into a full index file.");
+
     public static final ConfigOption<MemorySize> DELETION_VECTOR_INDEX_FILE_TARGET_SIZE =
             key("deletion-vector.index-file.target-size")
                     .memoryType()
@@ -2631,6 +2745,18 @@ public class CoreOptions implements Serializable {
                     .defaultValue(false)
                     .withDescription("Whether discard duplicate files in commit.");
 
+    public static final ConfigOption<Integer> COMMIT_BASE_ENTRIES_CACHE_MAX_ENTRIES =
+            key("commit.base-entries-cache.max-entries")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "If set, the committer keeps the live files of the partitions it has "
+                                    + "checked for conflicts in memory, and refreshes them by reading "
+                                    + "only the delta manifests of new snapshots, instead of scanning "
+                                    + "all files of the changed partitions for every commit and retry. "
+                                    + "This is the maximum number of cached file entries, the least "
+                                    + "recently used partitions are evicted beyond it.");
+
     public static final ConfigOption<Boolean> POSTPONE_BATCH_WRITE_FIXED_BUCKET =
             key("postpone.batch-write-fixed-bucket")
                     .booleanType()
@@ -3176,6 +3302,18 @@ public class CoreOptions implements Serializable {
         return options.get(SNAPSHOT_EXPIRE_LIMIT);
     }
 
+    public boolean snapshotTimelineIndexEnabled() {
+        return options.get(SNAPSHOT_TIMELINE_INDEX_ENABLED);
+    }
+
+    public int snapshotTimelineIndexInterval() {
+        return options.get(SNAPSHOT_TIMELINE_INDEX_INTERVAL);
+    }
+
+    public int snapshotTimelineIndexMaxReads() {
+        return options.get(SNAPSHOT_TIMELINE_INDEX_MAX_READS);
+    }
+
     public boolean cleanEmptyDirectories() {
         return options.get(SNAPSHOT_CLEAN_EMPTY_DIRECTORIES);
     }
@@ -3256,6 +3394,10 @@ public class CoreOptions implements Serializable {
         return options.get(WRITE_BUFFER_MAX_DISK_SIZE);
     }
 
+    public boolean writeBufferAsyncFlush() {
+        return options.get(WRITE_BUFFER_ASYNC_FLUSH);
+    }
+
     public boolean useWriteBufferForAppend() {
         return options.get(WRITE_BUFFER_FOR_APPEND);
     }
@@ -3307,6 +3449,11 @@ public class CoreOptions implements Serializable {
         return options.get(LOOKUP_CACHE_MAX_MEMORY_SIZE);
     }
 
+    @Nullable
+    public Integer lookupPrefetchParallelism() {
+        return options.get(LOOKUP_PREFETCH_PARALLELISM);
+    }
+
     public boolean lookupRemoteFileEnabled() {
         return options.get(LOOKUP_REMOTE_FILE_ENABLED);
     }
@@ -3319,6 +3466,10 @@ public class CoreOptions implements Serializable {
         return options.get(LOOKUP_CACHE_HIGH_PRIO_POOL_RATIO);
     }
 
+    public boolean lookupCacheShared() {
+        return options.get(LOOKUP_CACHE_SHARED);
+    }
+
     public long targetFileSize(boolean hasPrimaryKey) {
         return options.getOptional(TARGET_FILE_SIZE)
                 .orElse(hasPrimaryKey ? VALUE_128_MB : VALUE_256_MB)
@@ -3478,6 +3629,19 @@ public class CoreOptions implements Serializable {
         return options.get(COMPACTION_MAX_SIZE_AMPLIFICATION_PERCENT);
     }
 
+    public boolean compactionAdaptiveEnabled() {
+        return options.get(COMPACTION_ADAPTIVE_ENABLED);
+    }
+
+    public double compactionAdaptiveHotProbesPerSecond() {
+        return options.get(COMPACTION_ADAPTIVE_HOT_PROBES_PER_SECOND);
+    }
+
+    @Nullable
+    public MemorySize compactionAdaptiveIoBudget() {
+        return options.get(COMPACTION_ADAPTIVE_IO_BUDGET);
+    }
+
     public boolean compactionForceUpLevel0() {
         return options.get(COMPACTION_FORCE_UP_LEVEL_0);
     }
@@ -3974,6 +4138,11 @@ public class CoreOptions implements Serializable {
         return options.get(COMMIT_DISCARD_DUPLICATE_FILES);
     }
 
+    @Nullable
+    public Integer commitBaseEntriesCacheMaxEntries() {
+        return options.get(COMMIT_BASE_ENTRIES_CACHE_MAX_ENTRIES);
+    }
+
     private Map<String, String> callbacks(
             ConfigOption<String> callbacks, ConfigOption<String> callbackParam) {
         Map<String, String> result = new HashMap<>();
@@ -4013,6 +4182,10 @@ public class CoreOptions implements Serializable {
         return options.get(ZORDER_VAR_LENGTH_CONTRIBUTION);
     }
 
+    public boolean readLateMaterialization() {
+        return options.get(READ_LATE_MATERIALIZATION);
+    }
+
     public boolean deletionVectorsEnabled() {
         return options.get(DELETION_VECTORS_ENABLED);
     }
@@ -4036,6 +4209,11 @@ public class CoreOptions implements Serializable {
         return options.get(DELETION_VECTOR_INDEX_FILE_TARGET_SIZE);
     }
 
+    @Nullable
+    public MemorySize dvIndexFileDeltaThreshold() {
+        return options.get(DELETION_VECTOR_INDEX_FILE_DELTA_THRESHOLD);
+    }
+
     public boolean deletionVectorBitmap64() {
         return options.get(DELETION_VECTOR_BITMAP64);
     }
@@ -144,6 +144,24 @@ public class CatalogOptions {
                                     + "'cache.manifest.max-memory' (size the total heap memory to at "
                                     + "least roughly twice that value).");
 
+    public static final ConfigOption<String> CACHE_MANIFEST_DISK_DIR =
+            key("cache.manifest.disk-dir")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Local directory to persist decoded manifest content cached by the catalog, "
+                                    + "keyed by manifest file name and size. It survives restarts, but "
+                                    + "must not be used by several processes at the same time. "
+                                    + "Disabled if not configured.");
+
+    public static final ConfigOption<MemorySize> CACHE_MANIFEST_DISK_MAX_SIZE =
+            key("cache.manifest.disk-max-size")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Maximum total size of the manifest disk cache in 'cache.manifest.disk-dir'. "
+                                    + "Unlimited by default.");
+
     public static final ConfigOption<Integer> CACHE_SNAPSHOT_MAX_NUM_PER_TABLE =
             key("cache.snapshot.max-num-per-table")
                     .intType()
@@ -230,12 +248,49 @@ public class CatalogOptions {
                     .withDescription(
                             "Maximum total size of the local block cache. Unlimited by default.");
 
+    public static final ConfigOption<MemorySize> LOCAL_CACHE_SEGMENT_SIZE =
+            key("local-cache.segment-size")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "If configured, the disk cache stores blocks in preallocated and memory "
+                                    + "mapped segment files of this size instead of one file per "
+                                    + "block. Requires local-cache.max-size to bound the disk usage.");
+
     public static final ConfigOption<MemorySize> LOCAL_CACHE_BLOCK_SIZE =
             key("local-cache.block-size")
                     .memoryType()
                     .defaultValue(ofMebiBytes(1))
                     .withDescription("Block size for local cache.");
 
+    public static final ConfigOption<Duration> LOCAL_CACHE_FILE_STATUS_TTL =
+            key("local-cache.file-status.ttl")
+                    .durationType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Time to live of the cached status of the files in local-cache.whitelist. "
+                                    + "If not configured, file status is not cached and always "
+                                    + "requested from the file system. Deletions by other processes "
+                                    + "are not observed until the cached status expires, so exists "
+                                    + "checks may still report such files in the meantime.");
+
+    public static final ConfigOption<Integer> LOCAL_CACHE_FILE_STATUS_MAX_ENTRIES =
+            key("local-cache.file-status.max-entries")
+                    .intType()
+                    .defaultValue(10000)
+                    .withDescription("Maximum number of cached file status.");
+
+    public static final ConfigOption<Boolean> LOCAL_CACHE_WRITE_THROUGH =
+            key("local-cache.write-through")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to populate the local cache with the files in local-cache.whitelist "
+                                    + "when writing them, so that reading them back in the same "
+                                    + "process does not download them again. Blocks are cached as "
+                                    + "soon as they are written and removed again if the file fails "
+                                    + "to be closed.");
+
     public static final ConfigOption<String> LOCAL_CACHE_WHITELIST =
             key("local-cache.whitelist")
                     .stringType()
@@ -124,6 +124,64 @@ public class ThreadPoolUtils {
                 };
     }
 
+    /**
+     * This method aims to parallel process tasks in a pipelined way and return values sequentially.
+     * Different from {@link #sequentialBatchedExecute}, there is no barrier between batches: at
+     * most {@code windowSize} tasks are submitted or completed but not yet consumed, and a new task
+     * is submitted as soon as the head of the window is consumed. So memory stays bounded by the
+     * window while the executor is kept busy.
+     */
+    public static <T, U> Iterator<T> sequentialPipelinedExecute(
+            ExecutorService executor,
+            Function<U, List<T>> processor,
+            List<U> input,
+            int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("window size should be positive");
+        }
+
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        Iterator<U> inputIterator = input.iterator();
+        Queue<Future<List<T>>> window = new ArrayDeque<>(Math.min(windowSize, input.size()));
+        return Iterators.concat(
+                new Iterator<Iterator<T>>() {
+                    @Override
+                    public boolean hasNext() {
+                        fillWindow();
+                        return !window.isEmpty();
+                    }
+
+                    @Override
+                    public Iterator<T> next() {
+                        fillWindow();
+                        Future<List<T>> head = window.poll();
+                        if (head == null) {
+                            throw new NoSuchElementException();
+                        }
+                        try {
+                            return head.get().iterator();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new RuntimeException(e);
+                        } catch (ExecutionException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+
+                    private void fillWindow() {
+                        while (window.size() < windowSize && inputIterator.hasNext()) {
+                            U u = inputIterator.next();
+                            window.add(
+                                    executor.submit(
+                                            () -> {
+                                                Thread.currentThread().setContextClassLoader(cl);
+                                                return processor.apply(u);
+                                            }));
+                        }
+                    }
+                });
+    }
+
     public static <U> void randomlyOnlyExecute(
             ExecutorService executor, Consumer<U> processor, Collection<U> input) {
         awaitAllFutures(submitAllTasks(executor, processor, input));
@@ -26,6 +26,7 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -40,6 +41,8 @@ public class Benchmark {
 
     private boolean outputPerIteration;
 
+    private boolean measureAllocation;
+
     private final List<Case> cases;
 
     public Benchmark(String name, long valuesPerIteration) {
@@ -47,6 +50,7 @@ public class Benchmark {
         this.valuesPerIteration = valuesPerIteration;
         this.numWarmupIters = 1;
         this.outputPerIteration = false;
+        this.measureAllocation = false;
         this.cases = new ArrayList<>();
     }
 
@@ -72,8 +76,13 @@ public class Benchmark {
         System.out.println(getJVMOSInfo());
         System.out.println(getProcessorName());
         System.out.printf(
-                "%-100s %16s %16s %16s %10s%n",
-                name + ":", "Best/Avg Time(ms)", "Row Rate(K/s)", "Per Row(ns)", "Relative");
+                "%-100s %16s %16s %16s %10s%s%n",
+                name + ":",
+                "Best/Avg Time(ms)",
+                "Row Rate(K/s)",
+                "Per Row(ns)",
+                "Relative",
+                measureAllocation ? String.format(" %16s", "Alloc/Row(B)") : "");
         System.out.println(
                 "----------------------------------------------------"
                         + "-----------------------------------------------------------------------"
@@ -82,12 +91,15 @@ public class Benchmark {
             final Case c = cases.get(i);
             final Result r = results.get(i);
             System.out.printf(
-                    "%-100s %16s %16s %16s %10s%n",
+                    "%-100s %16s %16s %16s %10s%s%n",
                     "OPERATORTEST_" + name + "_" + c.name,
                     String.format("%5.0f / %4.0f", r.bestNs / 1000_000.0, r.avgNs / 1000_000.0),
                     String.format("%10.1f", r.bestRate),
                     String.format("%6.1f", 1000000 / r.bestRate),
-                    String.format("%3.1fX", (firstBest / r.bestNs)));
+                    String.format("%3.1fX", (firstBest / r.bestNs)),
+                    measureAllocation
+                            ? String.format(" %16.1f", r.avgAllocatedBytes / valuesPerIteration)
+                            : "");
         }
         System.out.println("\n\n\n");
     }
@@ -100,13 +112,18 @@ public class Benchmark {
         }
 
         long totalTime = 0;
+        long totalAllocated = 0;
         long best = Long.MAX_VALUE;
         for (int iter = 0; iter < c.numIters; ++iter) {
+            long allocatedBefore = measureAllocation ? allocatedBytes() : 0;
             Timer timer = new Timer();
             timer.startTimer();
             c.runnable.run();
             timer.stopTimer();
             long runTime = timer.totalTime();
+            if (measureAllocation) {
+                totalAllocated += allocatedBytes() - allocatedBefore;
+            }
 
             totalTime += runTime;
             if (runTime < best) {
@@ -121,7 +138,22 @@ public class Benchmark {
         System.out.println(
                 "  Stopped after " + c.numIters + " iterations, " + totalTime / 1000000 + " ms");
         return new Result(
-                1.0 * totalTime / c.numIters, valuesPerIteration / (best / 1000000.0), best);
+                1.0 * totalTime / c.numIters,
+                valuesPerIteration / (best / 1000000.0),
+                best,
+                1.0 * totalAllocated / c.numIters);
+    }
+
+    /** Bytes allocated by the current thread, the cases are run in the calling thread. */
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /** Whether to report the average bytes allocated per row, like a gc profiler. */
+    public Benchmark setMeasureAllocation(boolean measureAllocation) {
+        this.measureAllocation = measureAllocation;
+        return this;
     }
 
     public Benchmark setOutputPerIteration(boolean outputPerIteration) {
@@ -213,10 +245,13 @@ public class Benchmark {
         private final double bestRate;
         private final double bestNs;
 
-        Result(double avgNs, double bestRate, double bestNs) {
+        private final double avgAllocatedBytes;
+
+        Result(double avgNs, double bestRate, double bestNs, double avgAllocatedBytes) {
             this.avgNs = avgNs;
             this.bestRate = bestRate;
             this.bestNs = bestNs;
+            this.avgAllocatedBytes = avgAllocatedBytes;
         }
     }
 
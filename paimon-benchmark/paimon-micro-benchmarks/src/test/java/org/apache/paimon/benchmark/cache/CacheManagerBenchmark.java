@@ -19,6 +19,9 @@
 package org.apache.paimon.benchmark.cache;
 
 import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.fs.cache.LocalCacheManager;
+import org.apache.paimon.fs.cache.LocalDiskCacheManager;
+import org.apache.paimon.fs.cache.SlabDiskCacheManager;
 import org.apache.paimon.io.cache.Cache;
 import org.apache.paimon.io.cache.CacheKey;
 import org.apache.paimon.io.cache.CacheManager;
@@ -30,6 +33,10 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.File;
 import java.io.RandomAccessFile;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -79,4 +86,70 @@ public class CacheManagerBenchmark {
         }
         benchmark.run();
     }
+
+    @Test
+    public void testLocalDiskCache() throws Exception {
+        Benchmark benchmark =
+                new Benchmark("local-disk-cache-benchmark", 100)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        int blockSize = 64 * 1024;
+        // capacity of 512 blocks, accessing 1024 blocks with a skewed distribution
+        long maxSize = 512L * blockSize;
+        addLocalDiskCacheCase(
+                benchmark,
+                "per-block-files",
+                () ->
+                        new LocalDiskCacheManager(
+                                new File(tempDir.toFile(), "files").getPath(), maxSize, blockSize));
+        addLocalDiskCacheCase(
+                benchmark,
+                "slab-segments",
+                () ->
+                        new SlabDiskCacheManager(
+                                new File(tempDir.toFile(), "slab").getPath(),
+                                maxSize,
+                                blockSize,
+                                64L * 1024 * 1024));
+        benchmark.run();
+    }
+
+    private void addLocalDiskCacheCase(
+            Benchmark benchmark, String name, Supplier<LocalCacheManager> cacheSupplier) {
+        LocalCacheManager cache = cacheSupplier.get();
+        byte[] block = new byte[cache.blockSize()];
+        new Random(0).nextBytes(block);
+        benchmark.addCase(
+                name,
+                5,
+                () -> {
+                    List<Thread> threads = new ArrayList<>();
+                    for (int t = 0; t < 8; t++) {
+                        Random random = new Random(t);
+                        threads.add(
+                                new Thread(
+                                        () -> {
+                                            for (int i = 0; i < 2000; i++) {
+                                                int index =
+                                                        Math.min(
+                                                                random.nextInt(1024),
+                                                                random.nextInt(1024));
+                                                if (cache.getBlock("file", index) == null) {
+                                                    cache.putBlock("file", index, block);
+                                                }
+                                            }
+                                        }));
+                    }
+                    try {
+                        for (Thread thread : threads) {
+                            thread.start();
+                        }
+                        for (Thread thread : threads) {
+                            thread.join();
+                        }
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+    }
 }
@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.mergetree;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.SortEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.FileReaderFactory;
+import org.apache.paimon.mergetree.MergeSorter;
+import org.apache.paimon.mergetree.MergeTreeReaders;
+import org.apache.paimon.mergetree.SortedRun;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.mergetree.compact.LookupMergeFunction;
+import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
+import org.apache.paimon.mergetree.compact.PartialUpdateMergeFunction;
+import org.apache.paimon.mergetree.compact.ReducerMergeFunctionWrapper;
+import org.apache.paimon.mergetree.compact.SortMergeReader;
+import org.apache.paimon.mergetree.compact.SortMergeReaderWithLoserTree;
+import org.apache.paimon.mergetree.compact.SortMergeReaderWithMinHeap;
+import org.apache.paimon.mergetree.compact.aggregate.AggregateMergeFunction;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.IteratorRecordReader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.apache.paimon.stats.SimpleStats.EMPTY_STATS;
+
+/**
+ * Benchmark for the merge-tree read path: {@link SortMergeReaderWithLoserTree} against {@link
+ * SortMergeReaderWithMinHeap}, {@link MergeTreeReaders} over many sorted runs and the merge
+ * functions on top of them. Cases are parameterized by the number of runs, the key width and the
+ * key overlap ratio between runs, and report the allocated bytes per row.
+ */
+public class MergeTreeReadBenchmark {
+
+    private static final int ROWS_PER_RUN = 100_000;
+    private static final int FILES_PER_RUN = 10;
+
+    private static final RowType KEY_TYPE = RowType.of(DataTypes.STRING().notNull());
+    private static final RowType VALUE_TYPE =
+            RowType.of(
+                    new DataType[] {
+                        DataTypes.STRING().notNull(), DataTypes.INT(), DataTypes.BIGINT()
+                    },
+                    new String[] {"k", "f0", "f1"});
+    private static final Comparator<InternalRow> KEY_COMPARATOR =
+            Comparator.comparing((InternalRow row) -> row.getString(0));
+
+    @Test
+    public void testSortEngines() {
+        for (int numRuns : new int[] {2, 10, 50}) {
+            for (double overlap : new double[] {0.0, 0.5, 1.0}) {
+                List<List<KeyValue>> runs = generateRuns(numRuns, 16, overlap);
+                Benchmark benchmark =
+                        new Benchmark(
+                                        String.format(
+                                                "sort-merge-runs-%d-overlap-%.1f",
+                                                numRuns, overlap),
+                                        (long) numRuns * ROWS_PER_RUN)
+                                .setNumWarmupIters(1)
+                                .setMeasureAllocation(true);
+                for (SortEngine engine : SortEngine.values()) {
+                    benchmark.addCase(
+                            engine.toString(),
+                            5,
+                            () ->
+                                    drain(
+                                            SortMergeReader.createSortMergeReader(
+                                                    readers(runs),
+                                                    KEY_COMPARATOR,
+                                                    null,
+                                                    new ReducerMergeFunctionWrapper(
+                                                            DeduplicateMergeFunction.factory()
+                                                                    .create()),
+                                                    engine)));
+                }
+                benchmark.run();
+            }
+        }
+    }
+
+    @Test
+    public void testKeyWidth() {
+        Benchmark benchmark =
+                new Benchmark("sort-merge-key-width", 10L * ROWS_PER_RUN)
+                        .setNumWarmupIters(1)
+                        .setMeasureAllocation(true);
+        for (int keyWidth : new int[] {8, 64, 256}) {
+            List<List<KeyValue>> runs = generateRuns(10, keyWidth, 0.5);
+            for (SortEngine engine : SortEngine.values()) {
+                benchmark.addCase(
+                        String.format("width-%d-%s", keyWidth, engine),
+                        5,
+                        () ->
+                                drain(
+                                        SortMergeReader.createSortMergeReader(
+                                                readers(runs),
+                                                KEY_COMPARATOR,
+                                                null,
+                                                new ReducerMergeFunctionWrapper(
+                                                        DeduplicateMergeFunction.factory()
+                                                                .create()),
+                                                engine)));
+            }
+        }
+        benchmark.run();
+    }
+
+    @Test
+    public void testMergeFunctions() {
+        List<List<KeyValue>> runs = generateRuns(10, 16, 0.5);
+        Benchmark benchmark =
+                new Benchmark("merge-functions", 10L * ROWS_PER_RUN)
+                        .setNumWarmupIters(1)
+                        .setMeasureAllocation(true);
+        Map<String, MergeFunctionFactory<KeyValue>> mergeFunctions = mergeFunctions();
+        for (Map.Entry<String, MergeFunctionFactory<KeyValue>> entry : mergeFunctions.entrySet()) {
+            MergeFunction<KeyValue> mergeFunction = entry.getValue().create();
+            benchmark.addCase(
+                    entry.getKey(),
+                    5,
+                    () ->
+                            drain(
+                                    SortMergeReader.createSortMergeReader(
+                                            readers(runs),
+                                            KEY_COMPARATOR,
+                                            null,
+                                            new ReducerMergeFunctionWrapper(mergeFunction),
+                                            SortEngine.LOSER_TREE)));
+        }
+        benchmark.run();
+    }
+
+    @Test
+    public void testMergeTreeReaders() {
+        for (int numRuns : new int[] {5, 20, 50}) {
+            List<List<KeyValue>> runs = generateRuns(numRuns, 16, 0.5);
+            Map<String, List<KeyValue>> files = new HashMap<>();
+            List<SortedRun> section = toSortedRuns(runs, files);
+            FileReaderFactory<KeyValue> readerFactory =
+                    file -> new IteratorRecordReader<>(files.get(file.fileName()).iterator());
+
+            Benchmark benchmark =
+                    new Benchmark(
+                                    "merge-tree-readers-runs-" + numRuns,
+                                    (long) numRuns * ROWS_PER_RUN)
+                            .setNumWarmupIters(1)
+                            .setMeasureAllocation(true);
+            for (SortEngine engine : SortEngine.values()) {
+                Options options = new Options();
+                options.set(CoreOptions.SORT_ENGINE, engine);
+                MergeSorter mergeSorter =
+                        new MergeSorter(new CoreOptions(options), KEY_TYPE, VALUE_TYPE, null);
+                benchmark.addCase(
+                        engine.toString(),
+                        5,
+                        () -> {
+                            try {
+                                drain(
+                                        MergeTreeReaders.readerForSection(
+                                                section,
+                                                readerFactory,
+                                                KEY_COMPARATOR,
+                                                null,
+                                                new ReducerMergeFunctionWrapper(
+                                                        DeduplicateMergeFunction.factory()
+                                                                .create()),
+                                                mergeSorter));
+                            } catch (IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+            }
+            benchmark.run();
+        }
+    }
+
+    private static Map<String, MergeFunctionFactory<KeyValue>> mergeFunctions() {
+        Map<String, MergeFunctionFactory<KeyValue>> factories = new LinkedHashMap<>();
+        factories.put("deduplicate", DeduplicateMergeFunction.factory());
+
+        Options partialUpdate = new Options();
+        factories.put(
+                "partial-update",
+                PartialUpdateMergeFunction.factory(
+                        partialUpdate, VALUE_TYPE, Collections.singletonList("k")));
+
+        Options aggregation = new Options();
+        aggregation.set("fields.f0.aggregate-function", "sum");
+        aggregation.set("fields.f1.aggregate-function", "max");
+        factories.put(
+                "aggregation",
+                AggregateMergeFunction.factory(
+                        aggregation, VALUE_TYPE, Collections.singletonList("k")));
+
+        factories.put(
+                "lookup-deduplicate",
+                LookupMergeFunction.wrap(
+                        DeduplicateMergeFunction.factory(),
+                        new CoreOptions(new Options()),
+                        KEY_TYPE,
+                        VALUE_TYPE));
+        return factories;
+    }
+
+    /**
+     * Generates sorted runs, the key ranges of two adjacent runs overlap by the given ratio. Newer
+     * runs have larger sequence numbers.
+     */
+    private static List<List<KeyValue>> generateRuns(int numRuns, int keyWidth, double overlap) {
+        Random random = new Random(42);
+        int step = (int) (ROWS_PER_RUN * (1 - overlap));
+        List<List<KeyValue>> runs = new ArrayList<>(numRuns);
+        long sequence = 0;
+        for (int i = 0; i < numRuns; i++) {
+            List<KeyValue> run = new ArrayList<>(ROWS_PER_RUN);
+            int start = i * step;
+            for (int j = 0; j < ROWS_PER_RUN; j++) {
+                BinaryString key = key(start + j, keyWidth);
+                run.add(
+                        new KeyValue()
+                                .replace(
+                                        GenericRow.of(key),
+                                        sequence++,
+                                        RowKind.INSERT,
+                                        GenericRow.of(key, random.nextInt(100), random.nextLong()))
+                                .setLevel(0));
+            }
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    /** Fixed width keys, so that the string order is the numeric order. */
+    private static BinaryString key(int i, int keyWidth) {
+        StringBuilder builder = new StringBuilder(keyWidth);
+        String digits = String.valueOf(i);
+        for (int j = digits.length(); j < keyWidth; j++) {
+            builder.append('0');
+        }
+        return BinaryString.fromString(builder.append(digits).toString());
+    }
+
+    private static List<SortedRun> toSortedRuns(
+            List<List<KeyValue>> runs, Map<String, List<KeyValue>> files) {
+        List<SortedRun> sortedRuns = new ArrayList<>();
+        int rowsPerFile = ROWS_PER_RUN / FILES_PER_RUN;
+        for (List<KeyValue> run : runs) {
+            List<DataFileMeta> metas = new ArrayList<>();
+            for (int i = 0; i < run.size(); i += rowsPerFile) {
+                List<KeyValue> fileRows = run.subList(i, Math.min(run.size(), i + rowsPerFile));
+                String fileName = "file-" + files.size();
+                files.put(fileName, fileRows);
+                metas.add(
+                        DataFileMeta.create(
+                                fileName,
+                                fileRows.size(),
+                                fileRows.size(),
+                                BinaryRow.singleColumn(fileRows.get(0).key().getString(0)),
+                                BinaryRow.singleColumn(
+                                        fileRows.get(fileRows.size() - 1).key().getString(0)),
+                                EMPTY_STATS,
+                                EMPTY_STATS,
+                                fileRows.get(0).sequenceNumber(),
+                                fileRows.get(fileRows.size() - 1).sequenceNumber(),
+                                0,
+                                0,
+                                Collections.emptyList(),
+                                0L,
+                                null,
+                                null,
+                                null,
+                                null,
+                                null,
+                                null));
+            }
+            sortedRuns.add(SortedRun.fromSorted(metas));
+        }
+        return sortedRuns;
+    }
+
+    private static List<RecordReader<KeyValue>> readers(List<List<KeyValue>> runs) {
+        List<RecordReader<KeyValue>> readers = new ArrayList<>(runs.size());
+        for (List<KeyValue> run : runs) {
+            readers.add(new IteratorRecordReader<>(run.iterator()));
+        }
+        return readers;
+    }
+
+    private static void drain(RecordReader<KeyValue> reader) {
+        long[] count = new long[1];
+        try (RecordReader<KeyValue> r = reader) {
+            r.forEachRemaining(kv -> count[0]++);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -76,6 +76,13 @@ public class CodeGeneratorImpl implements CodeGenerator {
                 .generateRecordEqualiser("RecordEqualiser");
     }
 
+    @Override
+    public GeneratedClass<RecordAggregator> generateRecordAggregator(
+            RowType rowType, List<String> aggFuncNames) {
+        return new AggregatorCodeGenerator(rowType, aggFuncNames.toArray(new String[0]))
+                .generateRecordAggregator("RecordAggregator");
+    }
+
     private SortSpec getSortSpec(int[] sortFields, boolean isAscendingOrder) {
         SortSpec.SortSpecBuilder builder = SortSpec.builder();
         for (int sortField : sortFields) {
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.codegen
+
+import org.apache.paimon.codegen.GenerateUtils._
+import org.apache.paimon.data.BinaryRow
+import org.apache.paimon.types.{DataType, RowType}
+import org.apache.paimon.types.DataTypeRoot._
+
+import scala.collection.JavaConverters._
+
+/**
+ * CodeGenerator for [[RecordAggregator]]. Each field is accumulated into a member of its primitive
+ * type, and the aggregate function of each field is resolved at generation time, so aggregating a
+ * row neither boxes values nor dispatches on types.
+ */
+class AggregatorCodeGenerator(rowType: RowType, aggFuncNames: Array[String]) {
+
+  private val RECORD_AGGREGATOR = className[RecordAggregator]
+  private val INPUT = DEFAULT_INPUT1_TERM
+  private val OUT = DEFAULT_OUT_RECORD_TERM
+  private val OUT_WRITER = DEFAULT_OUT_RECORD_WRITER_TERM
+
+  private val fieldTypes: Array[DataType] = rowType.getFieldTypes.asScala.toArray
+
+  if (fieldTypes.length != aggFuncNames.length) {
+    throw new CodeGenException(
+      s"Number of aggregate functions ${aggFuncNames.length} does not match " +
+        s"number of fields ${fieldTypes.length}.")
+  }
+
+  def generateRecordAggregator(name: String): GeneratedClass[RecordAggregator] = {
+    val ctx = new CodeGeneratorContext
+    val className = newName(name)
+
+    generateRecordStatement(rowType, classOf[BinaryRow], OUT, Some(OUT_WRITER), ctx)
+
+    val members = fieldTypes.indices.map {
+      i =>
+        s"""
+           |private boolean ${nullTerm(i)} = true;
+           |private ${primitiveTypeTermForType(fieldTypes(i))} ${accTerm(i)};
+           |""".stripMargin
+    }
+    val fieldMethods = fieldTypes.indices.map(i => generateFieldMethods(ctx, i))
+
+    def calls(method: String, arg: String): String =
+      fieldTypes.indices.map(i => s"$method$i($arg);").mkString("\n")
+
+    val classCode =
+      s"""
+        public final class $className implements $RECORD_AGGREGATOR {
+          ${members.mkString("\n")}
+
+          ${ctx.reuseMemberCode()}
+
+          public $className(Object[] references) throws Exception {
+            ${ctx.reuseInitCode()}
+          }
+
+          @Override
+          public void reset() {
+            ${calls("reset", "")}
+          }
+
+          @Override
+          public void set($ROW_DATA $INPUT) {
+            ${calls("set", INPUT)}
+          }
+
+          @Override
+          public void agg($ROW_DATA $INPUT) {
+            ${calls("agg", INPUT)}
+          }
+
+          @Override
+          public void retract($ROW_DATA $INPUT) {
+            ${calls("retract", INPUT)}
+          }
+
+          @Override
+          public $BINARY_ROW result() {
+            $OUT_WRITER.reset();
+            ${calls("write", "")}
+            $OUT_WRITER.complete();
+            return $OUT;
+          }
+
+          ${fieldMethods.mkString("\n")}
+        }
+      """.stripMargin
+
+    new GeneratedClass(className, classCode, ctx.references.toArray)
+  }
+
+  private def nullTerm(i: Int): String = s"isNull$i"
+
+  private def accTerm(i: Int): String = s"acc$i"
+
+  private def generateFieldMethods(ctx: CodeGeneratorContext, i: Int): String = {
+    val t = fieldTypes(i)
+    val typeTerm = primitiveTypeTermForType(t)
+    val isNull = nullTerm(i)
+    val acc = accTerm(i)
+    val read = rowFieldReadAccess(i, INPUT, t)
+    // release references of non-primitive accumulators
+    val clear = if (isPrimitive(t)) "" else s"$acc = null;"
+
+    val setNull = s"$isNull = true; $clear"
+    val copyInput =
+      s"""
+         |if ($INPUT.isNullAt($i)) {
+         |  $setNull
+         |} else {
+         |  $isNull = false;
+         |  $acc = $read;
+         |}
+         |""".stripMargin
+    val notNullable =
+      if (t.isNullable) ""
+      else
+        s"""
+           |if ($isNull) {
+           |  throw new IllegalArgumentException("Field $i can not be null");
+           |}
+           |""".stripMargin
+
+    val (aggCode, retractCode) = aggFuncNames(i) match {
+      case "primary-key" =>
+        (copyInput, copyInput)
+      case "last_value" =>
+        (copyInput, setNull)
+      case "last_non_null_value" =>
+        (
+          s"""
+             |if (!$INPUT.isNullAt($i)) {
+             |  $isNull = false;
+             |  $acc = $read;
+             |}
+             |""".stripMargin,
+          s"""
+             |if (!$INPUT.isNullAt($i)) {
+             |  $setNull
+             |}
+             |""".stripMargin)
+      case "sum" =>
+        checkNumeric(i, includeTime = false)
+        (
+          s"""
+             |if (!$INPUT.isNullAt($i)) {
+             |  $typeTerm v = $read;
+             |  if ($isNull) {
+             |    $isNull = false;
+             |    $acc = v;
+             |  } else {
+             |    ${exactArithmetic(t, acc, "v", "+")}
+             |  }
+             |}
+             |""".stripMargin,
+          s"""
+             |if (!$INPUT.isNullAt($i)) {
+             |  $typeTerm v = $read;
+             |  if ($isNull) {
+             |    $isNull = false;
+             |    ${exactNegate(t, acc, "v")}
+             |  } else {
+             |    ${exactArithmetic(t, acc, "v", "-")}
+             |  }
+             |}
+             |""".stripMargin)
+      case func @ ("min" | "max") =>
+        checkNumeric(i, includeTime = true)
+        val replace = if (func == "max") "< 0" else ">= 0"
+        val message = ctx.addReusableObject(
+          s"Aggregate function '$func' does not support retraction," +
+            " If you allow this function to ignore retraction messages," +
+            " you can configure 'fields.${field_name}.ignore-retract'='true'.",
+          "retractMessage",
+          className[String]
+        )
+        (
+          s"""
+             |if (!$INPUT.isNullAt($i)) {
+             |  $typeTerm v = $read;
+             |  if ($isNull || ${boxedTypeTermForType(t)}.compare($acc, v) $replace) {
+             |    $isNull = false;
+             |    $acc = v;
+             |  }
+             |}
+             |""".stripMargin,
+          s"throw new UnsupportedOperationException($message);")
+      case func =>
+        throw new CodeGenException(s"Unsupported aggregate function $func for field $i.")
+    }
+
+    s"""
+       |private void reset$i() {
+       |  $setNull
+       |}
+       |
+       |private void set$i($ROW_DATA $INPUT) {
+       |  ${copyInput.trim}
+       |  ${notNullable.trim}
+       |}
+       |
+       |private void agg$i($ROW_DATA $INPUT) {
+       |  ${aggCode.trim}
+       |}
+       |
+       |private void retract$i($ROW_DATA $INPUT) {
+       |  ${retractCode.trim}
+       |}
+       |
+       |private void write$i() {
+       |  if ($isNull) {
+       |    ${binaryWriterWriteNull(i, OUT_WRITER, t)};
+       |  } else {
+       |    ${binaryWriterWriteField(ctx, i, acc, OUT_WRITER, t)};
+       |  }
+       |}
+       |""".stripMargin
+  }
+
+  private def isPrimitive(t: DataType): Boolean =
+    primitiveTypeTermForType(t) != boxedTypeTermForType(t)
+
+  private def checkNumeric(i: Int, includeTime: Boolean): Unit = fieldTypes(i).getTypeRoot match {
+    case TINYINT | SMALLINT | INTEGER | BIGINT | FLOAT | DOUBLE =>
+    case DATE | TIME_WITHOUT_TIME_ZONE if includeTime =>
+    case _ =>
+      throw new CodeGenException(
+        s"Unsupported type ${fieldTypes(i)} of aggregate function ${aggFuncNames(i)} " +
+          s"for field $i.")
+  }
+
+  /** Same overflow checks and messages as FieldSumAgg. */
+  private def exactArithmetic(t: DataType, acc: String, v: String, op: String): String = {
+    val method = if (op == "+") "addExact" else "subtractExact"
+    t.getTypeRoot match {
+      case TINYINT | SMALLINT =>
+        val (typeTerm, boxed) =
+          if (t.getTypeRoot == TINYINT) ("byte", "Byte") else ("short", "Short")
+        s"""
+           |int r = $acc $op $v;
+           |if (r > $boxed.MAX_VALUE || r < $boxed.MIN_VALUE) {
+           |  throw new ArithmeticException(
+           |      "$typeTerm overflow: " + $acc + " $op " + $v + " = " + r);
+           |}
+           |$acc = ($typeTerm) r;
+           |""".stripMargin
+      case INTEGER | BIGINT =>
+        val typeTerm = if (t.getTypeRoot == INTEGER) "int" else "long"
+        s"""
+           |try {
+           |  $acc = Math.$method($acc, $v);
+           |} catch (ArithmeticException e) {
+           |  throw new ArithmeticException("$typeTerm overflow: " + $acc + " $op " + $v);
+           |}
+           |""".stripMargin
+      case _ =>
+        s"$acc = $acc $op $v;"
+    }
+  }
+
+  private def exactNegate(t: DataType, acc: String, v: String): String = t.getTypeRoot match {
+    case TINYINT | SMALLINT =>
+      val (typeTerm, boxed) =
+        if (t.getTypeRoot == TINYINT) ("byte", "Byte") else ("short", "Short")
+      s"""
+         |int r = -$v;
+         |if (r > $boxed.MAX_VALUE || r < $boxed.MIN_VALUE) {
+         |  throw new ArithmeticException("$typeTerm overflow: -" + $v + " = " + r);
+         |}
+         |$acc = ($typeTerm) r;
+         |""".stripMargin
+    case INTEGER | BIGINT =>
+      val typeTerm = if (t.getTypeRoot == INTEGER) "int" else "long"
+      s"""
+         |try {
+         |  $acc = Math.negateExact($v);
+         |} catch (ArithmeticException e) {
+         |  throw new ArithmeticException("$typeTerm overflow: -" + $v);
+         |}
+         |""".stripMargin
+    case _ =>
+      s"$acc = -$v;"
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.codegen;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link AggregatorCodeGenerator}. */
+public class AggregatorCodeGeneratorTest {
+
+    private static final RowType ROW_TYPE =
+            RowType.of(
+                    DataTypes.INT().notNull(),
+                    DataTypes.BIGINT(),
+                    DataTypes.DOUBLE(),
+                    DataTypes.TINYINT(),
+                    DataTypes.INT(),
+                    DataTypes.DATE(),
+                    DataTypes.STRING(),
+                    DataTypes.STRING());
+
+    private static RecordAggregator create(String... aggFuncNames) {
+        return new AggregatorCodeGenerator(ROW_TYPE, aggFuncNames)
+                .generateRecordAggregator("aggregator")
+                .newInstance(Thread.currentThread().getContextClassLoader());
+    }
+
+    private static RecordAggregator create() {
+        return create(
+                "primary-key",
+                "sum",
+                "sum",
+                "sum",
+                "max",
+                "min",
+                "last_non_null_value",
+                "last_value");
+    }
+
+    private static GenericRow row(
+            int k, Long l, Double d, Byte b, Integer i, Integer date, String s1, String s2) {
+        return GenericRow.of(
+                k,
+                l,
+                d,
+                b,
+                i,
+                date,
+                s1 == null ? null : BinaryString.fromString(s1),
+                s2 == null ? null : BinaryString.fromString(s2));
+    }
+
+    @Test
+    public void testAgg() {
+        RecordAggregator aggregator = create();
+        aggregator.reset();
+        aggregator.agg(row(1, 10L, 1.5, (byte) 1, 5, 100, "a", "x"));
+        aggregator.agg(row(1, null, 2.5, (byte) 2, 3, 50, null, null));
+        aggregator.agg(row(1, 5L, null, null, 8, null, "b", "y"));
+
+        BinaryRow result = aggregator.result();
+        assertThat(result.getInt(0)).isEqualTo(1);
+        assertThat(result.getLong(1)).isEqualTo(15L);
+        assertThat(result.getDouble(2)).isEqualTo(4.0);
+        assertThat(result.getByte(3)).isEqualTo((byte) 3);
+        assertThat(result.getInt(4)).isEqualTo(8);
+        assertThat(result.getInt(5)).isEqualTo(50);
+        assertThat(result.getString(6).toString()).isEqualTo("b");
+        assertThat(result.getString(7).toString()).isEqualTo("y");
+
+        aggregator.reset();
+        aggregator.agg(row(2, null, null, null, null, null, null, null));
+        result = aggregator.result();
+        assertThat(result.getInt(0)).isEqualTo(2);
+        for (int i = 1; i < ROW_TYPE.getFieldCount(); i++) {
+            assertThat(result.isNullAt(i)).isTrue();
+        }
+    }
+
+    @Test
+    public void testRetractAndSet() {
+        RecordAggregator aggregator =
+                create(
+                        "primary-key",
+                        "sum",
+                        "sum",
+                        "sum",
+                        "last_value",
+                        "last_value",
+                        "last_non_null_value",
+                        "last_value");
+        aggregator.reset();
+        aggregator.retract(row(1, 10L, 1.5, (byte) 1, 5, 100, "a", "x"));
+        BinaryRow result = aggregator.result();
+        assertThat(result.getLong(1)).isEqualTo(-10L);
+        assertThat(result.getDouble(2)).isEqualTo(-1.5);
+        assertThat(result.getByte(3)).isEqualTo((byte) -1);
+        assertThat(result.isNullAt(4)).isTrue();
+        assertThat(result.isNullAt(6)).isTrue();
+
+        aggregator.set(row(1, 20L, null, (byte) 4, 7, null, "c", "z"));
+        aggregator.retract(row(1, 5L, null, (byte) 1, null, null, null, null));
+        result = aggregator.result();
+        assertThat(result.getLong(1)).isEqualTo(15L);
+        assertThat(result.isNullAt(2)).isTrue();
+        assertThat(result.getByte(3)).isEqualTo((byte) 3);
+        assertThat(result.getString(6).toString()).isEqualTo("c");
+        assertThat(result.isNullAt(7)).isTrue();
+
+        assertThatThrownBy(() -> aggregator.set(new GenericRow(ROW_TYPE.getFieldCount())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Field 0 can not be null");
+    }
+
+    @Test
+    public void testOverflowAndUnsupportedRetract() {
+        RecordAggregator aggregator = create();
+        aggregator.reset();
+        aggregator.agg(row(1, Long.MAX_VALUE, null, (byte) 127, null, null, null, null));
+        assertThatThrownBy(
+                        () -> aggregator.agg(row(1, null, null, (byte) 1, null, null, null, null)))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessage("byte overflow: 127 + 1 = 128");
+        assertThatThrownBy(() -> aggregator.agg(row(1, 1L, null, null, null, null, null, null)))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessage("long overflow: " + Long.MAX_VALUE + " + 1");
+        assertThatThrownBy(() -> aggregator.retract(row(1, 1L, null, null, 1, null, null, null)))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("does not support retraction");
+    }
+
+    @Test
+    public void testUnsupported() {
+        String[] aggFuncNames = new String[ROW_TYPE.getFieldCount()];
+        Arrays.fill(aggFuncNames, "last_value");
+        aggFuncNames[6] = "sum";
+        assertThatThrownBy(
+                        () ->
+                                new AggregatorCodeGenerator(ROW_TYPE, aggFuncNames)
+                                        .generateRecordAggregator("aggregator"))
+                .isInstanceOf(CodeGenException.class);
+    }
+}
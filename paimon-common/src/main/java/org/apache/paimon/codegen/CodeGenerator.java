@@ -72,4 +72,15 @@ public interface CodeGenerator {
     /** Generate a {@link RecordEqualiser} with fields. */
     GeneratedClass<RecordEqualiser> generateRecordEqualiser(
             List<DataType> fieldTypes, int[] fields);
+
+    /**
+     * Generate a {@link RecordAggregator}.
+     *
+     * @param rowType the type of the aggregated rows.
+     * @param aggFuncNames the aggregate function of each field, one of {@code sum}, {@code min},
+     *     {@code max} for numeric fields, or {@code last_value}, {@code last_non_null_value},
+     *     {@code primary-key} for fields of any type except variant and blob.
+     */
+    GeneratedClass<RecordAggregator> generateRecordAggregator(
+            RowType rowType, List<String> aggFuncNames);
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.codegen;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+
+/**
+ * Code generated aggregator which aggregates rows field by field into accumulators of primitive
+ * types, see {@link CodeGenerator#generateRecordAggregator}.
+ */
+public interface RecordAggregator {
+
+    /** Clears all accumulators to null. */
+    void reset();
+
+    /** Replaces all accumulators by the fields of the row. */
+    void set(InternalRow row);
+
+    /** Aggregates the fields of the row into the accumulators. */
+    void agg(InternalRow row);
+
+    /** Retracts the fields of the row from the accumulators. */
+    void retract(InternalRow row);
+
+    /** Returns the accumulators as a row, the returned row is reused by following calls. */
+    BinaryRow result();
+}
@@ -0,0 +1,319 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.ngram;
+
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.FileIndexer;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.utils.BloomFilter64;
+import org.apache.paimon.utils.BloomFilter64.BitSet;
+import org.apache.paimon.utils.IOUtils;
+
+import net.openhft.hashing.LongHashFunction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.paimon.fileindex.FileIndexResult.REMAIN;
+import static org.apache.paimon.fileindex.FileIndexResult.SKIP;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * Bloom filter of the terms of string values, used to skip files for {@code LIKE}, {@code
+ * StartsWith}, {@code EndsWith}, {@code Contains} and {@code Equal} predicates.
+ *
+ * <p>The terms are produced by a {@link Tokenizer}: either all n-grams (substrings of n chars) of a
+ * value, or all tokens of a value split by non letter-or-digit chars. On query, the terms that
+ * every matching value must contain are extracted from the literal or the pattern, if any of them
+ * is absent in the bloom filter, the file can be skipped.
+ *
+ * <p>The serialized bytes store the version, the tokenizer, the gram size, the number of hash
+ * functions and the bit set of the bloom filter, so that changing the options of a table does not
+ * affect existing files.
+ */
+public class NgramBloomFilterFileIndex implements FileIndexer {
+
+    private static final byte VERSION = 1;
+
+    private static final int DEFAULT_ITEMS = 1_000_000;
+    private static final double DEFAULT_FPP = 0.1;
+    private static final int DEFAULT_GRAM_SIZE = 3;
+
+    private static final String ITEMS = "items";
+    private static final String FPP = "fpp";
+    private static final String GRAM_SIZE = "gram-size";
+    private static final String TOKENIZER = "tokenizer";
+
+    private static final LongHashFunction HASH = LongHashFunction.xx();
+
+    private final int items;
+    private final double fpp;
+    private final int gramSize;
+    private final Tokenizer tokenizer;
+
+    public NgramBloomFilterFileIndex(DataType dataType, Options options) {
+        new NgramBloomFilterFileIndexFactory().validate(dataType);
+        this.items = options.getInteger(ITEMS, DEFAULT_ITEMS);
+        this.fpp = options.getDouble(FPP, DEFAULT_FPP);
+        this.gramSize = options.getInteger(GRAM_SIZE, DEFAULT_GRAM_SIZE);
+        this.tokenizer = Tokenizer.fromName(options.getString(TOKENIZER, Tokenizer.NGRAM.name));
+        checkArgument(gramSize > 0, "Gram size must be positive, but is %s.", gramSize);
+    }
+
+    @Override
+    public FileIndexWriter createWriter() {
+        return new Writer(tokenizer, gramSize, items, fpp);
+    }
+
+    @Override
+    public FileIndexReader createReader(SeekableInputStream inputStream, int start, int length) {
+        try {
+            inputStream.seek(start);
+            byte[] serializedBytes = new byte[length];
+            IOUtils.readFully(inputStream, serializedBytes);
+            return new Reader(serializedBytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /** How to split a string into terms. */
+    public enum Tokenizer {
+
+        /** All substrings of gram-size chars. */
+        NGRAM("ngram", (byte) 0),
+
+        /** All maximal runs of letter-or-digit chars. */
+        TOKEN("token", (byte) 1);
+
+        private final String name;
+        private final byte id;
+
+        Tokenizer(String name, byte id) {
+            this.name = name;
+            this.id = id;
+        }
+
+        static Tokenizer fromName(String name) {
+            for (Tokenizer tokenizer : values()) {
+                if (tokenizer.name.equalsIgnoreCase(name)) {
+                    return tokenizer;
+                }
+            }
+            throw new IllegalArgumentException(
+                    "Unknown tokenizer " + name + " for ngram bloom filter index.");
+        }
+
+        static Tokenizer fromId(byte id) {
+            for (Tokenizer tokenizer : values()) {
+                if (tokenizer.id == id) {
+                    return tokenizer;
+                }
+            }
+            throw new IllegalArgumentException(
+                    "Unknown tokenizer id " + id + " for ngram bloom filter index.");
+        }
+    }
+
+    /** Hashes of all terms of a value. */
+    private static void termHashes(
+            Tokenizer tokenizer, int gramSize, String value, List<Long> hashes) {
+        if (tokenizer == Tokenizer.NGRAM) {
+            for (int i = 0; i + gramSize <= value.length(); i++) {
+                hashes.add(HASH.hashChars(value, i, gramSize));
+            }
+        } else {
+            queryTermHashes(tokenizer, gramSize, value, true, true, hashes);
+        }
+    }
+
+    /**
+     * Hashes of the terms every value containing the segment must have. A token is only required
+     * when both of its ends are known, that is, bounded by a delimiter in the segment or by an
+     * anchored end of the value.
+     */
+    private static void queryTermHashes(
+            Tokenizer tokenizer,
+            int gramSize,
+            String segment,
+            boolean anchoredStart,
+            boolean anchoredEnd,
+            List<Long> hashes) {
+        if (tokenizer == Tokenizer.NGRAM) {
+            termHashes(tokenizer, gramSize, segment, hashes);
+            return;
+        }
+
+        int length = segment.length();
+        int i = 0;
+        while (i < length) {
+            if (!Character.isLetterOrDigit(segment.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(segment.charAt(i))) {
+                i++;
+            }
+            boolean startKnown = start > 0 || anchoredStart;
+            boolean endKnown = i < length || anchoredEnd;
+            if (startKnown && endKnown) {
+                hashes.add(HASH.hashChars(segment, start, i - start));
+            }
+        }
+    }
+
+    private static class Writer extends FileIndexWriter {
+
+        private final Tokenizer tokenizer;
+        private final int gramSize;
+        private final BloomFilter64 filter;
+        private final List<Long> hashes = new ArrayList<>();
+
+        public Writer(Tokenizer tokenizer, int gramSize, int items, double fpp) {
+            this.tokenizer = tokenizer;
+            this.gramSize = gramSize;
+            this.filter = new BloomFilter64(items, fpp);
+        }
+
+        @Override
+        public void write(Object key) {
+            if (key != null) {
+                hashes.clear();
+                termHashes(tokenizer, gramSize, key.toString(), hashes);
+                for (long hash : hashes) {
+                    filter.addHash(hash);
+                }
+            }
+        }
+
+        @Override
+        public byte[] serializedBytes() {
+            BitSet bitSet = filter.getBitSet();
+            int headerSize = 2 + 2 * Integer.BYTES;
+            byte[] serialized = new byte[bitSet.bitSize() / Byte.SIZE + headerSize];
+            ByteBuffer buffer = ByteBuffer.wrap(serialized);
+            buffer.put(VERSION);
+            buffer.put(tokenizer.id);
+            buffer.putInt(gramSize);
+            buffer.putInt(filter.getNumHashFunctions());
+            bitSet.toByteArray(serialized, headerSize, serialized.length - headerSize);
+            return serialized;
+        }
+    }
+
+    private static class Reader extends FileIndexReader {
+
+        private final Tokenizer tokenizer;
+        private final int gramSize;
+        private final BloomFilter64 filter;
+
+        public Reader(byte[] serializedBytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(serializedBytes);
+            byte version = buffer.get();
+            if (version > VERSION) {
+                throw new RuntimeException(
+                        String.format(
+                                "read ngram bloom filter index file fail, "
+                                        + "your plugin version is lower than %d",
+                                version));
+            }
+            this.tokenizer = Tokenizer.fromId(buffer.get());
+            this.gramSize = buffer.getInt();
+            int numHashFunctions = buffer.getInt();
+            this.filter =
+                    new BloomFilter64(
+                            numHashFunctions, new BitSet(serializedBytes, buffer.position()));
+        }
+
+        @Override
+        public FileIndexResult visitEqual(FieldRef fieldRef, Object literal) {
+            return test(literal, true, true);
+        }
+
+        @Override
+        public FileIndexResult visitStartsWith(FieldRef fieldRef, Object literal) {
+            return test(literal, true, false);
+        }
+
+        @Override
+        public FileIndexResult visitEndsWith(FieldRef fieldRef, Object literal) {
+            return test(literal, false, true);
+        }
+
+        @Override
+        public FileIndexResult visitContains(FieldRef fieldRef, Object literal) {
+            return test(literal, false, false);
+        }
+
+        @Override
+        public FileIndexResult visitLike(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+
+            // split the pattern into literal segments by the wildcards '%' and '_'
+            String pattern = literal.toString();
+            List<Long> hashes = new ArrayList<>();
+            StringBuilder segment = new StringBuilder();
+            boolean anchoredStart = true;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '\\' && i + 1 < pattern.length()) {
+                    segment.append(pattern.charAt(++i));
+                } else if (c == '%' || c == '_') {
+                    queryTermHashes(
+                            tokenizer, gramSize, segment.toString(), anchoredStart, false, hashes);
+                    segment.setLength(0);
+                    anchoredStart = false;
+                } else {
+                    segment.append(c);
+                }
+            }
+            queryTermHashes(tokenizer, gramSize, segment.toString(), anchoredStart, true, hashes);
+            return test(hashes);
+        }
+
+        private FileIndexResult test(Object literal, boolean anchoredStart, boolean anchoredEnd) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            List<Long> hashes = new ArrayList<>();
+            queryTermHashes(
+                    tokenizer, gramSize, literal.toString(), anchoredStart, anchoredEnd, hashes);
+            return test(hashes);
+        }
+
+        private FileIndexResult test(List<Long> hashes) {
+            for (long hash : hashes) {
+                if (!filter.testHash(hash)) {
+                    return SKIP;
+                }
+            }
+            return REMAIN;
+        }
+    }
+}
@@ -29,9 +29,13 @@ import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.utils.FileType;
 
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
@@ -41,7 +45,14 @@ import java.util.Set;
  *
  * <p>Only file types in the whitelist are cached. Others are read directly from the delegate.
  *
- * <p>After deserialization, the cache is null and reads fall through to the delegate directly.
+ * <p>Since these files are immutable, their {@link FileStatus} can also be cached for a configured
+ * time to live, which saves the metadata requests to object stores. Missing files are never cached,
+ * and entries are invalidated when files are deleted or renamed through this {@link FileIO}, or
+ * when their directory is deleted recursively. With write-through enabled, newly written files are
+ * put into the block cache while writing, so reading them back in the same process does not
+ * download them again.
+ *
+ * <p>After deserialization, the caches are null and reads fall through to the delegate directly.
  */
 public class CachingFileIO implements FileIO {
 
@@ -49,13 +60,34 @@ public class CachingFileIO implements FileIO {
 
     private final FileIO delegate;
     private final Set<FileType> whitelist;
+    private final boolean writeThrough;
 
     private transient volatile LocalCacheManager cache;
+    @Nullable private transient volatile Cache<Path, FileStatus> statusCache;
 
     public CachingFileIO(FileIO delegate, LocalCacheManager cache, Set<FileType> whitelist) {
+        this(delegate, cache, whitelist, null, 0, false);
+    }
+
+    public CachingFileIO(
+            FileIO delegate,
+            LocalCacheManager cache,
+            Set<FileType> whitelist,
+            @Nullable Duration statusTtl,
+            int statusMaxEntries,
+            boolean writeThrough) {
         this.delegate = delegate;
         this.cache = cache;
         this.whitelist = EnumSet.copyOf(whitelist);
+        this.writeThrough = writeThrough;
+        this.statusCache =
+                statusTtl == null
+                        ? null
+                        : Caffeine.newBuilder()
+                                .maximumSize(statusMaxEntries)
+                                .expireAfterWrite(statusTtl)
+                                .executor(Runnable::run)
+                                .build();
     }
 
     /**
@@ -80,7 +112,13 @@ public class CachingFileIO implements FileIO {
         if (whitelist.isEmpty()) {
             return fileIO;
         }
-        return new CachingFileIO(fileIO, cache, whitelist);
+        return new CachingFileIO(
+                fileIO,
+                cache,
+                whitelist,
+                options.get(CatalogOptions.LOCAL_CACHE_FILE_STATUS_TTL),
+                options.get(CatalogOptions.LOCAL_CACHE_FILE_STATUS_MAX_ENTRIES),
+                options.get(CatalogOptions.LOCAL_CACHE_WRITE_THROUGH));
     }
 
     /**
@@ -99,46 +137,91 @@ public class CachingFileIO implements FileIO {
         int blockSize = (int) options.get(CatalogOptions.LOCAL_CACHE_BLOCK_SIZE).getBytes();
 
         String cacheDir = options.get(CatalogOptions.LOCAL_CACHE_DIR);
-        if (cacheDir != null) {
+        MemorySize segmentSize = options.get(CatalogOptions.LOCAL_CACHE_SEGMENT_SIZE);
+        if (cacheDir != null && segmentSize != null) {
+            return new SlabDiskCacheManager(cacheDir, maxSize, blockSize, segmentSize.getBytes());
+        } else if (cacheDir != null) {
             return new LocalDiskCacheManager(cacheDir, maxSize, blockSize);
         } else {
             return new LocalMemoryCacheManager(maxSize, blockSize);
         }
     }
 
+    private boolean isCached(Path path) {
+        return whitelist.contains(FileType.classify(path)) && !FileType.isMutable(path);
+    }
+
     @Override
     public SeekableInputStream newInputStream(Path path) throws IOException {
         LocalCacheManager c = cache;
-        FileType fileType = FileType.classify(path);
-        if (c == null || !whitelist.contains(fileType) || FileType.isMutable(path)) {
+        if (c == null || !isCached(path)) {
             return delegate.newInputStream(path);
         }
+        Cache<Path, FileStatus> sc = statusCache;
+        FileStatus status = sc == null ? null : sc.getIfPresent(path);
+        if (status != null) {
+            c.putFileSize(path.toString(), status.getLen());
+        }
         return new CachingSeekableInputStream(delegate, path, c);
     }
 
     @Override
     public PositionOutputStream newOutputStream(Path path, boolean overwrite) throws IOException {
-        return delegate.newOutputStream(path, overwrite);
+        PositionOutputStream out = delegate.newOutputStream(path, overwrite);
+        LocalCacheManager c = cache;
+        // only new files are populated, an overwritten file may still have stale cached blocks
+        if (!writeThrough || overwrite || c == null || !isCached(path)) {
+            return out;
+        }
+        return new CachingPositionOutputStream(out, path, c) {
+            @Override
+            public void close() throws IOException {
+                super.close();
+                putStatus(path, new WrittenFileStatus(path, getPos(), System.currentTimeMillis()));
+            }
+        };
     }
 
     @Override
     public FileStatus getFileStatus(Path path) throws IOException {
-        return delegate.getFileStatus(path);
+        Cache<Path, FileStatus> c = statusCache;
+        if (c == null || !isCached(path)) {
+            return delegate.getFileStatus(path);
+        }
+        FileStatus status = c.getIfPresent(path);
+        if (status == null) {
+            status = delegate.getFileStatus(path);
+            putStatus(path, status);
+        }
+        return status;
     }
 
     @Override
     public FileStatus[] listStatus(Path path) throws IOException {
-        return delegate.listStatus(path);
+        FileStatus[] statuses = delegate.listStatus(path);
+        // directories change, only the status of the listed files are cached
+        for (FileStatus status : statuses) {
+            putStatus(status.getPath(), status);
+        }
+        return statuses;
     }
 
     @Override
     public boolean exists(Path path) throws IOException {
+        Cache<Path, FileStatus> c = statusCache;
+        if (c != null && c.getIfPresent(path) != null) {
+            return true;
+        }
         return delegate.exists(path);
     }
 
     @Override
     public boolean delete(Path path, boolean recursive) throws IOException {
-        return delegate.delete(path, recursive);
+        try {
+            return delegate.delete(path, recursive);
+        } finally {
+            invalidateStatus(path, recursive);
+        }
     }
 
     @Override
@@ -148,7 +231,69 @@ public class CachingFileIO implements FileIO {
 
     @Override
     public boolean rename(Path src, Path dst) throws IOException {
-        return delegate.rename(src, dst);
+        boolean renamed;
+        try {
+            renamed = delegate.rename(src, dst);
+        } finally {
+            invalidateStatus(src, false);
+            invalidateStatus(dst, false);
+        }
+        if (renamed && writeThrough) {
+            moveCachedBlocks(src, dst);
+        }
+        return renamed;
+    }
+
+    /**
+     * Moves the cached blocks of a written temp file to its target. The size of the target is only
+     * cached if all blocks could be moved.
+     */
+    private void moveCachedBlocks(Path src, Path dst) {
+        LocalCacheManager c = cache;
+        if (c == null) {
+            return;
+        }
+        String srcPath = src.toString();
+        long size = c.getFileSize(srcPath);
+        if (size < 0) {
+            return;
+        }
+        int numBlocks = (int) ((size + c.blockSize() - 1) / c.blockSize());
+        if (isCached(dst)) {
+            String dstPath = dst.toString();
+            int moved = 0;
+            for (; moved < numBlocks; moved++) {
+                byte[] block = c.getBlock(srcPath, moved);
+                if (block == null) {
+                    break;
+                }
+                c.putBlock(dstPath, moved, block);
+            }
+            if (moved == numBlocks) {
+                c.putFileSize(dstPath, size);
+            }
+        }
+        c.invalidate(srcPath, numBlocks);
+    }
+
+    private void putStatus(Path path, FileStatus status) {
+        Cache<Path, FileStatus> c = statusCache;
+        if (c != null && !status.isDir() && isCached(path)) {
+            c.put(path, status);
+        }
+    }
+
+    private void invalidateStatus(Path path, boolean recursive) {
+        Cache<Path, FileStatus> c = statusCache;
+        if (c == null) {
+            return;
+        }
+        c.invalidate(path);
+        if (recursive) {
+            // the path may be a directory, scanning is only worth it for recursive deletes
+            String prefix = path.toString() + "/";
+            c.asMap().keySet().removeIf(p -> p.toString().startsWith(prefix));
+        }
     }
 
     @Override
@@ -170,4 +315,38 @@ public class CachingFileIO implements FileIO {
     public void close() throws IOException {
         delegate.close();
     }
+
+    /** {@link FileStatus} of a file written through this {@link FileIO}. */
+    private static class WrittenFileStatus implements FileStatus {
+
+        private final Path path;
+        private final long len;
+        private final long modificationTime;
+
+        private WrittenFileStatus(Path path, long len, long modificationTime) {
+            this.path = path;
+            this.len = len;
+            this.modificationTime = modificationTime;
+        }
+
+        @Override
+        public long getLen() {
+            return len;
+        }
+
+        @Override
+        public boolean isDir() {
+            return false;
+        }
+
+        @Override
+        public Path getPath() {
+            return path;
+        }
+
+        @Override
+        public long getModificationTime() {
+            return modificationTime;
+        }
+    }
 }
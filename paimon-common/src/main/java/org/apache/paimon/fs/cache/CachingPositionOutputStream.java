@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs.cache;
+
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A {@link PositionOutputStream} that writes to the delegate stream and populates the {@link
+ * LocalCacheManager} with the written blocks, so that the file can be read back without downloading
+ * it.
+ *
+ * <p>Each block is put into the cache as soon as it is full, so only one block is buffered in
+ * memory. The size of the file is only cached after the delegate stream has been closed
+ * successfully, and if closing fails, the written blocks are removed again, so a failed write never
+ * leaves blocks of a file that does not exist.
+ */
+public class CachingPositionOutputStream extends PositionOutputStream {
+
+    private final PositionOutputStream out;
+    private final String path;
+    private final LocalCacheManager cache;
+
+    private byte[] block;
+    private int numBlocks;
+    private long pos;
+    private int blockPos;
+    private boolean closed;
+
+    public CachingPositionOutputStream(
+            PositionOutputStream out, Path path, LocalCacheManager cache) {
+        this.out = out;
+        this.path = path.toString();
+        this.cache = cache;
+        this.block = new byte[cache.blockSize()];
+    }
+
+    @Override
+    public long getPos() throws IOException {
+        return pos;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        block[blockPos++] = (byte) b;
+        pos++;
+        if (blockPos == block.length) {
+            flushBlock();
+        }
+    }
+
+    @Override
+    public void write(byte[] b) throws IOException {
+        write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        pos += len;
+        while (len > 0) {
+            int n = Math.min(len, block.length - blockPos);
+            System.arraycopy(b, off, block, blockPos, n);
+            blockPos += n;
+            off += n;
+            len -= n;
+            if (blockPos == block.length) {
+                flushBlock();
+            }
+        }
+    }
+
+    private void flushBlock() {
+        cache.putBlock(path, numBlocks++, block);
+        block = new byte[cache.blockSize()];
+        blockPos = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            out.close();
+        } catch (IOException | RuntimeException e) {
+            cache.invalidate(path, numBlocks);
+            throw e;
+        }
+
+        if (blockPos > 0) {
+            cache.putBlock(path, numBlocks, Arrays.copyOf(block, blockPos));
+        }
+        cache.putFileSize(path, pos);
+    }
+}
@@ -34,4 +34,7 @@ public interface LocalCacheManager {
     long getFileSize(String filePath);
 
     void putFileSize(String filePath, long size);
+
+    /** Removes the first {@code numBlocks} blocks and the size of the file. */
+    void invalidate(String filePath, int numBlocks);
 }
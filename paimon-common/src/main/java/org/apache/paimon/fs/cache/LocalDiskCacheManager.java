@@ -23,9 +23,15 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -40,7 +46,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
-/** Block-level local disk cache with LRU eviction. Thread-safe. */
+/**
+ * Block-level local disk cache with LRU eviction. Thread-safe.
+ *
+ * <p>The index of cached blocks is built by scanning the cache directory when the manager is
+ * created, and eviction only accounts for the blocks known to this manager. So a cache directory
+ * must not be used by several processes at the same time.
+ */
 public class LocalDiskCacheManager implements LocalCacheManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(LocalDiskCacheManager.class);
@@ -82,16 +94,51 @@ public class LocalDiskCacheManager implements LocalCacheManager {
             return Files.readAllBytes(path.toPath());
         } catch (IOException e) {
             LOG.debug("Failed to read cache block: {}", path, e);
-            synchronized (lock) {
-                Long size = entryIndex.remove(cacheKey);
-                if (size != null) {
-                    currentSize -= size;
-                }
+            removeEntry(cacheKey);
+            return null;
+        }
+    }
+
+    /**
+     * Opens the cached block for streaming reads, returns null if it is not cached. Unlike {@link
+     * #getBlock}, the block is not loaded into memory at once.
+     */
+    @Nullable
+    public InputStream openBlock(String filePath, int blockIndex) {
+        File path = cachePath(filePath, blockIndex);
+        String cacheKey = path.getPath();
+        synchronized (lock) {
+            if (entryIndex.get(cacheKey) == null) {
+                return null;
             }
+        }
+        try {
+            return new FileInputStream(path);
+        } catch (IOException e) {
+            LOG.debug("Failed to open cache block: {}", path, e);
+            removeEntry(cacheKey);
             return null;
         }
     }
 
+    /**
+     * Creates a stream to write a block without holding it in memory, returns null if the block is
+     * already cached. The block is only added to the cache by {@link BlockOutputStream#commit()},
+     * closing the stream without committing discards it.
+     */
+    @Nullable
+    public BlockOutputStream newBlockOutputStream(String filePath, int blockIndex)
+            throws IOException {
+        File path = cachePath(filePath, blockIndex);
+        synchronized (lock) {
+            if (entryIndex.containsKey(path.getPath())) {
+                return null;
+            }
+        }
+        path.getParentFile().mkdirs();
+        return new BlockOutputStream(path);
+    }
+
     public void putBlock(String filePath, int blockIndex, byte[] data) {
         File path = cachePath(filePath, blockIndex);
         String cacheKey = path.getPath();
@@ -105,10 +152,7 @@ public class LocalDiskCacheManager implements LocalCacheManager {
         File subDir = path.getParentFile();
         subDir.mkdirs();
 
-        File tmpFile =
-                new File(
-                        path.getParent(),
-                        path.getName() + ".tmp." + Thread.currentThread().getId());
+        File tmpFile = tmpFile(path);
         try {
             try (FileOutputStream fos = new FileOutputStream(tmpFile)) {
                 fos.write(data);
@@ -123,10 +167,19 @@ public class LocalDiskCacheManager implements LocalCacheManager {
             return;
         }
 
-        boolean needEvict = false;
+        addEntry(cacheKey, data.length);
+    }
+
+    private static File tmpFile(File path) {
+        return new File(
+                path.getParent(), path.getName() + ".tmp." + Thread.currentThread().getId());
+    }
+
+    private void addEntry(String cacheKey, long size) {
+        boolean needEvict;
         synchronized (lock) {
-            entryIndex.put(cacheKey, (long) data.length);
-            currentSize += data.length;
+            entryIndex.put(cacheKey, size);
+            currentSize += size;
             needEvict = maxSizeBytes < Long.MAX_VALUE && currentSize > maxSizeBytes;
         }
         if (needEvict) {
@@ -134,6 +187,15 @@ public class LocalDiskCacheManager implements LocalCacheManager {
         }
     }
 
+    private void removeEntry(String cacheKey) {
+        synchronized (lock) {
+            Long size = entryIndex.remove(cacheKey);
+            if (size != null) {
+                currentSize -= size;
+            }
+        }
+    }
+
     private void evict() {
         List<Map.Entry<String, Long>> toDelete = new ArrayList<>();
         synchronized (lock) {
@@ -234,4 +296,70 @@ public class LocalDiskCacheManager implements LocalCacheManager {
     public void putFileSize(String filePath, long size) {
         fileSizeCache.put(filePath, size);
     }
+
+    @Override
+    public void invalidate(String filePath, int numBlocks) {
+        for (int i = 0; i < numBlocks; i++) {
+            File path = cachePath(filePath, i);
+            removeEntry(path.getPath());
+            path.delete();
+        }
+        fileSizeCache.remove(filePath);
+    }
+
+    /** A block written to a temporary file, which is moved into the cache on commit. */
+    public class BlockOutputStream extends OutputStream {
+
+        private final File path;
+        private final File tmpFile;
+        private final OutputStream out;
+
+        private long size;
+        private boolean closed;
+
+        private BlockOutputStream(File path) throws IOException {
+            this.path = path;
+            this.tmpFile = tmpFile(path);
+            this.out = new BufferedOutputStream(new FileOutputStream(tmpFile));
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            size += len;
+        }
+
+        /** Adds the written block to the cache. */
+        public void commit() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            out.close();
+            if (!tmpFile.renameTo(path)) {
+                tmpFile.delete();
+                return;
+            }
+            addEntry(path.getPath(), size);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                out.close();
+            } finally {
+                tmpFile.delete();
+            }
+        }
+    }
 }
@@ -89,6 +89,19 @@ public class LocalMemoryCacheManager implements LocalCacheManager {
         fileSizeCache.put(filePath, size);
     }
 
+    @Override
+    public void invalidate(String filePath, int numBlocks) {
+        synchronized (lock) {
+            for (int i = 0; i < numBlocks; i++) {
+                byte[] data = cache.remove(new BlockKey(filePath, i));
+                if (data != null) {
+                    currentSize -= data.length;
+                }
+            }
+        }
+        fileSizeCache.remove(filePath);
+    }
+
     private static class BlockKey {
         final String filePath;
         final int blockIndex;
@@ -0,0 +1,528 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs.cache;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.memory.MemorySegment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * Block-level local disk cache which stores blocks in the slots of large preallocated segment
+ * files. Thread-safe.
+ *
+ * <p>Each segment file starts with a header recording the key hash, length and checksum of every
+ * slot, so the index is recovered from the segment headers on restart instead of walking a
+ * directory of block files. Recovery still reads the header of every slot, so opening the cache
+ * takes time linear in the number of slots. Recovered blocks are verified against their checksum on
+ * first read.
+ *
+ * <p>Slots are partitioned into lock stripes by key hash, each stripe evicts its own slots with the
+ * CLOCK algorithm. Segments are memory mapped and blocks are copied from the mapping outside the
+ * stripe lock, the slot is pinned meanwhile so it can not be evicted or reused. A corrupted or
+ * invalidated slot is removed from the index at once but only freed when it is no longer pinned.
+ */
+public class SlabDiskCacheManager implements LocalCacheManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SlabDiskCacheManager.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final int MAGIC = 0x50534c42;
+    private static final int VERSION = 1;
+    private static final int NUM_STRIPES = 16;
+
+    // segment header: magic, version, block size, slots per segment
+    private static final int SEGMENT_HEADER_SIZE = 16;
+    // slot header: key hash (16 bytes), length, checksum
+    private static final int SLOT_HEADER_SIZE = 24;
+    private static final int PAGE_SIZE = 4096;
+
+    private final File cacheDir;
+    private final int blockSize;
+    private final int slotsPerSegment;
+    private final int dataOffset;
+    private final int segmentFileSize;
+    private final Stripe[] stripes;
+    private final AtomicLong currentSize = new AtomicLong();
+    private final ConcurrentHashMap<String, Long> fileSizeCache = new ConcurrentHashMap<>();
+
+    private final Object segmentLock = new Object();
+    private volatile MemorySegment[] segments = new MemorySegment[0];
+
+    public SlabDiskCacheManager(
+            String cacheDir, long maxSizeBytes, int blockSize, long segmentSizeBytes) {
+        this.cacheDir = new File(cacheDir);
+        this.blockSize = blockSize;
+
+        long maxSlotsPerSegment =
+                (Integer.MAX_VALUE - PAGE_SIZE - SEGMENT_HEADER_SIZE)
+                        / ((long) blockSize + SLOT_HEADER_SIZE);
+        this.slotsPerSegment =
+                (int) Math.max(1, Math.min(segmentSizeBytes / blockSize, maxSlotsPerSegment));
+        this.dataOffset =
+                alignToPage(SEGMENT_HEADER_SIZE + (long) slotsPerSegment * SLOT_HEADER_SIZE);
+        this.segmentFileSize = dataOffset + slotsPerSegment * blockSize;
+
+        int slotsPerStripe =
+                maxSizeBytes == Long.MAX_VALUE
+                        ? Integer.MAX_VALUE / NUM_STRIPES
+                        : (int)
+                                Math.min(
+                                        Integer.MAX_VALUE / NUM_STRIPES,
+                                        Math.max(1, maxSizeBytes / blockSize / NUM_STRIPES));
+        this.stripes = new Stripe[NUM_STRIPES];
+        for (int i = 0; i < NUM_STRIPES; i++) {
+            stripes[i] = new Stripe(i, slotsPerStripe);
+        }
+
+        this.cacheDir.mkdirs();
+        recover();
+    }
+
+    private static int alignToPage(long size) {
+        return (int) ((size + PAGE_SIZE - 1) / PAGE_SIZE * PAGE_SIZE);
+    }
+
+    @Override
+    public int blockSize() {
+        return blockSize;
+    }
+
+    @Nullable
+    @Override
+    public byte[] getBlock(String filePath, int blockIndex) {
+        BlockKey key = BlockKey.of(filePath, blockIndex);
+        Stripe stripe = stripe(key);
+        int slot;
+        int length;
+        boolean verified;
+        synchronized (stripe) {
+            Integer s = stripe.index.get(key);
+            if (s == null) {
+                return null;
+            }
+            slot = s;
+            length = stripe.lengths[slot];
+            verified = stripe.verified[slot];
+            stripe.referenced[slot] = true;
+            stripe.pins[slot]++;
+        }
+
+        int globalSlot = stripe.globalSlot(slot);
+        MemorySegment segment = segments[globalSlot / slotsPerSegment];
+        byte[] data = new byte[length];
+        segment.get(dataPosition(globalSlot), data, 0, length);
+        boolean valid =
+                verified || checksum(data) == segment.getInt(slotHeaderPosition(globalSlot) + 20);
+
+        synchronized (stripe) {
+            if (valid) {
+                stripe.verified[slot] = true;
+            } else if (!stripe.invalid[slot]) {
+                LOG.debug("Cache block of {} {} is corrupted.", filePath, blockIndex);
+                segment.putInt(slotHeaderPosition(globalSlot) + 16, 0);
+                stripe.invalidate(slot);
+            }
+            stripe.unpin(slot);
+        }
+        return valid ? data : null;
+    }
+
+    @Override
+    public void putBlock(String filePath, int blockIndex, byte[] data) {
+        if (data.length > blockSize) {
+            return;
+        }
+        BlockKey key = BlockKey.of(filePath, blockIndex);
+        Stripe stripe = stripe(key);
+        int slot;
+        synchronized (stripe) {
+            if (stripe.index.containsKey(key)) {
+                return;
+            }
+            slot = stripe.allocate();
+            if (slot < 0) {
+                return;
+            }
+            // pin the slot so that it is not allocated again while writing
+            stripe.pins[slot]++;
+        }
+
+        int globalSlot = stripe.globalSlot(slot);
+        boolean written = false;
+        try {
+            MemorySegment segment = segment(globalSlot / slotsPerSegment);
+            int header = slotHeaderPosition(globalSlot);
+            // invalidate the slot first, a crash while writing must not expose partial data
+            segment.putInt(header + 16, 0);
+            segment.put(dataPosition(globalSlot), data, 0, data.length);
+            segment.putLong(header, key.high);
+            segment.putLong(header + 8, key.low);
+            segment.putInt(header + 20, checksum(data));
+            segment.putInt(header + 16, data.length);
+            written = true;
+        } catch (IOException e) {
+            LOG.debug("Failed to write cache block of {} {}.", filePath, blockIndex, e);
+        }
+
+        synchronized (stripe) {
+            stripe.unpin(slot);
+            if (written && !stripe.index.containsKey(key)) {
+                stripe.add(slot, key, data.length, true);
+            } else {
+                stripe.free.add(slot);
+            }
+        }
+    }
+
+    private Stripe stripe(BlockKey key) {
+        return stripes[(int) (key.low & (NUM_STRIPES - 1))];
+    }
+
+    private int slotHeaderPosition(int globalSlot) {
+        return SEGMENT_HEADER_SIZE + (globalSlot % slotsPerSegment) * SLOT_HEADER_SIZE;
+    }
+
+    private int dataPosition(int globalSlot) {
+        return dataOffset + (globalSlot % slotsPerSegment) * blockSize;
+    }
+
+    private MemorySegment segment(int segmentIndex) throws IOException {
+        MemorySegment[] current = segments;
+        if (segmentIndex < current.length && current[segmentIndex] != null) {
+            return current[segmentIndex];
+        }
+        synchronized (segmentLock) {
+            if (segmentIndex >= segments.length || segments[segmentIndex] == null) {
+                MemorySegment segment =
+                        MemorySegment.wrapOffHeapMemory(map(segmentFile(segmentIndex)));
+                segment.putInt(0, MAGIC);
+                segment.putInt(4, VERSION);
+                segment.putInt(8, blockSize);
+                segment.putInt(12, slotsPerSegment);
+                setSegment(segmentIndex, segment);
+            }
+            return segments[segmentIndex];
+        }
+    }
+
+    private void setSegment(int segmentIndex, MemorySegment segment) {
+        MemorySegment[] newSegments =
+                Arrays.copyOf(segments, Math.max(segments.length, segmentIndex + 1));
+        newSegments[segmentIndex] = segment;
+        segments = newSegments;
+    }
+
+    private File segmentFile(int segmentIndex) {
+        return new File(cacheDir, SEGMENT_PREFIX + segmentIndex);
+    }
+
+    private MappedByteBuffer map(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(segmentFileSize);
+            return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentFileSize);
+        }
+    }
+
+    private void recover() {
+        File[] files = cacheDir.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX));
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            int segmentIndex;
+            try {
+                segmentIndex = Integer.parseInt(file.getName().substring(SEGMENT_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            try {
+                recoverSegment(file, segmentIndex);
+            } catch (IOException e) {
+                LOG.warn("Failed to recover cache segment {}, deleting it.", file, e);
+                file.delete();
+            }
+        }
+        for (Stripe stripe : stripes) {
+            stripe.collectFreeSlots();
+        }
+    }
+
+    private void recoverSegment(File file, int segmentIndex) throws IOException {
+        if (file.length() != segmentFileSize) {
+            LOG.info("Cache segment {} has a different layout, deleting it.", file);
+            file.delete();
+            return;
+        }
+        MemorySegment segment = MemorySegment.wrapOffHeapMemory(map(file));
+        if (segment.getInt(0) != MAGIC
+                || segment.getInt(4) != VERSION
+                || segment.getInt(8) != blockSize
+                || segment.getInt(12) != slotsPerSegment) {
+            LOG.info("Cache segment {} has a different layout, deleting it.", file);
+            file.delete();
+            return;
+        }
+        setSegment(segmentIndex, segment);
+
+        for (int i = 0; i < slotsPerSegment; i++) {
+            int globalSlot = segmentIndex * slotsPerSegment + i;
+            int header = slotHeaderPosition(globalSlot);
+            int length = segment.getInt(header + 16);
+            if (length <= 0 || length > blockSize) {
+                continue;
+            }
+            BlockKey key = new BlockKey(segment.getLong(header), segment.getLong(header + 8));
+            Stripe stripe = stripes[globalSlot % NUM_STRIPES];
+            int slot = globalSlot / NUM_STRIPES;
+            if (stripe != stripe(key) || slot >= stripe.capacity || stripe.index.containsKey(key)) {
+                segment.putInt(header + 16, 0);
+                continue;
+            }
+            stripe.ensureAllocated(slot + 1);
+            stripe.add(slot, key, length, false);
+        }
+    }
+
+    private static int checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        return (int) crc.getValue();
+    }
+
+    @VisibleForTesting
+    long currentSize() {
+        return currentSize.get();
+    }
+
+    @Override
+    public long getFileSize(String filePath) {
+        Long size = fileSizeCache.get(filePath);
+        return size != null ? size : -1;
+    }
+
+    @Override
+    public void putFileSize(String filePath, long size) {
+        fileSizeCache.put(filePath, size);
+    }
+
+    @Override
+    public void invalidate(String filePath, int numBlocks) {
+        for (int i = 0; i < numBlocks; i++) {
+            BlockKey key = BlockKey.of(filePath, i);
+            Stripe stripe = stripe(key);
+            synchronized (stripe) {
+                Integer slot = stripe.index.get(key);
+                if (slot != null) {
+                    int globalSlot = stripe.globalSlot(slot);
+                    segments[globalSlot / slotsPerSegment].putInt(
+                            slotHeaderPosition(globalSlot) + 16, 0);
+                    stripe.invalidate(slot);
+                }
+            }
+        }
+        fileSizeCache.remove(filePath);
+    }
+
+    /** Slots of one lock stripe, local slot {@code i} is the global slot {@code i * N + id}. */
+    private class Stripe {
+
+        private final int id;
+        private final int capacity;
+        private final Map<BlockKey, Integer> index = new HashMap<>();
+        private final ArrayDeque<Integer> free = new ArrayDeque<>();
+
+        private BlockKey[] keys = new BlockKey[16];
+        private int[] lengths = new int[16];
+        private int[] pins = new int[16];
+        private boolean[] referenced = new boolean[16];
+        private boolean[] verified = new boolean[16];
+        private boolean[] invalid = new boolean[16];
+        private int allocated;
+        private int hand;
+
+        private Stripe(int id, int capacity) {
+            this.id = id;
+            this.capacity = capacity;
+        }
+
+        private int globalSlot(int slot) {
+            return slot * NUM_STRIPES + id;
+        }
+
+        private void ensureAllocated(int count) {
+            if (count > keys.length) {
+                int newLength = (int) Math.min(capacity, Math.max(count, keys.length * 2L));
+                keys = Arrays.copyOf(keys, newLength);
+                lengths = Arrays.copyOf(lengths, newLength);
+                pins = Arrays.copyOf(pins, newLength);
+                referenced = Arrays.copyOf(referenced, newLength);
+                verified = Arrays.copyOf(verified, newLength);
+                invalid = Arrays.copyOf(invalid, newLength);
+            }
+            allocated = Math.max(allocated, count);
+        }
+
+        private void collectFreeSlots() {
+            for (int i = 0; i < allocated; i++) {
+                if (keys[i] == null) {
+                    free.add(i);
+                }
+            }
+        }
+
+        /** Returns a free slot, evicting one if necessary, or -1 if all slots are pinned. */
+        private int allocate() {
+            Integer slot = free.poll();
+            if (slot != null) {
+                return slot;
+            }
+            if (allocated < capacity) {
+                ensureAllocated(allocated + 1);
+                return allocated - 1;
+            }
+            // CLOCK: give referenced slots a second chance, skip pinned slots
+            for (int i = 0; i < 2 * allocated; i++) {
+                int candidate = hand;
+                hand = (hand + 1) % allocated;
+                if (pins[candidate] > 0) {
+                    continue;
+                }
+                if (keys[candidate] == null) {
+                    free.remove(candidate);
+                    return candidate;
+                }
+                if (referenced[candidate]) {
+                    referenced[candidate] = false;
+                    continue;
+                }
+                evict(candidate);
+                return candidate;
+            }
+            return -1;
+        }
+
+        private void add(int slot, BlockKey key, int length, boolean isVerified) {
+            index.put(key, slot);
+            keys[slot] = key;
+            lengths[slot] = length;
+            referenced[slot] = true;
+            verified[slot] = isVerified;
+            currentSize.addAndGet(length);
+        }
+
+        private void evict(int slot) {
+            index.remove(keys[slot]);
+            currentSize.addAndGet(-lengths[slot]);
+            keys[slot] = null;
+            lengths[slot] = 0;
+        }
+
+        /**
+         * Removes the slot from the index. The slot is freed at once if it is not pinned, otherwise
+         * by the last {@link #unpin}, so readers never see it reused while copying from it.
+         */
+        private void invalidate(int slot) {
+            evict(slot);
+            if (pins[slot] > 0) {
+                invalid[slot] = true;
+            } else {
+                free.add(slot);
+            }
+        }
+
+        private void unpin(int slot) {
+            if (--pins[slot] == 0 && invalid[slot]) {
+                invalid[slot] = false;
+                free.add(slot);
+            }
+        }
+    }
+
+    /** 128 bits hash of a block key, used as the key on disk. */
+    private static class BlockKey {
+
+        private static final ThreadLocal<MessageDigest> SHA256_DIGEST =
+                ThreadLocal.withInitial(
+                        () -> {
+                            try {
+                                return MessageDigest.getInstance("SHA-256");
+                            } catch (NoSuchAlgorithmException e) {
+                                throw new RuntimeException("SHA-256 not available", e);
+                            }
+                        });
+
+        private final long high;
+        private final long low;
+
+        private BlockKey(long high, long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        private static BlockKey of(String filePath, int blockIndex) {
+            MessageDigest md = SHA256_DIGEST.get();
+            md.reset();
+            byte[] hash = md.digest((filePath + ":" + blockIndex).getBytes(StandardCharsets.UTF_8));
+            long high = 0;
+            long low = 0;
+            for (int i = 0; i < 8; i++) {
+                high = (high << 8) | (hash[i] & 0xff);
+                low = (low << 8) | (hash[i + 8] & 0xff);
+            }
+            return new BlockKey(high, low);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BlockKey)) {
+                return false;
+            }
+            BlockKey that = (BlockKey) o;
+            return high == that.high && low == that.low;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(high ^ low);
+        }
+    }
+}
@@ -30,6 +30,9 @@ public interface Cache {
     @Nullable
     CacheValue get(CacheKey key, Function<CacheKey, CacheValue> supplier);
 
+    @Nullable
+    CacheValue getIfPresent(CacheKey key);
+
     void put(CacheKey key, CacheValue value);
 
     void invalidate(CacheKey key);
@@ -43,10 +46,19 @@ public interface Cache {
 
         final MemorySegment segment;
         final CacheCallback callback;
+        @Nullable final CacheMetrics metrics;
 
-        CacheValue(MemorySegment segment, CacheCallback callback) {
+        CacheValue(MemorySegment segment, CacheCallback callback, @Nullable CacheMetrics metrics) {
             this.segment = segment;
             this.callback = callback;
+            this.metrics = metrics;
+        }
+
+        void onRemoval(CacheKey key, boolean evicted) {
+            if (evicted && metrics != null) {
+                metrics.recordEviction();
+            }
+            callback.onRemoval(key);
         }
     }
 
@@ -60,7 +60,7 @@ public abstract class CacheBuilder {
 
         private void onRemoval(CacheKey key, Cache.CacheValue value, RemovalCause cause) {
             if (value != null) {
-                value.callback.onRemoval(key);
+                value.onRemoval(key, cause.wasEvicted());
             }
         }
     }
@@ -83,7 +83,7 @@ public abstract class CacheBuilder {
 
         private void onRemoval(RemovalNotification<CacheKey, Cache.CacheValue> notification) {
             if (notification.getValue() != null) {
-                notification.getValue().callback.onRemoval(notification.getKey());
+                notification.getValue().onRemoval(notification.getKey(), notification.wasEvicted());
             }
         }
     }
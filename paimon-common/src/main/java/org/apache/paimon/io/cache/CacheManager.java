@@ -26,12 +26,19 @@ import org.apache.paimon.utils.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
 /** Cache manager to cache bytes to paged {@link MemorySegment}s. */
-public class CacheManager {
+public class CacheManager implements Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(CacheManager.class);
 
@@ -41,8 +48,16 @@ public class CacheManager {
      */
     public static final int REFRESH_COUNT = 10;
 
+    /**
+     * Process-wide cache managers, keyed by their memory size and high priority pool ratio. An
+     * entry is removed once all references returned by {@link #shared} are closed.
+     */
+    private static final Map<SharedKey, SharedEntry> SHARED_MANAGERS = new HashMap<>();
+
     private final Cache dataCache;
     private final Cache indexCache;
+    private final CacheMetrics metrics;
+    @Nullable private final SharedReference sharedReference;
 
     @VisibleForTesting
     public CacheManager(MemorySize maxMemorySize) {
@@ -69,12 +84,87 @@ public class CacheManager {
             this.indexCache =
                     CacheBuilder.newBuilder(cacheType).maximumWeight(indexCacheSize).build();
         }
+        this.metrics = new CacheMetrics();
+        this.sharedReference = null;
         LOG.info(
                 "Initialize cache manager with data cache of {} and index cache of {}.",
                 dataCacheSize,
                 indexCacheSize);
     }
 
+    private CacheManager(
+            Cache dataCache,
+            Cache indexCache,
+            CacheMetrics metrics,
+            @Nullable SharedReference sharedReference) {
+        this.dataCache = dataCache;
+        this.indexCache = indexCache;
+        this.metrics = metrics;
+        this.sharedReference = sharedReference;
+    }
+
+    /**
+     * Returns the process-wide cache manager for the given memory size and high priority pool
+     * ratio, creating it on first access. The shared cache manager is backed by caffeine, whose
+     * concurrent, frequency-based (W-TinyLFU) admission keeps hot pages of one reader from being
+     * flushed by one-off scans of other readers. Use {@link #withMetrics} to get a per-table view
+     * of it.
+     *
+     * <p>Every call returns a new reference which must be {@link #close closed}, the pools are
+     * released once all references are closed.
+     */
+    public static synchronized CacheManager shared(
+            MemorySize maxMemorySize, double highPriorityPoolRatio) {
+        SharedKey key = new SharedKey(maxMemorySize, highPriorityPoolRatio);
+        SharedEntry entry =
+                SHARED_MANAGERS.computeIfAbsent(
+                        key,
+                        k ->
+                                new SharedEntry(
+                                        new CacheManager(
+                                                Cache.CacheType.CAFFEINE,
+                                                maxMemorySize,
+                                                highPriorityPoolRatio)));
+        entry.refCount++;
+        CacheManager manager = entry.manager;
+        return new CacheManager(
+                manager.dataCache, manager.indexCache, manager.metrics, new SharedReference(key));
+    }
+
+    private static synchronized void release(SharedKey key) {
+        SharedEntry entry = SHARED_MANAGERS.get(key);
+        if (entry != null && --entry.refCount == 0) {
+            SHARED_MANAGERS.remove(key);
+        }
+    }
+
+    @VisibleForTesting
+    static synchronized int sharedManagerCount() {
+        return SHARED_MANAGERS.size();
+    }
+
+    /**
+     * Returns a view of this cache manager which shares the same cache pools but records hits,
+     * misses and evictions to the given {@link CacheMetrics}. Closing the view closes the reference
+     * it was created from.
+     */
+    public CacheManager withMetrics(CacheMetrics metrics) {
+        return new CacheManager(dataCache, indexCache, metrics, sharedReference);
+    }
+
+    /**
+     * Whether the pools are shared across readers of the whole process. A shared cache is
+     * concurrent, so readers can access it on every lookup instead of keeping their own view of the
+     * cached pages.
+     */
+    public boolean isShared() {
+        return sharedReference != null;
+    }
+
+    public CacheMetrics metrics() {
+        return metrics;
+    }
+
     @VisibleForTesting
     public Cache dataCache() {
         return dataCache;
@@ -87,13 +177,21 @@ public class CacheManager {
 
     public MemorySegment getPage(CacheKey key, CacheReader reader, CacheCallback callback) {
         Cache cache = key.isIndex() ? indexCache : dataCache;
-        Cache.CacheValue value =
+        Cache.CacheValue value = cache.getIfPresent(key);
+        if (value != null) {
+            metrics.recordHit();
+            return value.segment;
+        }
+
+        // a page loaded concurrently by another reader is counted as a miss as well
+        metrics.recordMiss();
+        value =
                 cache.get(
                         key,
                         k -> {
                             try {
                                 return new Cache.CacheValue(
-                                        MemorySegment.wrap(reader.read(key)), callback);
+                                        MemorySegment.wrap(reader.read(key)), callback, metrics);
                             } catch (IOException e) {
                                 throw new RuntimeException(e);
                             }
@@ -109,6 +207,14 @@ public class CacheManager {
         }
     }
 
+    /** Releases the reference to the shared pools, does nothing for a non-shared manager. */
+    @Override
+    public void close() {
+        if (sharedReference != null) {
+            sharedReference.release();
+        }
+    }
+
     /** The container for the segment. */
     public static class SegmentContainer {
 
@@ -130,4 +236,62 @@ public class CacheManager {
             return accessCount;
         }
     }
+
+    /** A process-wide cache manager and the number of open references to it. */
+    private static class SharedEntry {
+
+        private final CacheManager manager;
+        private int refCount;
+
+        private SharedEntry(CacheManager manager) {
+            this.manager = manager;
+        }
+    }
+
+    /** A reference to a process-wide cache manager, released at most once. */
+    private static class SharedReference {
+
+        private final SharedKey key;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private SharedReference(SharedKey key) {
+            this.key = key;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                CacheManager.release(key);
+            }
+        }
+    }
+
+    /** Key of the process-wide cache managers. */
+    private static class SharedKey {
+
+        private final MemorySize maxMemorySize;
+        private final double highPriorityPoolRatio;
+
+        private SharedKey(MemorySize maxMemorySize, double highPriorityPoolRatio) {
+            this.maxMemorySize = maxMemorySize;
+            this.highPriorityPoolRatio = highPriorityPoolRatio;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SharedKey that = (SharedKey) o;
+            return Double.compare(highPriorityPoolRatio, that.highPriorityPoolRatio) == 0
+                    && Objects.equals(maxMemorySize, that.maxMemorySize);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(maxMemorySize, highPriorityPoolRatio);
+        }
+    }
 }
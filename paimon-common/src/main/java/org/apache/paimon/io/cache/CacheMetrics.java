@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import javax.annotation.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and eviction counters of a {@link CacheManager}. When a cache manager is shared by
+ * multiple tables, each table gets its own {@link CacheMetrics} via {@link
+ * CacheManager#withMetrics}, and evictions are attributed to the table which loaded the page.
+ */
+public class CacheMetrics {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    @Nullable private volatile Listener listener;
+
+    void recordHit() {
+        hitCount.increment();
+        Listener l = listener;
+        if (l != null) {
+            l.onHit();
+        }
+    }
+
+    void recordMiss() {
+        missCount.increment();
+        Listener l = listener;
+        if (l != null) {
+            l.onMiss();
+        }
+    }
+
+    void recordEviction() {
+        evictionCount.increment();
+        Listener l = listener;
+        if (l != null) {
+            l.onEviction();
+        }
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    /** Forwards the following hits, misses and evictions to the listener. */
+    public void setListener(@Nullable Listener listener) {
+        this.listener = listener;
+    }
+
+    /** Listener of cache events, for example to increment the counters of a metric group. */
+    public interface Listener {
+
+        void onHit();
+
+        void onMiss();
+
+        void onEviction();
+    }
+}
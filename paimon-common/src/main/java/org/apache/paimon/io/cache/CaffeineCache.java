@@ -42,6 +42,12 @@ public class CaffeineCache implements Cache {
         return this.cache.get(key, supplier);
     }
 
+    @Nullable
+    @Override
+    public CacheValue getIfPresent(CacheKey key) {
+        return this.cache.getIfPresent(key);
+    }
+
     @Override
     public void put(CacheKey key, CacheValue value) {
         this.cache.put(key, value);
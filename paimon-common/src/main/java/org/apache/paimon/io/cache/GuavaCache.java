@@ -46,6 +46,12 @@ public class GuavaCache implements Cache {
         }
     }
 
+    @Nullable
+    @Override
+    public CacheValue getIfPresent(CacheKey key) {
+        return this.cache.getIfPresent(key);
+    }
+
     @Override
     public void put(CacheKey key, CacheValue value) {
         this.cache.put(key, value);
@@ -21,6 +21,7 @@ package org.apache.paimon.lookup;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.compression.CompressOptions;
 import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.io.cache.CacheMetrics;
 import org.apache.paimon.lookup.sort.SortLookupStoreFactory;
 import org.apache.paimon.memory.MemorySlice;
 import org.apache.paimon.options.Options;
@@ -64,6 +65,16 @@ public interface LookupStoreFactory {
         return bfGenerator;
     }
 
+    static CacheManager createCacheManager(CoreOptions options) {
+        if (options.lookupCacheShared()) {
+            return CacheManager.shared(
+                            options.lookupCacheMaxMemory(), options.lookupCacheHighPrioPoolRatio())
+                    .withMetrics(new CacheMetrics());
+        }
+        return new CacheManager(
+                options.lookupCacheMaxMemory(), options.lookupCacheHighPrioPoolRatio());
+    }
+
     static LookupStoreFactory create(
             CoreOptions options, CacheManager cacheManager, Comparator<MemorySlice> keyComparator) {
         CompressOptions compression = options.lookupCompressOptions();
@@ -64,4 +64,9 @@ public abstract class AbstractMemorySegmentPool implements MemorySegmentPool {
     public int freePages() {
         return segments.size() + maxPages - numPage;
     }
+
+    @Override
+    public int totalPages() {
+        return maxPages;
+    }
 }
@@ -59,6 +59,11 @@ public class CachelessSegmentPool implements MemorySegmentPool {
         return maxPages - numPage;
     }
 
+    @Override
+    public int totalPages() {
+        return maxPages;
+    }
+
     public int maxPages() {
         return maxPages;
     }
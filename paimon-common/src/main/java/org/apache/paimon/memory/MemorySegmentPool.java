@@ -50,6 +50,14 @@ public interface MemorySegmentPool extends MemorySegmentSource {
     /** @return Free page number. */
     int freePages();
 
+    /**
+     * @return Total page number, free or in use. Defaults to the free page number for pools which
+     *     don't know their capacity.
+     */
+    default int totalPages() {
+        return freePages();
+    }
+
     static MemorySegmentPool createHeapPool(MemorySize maxMemory, MemorySize pageSize) {
         return new HeapMemorySegmentPool(maxMemory.getBytes(), (int) pageSize.getBytes());
     }
@@ -35,19 +35,29 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
-/** Cache for block reading. */
+/**
+ * Cache for block reading.
+ *
+ * <p>For a per-reader {@link CacheManager}, pages are remembered in a local map and only
+ * re-registered every {@link CacheManager#REFRESH_COUNT} accesses. For a {@link
+ * CacheManager#isShared() shared} cache manager, every access goes to the concurrent cache directly
+ * so that its admission policy sees the real access frequency, and only the keys are tracked for
+ * invalidation on close.
+ */
 public class BlockCache implements Closeable {
 
     private final Path filePath;
     private final SeekableInputStream input;
     private final CacheManager cacheManager;
     private final Map<CacheKey, SegmentContainer> blocks;
+    private final Set<CacheKey> sharedKeys;
 
     public BlockCache(Path filePath, SeekableInputStream input, CacheManager cacheManager) {
         this.filePath = filePath;
         this.input = input;
         this.cacheManager = cacheManager;
         this.blocks = new ConcurrentHashMap<>();
+        this.sharedKeys = ConcurrentHashMap.newKeySet();
     }
 
     private byte[] readFrom(long offset, int length) throws IOException {
@@ -67,6 +77,17 @@ public class BlockCache implements Closeable {
             long position, int length, Function<byte[], byte[]> decompressFunc, boolean isIndex) {
         CacheKey cacheKey = CacheKey.forPosition(filePath, position, length, isIndex);
 
+        if (cacheManager.isShared()) {
+            return cacheManager.getPage(
+                    cacheKey,
+                    key -> {
+                        byte[] bytes = readFrom(position, length);
+                        sharedKeys.add(key);
+                        return decompressFunc.apply(bytes);
+                    },
+                    sharedKeys::remove);
+        }
+
         SegmentContainer container = blocks.get(cacheKey);
         if (container == null || container.getAccessCount() == CacheManager.REFRESH_COUNT) {
             MemorySegment segment =
@@ -86,6 +107,7 @@ public class BlockCache implements Closeable {
     @Override
     public void close() throws IOException {
         Set<CacheKey> sets = new HashSet<>(blocks.keySet());
+        sets.addAll(sharedKeys);
         for (CacheKey key : sets) {
             cacheManager.invalidPage(key);
         }
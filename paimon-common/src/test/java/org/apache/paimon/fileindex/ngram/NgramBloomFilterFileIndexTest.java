@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.ngram;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fs.ByteArraySeekableStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link NgramBloomFilterFileIndex}. */
+public class NgramBloomFilterFileIndexTest {
+
+    @Test
+    public void testNgram() {
+        FileIndexReader reader = createReader("ngram", "apache paimon", "lake format", "streaming");
+
+        assertThat(reader.visitEqual(null, str("lake format")).remain()).isTrue();
+        assertThat(reader.visitEqual(null, str("lake house")).remain()).isFalse();
+
+        assertThat(reader.visitStartsWith(null, str("apa")).remain()).isTrue();
+        assertThat(reader.visitStartsWith(null, str("flink")).remain()).isFalse();
+        assertThat(reader.visitEndsWith(null, str("ming")).remain()).isTrue();
+        assertThat(reader.visitEndsWith(null, str("table")).remain()).isFalse();
+        assertThat(reader.visitContains(null, str("paimon")).remain()).isTrue();
+        assertThat(reader.visitContains(null, str("iceberg")).remain()).isFalse();
+
+        assertThat(reader.visitLike(null, str("%paim%")).remain()).isTrue();
+        assertThat(reader.visitLike(null, str("lake_form%")).remain()).isTrue();
+        assertThat(reader.visitLike(null, str("%hudi%")).remain()).isFalse();
+        assertThat(reader.visitLike(null, str("%lake%hudi%")).remain()).isFalse();
+
+        // literals shorter than the gram size can not be filtered
+        assertThat(reader.visitContains(null, str("xy")).remain()).isTrue();
+        assertThat(reader.visitLike(null, str("%x_y%")).remain()).isTrue();
+        assertThat(reader.visitContains(null, null).remain()).isTrue();
+    }
+
+    @Test
+    public void testLikeEscape() {
+        FileIndexReader reader = createReader("ngram", "100%_done");
+
+        assertThat(reader.visitLike(null, str("%0\\%\\_d%")).remain()).isTrue();
+        assertThat(reader.visitLike(null, str("%0\\%\\_x%")).remain()).isFalse();
+    }
+
+    @Test
+    public void testToken() {
+        FileIndexReader reader = createReader("token", "error: disk full", "warn-slow query");
+
+        assertThat(reader.visitEqual(null, str("error: disk full")).remain()).isTrue();
+        assertThat(reader.visitEqual(null, str("error: disk empty")).remain()).isFalse();
+
+        assertThat(reader.visitContains(null, str(" disk ")).remain()).isTrue();
+        assertThat(reader.visitContains(null, str(" memory ")).remain()).isFalse();
+        assertThat(reader.visitStartsWith(null, str("warn-")).remain()).isTrue();
+        assertThat(reader.visitStartsWith(null, str("info-")).remain()).isFalse();
+        assertThat(reader.visitEndsWith(null, str(" query")).remain()).isTrue();
+        assertThat(reader.visitEndsWith(null, str(" table")).remain()).isFalse();
+
+        assertThat(reader.visitLike(null, str("% slow %")).remain()).isTrue();
+        assertThat(reader.visitLike(null, str("% fast %")).remain()).isFalse();
+
+        // incomplete tokens can not be filtered
+        assertThat(reader.visitContains(null, str("memo")).remain()).isTrue();
+        assertThat(reader.visitLike(null, str("%memo%")).remain()).isTrue();
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        assertThatThrownBy(() -> new NgramBloomFilterFileIndex(DataTypes.INT(), new Options()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static FileIndexReader createReader(String tokenizer, String... values) {
+        Map<String, String> options = new HashMap<>();
+        options.put("items", "1000");
+        options.put("fpp", "0.01");
+        options.put("tokenizer", tokenizer);
+        NgramBloomFilterFileIndex index =
+                new NgramBloomFilterFileIndex(DataTypes.STRING(), new Options(options));
+        FileIndexWriter writer = index.createWriter();
+        for (String value : values) {
+            writer.write(str(value));
+        }
+        writer.write(null);
+        byte[] serializedBytes = writer.serializedBytes();
+        return index.createReader(
+                new ByteArraySeekableStream(serializedBytes), 0, serializedBytes.length);
+    }
+
+    private static BinaryString str(String value) {
+        return BinaryString.fromString(value);
+    }
+}
@@ -30,12 +30,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Tests for {@link CachingFileIO} and {@link CachingSeekableInputStream}. */
 class CachingFileIOTest {
@@ -298,6 +301,125 @@ class CachingFileIOTest {
         assertThat(cachingIO.isObjectStore()).isFalse();
     }
 
+    @Test
+    void testFileStatusCached() throws IOException {
+        MockFileIO delegate = new MockFileIO();
+        delegate.addFile("manifest-abc", "manifest".getBytes());
+        delegate.addFile("LATEST", "1".getBytes());
+
+        LocalMemoryCacheManager cache = new LocalMemoryCacheManager(Long.MAX_VALUE, 64);
+        CachingFileIO cachingIO =
+                new CachingFileIO(
+                        delegate,
+                        cache,
+                        EnumSet.of(FileType.META),
+                        Duration.ofMinutes(1),
+                        100,
+                        false);
+
+        Path manifest = new Path("manifest-abc");
+        assertThat(cachingIO.getFileStatus(manifest).getLen()).isEqualTo(8);
+        assertThat(cachingIO.getFileStatus(manifest).getLen()).isEqualTo(8);
+        assertThat(cachingIO.exists(manifest)).isTrue();
+        assertThat(delegate.getFileStatusCallCount("manifest-abc")).isEqualTo(1);
+
+        // reading the file does not request its status again
+        try (SeekableInputStream s = cachingIO.newInputStream(manifest)) {
+            assertThat(readAll(s, 8)).isEqualTo("manifest".getBytes());
+        }
+        assertThat(delegate.getFileStatusCallCount("manifest-abc")).isEqualTo(1);
+
+        // mutable files are not cached
+        cachingIO.getFileStatus(new Path("LATEST"));
+        cachingIO.getFileStatus(new Path("LATEST"));
+        assertThat(delegate.getFileStatusCallCount("LATEST")).isEqualTo(2);
+
+        // deletion invalidates the status
+        assertThat(cachingIO.delete(manifest, false)).isTrue();
+        assertThat(cachingIO.exists(manifest)).isFalse();
+    }
+
+    @Test
+    void testWriteThrough() throws IOException {
+        byte[] data = "0123456789abcdefghij".getBytes();
+        MockFileIO delegate = new MockFileIO();
+
+        LocalMemoryCacheManager cache = new LocalMemoryCacheManager(Long.MAX_VALUE, 8);
+        CachingFileIO cachingIO =
+                new CachingFileIO(
+                        delegate,
+                        cache,
+                        EnumSet.of(FileType.META),
+                        Duration.ofMinutes(1),
+                        100,
+                        true);
+
+        // write directly
+        Path manifest = new Path("manifest-abc");
+        try (PositionOutputStream out = cachingIO.newOutputStream(manifest, false)) {
+            out.write(data, 0, 5);
+            out.write(data, 5, data.length - 5);
+        }
+        assertThat(cachingIO.getFileStatus(manifest).getLen()).isEqualTo(data.length);
+        try (SeekableInputStream s = cachingIO.newInputStream(manifest)) {
+            assertThat(readAll(s, data.length)).isEqualTo(data);
+        }
+
+        // write atomically through a temp file
+        Path snapshot = new Path("snapshot-1");
+        assertThat(cachingIO.tryToWriteAtomic(snapshot, "snapshot")).isTrue();
+        try (SeekableInputStream s = cachingIO.newInputStream(snapshot)) {
+            assertThat(readAll(s, 8)).isEqualTo("snapshot".getBytes());
+        }
+
+        assertThat(delegate.newInputStreamCallCount("manifest-abc")).isEqualTo(0);
+        assertThat(delegate.getFileStatusCallCount("manifest-abc")).isEqualTo(0);
+        assertThat(delegate.newInputStreamCallCount("snapshot-1")).isEqualTo(0);
+        assertThat(delegate.getFileStatusCallCount("snapshot-1")).isEqualTo(0);
+
+        // renaming moves the cached blocks
+        Path tmp = new Path("manifest-tmp");
+        try (PositionOutputStream out = cachingIO.newOutputStream(tmp, false)) {
+            out.write(data);
+        }
+        Path renamed = new Path("manifest-def");
+        assertThat(cachingIO.rename(tmp, renamed)).isTrue();
+        assertThat(cache.getBlock(tmp.toString(), 0)).isNull();
+        assertThat(cache.getFileSize(tmp.toString())).isEqualTo(-1);
+        assertThat(cache.getFileSize(renamed.toString())).isEqualTo(data.length);
+        try (SeekableInputStream s = cachingIO.newInputStream(renamed)) {
+            assertThat(readAll(s, data.length)).isEqualTo(data);
+        }
+        assertThat(delegate.newInputStreamCallCount("manifest-def")).isEqualTo(0);
+    }
+
+    @Test
+    void testWriteThroughFailedClose() throws IOException {
+        byte[] data = "0123456789abcdefghij".getBytes();
+        MockFileIO delegate = new MockFileIO();
+        delegate.failClose = true;
+
+        LocalMemoryCacheManager cache = new LocalMemoryCacheManager(Long.MAX_VALUE, 8);
+        CachingFileIO cachingIO =
+                new CachingFileIO(
+                        delegate,
+                        cache,
+                        EnumSet.of(FileType.META),
+                        Duration.ofMinutes(1),
+                        100,
+                        true);
+
+        Path manifest = new Path("manifest-abc");
+        PositionOutputStream out = cachingIO.newOutputStream(manifest, false);
+        out.write(data);
+        assertThatThrownBy(out::close).isInstanceOf(IOException.class);
+
+        // nothing is cached for a file which failed to be written
+        assertThat(cache.getBlock(manifest.toString(), 0)).isNull();
+        assertThat(cache.getFileSize(manifest.toString())).isEqualTo(-1);
+        assertThat(cachingIO.exists(manifest)).isFalse();
+    }
+
     private byte[] readAll(SeekableInputStream s, int size) throws IOException {
         byte[] buf = new byte[size];
         int off = 0;
@@ -330,6 +452,8 @@ class CachingFileIOTest {
         private final Map<String, Integer> fileStatusCalls = new HashMap<>();
         private final Map<String, Integer> newInputStreamCalls = new HashMap<>();
 
+        private boolean failClose;
+
         void addFile(String name, byte[] data) {
             files.put(name, data);
         }
@@ -354,8 +478,45 @@ class CachingFileIOTest {
         }
 
         @Override
-        public PositionOutputStream newOutputStream(Path path, boolean overwrite) {
-            throw new UnsupportedOperationException();
+        public PositionOutputStream newOutputStream(Path path, boolean overwrite)
+                throws IOException {
+            String name = path.getName();
+            if (!overwrite && files.containsKey(name)) {
+                throw new IOException("File already exists: " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            return new PositionOutputStream() {
+                @Override
+                public long getPos() {
+                    return out.size();
+                }
+
+                @Override
+                public void write(int b) {
+                    out.write(b);
+                }
+
+                @Override
+                public void write(byte[] b) {
+                    out.write(b, 0, b.length);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void flush() {}
+
+                @Override
+                public void close() throws IOException {
+                    if (failClose) {
+                        throw new IOException("Failed to close " + name);
+                    }
+                    files.put(name, out.toByteArray());
+                }
+            };
         }
 
         @Override
@@ -411,7 +572,15 @@ class CachingFileIOTest {
 
         @Override
         public boolean rename(Path src, Path dst) {
-            return false;
+            if (files.containsKey(dst.getName())) {
+                return false;
+            }
+            byte[] data = files.remove(src.getName());
+            if (data == null) {
+                return false;
+            }
+            files.put(dst.getName(), data);
+            return true;
         }
 
         @Override
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link SlabDiskCacheManager}. */
+class SlabDiskCacheManagerTest {
+
+    @TempDir Path tempDir;
+
+    private String cacheDir;
+
+    @BeforeEach
+    void setUp() {
+        cacheDir = tempDir.resolve("cache").toString();
+    }
+
+    @Test
+    void testPutAndGet() {
+        SlabDiskCacheManager cache = new SlabDiskCacheManager(cacheDir, Long.MAX_VALUE, 64, 1024);
+        cache.putBlock("file1", 0, "block0".getBytes());
+        cache.putBlock("file1", 1, "block1".getBytes());
+        cache.putBlock("file2", 0, "other0".getBytes());
+
+        assertThat(cache.getBlock("file1", 0)).isEqualTo("block0".getBytes());
+        assertThat(cache.getBlock("file1", 1)).isEqualTo("block1".getBytes());
+        assertThat(cache.getBlock("file2", 0)).isEqualTo("other0".getBytes());
+        assertThat(cache.getBlock("file2", 1)).isNull();
+        assertThat(cache.currentSize()).isEqualTo(18);
+    }
+
+    @Test
+    void testDuplicatePutIsNoop() {
+        SlabDiskCacheManager cache = new SlabDiskCacheManager(cacheDir, Long.MAX_VALUE, 64, 1024);
+        cache.putBlock("file1", 0, "original".getBytes());
+        cache.putBlock("file1", 0, "duplicate".getBytes());
+        assertThat(cache.getBlock("file1", 0)).isEqualTo("original".getBytes());
+    }
+
+    @Test
+    void testEviction() {
+        // one slot per stripe
+        SlabDiskCacheManager cache = new SlabDiskCacheManager(cacheDir, 16 * 64, 64, 1024);
+        for (int i = 0; i < 100; i++) {
+            cache.putBlock("f", i, block(i, 60));
+        }
+        assertThat(cache.currentSize()).isLessThanOrEqualTo(16 * 60);
+
+        int hits = 0;
+        for (int i = 0; i < 100; i++) {
+            byte[] data = cache.getBlock("f", i);
+            if (data != null) {
+                assertThat(data).isEqualTo(block(i, 60));
+                hits++;
+            }
+        }
+        assertThat(hits).isLessThanOrEqualTo(16);
+        // segment files are bounded by the capacity
+        assertThat(new File(cacheDir).listFiles()).hasSizeLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void testRecoverOnRestart() {
+        SlabDiskCacheManager cache1 = new SlabDiskCacheManager(cacheDir, Long.MAX_VALUE, 64, 256);
+        for (int i = 0; i < 20; i++) {
+            cache1.putBlock("f", i, block(i, 50));
+        }
+
+        SlabDiskCacheManager cache2 = new SlabDiskCacheManager(cacheDir, Long.MAX_VALUE, 64, 256);
+        assertThat(cache2.currentSize()).isEqualTo(20 * 50);
+        for (int i = 0; i < 20; i++) {
+            assertThat(cache2.getBlock("f", i)).isEqualTo(block(i, 50));
+        }
+
+        // a different layout discards the segments
+        SlabDiskCacheManager cache3 = new SlabDiskCacheManager(cacheDir, Long.MAX_VALUE, 32, 256);
+        assertThat(cache3.currentSize()).isEqualTo(0);
+        assertThat(cache3.getBlock("f", 0)).isNull();
+    }
+
+    @Test
+    void testCorruptedBlockAfterRestart() throws Exception {
+        SlabDiskCacheManager cache1 = new SlabDiskCacheManager(cacheDir, Long.MAX_VALUE, 64, 64);
+        cache1.putBlock("f", 0, block(0, 64));
+
+        // only one segment with one slot, corrupt the last byte of its data
+        File segment = new File(cacheDir).listFiles()[0];
+        try (RandomAccessFile raf = new RandomAccessFile(segment, "rw")) {
+            raf.seek(raf.length() - 1);
+            raf.write(42);
+        }
+
+        SlabDiskCacheManager cache2 = new SlabDiskCacheManager(cacheDir, Long.MAX_VALUE, 64, 64);
+        assertThat(cache2.getBlock("f", 0)).isNull();
+        assertThat(cache2.currentSize()).isEqualTo(0);
+    }
+
+    @Test
+    void testConcurrentPutGet() throws InterruptedException {
+        SlabDiskCacheManager cache = new SlabDiskCacheManager(cacheDir, 32 * 100, 100, 1000);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(
+                    new Thread(
+                            () -> {
+                                try {
+                                    for (int i = 0; i < 1000; i++) {
+                                        int block = i % 200;
+                                        byte[] result = cache.getBlock("concurrent", block);
+                                        if (result == null) {
+                                            cache.putBlock("concurrent", block, block(block, 100));
+                                        } else {
+                                            assertThat(result).isEqualTo(block(block, 100));
+                                        }
+                                    }
+                                } catch (Throwable e) {
+                                    errors.add(e);
+                                }
+                            }));
+        }
+        for (Thread t : threads) {
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertThat(errors).isEmpty();
+        assertThat(cache.currentSize()).isLessThanOrEqualTo(32 * 100);
+    }
+
+    @Test
+    void testInvalidateConcurrentWithReads() throws InterruptedException {
+        // few slots, so that freed slots are reused by other blocks at once
+        SlabDiskCacheManager cache = new SlabDiskCacheManager(cacheDir, 32 * 100, 100, 1000);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            threads.add(
+                    new Thread(
+                            () -> {
+                                try {
+                                    for (int i = 0; i < 2000; i++) {
+                                        int block = i % 64;
+                                        String file = "f" + (block % 4);
+                                        byte[] result = cache.getBlock(file, block);
+                                        if (result == null) {
+                                            cache.putBlock(file, block, block(block, 100));
+                                        } else {
+                                            assertThat(result).isEqualTo(block(block, 100));
+                                        }
+                                        if (thread == 0 && i % 16 == 0) {
+                                            cache.invalidate(file, 64);
+                                        }
+                                    }
+                                } catch (Throwable e) {
+                                    errors.add(e);
+                                }
+                            }));
+        }
+        for (Thread t : threads) {
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertThat(errors).isEmpty();
+
+        for (int i = 0; i < 4; i++) {
+            cache.invalidate("f" + i, 64);
+        }
+        assertThat(cache.currentSize()).isEqualTo(0);
+        cache.putBlock("f0", 0, block(0, 100));
+        assertThat(cache.getBlock("f0", 0)).isEqualTo(block(0, 100));
+    }
+
+    private static byte[] block(int i, int size) {
+        byte[] data = new byte[size];
+        Arrays.fill(data, (byte) i);
+        return data;
+    }
+}
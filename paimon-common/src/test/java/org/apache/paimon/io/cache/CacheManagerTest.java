@@ -67,4 +67,64 @@ public class CacheManagerTest {
             }
         }
     }
+
+    @Test
+    void testSharedCacheManagerMetrics() throws Exception {
+        File file = new File(tempDir.toFile(), "test.shared");
+        assertThat(file.createNewFile()).isTrue();
+        RandomAccessFile accessFile = new RandomAccessFile(file, "r");
+
+        CacheManager shared = CacheManager.shared(MemorySize.ofBytes(20), 0);
+        assertThat(shared.isShared()).isTrue();
+        CacheManager other = CacheManager.shared(MemorySize.ofBytes(20), 0);
+        assertThat(other.dataCache()).isSameAs(shared.dataCache());
+        other.close();
+
+        CacheMetrics metrics1 = new CacheMetrics();
+        CacheMetrics metrics2 = new CacheMetrics();
+        CacheManager table1 = shared.withMetrics(metrics1);
+        CacheManager table2 = shared.withMetrics(metrics2);
+
+        CacheKey key1 = CacheKey.forPageIndex(accessFile, 0, 0);
+        table1.getPage(key1, key -> new byte[8], key -> {});
+        table2.getPage(key1, key -> new byte[8], key -> {});
+        assertThat(metrics1.missCount()).isEqualTo(1);
+        assertThat(metrics2.hitCount()).isEqualTo(1);
+
+        // exceed the capacity, at most two pages can stay in the cache
+        for (int i = 1; i < 10; i++) {
+            table2.getPage(CacheKey.forPageIndex(accessFile, 0, i), key -> new byte[8], key -> {});
+        }
+        assertThat(metrics2.missCount()).isEqualTo(9);
+        assertThat(metrics1.evictionCount() + metrics2.evictionCount()).isGreaterThanOrEqualTo(8);
+
+        // explicit invalidation is not an eviction
+        long evictions = metrics1.evictionCount() + metrics2.evictionCount();
+        shared.dataCache().invalidateAll();
+        assertThat(metrics1.evictionCount() + metrics2.evictionCount()).isEqualTo(evictions);
+
+        shared.close();
+        accessFile.close();
+    }
+
+    @Test
+    void testReleaseSharedCacheManager() {
+        int before = CacheManager.sharedManagerCount();
+        CacheManager first = CacheManager.shared(MemorySize.ofBytes(30), 0);
+        CacheManager second =
+                CacheManager.shared(MemorySize.ofBytes(30), 0).withMetrics(new CacheMetrics());
+        assertThat(second.dataCache()).isSameAs(first.dataCache());
+        assertThat(CacheManager.sharedManagerCount()).isEqualTo(before + 1);
+
+        // closing a reference twice releases it only once
+        first.close();
+        first.close();
+        assertThat(CacheManager.sharedManagerCount()).isEqualTo(before + 1);
+
+        second.close();
+        assertThat(CacheManager.sharedManagerCount()).isEqualTo(before);
+        CacheManager third = CacheManager.shared(MemorySize.ofBytes(30), 0);
+        assertThat(third.dataCache()).isNotSameAs(first.dataCache());
+        third.close();
+    }
 }
@@ -241,7 +241,8 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                 indexManifestFileFactory().create(),
                 new IndexFilePathFactories(pathFactory()),
                 options.dvIndexFileTargetSize(),
-                options.deletionVectorBitmap64());
+                options.deletionVectorBitmap64(),
+                options.dvIndexFileDeltaThreshold());
     }
 
     @Override
@@ -305,7 +306,8 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                                 options.pkClusteringOverride(),
                                 newIndexFileHandler(),
                                 snapshotManager,
-                                scanner);
+                                scanner,
+                                options.scanManifestParallelism());
         CommitRollback rollback = null;
         TableRollback tableRollback = catalogEnvironment.catalogTableRollback();
         if (tableRollback != null) {
@@ -32,6 +32,7 @@ import org.apache.paimon.table.Table;
 import org.apache.paimon.table.system.SystemTableLoader;
 import org.apache.paimon.utils.DVMetaCache;
 import org.apache.paimon.utils.SegmentsCache;
+import org.apache.paimon.utils.SegmentsDiskCache;
 
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
@@ -50,6 +51,8 @@ import static org.apache.paimon.options.CatalogOptions.CACHE_DV_MAX_NUM;
 import static org.apache.paimon.options.CatalogOptions.CACHE_ENABLED;
 import static org.apache.paimon.options.CatalogOptions.CACHE_EXPIRE_AFTER_ACCESS;
 import static org.apache.paimon.options.CatalogOptions.CACHE_EXPIRE_AFTER_WRITE;
+import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_DISK_DIR;
+import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_DISK_MAX_SIZE;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_MAX_MEMORY;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_SMALL_FILE_MEMORY;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_SMALL_FILE_THRESHOLD;
@@ -107,6 +110,15 @@ public class CachingCatalog extends DelegateCatalog {
                         manifestCacheThreshold,
                         expireAfterAccess,
                         manifestCacheSoftValues);
+        String manifestDiskDir = options.get(CACHE_MANIFEST_DISK_DIR);
+        if (manifestCache != null && manifestDiskDir != null) {
+            long manifestDiskMaxSize =
+                    options.getOptional(CACHE_MANIFEST_DISK_MAX_SIZE)
+                            .map(MemorySize::getBytes)
+                            .orElse(Long.MAX_VALUE);
+            manifestCache.withDiskCache(
+                    new SegmentsDiskCache(manifestDiskDir, manifestDiskMaxSize));
+        }
 
         this.cachedPartitionMaxNum = options.get(CACHE_PARTITION_MAX_NUM);
 
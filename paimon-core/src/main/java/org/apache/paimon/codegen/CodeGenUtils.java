@@ -123,6 +123,15 @@ public class CodeGenUtils {
                 () -> getCodeGenerator().generateRecordEqualiser(fieldTypes, fields));
     }
 
+    public static RecordAggregator newRecordAggregator(RowType rowType, List<String> aggFuncNames) {
+        return generate(
+                RecordAggregator.class,
+                rowType.getFieldTypes(),
+                IntStream.range(0, rowType.getFieldCount()).toArray(),
+                Pair.of(rowType.getFieldNames(), aggFuncNames),
+                () -> getCodeGenerator().generateRecordAggregator(rowType, aggFuncNames));
+    }
+
     private static <T> T generate(
             Class<?> classType,
             List<DataType> fields,
@@ -24,12 +24,17 @@ import org.apache.paimon.index.IndexFileMeta;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.isDeltaFile;
+
 /** Deletion File from compaction. */
 public interface CompactDeletionFile {
 
-    Optional<IndexFileMeta> getOrCompute();
+    /** The index files to commit, a full file always comes before the delta file based on it. */
+    List<IndexFileMeta> getOrCompute();
 
     CompactDeletionFile mergeOldFile(CompactDeletionFile old);
 
@@ -56,6 +61,9 @@ public interface CompactDeletionFile {
         @Nullable private final IndexFileMeta deletionFile;
         private final DeletionVectorsIndexFile dvIndexFile;
 
+        // the uncommitted full file which the delta file is based on
+        @Nullable private IndexFileMeta baseFile;
+
         private boolean getInvoked = false;
 
         public GeneratedDeletionFile(
@@ -65,9 +73,16 @@ public interface CompactDeletionFile {
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public List<IndexFileMeta> getOrCompute() {
             this.getInvoked = true;
-            return Optional.ofNullable(deletionFile);
+            List<IndexFileMeta> files = new ArrayList<>(2);
+            if (baseFile != null) {
+                files.add(baseFile);
+            }
+            if (deletionFile != null) {
+                files.add(deletionFile);
+            }
+            return files;
         }
 
         @Override
@@ -85,6 +100,18 @@ public interface CompactDeletionFile {
                 return old;
             }
 
+            GeneratedDeletionFile oldFile = (GeneratedDeletionFile) old;
+            if (isDeltaFile(deletionFile)) {
+                // the new delta contains the changes of the old delta, but not of the old full file
+                if (oldFile.deletionFile != null && isDeltaFile(oldFile.deletionFile)) {
+                    dvIndexFile.delete(oldFile.deletionFile);
+                    baseFile = oldFile.baseFile;
+                } else {
+                    baseFile = oldFile.deletionFile;
+                }
+                return this;
+            }
+
             old.clean();
             return this;
         }
@@ -94,6 +121,9 @@ public interface CompactDeletionFile {
             if (deletionFile != null) {
                 dvIndexFile.delete(deletionFile);
             }
+            if (baseFile != null) {
+                dvIndexFile.delete(baseFile);
+            }
         }
     }
 
@@ -109,7 +139,7 @@ public interface CompactDeletionFile {
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public List<IndexFileMeta> getOrCompute() {
             generated = true;
             return generateFiles(maintainer).getOrCompute();
         }
@@ -22,16 +22,30 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.options.MemorySize;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
-/** Maintainer of deletionVectors index. */
+import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.isDeltaFile;
+
+/**
+ * Maintainer of deletionVectors index.
+ *
+ * <p>If {@link DeletionVectorsIndexFile#deltaThreshold()} is set and the deletion vectors in the
+ * latest full index file are known, only the deletion vectors changed since the full index file are
+ * written, see {@link DeletionVectorsIndexFile}.
+ */
 public class BucketedDvMaintainer {
 
     private final DeletionVectorsIndexFile dvIndexFile;
@@ -39,12 +53,24 @@ public class BucketedDvMaintainer {
     protected final boolean bitmap64;
     private boolean modified;
 
+    // data files of deletion vectors in the latest full index file, null if unknown
+    @Nullable private Set<String> fullFileKeys;
+    // data files whose deletion vectors changed since the latest full index file
+    private final Set<String> changedKeys;
+    private boolean foldDelta;
+
     private BucketedDvMaintainer(
-            DeletionVectorsIndexFile dvIndexFile, Map<String, DeletionVector> deletionVectors) {
+            DeletionVectorsIndexFile dvIndexFile,
+            Map<String, DeletionVector> deletionVectors,
+            @Nullable Set<String> fullFileKeys,
+            Set<String> changedKeys) {
         this.dvIndexFile = dvIndexFile;
         this.deletionVectors = deletionVectors;
         this.bitmap64 = dvIndexFile.bitmap64();
         this.modified = false;
+        this.fullFileKeys = fullFileKeys;
+        this.changedKeys = changedKeys;
+        this.foldDelta = false;
     }
 
     private DeletionVector createNewDeletionVector() {
@@ -63,6 +89,7 @@ public class BucketedDvMaintainer {
                 deletionVectors.computeIfAbsent(fileName, k -> createNewDeletionVector());
         if (deletionVector.checkedDelete(position)) {
             modified = true;
+            changedKeys.add(fileName);
         }
     }
 
@@ -75,6 +102,7 @@ public class BucketedDvMaintainer {
     public void notifyNewDeletion(String fileName, DeletionVector deletionVector) {
         deletionVectors.put(fileName, deletionVector);
         modified = true;
+        changedKeys.add(fileName);
     }
 
     /**
@@ -91,6 +119,7 @@ public class BucketedDvMaintainer {
         }
         deletionVectors.put(fileName, deletionVector);
         modified = true;
+        changedKeys.add(fileName);
     }
 
     /**
@@ -103,6 +132,7 @@ public class BucketedDvMaintainer {
         if (deletionVectors.containsKey(fileName)) {
             deletionVectors.remove(fileName);
             modified = true;
+            changedKeys.add(fileName);
         }
     }
 
@@ -115,11 +145,43 @@ public class BucketedDvMaintainer {
     public Optional<IndexFileMeta> writeDeletionVectorsIndex() {
         if (modified) {
             modified = false;
-            return Optional.of(dvIndexFile.writeSingleFile(deletionVectors));
+            MemorySize deltaThreshold = dvIndexFile.deltaThreshold();
+            if (deltaThreshold == null || fullFileKeys == null || foldDelta) {
+                return Optional.of(writeFullFile());
+            }
+
+            IndexFileMeta deltaFile = dvIndexFile.writeDeltaFile(changedDeletionVectors());
+            // fold the delta into a full file in the next writing
+            foldDelta = deltaFile.fileSize() > deltaThreshold.getBytes();
+            return Optional.of(deltaFile);
         }
         return Optional.empty();
     }
 
+    private IndexFileMeta writeFullFile() {
+        IndexFileMeta fullFile = dvIndexFile.writeSingleFile(deletionVectors);
+        if (dvIndexFile.deltaThreshold() != null) {
+            fullFileKeys = new HashSet<>(deletionVectors.keySet());
+        }
+        changedKeys.clear();
+        foldDelta = false;
+        return fullFile;
+    }
+
+    private Map<String, DeletionVector> changedDeletionVectors() {
+        Map<String, DeletionVector> changed = new LinkedHashMap<>();
+        for (String fileName : changedKeys) {
+            DeletionVector deletionVector = deletionVectors.get(fileName);
+            if (deletionVector != null && !deletionVector.isEmpty()) {
+                changed.put(fileName, deletionVector);
+            } else if (Objects.requireNonNull(fullFileKeys).contains(fileName)) {
+                // an empty deletion vector removes the one in the full file
+                changed.put(fileName, createNewDeletionVector());
+            }
+        }
+        return changed;
+    }
+
     /**
      * Retrieves the deletion vector associated with the specified file name.
      *
@@ -166,14 +228,46 @@ public class BucketedDvMaintainer {
             if (restoredFiles == null) {
                 restoredFiles = Collections.emptyList();
             }
+            DeletionVectorsIndexFile dvIndexFile = handler.dvIndex(partition, bucket);
+            if (dvIndexFile.deltaThreshold() == null) {
+                Map<String, DeletionVector> deletionVectors =
+                        new HashMap<>(dvIndexFile.readAllDeletionVectors(restoredFiles));
+                return create(partition, bucket, deletionVectors);
+            }
+
+            List<IndexFileMeta> fullFiles = new ArrayList<>();
+            List<IndexFileMeta> deltaFiles = new ArrayList<>();
+            for (IndexFileMeta file : restoredFiles) {
+                (isDeltaFile(file) ? deltaFiles : fullFiles).add(file);
+            }
             Map<String, DeletionVector> deletionVectors =
-                    new HashMap<>(handler.readAllDeletionVectors(partition, bucket, restoredFiles));
-            return create(partition, bucket, deletionVectors);
+                    new HashMap<>(dvIndexFile.readAllDeletionVectors(fullFiles));
+            // without a restored full file, the first writing is full
+            Set<String> fullFileKeys =
+                    fullFiles.isEmpty() ? null : new HashSet<>(deletionVectors.keySet());
+            Set<String> changedKeys = new HashSet<>();
+            for (IndexFileMeta deltaFile : deltaFiles) {
+                dvIndexFile
+                        .readAllDeletionVectors(deltaFile)
+                        .forEach(
+                                (fileName, deletionVector) -> {
+                                    changedKeys.add(fileName);
+                                    if (deletionVector.isEmpty()) {
+                                        deletionVectors.remove(fileName);
+                                    } else {
+                                        deletionVectors.put(fileName, deletionVector);
+                                    }
+                                });
+            }
+            return new BucketedDvMaintainer(
+                    dvIndexFile, deletionVectors, fullFileKeys, changedKeys);
         }
 
         public BucketedDvMaintainer create(
                 BinaryRow partition, int bucket, Map<String, DeletionVector> deletionVectors) {
-            return new BucketedDvMaintainer(handler.dvIndex(partition, bucket), deletionVectors);
+            // the deletion vectors in the full file are unknown, so the first writing is full
+            return new BucketedDvMaintainer(
+                    handler.dvIndex(partition, bucket), deletionVectors, null, new HashSet<>());
         }
     }
 }
@@ -41,8 +41,12 @@ public class DeletionFileWriter implements Closeable {
     private final LinkedHashMap<String, DeletionVectorMeta> dvMetas;
 
     public DeletionFileWriter(IndexPathFactory pathFactory, FileIO fileIO) throws IOException {
-        this.path = pathFactory.newPath();
-        this.isExternalPath = pathFactory.isExternalPath();
+        this(pathFactory.newPath(), pathFactory.isExternalPath(), fileIO);
+    }
+
+    public DeletionFileWriter(Path path, boolean isExternalPath, FileIO fileIO) throws IOException {
+        this.path = path;
+        this.isExternalPath = isExternalPath;
         this.out = new DataOutputStream(fileIO.newOutputStream(path, true));
         out.writeByte(VERSION_ID_V1);
         this.dvMetas = new LinkedHashMap<>();
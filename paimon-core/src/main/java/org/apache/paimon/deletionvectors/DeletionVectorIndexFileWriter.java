@@ -19,6 +19,7 @@
 package org.apache.paimon.deletionvectors;
 
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
 import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.index.IndexPathFactory;
 import org.apache.paimon.options.MemorySize;
@@ -30,6 +31,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELTA_FILE_PREFIX;
+import static org.apache.paimon.utils.FileStorePathFactory.INDEX_PREFIX;
+
 /** Writer for deletion vector index file. */
 public class DeletionVectorIndexFileWriter {
 
@@ -63,6 +67,34 @@ public class DeletionVectorIndexFileWriter {
         return writer.result();
     }
 
+    /**
+     * Writes the changed deletion vectors of a bucket into a delta file, the name of a delta file
+     * starts with {@link DeletionVectorsIndexFile#DELTA_FILE_PREFIX}. An empty deletion vector
+     * means the deletion vector of the data file has been removed.
+     */
+    public IndexFileMeta writeDeltaFile(Map<String, DeletionVector> input) throws IOException {
+        Path path = indexPathFactory.newPath();
+        String name = path.getName();
+        name =
+                DELTA_FILE_PREFIX
+                        + (name.startsWith(INDEX_PREFIX)
+                                ? name.substring(INDEX_PREFIX.length())
+                                : name);
+        DeletionFileWriter writer =
+                new DeletionFileWriter(
+                        new Path(path.getParent(), name),
+                        indexPathFactory.isExternalPath(),
+                        fileIO);
+        try {
+            for (Map.Entry<String, DeletionVector> entry : input.entrySet()) {
+                writer.write(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            writer.close();
+        }
+        return writer.result();
+    }
+
     public List<IndexFileMeta> writeWithRolling(Map<String, DeletionVector> input)
             throws IOException {
         if (input.isEmpty()) {
@@ -27,11 +27,15 @@ import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.index.IndexPathFactory;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.table.source.DeletionFile;
+import org.apache.paimon.utils.Pair;
+
+import javax.annotation.Nullable;
 
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -40,29 +44,98 @@ import java.util.Map;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
-/** DeletionVectors index file. */
+/**
+ * DeletionVectors index file.
+ *
+ * <p>A bucket may have a delta file besides the full file. A delta file contains the deletion
+ * vectors changed since the full file, an empty deletion vector in it means the deletion vector of
+ * the data file has been removed. Deletion vectors of delta files take precedence when reading.
+ */
 public class DeletionVectorsIndexFile extends IndexFile {
 
     public static final String DELETION_VECTORS_INDEX = "DELETION_VECTORS";
+    public static final String DELTA_FILE_PREFIX = "index-delta-";
     public static final byte VERSION_ID_V1 = 1;
 
     private final MemorySize targetSizePerIndexFile;
     private final boolean bitmap64;
+    @Nullable private final MemorySize deltaThreshold;
 
     public DeletionVectorsIndexFile(
             FileIO fileIO,
             IndexPathFactory pathFactory,
             MemorySize targetSizePerIndexFile,
             boolean bitmap64) {
+        this(fileIO, pathFactory, targetSizePerIndexFile, bitmap64, null);
+    }
+
+    public DeletionVectorsIndexFile(
+            FileIO fileIO,
+            IndexPathFactory pathFactory,
+            MemorySize targetSizePerIndexFile,
+            boolean bitmap64,
+            @Nullable MemorySize deltaThreshold) {
         super(fileIO, pathFactory);
         this.targetSizePerIndexFile = targetSizePerIndexFile;
         this.bitmap64 = bitmap64;
+        this.deltaThreshold = deltaThreshold;
     }
 
     public boolean bitmap64() {
         return bitmap64;
     }
 
+    /** The size of a delta file that triggers folding, null if delta files are disabled. */
+    @Nullable
+    public MemorySize deltaThreshold() {
+        return deltaThreshold;
+    }
+
+    public static boolean isDeltaFile(IndexFileMeta fileMeta) {
+        return fileMeta.fileName().startsWith(DELTA_FILE_PREFIX);
+    }
+
+    /** Sorts the index files of a bucket so that full files come before delta files. */
+    public static List<IndexFileMeta> fullFilesFirst(List<IndexFileMeta> fileMetas) {
+        List<IndexFileMeta> sorted = new ArrayList<>(fileMetas.size());
+        for (IndexFileMeta fileMeta : fileMetas) {
+            if (!isDeltaFile(fileMeta)) {
+                sorted.add(fileMeta);
+            }
+        }
+        for (IndexFileMeta fileMeta : fileMetas) {
+            if (isDeltaFile(fileMeta)) {
+                sorted.add(fileMeta);
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * Merges the deletion vector metas of the index files of a bucket, a data file is mapped to the
+     * meta of its latest deletion vector and the index file containing it.
+     */
+    public static Map<String, Pair<IndexFileMeta, DeletionVectorMeta>> mergeDvRanges(
+            List<IndexFileMeta> fileMetas) {
+        Map<String, Pair<IndexFileMeta, DeletionVectorMeta>> result = new LinkedHashMap<>();
+        for (IndexFileMeta fileMeta : fullFilesFirst(fileMetas)) {
+            LinkedHashMap<String, DeletionVectorMeta> dvRanges = fileMeta.dvRanges();
+            if (dvRanges == null) {
+                continue;
+            }
+            boolean delta = isDeltaFile(fileMeta);
+            for (DeletionVectorMeta dvMeta : dvRanges.values()) {
+                Long cardinality = dvMeta.cardinality();
+                if (delta && cardinality != null && cardinality == 0) {
+                    result.remove(dvMeta.dataFileName());
+                } else {
+                    result.put(dvMeta.dataFileName(), Pair.of(fileMeta, dvMeta));
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Reads all deletion vectors from a specified file.
      *
@@ -98,27 +171,38 @@ public class DeletionVectorsIndexFile extends IndexFile {
 
     public Map<String, DeletionVector> readAllDeletionVectors(List<IndexFileMeta> indexFiles) {
         Map<String, DeletionVector> deletionVectors = new HashMap<>();
-        indexFiles.forEach(indexFile -> deletionVectors.putAll(readAllDeletionVectors(indexFile)));
+        for (IndexFileMeta indexFile : fullFilesFirst(indexFiles)) {
+            Map<String, DeletionVector> fileVectors = readAllDeletionVectors(indexFile);
+            if (isDeltaFile(indexFile)) {
+                fileVectors.forEach(
+                        (dataFile, deletionVector) -> {
+                            if (deletionVector.isEmpty()) {
+                                deletionVectors.remove(dataFile);
+                            } else {
+                                deletionVectors.put(dataFile, deletionVector);
+                            }
+                        });
+            } else {
+                deletionVectors.putAll(fileVectors);
+            }
+        }
         return deletionVectors;
     }
 
     /** Converts deletion-vector index file metas to data-file deletion file metadata. */
     public Map<String, DeletionFile> toDeletionFiles(List<IndexFileMeta> fileMetas) {
         Map<String, DeletionFile> deletionFiles = new HashMap<>();
-        for (IndexFileMeta indexFile : fileMetas) {
-            LinkedHashMap<String, DeletionVectorMeta> dvRanges = indexFile.dvRanges();
-            String dvFilePath = path(indexFile).toString();
-            if (dvRanges != null && !dvRanges.isEmpty()) {
-                for (DeletionVectorMeta dvMeta : dvRanges.values()) {
-                    deletionFiles.put(
-                            dvMeta.dataFileName(),
-                            new DeletionFile(
-                                    dvFilePath,
-                                    dvMeta.offset(),
-                                    dvMeta.length(),
-                                    dvMeta.cardinality()));
-                }
-            }
+        Map<String, String> dvFilePaths = new HashMap<>();
+        for (Pair<IndexFileMeta, DeletionVectorMeta> pair : mergeDvRanges(fileMetas).values()) {
+            IndexFileMeta indexFile = pair.getLeft();
+            DeletionVectorMeta dvMeta = pair.getRight();
+            String dvFilePath =
+                    dvFilePaths.computeIfAbsent(
+                            indexFile.fileName(), k -> path(indexFile).toString());
+            deletionFiles.put(
+                    dvMeta.dataFileName(),
+                    new DeletionFile(
+                            dvFilePath, dvMeta.offset(), dvMeta.length(), dvMeta.cardinality()));
         }
         return deletionFiles;
     }
@@ -169,6 +253,14 @@ public class DeletionVectorsIndexFile extends IndexFile {
         }
     }
 
+    public IndexFileMeta writeDeltaFile(Map<String, DeletionVector> input) {
+        try {
+            return createWriter().writeDeltaFile(input);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write deletion vectors.", e);
+        }
+    }
+
     public List<IndexFileMeta> writeWithRolling(Map<String, DeletionVector> input) {
         try {
             return createWriter().writeWithRolling(input);
@@ -23,6 +23,7 @@ import org.apache.paimon.Snapshot;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericArray;
 import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.deletionvectors.DeletionVectorsIndexFile;
 import org.apache.paimon.factories.FactoryException;
 import org.apache.paimon.factories.FactoryUtil;
 import org.apache.paimon.fs.Path;
@@ -43,6 +44,7 @@ import org.apache.paimon.iceberg.metadata.IcebergSnapshot;
 import org.apache.paimon.iceberg.metadata.IcebergSnapshotSummary;
 import org.apache.paimon.index.DeletionVectorMeta;
 import org.apache.paimon.index.IndexFileHandler;
+import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.DataFilePathFactory;
 import org.apache.paimon.manifest.IndexManifestEntry;
@@ -63,6 +65,7 @@ import org.apache.paimon.tag.Tag;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.DataFilePathFactories;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.ManifestReadThreadPool;
 import org.apache.paimon.utils.Pair;
@@ -76,6 +79,7 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -89,6 +93,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -139,6 +147,13 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
     private final IndexFileHandler indexFileHandler;
     private final boolean needAddDvToIceberg;
 
+    private final boolean asyncEnabled;
+    private final Duration asyncCloseTimeout;
+    private final AtomicLong pendingSnapshotId = new AtomicLong(-1);
+    // only accessed by the background thread
+    private long lastCreatedSnapshotId = -1;
+    @Nullable private ExecutorService asyncExecutor;
+
     // -------------------------------------------------------------------------------------
     // Public interface
     // -------------------------------------------------------------------------------------
@@ -178,6 +193,12 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
 
         this.indexFileHandler = table.store().newIndexFileHandler();
         this.needAddDvToIceberg = needAddDvToIceberg();
+        this.asyncEnabled =
+                table.coreOptions().toConfiguration().get(IcebergOptions.METADATA_ASYNC_ENABLED);
+        this.asyncCloseTimeout =
+                table.coreOptions()
+                        .toConfiguration()
+                        .get(IcebergOptions.METADATA_ASYNC_CLOSE_TIMEOUT);
     }
 
     public static Path catalogTableMetadataPath(FileStoreTable table) {
@@ -235,10 +256,29 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
     }
 
     @Override
-    public void close() throws Exception {}
+    public void close() throws Exception {
+        if (asyncExecutor != null) {
+            // let the background thread catch Iceberg metadata up to the last commit
+            asyncExecutor.shutdown();
+            if (!asyncExecutor.awaitTermination(
+                    asyncCloseTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOG.warn(
+                        "Iceberg metadata generation did not finish within {}, metadata for "
+                                + "snapshot {} will be created by the next commit.",
+                        asyncCloseTimeout,
+                        pendingSnapshotId.get());
+                asyncExecutor.shutdownNow();
+            }
+        }
+    }
 
     @Override
     public void call(Context context) {
+        if (asyncEnabled) {
+            createMetadataAsync(context.snapshot.id());
+            return;
+        }
+
         createMetadata(
                 context.snapshot,
                 (removedFiles, addedFiles) ->
@@ -264,6 +304,11 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
                                                         + committable.identifier()
                                                         + ". This is unexpected."));
         long snapshotId = snapshot.id();
+        if (asyncEnabled) {
+            createMetadataAsync(snapshotId);
+            return;
+        }
+
         createMetadata(
                 snapshot,
                 (removedFiles, addedFiles) ->
@@ -315,6 +360,113 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
         }
     }
 
+    // -------------------------------------------------------------------------------------
+    // Create metadata asynchronously
+    // -------------------------------------------------------------------------------------
+
+    private void createMetadataAsync(long snapshotId) {
+        if (snapshotId == Snapshot.FIRST_SNAPSHOT_ID) {
+            // see createMetadata, old metadata must not be taken as the base of the new table
+            try {
+                table.fileIO().delete(pathFactory.metadataDirectory(), true);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        pendingSnapshotId.accumulateAndGet(snapshotId, Math::max);
+        if (asyncExecutor == null) {
+            asyncExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-iceberg-metadata"));
+        }
+        asyncExecutor.execute(this::createPendingMetadata);
+    }
+
+    private synchronized void createPendingMetadata() {
+        long snapshotId = pendingSnapshotId.get();
+        if (snapshotId <= lastCreatedSnapshotId) {
+            // already created together with an earlier pending snapshot
+            return;
+        }
+
+        try {
+            createMetadataFromLatest(table.snapshotManager().snapshot(snapshotId));
+            lastCreatedSnapshotId = snapshotId;
+        } catch (Exception e) {
+            LOG.warn(
+                    "Failed to create Iceberg metadata for snapshot {}, "
+                            + "it will be created again after the next commit.",
+                    snapshotId,
+                    e);
+        }
+    }
+
+    /**
+     * Creates metadata for the given snapshot based on the latest Iceberg metadata, which is the
+     * progress of the asynchronous generation. All Paimon snapshots since then are combined into
+     * one Iceberg snapshot.
+     */
+    private void createMetadataFromLatest(Snapshot snapshot) throws IOException {
+        long snapshotId = snapshot.id();
+        if (table.fileIO().exists(pathFactory.toMetadataPath(snapshotId))) {
+            return;
+        }
+
+        Long baseSnapshotId = latestMetadataVersion();
+        if (baseSnapshotId == null
+                || baseSnapshotId >= snapshotId
+                || !table.fileIO().exists(pathFactory.toMetadataPath(baseSnapshotId))) {
+            createMetadataWithoutBase(snapshotId);
+            return;
+        }
+
+        SnapshotManager snapshotManager = table.snapshotManager();
+        for (long id = baseSnapshotId + 1; id < snapshotId; id++) {
+            if (!snapshotManager.snapshotExists(id)) {
+                // file changes since the base metadata are not available anymore
+                createMetadataWithoutBase(snapshotId);
+                return;
+            }
+        }
+
+        createMetadataWithBase(
+                (removedFiles, addedFiles) ->
+                        collectFileChanges(
+                                baseSnapshotId + 1, snapshotId, removedFiles, addedFiles),
+                indexFileHandler.scan(snapshot, DELETION_VECTORS_INDEX),
+                snapshot,
+                pathFactory.toMetadataPath(baseSnapshotId));
+    }
+
+    /**
+     * Creates metadata for the given snapshot in the calling thread if the asynchronous generation
+     * has not reached it yet. Tag operations use this, because they must modify the Iceberg
+     * metadata of specific snapshots.
+     */
+    private void catchUpMetadata(long snapshotId) throws IOException {
+        Long latestVersion = latestMetadataVersion();
+        if (latestVersion != null && latestVersion >= snapshotId) {
+            // either created, or already combined into a later Iceberg snapshot
+            return;
+        }
+        createMetadataFromLatest(table.snapshotManager().snapshot(snapshotId));
+    }
+
+    @Nullable
+    private Long latestMetadataVersion() throws IOException {
+        Optional<String> versionHint =
+                table.fileIO()
+                        .readOverwrittenFileUtf8(
+                                new Path(pathFactory.metadataDirectory(), VERSION_HINT_FILENAME));
+        try {
+            return versionHint.isPresent() ? Long.parseLong(versionHint.get().trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     // -------------------------------------------------------------------------------------
     // Create metadata afresh
     // -------------------------------------------------------------------------------------
@@ -714,7 +866,7 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
                 new IcebergSnapshot(
                         snapshotId,
                         snapshotId,
-                        snapshotId - 1,
+                        baseSnapshot.snapshotId(),
                         System.currentTimeMillis(),
                         snapshotSummary,
                         pathFactory.toManifestListPath(manifestListFileName).toString(),
@@ -831,15 +983,63 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
             long snapshotId,
             Map<String, Pair<BinaryRow, DataFileMeta>> removedFiles,
             Map<String, Pair<BinaryRow, DataFileMeta>> addedFiles) {
-        return collectFileChanges(
-                table.store()
-                        .newScan()
-                        .withKind(ScanMode.DELTA)
-                        .withSnapshot(snapshotId)
-                        .plan()
-                        .files(),
-                removedFiles,
-                addedFiles);
+        return collectFileChanges(deltaFiles(snapshotId), removedFiles, addedFiles);
+    }
+
+    /**
+     * Collects the file changes of all snapshots from {@code fromSnapshotId} to {@code
+     * toSnapshotId}.
+     */
+    private boolean collectFileChanges(
+            long fromSnapshotId,
+            long toSnapshotId,
+            Map<String, Pair<BinaryRow, DataFileMeta>> removedFiles,
+            Map<String, Pair<BinaryRow, DataFileMeta>> addedFiles) {
+        boolean isAddOnly = true;
+        // files first added within these snapshots are unknown to the base metadata, so they can
+        // simply be dropped if they are deleted again
+        Set<String> newFiles = new HashSet<>();
+        Set<String> seenFiles = new HashSet<>();
+        DataFilePathFactories factories = new DataFilePathFactories(fileStorePathFactory);
+        for (long id = fromSnapshotId; id <= toSnapshotId; id++) {
+            for (ManifestEntry entry : deltaFiles(id)) {
+                DataFilePathFactory dataFilePathFactory =
+                        factories.get(entry.partition(), entry.bucket());
+                String path = dataFilePathFactory.toPath(entry).toString();
+                boolean firstSeen = seenFiles.add(path);
+                switch (entry.kind()) {
+                    case ADD:
+                        if (firstSeen) {
+                            newFiles.add(path);
+                        }
+                        if (shouldAddFileToIceberg(entry.file())) {
+                            removedFiles.remove(path);
+                            addedFiles.put(path, Pair.of(entry.partition(), entry.file()));
+                        }
+                        break;
+                    case DELETE:
+                        addedFiles.remove(path);
+                        if (!newFiles.contains(path)) {
+                            isAddOnly = false;
+                            removedFiles.put(path, Pair.of(entry.partition(), entry.file()));
+                        }
+                        break;
+                    default:
+                        throw new UnsupportedOperationException(
+                                "Unknown ManifestEntry FileKind " + entry.kind());
+                }
+            }
+        }
+        return isAddOnly;
+    }
+
+    private List<ManifestEntry> deltaFiles(long snapshotId) {
+        return table.store()
+                .newScan()
+                .withKind(ScanMode.DELTA)
+                .withSnapshot(snapshotId)
+                .plan()
+                .files();
     }
 
     private boolean shouldAddFileToIceberg(DataFileMeta meta) {
@@ -1158,7 +1358,7 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
     }
 
     @Override
-    public void notifyCreation(String tagName, long snapshotId) {
+    public synchronized void notifyCreation(String tagName, long snapshotId) {
         try {
             Snapshot latestSnapshot = table.snapshotManager().latestSnapshot();
             if (latestSnapshot == null) {
@@ -1169,6 +1369,13 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
                 return;
             }
 
+            if (asyncEnabled) {
+                // the tagged snapshot must become an Iceberg snapshot of its own before the
+                // background thread combines it with later ones
+                catchUpMetadata(snapshotId);
+                catchUpMetadata(latestSnapshot.id());
+            }
+
             Path baseMetadataPath = pathFactory.toMetadataPath(latestSnapshot.id());
             if (!table.fileIO().exists(baseMetadataPath)) {
                 LOG.info(
@@ -1236,7 +1443,7 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
     }
 
     @Override
-    public void notifyDeletion(String tagName) {
+    public synchronized void notifyDeletion(String tagName) {
         try {
             Snapshot latestSnapshot = table.snapshotManager().latestSnapshot();
             if (latestSnapshot == null) {
@@ -1246,6 +1453,11 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
                 return;
             }
 
+            if (asyncEnabled) {
+                // otherwise the background thread later copies the tag from an older version
+                catchUpMetadata(latestSnapshot.id());
+            }
+
             Path baseMetadataPath = pathFactory.toMetadataPath(latestSnapshot.id());
             if (!table.fileIO().exists(baseMetadataPath)) {
                 LOG.info(
@@ -1315,42 +1527,56 @@ public class IcebergCommitCallback implements CommitCallback, TagCallback {
         if (newIndexes.isEmpty()) {
             return Collections.emptyList();
         }
+        // a bucket may have a full file and a delta file, merge them first
+        Map<Pair<BinaryRow, Integer>, Map<String, IndexManifestEntry>> bucketIndexes =
+                new LinkedHashMap<>();
         for (IndexManifestEntry entry : newIndexes) {
-            LinkedHashMap<String, DeletionVectorMeta> dvMetas = entry.indexFile().dvRanges();
-            Path bucketPath = fileStorePathFactory.bucketPath(entry.partition(), entry.bucket());
-            if (dvMetas != null) {
-                for (DeletionVectorMeta dvMeta : dvMetas.values()) {
-
-                    // Iceberg will check the cardinality between deserialized dv and iceberg
-                    // deletion file, so if deletionFile.cardinality() is null, we should stop
-                    // synchronizing all dvs.
-                    Preconditions.checkState(
-                            dvMeta.cardinality() != null,
-                            "cardinality in DeletionVector is null, stop generate dv for iceberg. "
-                                    + "dataFile path is {}, indexFile path is {}",
-                            new Path(bucketPath, dvMeta.dataFileName()),
-                            indexFileHandler.filePath(entry).toString());
-
-                    IcebergDataFileMeta deleteFileMeta =
-                            IcebergDataFileMeta.createForDeleteFile(
-                                    IcebergDataFileMeta.Content.POSITION_DELETES,
-                                    indexFileHandler.filePath(entry).toString(),
-                                    PUFFIN_FORMAT,
-                                    entry.partition(),
-                                    dvMeta.cardinality(),
-                                    entry.indexFile().fileSize(),
-                                    new Path(bucketPath, dvMeta.dataFileName()).toString(),
-                                    (long) dvMeta.offset(),
-                                    (long) dvMeta.length());
-
-                    icebergDvEntries.add(
-                            new IcebergManifestEntry(
-                                    IcebergManifestEntry.Status.ADDED,
-                                    snapshotId,
-                                    snapshotId,
-                                    snapshotId,
-                                    deleteFileMeta));
-                }
+            bucketIndexes
+                    .computeIfAbsent(
+                            Pair.of(entry.partition(), entry.bucket()), k -> new LinkedHashMap<>())
+                    .put(entry.indexFile().fileName(), entry);
+        }
+        for (Map<String, IndexManifestEntry> entries : bucketIndexes.values()) {
+            List<IndexFileMeta> indexFiles =
+                    entries.values().stream()
+                            .map(IndexManifestEntry::indexFile)
+                            .collect(Collectors.toList());
+            for (Pair<IndexFileMeta, DeletionVectorMeta> dv :
+                    DeletionVectorsIndexFile.mergeDvRanges(indexFiles).values()) {
+                IndexManifestEntry entry = entries.get(dv.getLeft().fileName());
+                DeletionVectorMeta dvMeta = dv.getRight();
+                Path bucketPath =
+                        fileStorePathFactory.bucketPath(entry.partition(), entry.bucket());
+
+                // Iceberg will check the cardinality between deserialized dv and iceberg
+                // deletion file, so if deletionFile.cardinality() is null, we should stop
+                // synchronizing all dvs.
+                Preconditions.checkState(
+                        dvMeta.cardinality() != null,
+                        "cardinality in DeletionVector is null, stop generate dv for iceberg. "
+                                + "dataFile path is {}, indexFile path is {}",
+                        new Path(bucketPath, dvMeta.dataFileName()),
+                        indexFileHandler.filePath(entry).toString());
+
+                IcebergDataFileMeta deleteFileMeta =
+                        IcebergDataFileMeta.createForDeleteFile(
+                                IcebergDataFileMeta.Content.POSITION_DELETES,
+                                indexFileHandler.filePath(entry).toString(),
+                                PUFFIN_FORMAT,
+                                entry.partition(),
+                                dvMeta.cardinality(),
+                                entry.indexFile().fileSize(),
+                                new Path(bucketPath, dvMeta.dataFileName()).toString(),
+                                (long) dvMeta.offset(),
+                                (long) dvMeta.length());
+
+                icebergDvEntries.add(
+                        new IcebergManifestEntry(
+                                IcebergManifestEntry.Status.ADDED,
+                                snapshotId,
+                                snapshotId,
+                                snapshotId,
+                                deleteFileMeta));
             }
         }
 
@@ -27,6 +27,7 @@ import org.apache.paimon.options.description.TextElement;
 import org.apache.paimon.utils.Preconditions;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -93,6 +94,32 @@ public class IcebergOptions {
                             "The number of old metadata files to keep after each table commit. "
                                     + "For rest-catalog, it will keep 1 old metadata at least.");
 
+    public static final ConfigOption<Boolean> METADATA_ASYNC_ENABLED =
+            key("metadata.iceberg.async.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to generate Iceberg metadata asynchronously. If true, a commit "
+                                    + "only records the committed snapshot, and a background thread "
+                                    + "catches Iceberg metadata up from its latest version. Several "
+                                    + "Paimon snapshots are combined into one Iceberg snapshot when "
+                                    + "the background thread falls behind, so Iceberg readers may see "
+                                    + "a new snapshot a little later than Paimon readers. Creating or "
+                                    + "deleting a tag first generates the missing metadata up to the "
+                                    + "tagged and the latest snapshot in the calling thread, so tag "
+                                    + "operations may take longer. A tag on a snapshot which has "
+                                    + "already been combined into a later Iceberg snapshot is not "
+                                    + "added to Iceberg.");
+
+    public static final ConfigOption<Duration> METADATA_ASYNC_CLOSE_TIMEOUT =
+            key("metadata.iceberg.async.close-timeout")
+                    .durationType()
+                    .defaultValue(Duration.ofMinutes(1))
+                    .withDescription(
+                            "How long closing a writer waits for asynchronous Iceberg metadata "
+                                    + "generation to finish. If it times out, the remaining Iceberg "
+                                    + "metadata will be generated by the next commit.");
+
     public static final ConfigOption<String> URI =
             key("metadata.iceberg.uri")
                     .stringType()
@@ -62,6 +62,7 @@ public class IndexFileHandler {
     private final IndexFilePathFactories pathFactories;
     private final MemorySize dvTargetFileSize;
     private final boolean dvBitmap64;
+    @Nullable private final MemorySize dvDeltaThreshold;
 
     public IndexFileHandler(
             FileIO fileIO,
@@ -70,12 +71,31 @@ public class IndexFileHandler {
             IndexFilePathFactories pathFactories,
             MemorySize dvTargetFileSize,
             boolean dvBitmap64) {
+        this(
+                fileIO,
+                snapshotManager,
+                indexManifestFile,
+                pathFactories,
+                dvTargetFileSize,
+                dvBitmap64,
+                null);
+    }
+
+    public IndexFileHandler(
+            FileIO fileIO,
+            SnapshotManager snapshotManager,
+            IndexManifestFile indexManifestFile,
+            IndexFilePathFactories pathFactories,
+            MemorySize dvTargetFileSize,
+            boolean dvBitmap64,
+            @Nullable MemorySize dvDeltaThreshold) {
         this.fileIO = fileIO;
         this.snapshotManager = snapshotManager;
         this.pathFactories = pathFactories;
         this.indexManifestFile = indexManifestFile;
         this.dvTargetFileSize = dvTargetFileSize;
         this.dvBitmap64 = dvBitmap64;
+        this.dvDeltaThreshold = dvDeltaThreshold;
     }
 
     public HashIndexFile hashIndex(BinaryRow partition, int bucket) {
@@ -84,7 +104,11 @@ public class IndexFileHandler {
 
     public DeletionVectorsIndexFile dvIndex(BinaryRow partition, int bucket) {
         return new DeletionVectorsIndexFile(
-                fileIO, pathFactories.get(partition, bucket), dvTargetFileSize, dvBitmap64);
+                fileIO,
+                pathFactories.get(partition, bucket),
+                dvTargetFileSize,
+                dvBitmap64,
+                dvDeltaThreshold);
     }
 
     public PkVectorAnnSegmentFile pkVectorAnnSegment(BinaryRow partition, int bucket) {
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.offheap;
+
+import org.apache.paimon.lookup.BulkLoader;
+import org.apache.paimon.utils.SortUtil;
+
+import javax.annotation.Nullable;
+
+/**
+ * Checks the keys of a bulk load of off-heap states. Keys must be strictly ascending like for
+ * RocksDB, so duplicated keys in the input are reported instead of silently overwritten.
+ */
+class BulkLoadKeyChecker {
+
+    @Nullable private byte[] lastKey;
+
+    void check(byte[] key) throws BulkLoader.WriteException {
+        if (lastKey != null && SortUtil.compareBinary(lastKey, key) >= 0) {
+            throw new BulkLoader.WriteException(
+                    new IllegalArgumentException("Keys must be added in strict ascending order."));
+        }
+        lastKey = key;
+    }
+}
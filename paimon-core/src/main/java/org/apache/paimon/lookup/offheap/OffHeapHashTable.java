@@ -0,0 +1,520 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.offheap;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An open addressing hash table over off-heap {@link MemorySegment}s, mapping a key to the head of
+ * a chain of values. There are no per-entry objects, all keys and values live in off-heap pages.
+ *
+ * <p>Slot area: linear probing slots with backward shift deletion, a slot has three parts:
+ *
+ * <ul>
+ *   <li>Bytes 0 to 8: the long key, or the address of the key record for byte keys
+ *   <li>Bytes 8 to 16: the address of the head value record, 0 for an empty slot
+ *   <li>Bytes 16 to 20: the hash of byte keys, absent for long keys
+ * </ul>
+ *
+ * <p>Record area: append-only pages of key records ({@code len | bytes}) and value records ({@code
+ * next | len | bytes}). Replaced records are reclaimed by copying live records to new pages once
+ * they waste half of the area.
+ *
+ * <p>All segments are allocated as direct memory, so the table counts against the JVM direct memory
+ * limit ({@code -XX:MaxDirectMemorySize}).
+ */
+public class OffHeapHashTable {
+
+    static final int DEFAULT_PAGE_SIZE = 1 << 20;
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final int MAX_SLOT_SEGMENT_SIZE = 1 << 20;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private static final int KEY_OFFSET = 0;
+    private static final int HEAD_OFFSET = 8;
+    private static final int HASH_OFFSET = 16;
+
+    private static final int VALUE_HEADER_SIZE = 12;
+    private static final int KEY_HEADER_SIZE = 4;
+
+    private final boolean longKeys;
+    private final int slotSize;
+    private final int pageSize;
+
+    private MemorySegment[] slotSegments;
+    private int slotSegmentBits;
+    private int slotSegmentMask;
+    private int mask;
+    private int size;
+    private int growThreshold;
+
+    /** Head of the values of the null key, only used by long keys. */
+    private long nullHead;
+
+    private RecordArea records;
+
+    public OffHeapHashTable(boolean longKeys) {
+        this(longKeys, DEFAULT_PAGE_SIZE);
+    }
+
+    public OffHeapHashTable(boolean longKeys, int pageSize) {
+        this.longKeys = longKeys;
+        this.slotSize = longKeys ? 16 : 20;
+        this.pageSize = pageSize;
+        this.records = new RecordArea(pageSize);
+        allocateSlots(INITIAL_CAPACITY);
+    }
+
+    public boolean longKeys() {
+        return longKeys;
+    }
+
+    public int size() {
+        return size + (nullHead == 0 ? 0 : 1);
+    }
+
+    /** Off-heap bytes held by this table. */
+    public long memorySize() {
+        return (long) (mask + 1) * slotSize + records.allocatedBytes;
+    }
+
+    // ------------------------------------------------------------------------
+    //  Keys
+    // ------------------------------------------------------------------------
+
+    /** Returns the head value address of the key, or 0 if absent. */
+    public long get(long key) {
+        int slot = findLong(key);
+        return slot < 0 ? 0 : slotHead(slot);
+    }
+
+    /** Sets the head value address of the key, removes the key if {@code head} is 0. */
+    public void put(long key, long head) {
+        int slot = findLong(key);
+        if (slot >= 0) {
+            if (head == 0) {
+                remove(slot);
+            } else {
+                setSlotHead(slot, head);
+            }
+            return;
+        }
+
+        if (head != 0) {
+            slot = -slot - 1;
+            MemorySegment segment = slotSegment(slot);
+            int offset = slotOffset(slot);
+            segment.putLong(offset + KEY_OFFSET, key);
+            segment.putLong(offset + HEAD_OFFSET, head);
+            afterInsert();
+        }
+    }
+
+    public long getNull() {
+        return nullHead;
+    }
+
+    public void putNull(long head) {
+        nullHead = head;
+    }
+
+    /** Returns the head value address of the key, or 0 if absent. */
+    public long get(byte[] key) {
+        int slot = findBytes(key, MurmurHashUtils.hashBytes(key));
+        return slot < 0 ? 0 : slotHead(slot);
+    }
+
+    /** Sets the head value address of the key, removes the key if {@code head} is 0. */
+    public void put(byte[] key, long head) {
+        int hash = MurmurHashUtils.hashBytes(key);
+        int slot = findBytes(key, hash);
+        if (slot >= 0) {
+            if (head == 0) {
+                long keyAddress = slotSegment(slot).getLong(slotOffset(slot) + KEY_OFFSET);
+                records.release(KEY_HEADER_SIZE + records.length(keyAddress, 0));
+                remove(slot);
+            } else {
+                setSlotHead(slot, head);
+            }
+            return;
+        }
+
+        if (head != 0) {
+            slot = -slot - 1;
+            long keyAddress = records.allocate(KEY_HEADER_SIZE + key.length);
+            MemorySegment page = records.page(keyAddress);
+            int pageOffset = RecordArea.offset(keyAddress);
+            page.putInt(pageOffset, key.length);
+            page.put(pageOffset + KEY_HEADER_SIZE, key);
+
+            MemorySegment segment = slotSegment(slot);
+            int offset = slotOffset(slot);
+            segment.putLong(offset + KEY_OFFSET, keyAddress);
+            segment.putLong(offset + HEAD_OFFSET, head);
+            segment.putInt(offset + HASH_OFFSET, hash);
+            afterInsert();
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    //  Values
+    // ------------------------------------------------------------------------
+
+    /** Appends a value record linked to {@code next}, returns its address. */
+    public long appendValue(byte[] value, long next) {
+        long address = records.allocate(VALUE_HEADER_SIZE + value.length);
+        MemorySegment page = records.page(address);
+        int offset = RecordArea.offset(address);
+        page.putLong(offset, next);
+        page.putInt(offset + 8, value.length);
+        page.put(offset + VALUE_HEADER_SIZE, value);
+        return address;
+    }
+
+    public long nextValue(long address) {
+        return records.page(address).getLong(RecordArea.offset(address));
+    }
+
+    public void setNextValue(long address, long next) {
+        records.page(address).putLong(RecordArea.offset(address), next);
+    }
+
+    public byte[] readValue(long address) {
+        MemorySegment page = records.page(address);
+        int offset = RecordArea.offset(address);
+        byte[] value = new byte[page.getInt(offset + 8)];
+        page.get(offset + VALUE_HEADER_SIZE, value);
+        return value;
+    }
+
+    public boolean valueEquals(long address, byte[] value) {
+        MemorySegment page = records.page(address);
+        int offset = RecordArea.offset(address);
+        return page.getInt(offset + 8) == value.length
+                && page.equalTo(
+                        MemorySegment.wrap(value), offset + VALUE_HEADER_SIZE, 0, value.length);
+    }
+
+    /** Marks a value record unreachable, its space is reclaimed by the next compaction. */
+    public void releaseValue(long address) {
+        records.release(VALUE_HEADER_SIZE + records.length(address, 8));
+        maybeCompact();
+    }
+
+    /**
+     * Marks several value records unreachable. Unlike calling {@link #releaseValue} for each, no
+     * compaction moves the remaining records in between.
+     */
+    public void releaseValues(List<Long> addresses) {
+        for (long address : addresses) {
+            records.release(VALUE_HEADER_SIZE + records.length(address, 8));
+        }
+        maybeCompact();
+    }
+
+    /**
+     * Drops all references to the off-heap memory, the table must not be used afterwards. Segments
+     * are direct memory, which is only returned once they are garbage collected.
+     */
+    public void close() {
+        records = null;
+        slotSegments = null;
+        size = 0;
+        nullHead = 0;
+    }
+
+    // ------------------------------------------------------------------------
+    //  Slots
+    // ------------------------------------------------------------------------
+
+    /** Returns the slot of the key, or {@code -(insertion slot) - 1} if absent. */
+    private int findLong(long key) {
+        int slot = hashLong(key) & mask;
+        while (true) {
+            MemorySegment segment = slotSegment(slot);
+            int offset = slotOffset(slot);
+            if (segment.getLong(offset + HEAD_OFFSET) == 0) {
+                return -slot - 1;
+            }
+            if (segment.getLong(offset + KEY_OFFSET) == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int findBytes(byte[] key, int hash) {
+        MemorySegment keySegment = null;
+        int slot = hash & mask;
+        while (true) {
+            MemorySegment segment = slotSegment(slot);
+            int offset = slotOffset(slot);
+            if (segment.getLong(offset + HEAD_OFFSET) == 0) {
+                return -slot - 1;
+            }
+            if (segment.getInt(offset + HASH_OFFSET) == hash) {
+                long keyAddress = segment.getLong(offset + KEY_OFFSET);
+                MemorySegment page = records.page(keyAddress);
+                int pageOffset = RecordArea.offset(keyAddress);
+                if (page.getInt(pageOffset) == key.length) {
+                    if (keySegment == null) {
+                        keySegment = MemorySegment.wrap(key);
+                    }
+                    if (page.equalTo(keySegment, pageOffset + KEY_HEADER_SIZE, 0, key.length)) {
+                        return slot;
+                    }
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int hashLong(long key) {
+        return (int) MurmurHashUtils.fmix(key);
+    }
+
+    private int homeSlot(int slot) {
+        MemorySegment segment = slotSegment(slot);
+        int offset = slotOffset(slot);
+        int hash =
+                longKeys
+                        ? hashLong(segment.getLong(offset + KEY_OFFSET))
+                        : segment.getInt(offset + HASH_OFFSET);
+        return hash & mask;
+    }
+
+    /** Backward shift deletion, keeps probe sequences intact without tombstones. */
+    private void remove(int slot) {
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (slotHead(next) == 0) {
+                break;
+            }
+            int home = homeSlot(next);
+            // move the entry if its home is not cyclically within (hole, next]
+            boolean movable =
+                    hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                slotSegment(next)
+                        .copyTo(slotOffset(next), slotSegment(hole), slotOffset(hole), slotSize);
+                hole = next;
+            }
+        }
+        setSlotHead(hole, 0);
+        size--;
+    }
+
+    private void afterInsert() {
+        size++;
+        if (size > growThreshold) {
+            rehash((mask + 1) << 1);
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        MemorySegment[] oldSegments = slotSegments;
+        int oldCapacity = mask + 1;
+        int oldBits = slotSegmentBits;
+        int oldMask = slotSegmentMask;
+        allocateSlots(newCapacity);
+        for (int i = 0; i < oldCapacity; i++) {
+            MemorySegment segment = oldSegments[i >>> oldBits];
+            int offset = (i & oldMask) * slotSize;
+            if (segment.getLong(offset + HEAD_OFFSET) == 0) {
+                continue;
+            }
+            int hash =
+                    longKeys
+                            ? hashLong(segment.getLong(offset + KEY_OFFSET))
+                            : segment.getInt(offset + HASH_OFFSET);
+            int slot = hash & mask;
+            while (slotHead(slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            segment.copyTo(offset, slotSegment(slot), slotOffset(slot), slotSize);
+        }
+    }
+
+    private void allocateSlots(int capacity) {
+        int slotsPerSegment =
+                Math.min(capacity, Integer.highestOneBit(MAX_SLOT_SEGMENT_SIZE / slotSize));
+        this.slotSegmentBits = Integer.numberOfTrailingZeros(slotsPerSegment);
+        this.slotSegmentMask = slotsPerSegment - 1;
+        this.slotSegments = new MemorySegment[capacity / slotsPerSegment];
+        for (int i = 0; i < slotSegments.length; i++) {
+            // direct buffers are zeroed, so all slots start empty
+            slotSegments[i] = MemorySegment.allocateOffHeapMemory(slotsPerSegment * slotSize);
+        }
+        this.mask = capacity - 1;
+        this.growThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private MemorySegment slotSegment(int slot) {
+        return slotSegments[slot >>> slotSegmentBits];
+    }
+
+    private int slotOffset(int slot) {
+        return (slot & slotSegmentMask) * slotSize;
+    }
+
+    private long slotHead(int slot) {
+        return slotSegment(slot).getLong(slotOffset(slot) + HEAD_OFFSET);
+    }
+
+    private void setSlotHead(int slot, long head) {
+        slotSegment(slot).putLong(slotOffset(slot) + HEAD_OFFSET, head);
+    }
+
+    // ------------------------------------------------------------------------
+    //  Compaction
+    // ------------------------------------------------------------------------
+
+    private void maybeCompact() {
+        if (records.releasedBytes > pageSize && records.releasedBytes * 2 > records.usedBytes) {
+            compact();
+        }
+    }
+
+    /** Copies all live records to new pages, dropping released ones. */
+    @VisibleForTesting
+    void compact() {
+        RecordArea oldRecords = records;
+        RecordArea newRecords = new RecordArea(pageSize);
+        for (int slot = 0; slot <= mask; slot++) {
+            MemorySegment segment = slotSegment(slot);
+            int offset = slotOffset(slot);
+            long head = segment.getLong(offset + HEAD_OFFSET);
+            if (head == 0) {
+                continue;
+            }
+            if (!longKeys) {
+                long keyAddress = segment.getLong(offset + KEY_OFFSET);
+                int length = KEY_HEADER_SIZE + oldRecords.length(keyAddress, 0);
+                segment.putLong(
+                        offset + KEY_OFFSET, copy(oldRecords, newRecords, keyAddress, length));
+            }
+            segment.putLong(offset + HEAD_OFFSET, copyValues(oldRecords, newRecords, head));
+        }
+        if (nullHead != 0) {
+            nullHead = copyValues(oldRecords, newRecords, nullHead);
+        }
+        records = newRecords;
+    }
+
+    private static long copyValues(RecordArea from, RecordArea to, long head) {
+        long newHead = 0;
+        long previous = 0;
+        for (long address = head; address != 0; ) {
+            long next = from.page(address).getLong(RecordArea.offset(address));
+            long copied = copy(from, to, address, VALUE_HEADER_SIZE + from.length(address, 8));
+            to.page(copied).putLong(RecordArea.offset(copied), 0);
+            if (previous == 0) {
+                newHead = copied;
+            } else {
+                to.page(previous).putLong(RecordArea.offset(previous), copied);
+            }
+            previous = copied;
+            address = next;
+        }
+        return newHead;
+    }
+
+    private static long copy(RecordArea from, RecordArea to, long address, int length) {
+        long copied = to.allocate(length);
+        from.page(address)
+                .copyTo(
+                        RecordArea.offset(address),
+                        to.page(copied),
+                        RecordArea.offset(copied),
+                        length);
+        return copied;
+    }
+
+    /**
+     * Append-only off-heap pages. An address is {@code (page index + 1) << 32 | offset}, so 0 is
+     * never a valid address.
+     */
+    private static class RecordArea {
+
+        private final int pageSize;
+        private final List<MemorySegment> pages = new ArrayList<>();
+
+        private MemorySegment current;
+        private int currentIndex;
+        private int position;
+
+        private long allocatedBytes;
+        private long usedBytes;
+        private long releasedBytes;
+
+        private RecordArea(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        private long allocate(int length) {
+            usedBytes += length;
+            if (length > pageSize) {
+                // a dedicated page for a large record
+                MemorySegment page = MemorySegment.allocateOffHeapMemory(length);
+                pages.add(page);
+                allocatedBytes += length;
+                return address(pages.size() - 1, 0);
+            }
+
+            if (current == null || position + length > current.size()) {
+                current = MemorySegment.allocateOffHeapMemory(pageSize);
+                pages.add(current);
+                currentIndex = pages.size() - 1;
+                allocatedBytes += pageSize;
+                position = 0;
+            }
+            long address = address(currentIndex, position);
+            position += length;
+            return address;
+        }
+
+        private void release(int length) {
+            releasedBytes += length;
+        }
+
+        private MemorySegment page(long address) {
+            return pages.get((int) (address >>> 32) - 1);
+        }
+
+        private int length(long address, int lengthOffset) {
+            return page(address).getInt(offset(address) + lengthOffset);
+        }
+
+        private static long address(int pageIndex, int offset) {
+            return ((long) (pageIndex + 1) << 32) | offset;
+        }
+
+        private static int offset(long address) {
+            return (int) address;
+        }
+    }
+}
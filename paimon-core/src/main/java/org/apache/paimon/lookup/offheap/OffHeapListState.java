@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.offheap;
+
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.lookup.ListBulkLoader;
+import org.apache.paimon.lookup.ListState;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** Off-heap list state, values are chained from the latest one. */
+public class OffHeapListState<K, V> extends OffHeapState<K, V> implements ListState<K, V> {
+
+    public OffHeapListState(
+            Serializer<K> keySerializer, Serializer<V> valueSerializer, int pageSize) {
+        super(keySerializer, valueSerializer, pageSize);
+    }
+
+    @Override
+    public void add(K key, V value) throws IOException {
+        setHead(key, table.appendValue(serializeValue(value), head(key)));
+    }
+
+    @Override
+    public List<V> get(K key) throws IOException {
+        List<V> result = new ArrayList<>();
+        for (long address = head(key); address != 0; address = table.nextValue(address)) {
+            result.add(deserializeValue(table.readValue(address)));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public ListBulkLoader createBulkLoader() {
+        return new ListBulkLoader() {
+
+            private final BulkLoadKeyChecker keyChecker = new BulkLoadKeyChecker();
+
+            @Override
+            public void write(byte[] key, List<byte[]> value) throws WriteException {
+                keyChecker.check(key);
+                long head = 0;
+                for (byte[] v : value) {
+                    head = table.appendValue(v, head);
+                }
+                try {
+                    setHeadOfBytes(key, head);
+                } catch (IOException e) {
+                    throw new WriteException(e);
+                }
+            }
+
+            @Override
+            public void finish() {}
+        };
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.offheap;
+
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.lookup.ByteArray;
+import org.apache.paimon.lookup.SetState;
+import org.apache.paimon.utils.SortUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+import static org.apache.paimon.lookup.ByteArray.wrapBytes;
+
+/**
+ * Off-heap set state, values are chained unsorted and sorted by bytes on read.
+ *
+ * <p>Values are appended without walking the chain, so that adding many values to one key, for
+ * example while bulk loading a secondary index, stays linear. Duplicates are dropped when the key
+ * is read, and retracting a value removes all of its copies.
+ */
+public class OffHeapSetState<K, V> extends OffHeapState<K, V> implements SetState<K, V> {
+
+    public OffHeapSetState(
+            Serializer<K> keySerializer, Serializer<V> valueSerializer, int pageSize) {
+        super(keySerializer, valueSerializer, pageSize);
+    }
+
+    @Override
+    public List<V> get(K key) throws IOException {
+        long head = head(key);
+        List<byte[]> values = new ArrayList<>();
+        for (long address = head; address != 0; address = table.nextValue(address)) {
+            values.add(table.readValue(address));
+        }
+        values.sort(SortUtil::compareBinary);
+        List<V> result = new ArrayList<>(values.size());
+        byte[] previous = null;
+        for (byte[] value : values) {
+            if (previous == null || SortUtil.compareBinary(previous, value) != 0) {
+                result.add(deserializeValue(value));
+            }
+            previous = value;
+        }
+        if (result.size() < values.size()) {
+            removeDuplicates(key, head);
+        }
+        return result;
+    }
+
+    @Override
+    public void retract(K key, V value) throws IOException {
+        byte[] valueBytes = serializeValue(value);
+        long head = head(key);
+        unlink(key, head, address -> table.valueEquals(address, valueBytes));
+    }
+
+    @Override
+    public void add(K key, V value) throws IOException {
+        setHead(key, table.appendValue(serializeValue(value), head(key)));
+    }
+
+    private void removeDuplicates(K key, long head) throws IOException {
+        Set<ByteArray> seen = new HashSet<>();
+        unlink(key, head, address -> !seen.add(wrapBytes(table.readValue(address))));
+    }
+
+    /** Unlinks all values matching the filter from the chain and releases them. */
+    private void unlink(K key, long head, LongPredicate filter) throws IOException {
+        long newHead = head;
+        long previous = 0;
+        List<Long> removed = new ArrayList<>();
+        for (long address = head; address != 0; ) {
+            long next = table.nextValue(address);
+            if (filter.test(address)) {
+                if (previous == 0) {
+                    newHead = next;
+                } else {
+                    table.setNextValue(previous, next);
+                }
+                removed.add(address);
+            } else {
+                previous = address;
+            }
+            address = next;
+        }
+
+        if (removed.isEmpty()) {
+            return;
+        }
+        if (newHead != head) {
+            setHead(key, newHead);
+        }
+        table.releaseValues(removed);
+    }
+}
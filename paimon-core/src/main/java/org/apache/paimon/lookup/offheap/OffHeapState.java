@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.offheap;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.lookup.State;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeRoot;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Off-heap state over an {@link OffHeapHashTable}.
+ *
+ * <p>Rows with a single INT or BIGINT field are keyed by their long value directly, without
+ * serializing the key. All other keys, including single STRING keys, are keyed by their serialized
+ * bytes, which are compared in place against the off-heap key records.
+ */
+public abstract class OffHeapState<K, V> implements State<K, V> {
+
+    protected final Serializer<K> keySerializer;
+    protected final Serializer<V> valueSerializer;
+    protected final DataOutputSerializer keyOutView;
+    protected final DataInputDeserializer keyInputView;
+    protected final DataInputDeserializer valueInputView;
+    protected final DataOutputSerializer valueOutputView;
+    protected final OffHeapHashTable table;
+
+    @Nullable private final DataTypeRoot longKeyType;
+
+    public OffHeapState(Serializer<K> keySerializer, Serializer<V> valueSerializer, int pageSize) {
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.keyOutView = new DataOutputSerializer(32);
+        this.keyInputView = new DataInputDeserializer();
+        this.valueInputView = new DataInputDeserializer();
+        this.valueOutputView = new DataOutputSerializer(32);
+        this.longKeyType = longKeyType(keySerializer);
+        this.table = new OffHeapHashTable(longKeyType != null, pageSize);
+    }
+
+    @Nullable
+    private static DataTypeRoot longKeyType(Serializer<?> keySerializer) {
+        if (!(keySerializer instanceof InternalRowSerializer)) {
+            return null;
+        }
+        DataType[] types = ((InternalRowSerializer) keySerializer).fieldTypes();
+        if (types.length != 1) {
+            return null;
+        }
+        DataTypeRoot root = types[0].getTypeRoot();
+        return root == DataTypeRoot.INTEGER || root == DataTypeRoot.BIGINT ? root : null;
+    }
+
+    @Override
+    public byte[] serializeKey(K key) throws IOException {
+        keyOutView.clear();
+        keySerializer.serialize(key, keyOutView);
+        return keyOutView.getCopyOfBuffer();
+    }
+
+    @Override
+    public byte[] serializeValue(V value) throws IOException {
+        valueOutputView.clear();
+        valueSerializer.serialize(value, valueOutputView);
+        return valueOutputView.getCopyOfBuffer();
+    }
+
+    @Override
+    public V deserializeValue(byte[] valueBytes) throws IOException {
+        valueInputView.setBuffer(valueBytes);
+        return valueSerializer.deserialize(valueInputView);
+    }
+
+    protected long head(K key) throws IOException {
+        if (longKeyType == null) {
+            return table.get(serializeKey(key));
+        }
+
+        InternalRow row = (InternalRow) key;
+        return row.isNullAt(0) ? table.getNull() : table.get(longKey(row));
+    }
+
+    protected void setHead(K key, long head) throws IOException {
+        if (longKeyType == null) {
+            table.put(serializeKey(key), head);
+            return;
+        }
+
+        InternalRow row = (InternalRow) key;
+        if (row.isNullAt(0)) {
+            table.putNull(head);
+        } else {
+            table.put(longKey(row), head);
+        }
+    }
+
+    protected long headOfBytes(byte[] keyBytes) throws IOException {
+        return longKeyType == null ? table.get(keyBytes) : head(deserializeKey(keyBytes));
+    }
+
+    protected void setHeadOfBytes(byte[] keyBytes, long head) throws IOException {
+        if (longKeyType == null) {
+            table.put(keyBytes, head);
+        } else {
+            setHead(deserializeKey(keyBytes), head);
+        }
+    }
+
+    private K deserializeKey(byte[] keyBytes) throws IOException {
+        keyInputView.setBuffer(keyBytes);
+        return keySerializer.deserialize(keyInputView);
+    }
+
+    private long longKey(InternalRow row) {
+        return longKeyType == DataTypeRoot.INTEGER ? row.getInt(0) : row.getLong(0);
+    }
+
+    public long memorySize() {
+        return table.memorySize();
+    }
+
+    public void close() {
+        table.close();
+    }
+}
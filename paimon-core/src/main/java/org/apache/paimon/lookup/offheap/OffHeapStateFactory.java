@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.offheap;
+
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.lookup.ListState;
+import org.apache.paimon.lookup.SetState;
+import org.apache.paimon.lookup.StateFactory;
+import org.apache.paimon.lookup.ValueState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory to create off-heap state. Data is held in off-heap hash tables, which gives near
+ * in-memory lookup latency without pressure on the JVM heap and the garbage collector.
+ */
+public class OffHeapStateFactory implements StateFactory {
+
+    private final int pageSize;
+    private final List<OffHeapState<?, ?>> states = new ArrayList<>();
+
+    public OffHeapStateFactory() {
+        this(OffHeapHashTable.DEFAULT_PAGE_SIZE);
+    }
+
+    public OffHeapStateFactory(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public <K, V> ValueState<K, V> valueState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        return register(new OffHeapValueState<>(keySerializer, valueSerializer, pageSize));
+    }
+
+    @Override
+    public <K, V> SetState<K, V> setState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        return register(new OffHeapSetState<>(keySerializer, valueSerializer, pageSize));
+    }
+
+    @Override
+    public <K, V> ListState<K, V> listState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        return register(new OffHeapListState<>(keySerializer, valueSerializer, pageSize));
+    }
+
+    private <S extends OffHeapState<?, ?>> S register(S state) {
+        states.add(state);
+        return state;
+    }
+
+    /** Off-heap bytes held by all states of this factory. */
+    public long memorySize() {
+        long size = 0;
+        for (OffHeapState<?, ?> state : states) {
+            size += state.memorySize();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean preferBulkLoad() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        states.forEach(OffHeapState::close);
+        states.clear();
+    }
+}
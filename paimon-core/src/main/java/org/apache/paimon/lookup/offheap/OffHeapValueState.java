@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.offheap;
+
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.lookup.ValueBulkLoader;
+import org.apache.paimon.lookup.ValueState;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+
+/** Off-heap value state. */
+public class OffHeapValueState<K, V> extends OffHeapState<K, V> implements ValueState<K, V> {
+
+    public OffHeapValueState(
+            Serializer<K> keySerializer, Serializer<V> valueSerializer, int pageSize) {
+        super(keySerializer, valueSerializer, pageSize);
+    }
+
+    @Override
+    public @Nullable V get(K key) throws IOException {
+        long head = head(key);
+        if (head == 0) {
+            return null;
+        }
+        return deserializeValue(table.readValue(head));
+    }
+
+    @Override
+    public void put(K key, V value) throws IOException {
+        long previous = head(key);
+        setHead(key, table.appendValue(serializeValue(value), 0));
+        if (previous != 0) {
+            table.releaseValue(previous);
+        }
+    }
+
+    @Override
+    public void delete(K key) throws IOException {
+        long previous = head(key);
+        if (previous != 0) {
+            setHead(key, 0);
+            table.releaseValue(previous);
+        }
+    }
+
+    @Override
+    public ValueBulkLoader createBulkLoader() {
+        return new ValueBulkLoader() {
+
+            private final BulkLoadKeyChecker keyChecker = new BulkLoadKeyChecker();
+
+            @Override
+            public void write(byte[] key, byte[] value) throws WriteException {
+                keyChecker.check(key);
+                try {
+                    setHeadOfBytes(key, table.appendValue(value, 0));
+                } catch (IOException e) {
+                    throw new WriteException(e);
+                }
+            }
+
+            @Override
+            public void finish() {}
+        };
+    }
+}
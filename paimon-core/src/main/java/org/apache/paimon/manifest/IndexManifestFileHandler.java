@@ -40,6 +40,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
+import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.isDeltaFile;
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 import static org.apache.paimon.utils.Preconditions.checkState;
@@ -169,15 +170,21 @@ public class IndexManifestFileHandler {
         }
     }
 
-    /** We combine the previous and new index files by {@link BucketIdentifier}. */
+    /**
+     * We combine the previous and new index files by {@link BucketIdentifier}. Besides the full
+     * index file, a bucket may have a delta deletion vectors index file, which is replaced by a new
+     * delta file and removed together with the full file.
+     */
     static class BucketedCombiner implements IndexManifestFileCombiner {
 
         @Override
         public List<IndexManifestEntry> combine(
                 List<IndexManifestEntry> prevIndexFiles, List<IndexManifestEntry> newIndexFiles) {
             Map<BucketIdentifier, IndexManifestEntry> indexEntries = new HashMap<>();
+            Map<BucketIdentifier, IndexManifestEntry> deltaEntries = new HashMap<>();
             for (IndexManifestEntry entry : prevIndexFiles) {
-                indexEntries.put(identifier(entry), entry);
+                (isDeltaFile(entry.indexFile()) ? deltaEntries : indexEntries)
+                        .put(identifier(entry), entry);
             }
 
             // The deleted entry is processed first to avoid overwriting a new entry.
@@ -190,12 +197,26 @@ public class IndexManifestFileHandler {
                             .filter(f -> f.kind() == FileKind.ADD)
                             .collect(Collectors.toList());
             for (IndexManifestEntry entry : removed) {
-                indexEntries.remove(identifier(entry));
+                BucketIdentifier identifier = identifier(entry);
+                IndexManifestEntry delta = deltaEntries.get(identifier);
+                if (delta == null
+                        || !delta.indexFile().fileName().equals(entry.indexFile().fileName())) {
+                    indexEntries.remove(identifier);
+                }
+                deltaEntries.remove(identifier);
             }
             for (IndexManifestEntry entry : added) {
-                indexEntries.put(identifier(entry), entry);
+                BucketIdentifier identifier = identifier(entry);
+                if (isDeltaFile(entry.indexFile())) {
+                    deltaEntries.put(identifier, entry);
+                } else {
+                    indexEntries.put(identifier, entry);
+                    deltaEntries.remove(identifier);
+                }
             }
-            return new ArrayList<>(indexEntries.values());
+            List<IndexManifestEntry> result = new ArrayList<>(indexEntries.values());
+            result.addAll(deltaEntries.values());
+            return result;
         }
     }
 
@@ -85,7 +85,7 @@ public class ManifestEntryCache extends ObjectsCache<Path, ManifestEntry, Manife
         InternalRowSerializer formatSerializer = this.formatSerializer.get();
         Supplier<DataPagedOutputSerializer> outputSupplier =
                 () -> new DataPagedOutputSerializer(formatSerializer, 2048, pageSize);
-        try (CloseableIterator<InternalRow> iterator = reader.apply(path, fileSize)) {
+        try (CloseableIterator<InternalRow> iterator = readRows(path, fileSize)) {
             while (iterator.hasNext()) {
                 InternalRow row = iterator.next();
                 BinaryRow partition = partitionGetter.apply(row);
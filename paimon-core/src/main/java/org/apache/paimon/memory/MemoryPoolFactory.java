@@ -136,6 +136,11 @@ public class MemoryPoolFactory {
             return totalPages - allocatedPages;
         }
 
+        @Override
+        public int totalPages() {
+            return totalPages;
+        }
+
         @Override
         public MemorySegment nextSegment() {
             MemorySegment segment = innerPool.nextSegment();
@@ -99,6 +99,26 @@ public class LookupFile {
         return res;
     }
 
+    /**
+     * Probes several keys under a single acquisition of this file. Returns null if the file has
+     * been closed, otherwise the values positionally aligned with {@code keys}.
+     */
+    @Nullable
+    public synchronized byte[][] get(byte[][] keys) throws IOException {
+        if (isClosed.get()) {
+            return null;
+        }
+        byte[][] values = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            requestCount.incrementAndGet();
+            values[i] = reader.lookup(keys[i]);
+            if (values[i] != null) {
+                hitCount.incrementAndGet();
+            }
+        }
+        return values;
+    }
+
     public int level() {
         return level;
     }
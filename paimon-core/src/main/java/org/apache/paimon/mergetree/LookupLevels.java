@@ -25,6 +25,7 @@ import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.mergetree.compact.BucketAccessStats;
 import org.apache.paimon.mergetree.lookup.LookupSerializerFactory;
 import org.apache.paimon.mergetree.lookup.PersistProcessor;
 import org.apache.paimon.mergetree.lookup.RemoteFileDownloader;
@@ -37,24 +38,42 @@ import org.apache.paimon.utils.IOFunction;
 import org.apache.paimon.utils.Pair;
 
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.apache.paimon.mergetree.LookupUtils.fileKibiBytes;
 
 /** Provide lookup by key. */
 public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
+    private static final Logger LOG = LoggerFactory.getLogger(LookupLevels.class);
+
     public static final String REMOTE_LOOKUP_FILE_SUFFIX = ".lookup";
     private static final int LOOKUP_FILE_LOCK_STRIPES = 1024;
 
@@ -73,8 +92,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
     private final Set<String> ownCachedFiles;
     private final Object[] lookupFileLocks;
     private final Map<Pair<Long, String>, PersistProcessor<T>> schemaIdAndSerVersionToProcessors;
+    private final Map<String, CompletableFuture<Void>> prefetches;
 
+    private volatile boolean closed;
     @Nullable private RemoteFileDownloader remoteFileDownloader;
+    @Nullable private BucketAccessStats accessStats;
 
     public LookupLevels(
             Function<Long, RowType> schemaFunction,
@@ -107,6 +129,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             lookupFileLocks[i] = new Object();
         }
         this.schemaIdAndSerVersionToProcessors = new ConcurrentHashMap<>();
+        this.prefetches = new ConcurrentHashMap<>();
         levels.addDropFileCallback(this);
     }
 
@@ -114,6 +137,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         this.remoteFileDownloader = remoteFileDownloader;
     }
 
+    /** Records the file probes of lookups into the given stats, used by readers of the bucket. */
+    public void setAccessStats(@Nullable BucketAccessStats accessStats) {
+        this.accessStats = accessStats;
+    }
+
     public Levels getLevels() {
         return levels;
     }
@@ -130,7 +158,10 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
     @Override
     public void notifyDropFile(String file) {
-        lookupFileCache.invalidate(file);
+        synchronized (lookupFileLock(file)) {
+            cancelPrefetch(file);
+            lookupFileCache.invalidate(file);
+        }
     }
 
     @Nullable
@@ -167,6 +198,9 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
     @Nullable
     private T lookup(InternalRow key, DataFileMeta file, @Nullable LookupContext context)
             throws IOException {
+        if (accessStats != null) {
+            accessStats.recordProbes(1);
+        }
         byte[] keyBytes = serializeKey(key);
         LookupResult lookupResult = lookupFile(file, keyBytes, context);
         byte[] valueBytes = lookupResult.valueBytes;
@@ -182,6 +216,216 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                 file.fileName());
     }
 
+    /**
+     * Lookup a batch of keys, results are returned positionally and contain null for absent keys.
+     *
+     * <p>Keys are probed in sorted order, so each level is walked once per batch and every lookup
+     * file is probed once for all keys that fall into it.
+     */
+    public List<T> lookup(List<InternalRow> keys, int startLevel) throws IOException {
+        return lookup(keys, startLevel, null);
+    }
+
+    public List<T> lookup(List<InternalRow> keys, int startLevel, @Nullable LookupContext context)
+            throws IOException {
+        List<T> results = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        int[] pending =
+                IntStream.range(0, keys.size())
+                        .boxed()
+                        .sorted((p1, p2) -> keyComparator.compare(keys.get(p1), keys.get(p2)))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+        byte[][] keyBytes = new byte[keys.size()][];
+        int pendingSize = pending.length;
+        for (int i = startLevel; i < levels.numberOfLevels() && pendingSize > 0; i++) {
+            if (i == 0) {
+                lookupLevel0(keys, keyBytes, pending, pendingSize, results, context);
+            } else {
+                lookup(
+                        keys,
+                        keyBytes,
+                        pending,
+                        pendingSize,
+                        levels.runOfLevel(i),
+                        results,
+                        context);
+            }
+
+            // keep sorted order of the keys which are still not found
+            int newSize = 0;
+            for (int j = 0; j < pendingSize; j++) {
+                if (results.get(pending[j]) == null) {
+                    pending[newSize++] = pending[j];
+                }
+            }
+            pendingSize = newSize;
+        }
+        return results;
+    }
+
+    private void lookupLevel0(
+            List<InternalRow> keys,
+            byte[][] keyBytes,
+            int[] pending,
+            int pendingSize,
+            List<T> results,
+            @Nullable LookupContext context)
+            throws IOException {
+        for (DataFileMeta file : levels.level0()) {
+            int start = 0;
+            while (start < pendingSize
+                    && keyComparator.compare(file.minKey(), keys.get(pending[start])) > 0) {
+                start++;
+            }
+            int end = start;
+            while (end < pendingSize
+                    && keyComparator.compare(file.maxKey(), keys.get(pending[end])) >= 0) {
+                end++;
+            }
+
+            // keys found in newer level 0 files must not be overwritten by older ones
+            int[] positions =
+                    Arrays.stream(pending, start, end)
+                            .filter(pos -> results.get(pos) == null)
+                            .toArray();
+            if (positions.length > 0) {
+                lookup(keys, keyBytes, positions, file, results, context);
+            }
+        }
+    }
+
+    private void lookup(
+            List<InternalRow> keys,
+            byte[][] keyBytes,
+            int[] pending,
+            int pendingSize,
+            SortedRun level,
+            List<T> results,
+            @Nullable LookupContext context)
+            throws IOException {
+        List<DataFileMeta> files = level.files();
+        int fileIndex = 0;
+        int i = 0;
+        while (i < pendingSize && fileIndex < files.size()) {
+            DataFileMeta file = files.get(fileIndex);
+            if (keyComparator.compare(file.maxKey(), keys.get(pending[i])) < 0) {
+                fileIndex++;
+                continue;
+            }
+
+            int start = i;
+            while (i < pendingSize
+                    && keyComparator.compare(file.maxKey(), keys.get(pending[i])) >= 0) {
+                i++;
+            }
+            // keys smaller than the min key fall into the gap between two files
+            while (start < i
+                    && keyComparator.compare(file.minKey(), keys.get(pending[start])) > 0) {
+                start++;
+            }
+            if (start < i) {
+                lookup(
+                        keys,
+                        keyBytes,
+                        Arrays.copyOfRange(pending, start, i),
+                        file,
+                        results,
+                        context);
+            }
+            fileIndex++;
+        }
+    }
+
+    private void lookup(
+            List<InternalRow> keys,
+            byte[][] keyBytes,
+            int[] positions,
+            DataFileMeta file,
+            List<T> results,
+            @Nullable LookupContext context)
+            throws IOException {
+        byte[][] fileKeys = new byte[positions.length][];
+        for (int i = 0; i < positions.length; i++) {
+            int pos = positions[i];
+            if (keyBytes[pos] == null) {
+                keyBytes[pos] = serializeKey(keys.get(pos));
+            }
+            fileKeys[i] = keyBytes[pos];
+        }
+
+        if (accessStats != null) {
+            accessStats.recordProbes(positions.length);
+        }
+        BatchLookupResult lookupResult = lookupFile(file, fileKeys, context);
+        PersistProcessor<T> processor = null;
+        for (int i = 0; i < positions.length; i++) {
+            byte[] valueBytes = lookupResult.valueBytes[i];
+            if (valueBytes == null) {
+                continue;
+            }
+            if (processor == null) {
+                processor = getOrCreateProcessor(lookupResult.schemaId, lookupResult.serVersion);
+            }
+            int pos = positions[i];
+            results.set(
+                    pos,
+                    readFromDisk(
+                            processor,
+                            keys.get(pos),
+                            lookupResult.level,
+                            valueBytes,
+                            file.fileName()));
+        }
+    }
+
+    private BatchLookupResult lookupFile(
+            DataFileMeta file, byte[][] keyBytes, @Nullable LookupContext context)
+            throws IOException {
+        String fileName = file.fileName();
+        LookupFile lookupFile = lookupFileCache.getIfPresent(fileName);
+        BatchLookupResult lookupResult = lookupCachedFile(fileName, lookupFile, keyBytes);
+        if (lookupResult != null) {
+            return lookupResult;
+        }
+
+        awaitPrefetch(fileName);
+        Object lock = lookupFileLock(fileName);
+        synchronized (lock) {
+            lookupFile = lookupFileCache.getIfPresent(fileName);
+            lookupResult = lookupCachedFile(fileName, lookupFile, keyBytes);
+            if (lookupResult != null) {
+                return lookupResult;
+            }
+
+            if (context != null) {
+                context.markRemoteAccessed();
+            }
+            lookupFile = createLookupFile(file);
+
+            try {
+                return BatchLookupResult.of(lookupFile, lookupFile.get(keyBytes));
+            } finally {
+                addLocalFile(file, lookupFile);
+            }
+        }
+    }
+
+    @Nullable
+    private BatchLookupResult lookupCachedFile(
+            String fileName, @Nullable LookupFile lookupFile, byte[][] keyBytes)
+            throws IOException {
+        if (lookupFile == null) {
+            return null;
+        }
+
+        byte[][] valueBytes = lookupFile.get(keyBytes);
+        if (valueBytes == null) {
+            lookupFileCache.asMap().remove(fileName, lookupFile);
+            return null;
+        }
+        return BatchLookupResult.of(lookupFile, valueBytes);
+    }
+
     private LookupResult lookupFile(
             DataFileMeta file, byte[] keyBytes, @Nullable LookupContext context)
             throws IOException {
@@ -192,6 +436,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             return lookupResult;
         }
 
+        awaitPrefetch(fileName);
         Object lock = lookupFileLock(fileName);
         synchronized (lock) {
             lookupFile = lookupFileCache.getIfPresent(fileName);
@@ -266,6 +511,27 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         }
     }
 
+    private static class BatchLookupResult {
+
+        private final int level;
+        private final long schemaId;
+        private final String serVersion;
+        private final byte[][] valueBytes;
+
+        private BatchLookupResult(
+                int level, long schemaId, String serVersion, byte[][] valueBytes) {
+            this.level = level;
+            this.schemaId = schemaId;
+            this.serVersion = serVersion;
+            this.valueBytes = valueBytes;
+        }
+
+        private static BatchLookupResult of(LookupFile lookupFile, byte[][] valueBytes) {
+            return new BatchLookupResult(
+                    lookupFile.level(), lookupFile.schemaId(), lookupFile.serVersion(), valueBytes);
+        }
+    }
+
     private PersistProcessor<T> getOrCreateProcessor(long schemaId, String serVersion) {
         return schemaIdAndSerVersionToProcessors.computeIfAbsent(
                 Pair.of(schemaId, serVersion),
@@ -305,6 +571,121 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         }
     }
 
+    /**
+     * Creates the lookup files of all files from {@code startLevel} concurrently on {@code
+     * executor}, so that the first lookups of a bucket don't fetch its files one at a time. Lookups
+     * of a file being prefetched wait for it instead of creating it again.
+     *
+     * <p>Only files which fit into the free capacity of the lookup file cache are prefetched, so
+     * prefetching never evicts files of other buckets. The size of a lookup file is estimated by
+     * the size of its data file. Files rejected by the executor are left to the first lookup.
+     *
+     * <p>Prefetches are cancelled when their file is dropped or this is closed; a prefetch which is
+     * already running then discards the file it created, and the returned future completes
+     * exceptionally.
+     */
+    public CompletableFuture<Void> prefetch(int startLevel, Executor executor) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        long freeKibiBytes = freeCacheKibiBytes();
+        for (DataFileMeta file : levels.allFiles()) {
+            String fileName = file.fileName();
+            long estimatedKibiBytes = file.fileSize() >> 10;
+            if (closed
+                    || file.level() < startLevel
+                    || estimatedKibiBytes > freeKibiBytes
+                    || lookupFileCache.getIfPresent(fileName) != null) {
+                continue;
+            }
+
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            if (prefetches.putIfAbsent(fileName, future) != null) {
+                continue;
+            }
+            try {
+                executor.execute(
+                        () -> {
+                            try {
+                                if (!future.isDone()) {
+                                    prefetch(file, future);
+                                }
+                            } finally {
+                                prefetches.remove(fileName, future);
+                                future.complete(null);
+                            }
+                        });
+            } catch (RejectedExecutionException e) {
+                // the pool is saturated or shut down
+                prefetches.remove(fileName, future);
+                future.complete(null);
+                break;
+            }
+            futures.add(future);
+            freeKibiBytes -= estimatedKibiBytes;
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    private void prefetch(DataFileMeta file, CompletableFuture<Void> future) {
+        String fileName = file.fileName();
+        if (lookupFileCache.getIfPresent(fileName) != null) {
+            return;
+        }
+
+        // create the file without the lock, lookups of it wait for the future instead
+        LookupFile lookupFile;
+        try {
+            lookupFile = createLookupFile(file);
+        } catch (IOException e) {
+            // not fatal, the file will be created again by the first lookup on it
+            LOG.warn("Failed to prefetch lookup file for {}.", fileName, e);
+            return;
+        }
+
+        synchronized (lookupFileLock(fileName)) {
+            // the file may have been dropped or this may have been closed meanwhile
+            if (!closed
+                    && prefetches.get(fileName) == future
+                    && fileKibiBytes(lookupFile.localFile()) <= freeCacheKibiBytes()
+                    && lookupFileCache.getIfPresent(fileName) == null) {
+                addLocalFile(file, lookupFile);
+                return;
+            }
+        }
+
+        try {
+            lookupFile.close(RemovalCause.EXPLICIT);
+        } catch (IOException e) {
+            LOG.warn("Failed to discard prefetched lookup file for {}.", fileName, e);
+        }
+    }
+
+    private long freeCacheKibiBytes() {
+        return lookupFileCache
+                .policy()
+                .eviction()
+                .map(e -> e.getMaximum() - e.weightedSize().orElse(0))
+                .orElse(Long.MAX_VALUE);
+    }
+
+    private void awaitPrefetch(String fileName) {
+        CompletableFuture<Void> future = prefetches.get(fileName);
+        if (future == null) {
+            return;
+        }
+        try {
+            future.join();
+        } catch (CancellationException | CompletionException ignored) {
+            // the lookup creates the file by itself
+        }
+    }
+
+    private void cancelPrefetch(String fileName) {
+        CompletableFuture<Void> future = prefetches.remove(fileName);
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
     public LookupFile createLookupFile(DataFileMeta file) throws IOException {
         File localFile = localFileFactory.apply(file.fileName());
         if (!localFile.createNewFile()) {
@@ -454,9 +835,17 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
     @Override
     public void close() throws IOException {
+        closed = true;
+        for (String file : new ArrayList<>(prefetches.keySet())) {
+            cancelPrefetch(file);
+        }
+
+        // running prefetches check the closed flag under the same lock before adding their file
         Set<String> toClean = new HashSet<>(ownCachedFiles);
         for (String cachedFile : toClean) {
-            lookupFileCache.invalidate(cachedFile);
+            synchronized (lookupFileLock(cachedFile)) {
+                lookupFileCache.invalidate(cachedFile);
+            }
         }
     }
 
@@ -33,30 +33,42 @@ import org.apache.paimon.io.DataIncrement;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.memory.BoundedSegmentPool;
 import org.apache.paimon.memory.MemoryOwner;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.metrics.Histogram;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
 import org.apache.paimon.utils.FieldsComparator;
 import org.apache.paimon.utils.RecordWriter;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 /** A {@link RecordWriter} to write records and generate {@link CompactIncrement}. */
 public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MergeTreeWriter.class);
+
     private final boolean writeBufferSpillable;
     private final MemorySize maxDiskSize;
     private final int sortMaxFan;
@@ -85,6 +97,13 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private long newSequenceNumber;
     private WriteBuffer writeBuffer;
 
+    // Only used by async flush, the buffer which is flushed in the background while records are
+    // written into the other half of the memory.
+    @Nullable private ExecutorService flushExecutor;
+    @Nullable private WriteBuffer flushingBuffer;
+    @Nullable private Future<FlushResult> flushFuture;
+    @Nullable private Histogram flushLatency;
+
     public MergeTreeWriter(
             boolean writeBufferSpillable,
             MemorySize maxDiskSize,
@@ -145,19 +164,54 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         return compactManager;
     }
 
+    /**
+     * Flushes the write buffer in the background. The memory pool is split into two halves, one
+     * half keeps accepting records while the other one is flushed by the given executor. Must be
+     * called before {@link #setMemoryPool}.
+     */
+    public MergeTreeWriter withAsyncFlush(ExecutorService flushExecutor) {
+        this.flushExecutor = flushExecutor;
+        return this;
+    }
+
+    /** Records the time taken to flush the write buffer into files, in microseconds. */
+    public MergeTreeWriter withFlushLatency(Histogram flushLatency) {
+        this.flushLatency = flushLatency;
+        return this;
+    }
+
     @Override
     public void setMemoryPool(MemorySegmentPool memoryPool) {
-        this.writeBuffer =
-                new SortBufferWriteBuffer(
-                        keyType,
-                        valueType,
-                        userDefinedSeqComparator,
-                        memoryPool,
-                        writeBufferSpillable,
-                        maxDiskSize,
-                        sortMaxFan,
-                        sortCompression,
-                        ioManager);
+        // split the capacity rather than the free pages, which other writers may be holding
+        int halfPages = memoryPool.totalPages() / 2;
+        if (flushExecutor != null && halfPages < 3) {
+            // each half requires at least 3 pages, otherwise fall back to synchronous flush
+            LOG.info(
+                    "Disable async flush of write buffer, {} pages are too few to be split "
+                            + "into two halves.",
+                    memoryPool.totalPages());
+            this.flushExecutor = null;
+        }
+
+        if (flushExecutor != null) {
+            this.writeBuffer = createWriteBuffer(new BoundedSegmentPool(memoryPool, halfPages));
+            this.flushingBuffer = createWriteBuffer(new BoundedSegmentPool(memoryPool, halfPages));
+        } else {
+            this.writeBuffer = createWriteBuffer(memoryPool);
+        }
+    }
+
+    private WriteBuffer createWriteBuffer(MemorySegmentPool memoryPool) {
+        return new SortBufferWriteBuffer(
+                keyType,
+                valueType,
+                userDefinedSeqComparator,
+                memoryPool,
+                writeBufferSpillable,
+                maxDiskSize,
+                sortMaxFan,
+                sortCompression,
+                ioManager);
     }
 
     @Override
@@ -176,7 +230,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void compact(boolean fullCompaction) throws Exception {
-        flushWriteBuffer(true, fullCompaction);
+        flushWriteBuffer(true, fullCompaction, true);
     }
 
     @Override
@@ -186,6 +240,11 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public Collection<DataFileMeta> dataFiles() {
+        try {
+            awaitAsyncFlush();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
         return compactManager.allFiles();
     }
 
@@ -196,19 +255,31 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public long memoryOccupancy() {
-        return writeBuffer.memoryOccupancy();
+        long occupancy = writeBuffer.memoryOccupancy();
+        if (flushFuture != null) {
+            occupancy += flushingBuffer.memoryOccupancy();
+        }
+        return occupancy;
     }
 
     @Override
     public void flushMemory() throws Exception {
+        // memory is preempted by another writer, release the flushing half first
+        awaitAsyncFlush();
         boolean success = writeBuffer.flushMemory();
         if (!success) {
-            flushWriteBuffer(false, false);
+            flushWriteBuffer(false, false, true);
         }
     }
 
     private void flushWriteBuffer(boolean waitForLatestCompaction, boolean forcedFullCompaction)
             throws Exception {
+        flushWriteBuffer(waitForLatestCompaction, forcedFullCompaction, false);
+    }
+
+    private void flushWriteBuffer(
+            boolean waitForLatestCompaction, boolean forcedFullCompaction, boolean waitForFlush)
+            throws Exception {
         if (!writeBuffer.isEmpty()) {
             if (compactManager.shouldWaitForLatestCompaction()) {
                 waitForLatestCompaction = true;
@@ -221,37 +292,97 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
                     writerFactory.createRollingMergeTreeFileWriter(0, FileSource.APPEND);
 
-            try {
-                writeBuffer.forEach(
-                        keyComparator,
-                        mergeFunction,
-                        changelogWriter == null ? null : changelogWriter::write,
-                        dataWriter::write);
-            } finally {
-                writeBuffer.clear();
-                if (changelogWriter != null) {
-                    changelogWriter.close();
+            if (flushExecutor == null) {
+                FlushResult result;
+                try {
+                    result = flush(writeBuffer, changelogWriter, dataWriter);
+                } finally {
+                    writeBuffer.clear();
                 }
-                dataWriter.close();
+                addFlushResult(result);
+            } else {
+                // at most one flush is in flight, the flushed half is cleared by this thread
+                awaitAsyncFlush();
+                WriteBuffer toFlush = writeBuffer;
+                writeBuffer = flushingBuffer;
+                flushingBuffer = toFlush;
+                flushFuture =
+                        flushExecutor.submit(() -> flush(toFlush, changelogWriter, dataWriter));
             }
+        }
 
+        if (waitForFlush) {
+            awaitAsyncFlush();
+        }
+        trySyncLatestCompaction(waitForLatestCompaction);
+        compactManager.triggerCompaction(forcedFullCompaction);
+    }
+
+    private FlushResult flush(
+            WriteBuffer buffer,
+            @Nullable RollingFileWriter<KeyValue, DataFileMeta> changelogWriter,
+            RollingFileWriter<KeyValue, DataFileMeta> dataWriter)
+            throws Exception {
+        long started = System.nanoTime();
+        try {
+            buffer.forEach(
+                    keyComparator,
+                    mergeFunction,
+                    changelogWriter == null ? null : changelogWriter::write,
+                    dataWriter::write);
+        } finally {
             if (changelogWriter != null) {
-                newFilesChangelog.addAll(changelogWriter.result());
+                changelogWriter.close();
             }
+            dataWriter.close();
+        }
+        if (flushLatency != null) {
+            flushLatency.update(NANOSECONDS.toMicros(System.nanoTime() - started));
+        }
 
-            for (DataFileMeta fileMeta : dataWriter.result()) {
-                newFiles.add(fileMeta);
-                compactManager.addNewFile(fileMeta);
-            }
+        return new FlushResult(
+                changelogWriter == null ? Collections.emptyList() : changelogWriter.result(),
+                dataWriter.result());
+    }
+
+    private void awaitAsyncFlush() throws Exception {
+        if (flushFuture == null) {
+            return;
         }
 
-        trySyncLatestCompaction(waitForLatestCompaction);
-        compactManager.triggerCompaction(forcedFullCompaction);
+        FlushResult result;
+        try {
+            result = flushFuture.get();
+        } finally {
+            flushFuture = null;
+            flushingBuffer.clear();
+        }
+        addFlushResult(result);
+    }
+
+    private void addFlushResult(FlushResult result) {
+        newFilesChangelog.addAll(result.changelogFiles);
+        for (DataFileMeta fileMeta : result.dataFiles) {
+            newFiles.add(fileMeta);
+            compactManager.addNewFile(fileMeta);
+        }
+    }
+
+    /** Files of one flush, they are collected by the writer thread. */
+    private static class FlushResult {
+
+        private final List<DataFileMeta> changelogFiles;
+        private final List<DataFileMeta> dataFiles;
+
+        private FlushResult(List<DataFileMeta> changelogFiles, List<DataFileMeta> dataFiles) {
+            this.changelogFiles = changelogFiles;
+            this.dataFiles = dataFiles;
+        }
     }
 
     @Override
     public CommitIncrement prepareCommit(boolean waitCompaction) throws Exception {
-        flushWriteBuffer(waitCompaction, false);
+        flushWriteBuffer(waitCompaction, false, true);
         if (commitForceCompact) {
             waitCompaction = true;
         }
@@ -276,6 +407,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void sync() throws Exception {
+        awaitAsyncFlush();
         trySyncLatestCompaction(true);
     }
 
@@ -343,6 +475,14 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void close() throws Exception {
+        // files of an in-flight flush are collected, so that they are deleted below
+        Exception flushException = null;
+        try {
+            awaitAsyncFlush();
+        } catch (Exception e) {
+            flushException = e;
+        }
+
         writerFactory.abortManagedBlobWrites();
         // cancel compaction so that it does not block job cancelling
         compactManager.cancelCompaction();
@@ -381,5 +521,9 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         if (compactDeletionFile != null) {
             compactDeletionFile.clean();
         }
+
+        if (flushException != null) {
+            throw flushException;
+        }
     }
 }
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.compact.CompactUnit;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.mergetree.LevelSortedRun;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import static org.apache.paimon.mergetree.compact.BucketAccessStats.WINDOW_MILLIS;
+
+/**
+ * A {@link UniversalCompaction} whose sorted run trigger follows the observed read pressure of the
+ * bucket, weighed against the write amplification compactions cause.
+ *
+ * <p>Hot buckets, whose lookups probe many files per second, compact as soon as two sorted runs
+ * exist to keep read amplification low. Cold buckets let sorted runs, including the level 0 files
+ * that {@link ForceUpLevel0Compaction} would otherwise force up, pile up to just below the write
+ * stop trigger, saving rewrites. The probe rate needed to count as hot grows with the write
+ * amplification of the bucket, that is the bytes flushed to level 0 plus the bytes rewritten by
+ * compactions, divided by the bytes flushed, so write-hot buckets need more reads to compact
+ * eagerly.
+ *
+ * <p>Optional compactions are additionally deferred while the {@link CompactionIoBudget} shared by
+ * the writer is exhausted, full compactions and compactions at the maximum trigger are never
+ * deferred. Every compaction is charged with the bytes it rewrote once it finished.
+ */
+public class AdaptiveCompaction extends UniversalCompaction {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveCompaction.class);
+
+    static final int MIN_RUN_COMPACTION_TRIGGER = 2;
+
+    private final int numRunCompactionTrigger;
+    private final int maxRunCompactionTrigger;
+    private final BucketAccessStats stats;
+    private final double hotProbesPerSecond;
+    @Nullable private final CompactionIoBudget ioBudget;
+    private final LongSupplier clock;
+
+    // level 0 files seen by the last pick, to find the newly flushed ones
+    private Set<String> level0Files = new HashSet<>();
+    private long windowStart;
+    private long windowFlushedBytes;
+    private long windowRewrittenBytes;
+    private double writeAmplification = 1;
+
+    public AdaptiveCompaction(
+            int maxSizeAmp,
+            int sizeRatio,
+            int numRunCompactionTrigger,
+            int maxRunCompactionTrigger,
+            @Nullable EarlyFullCompaction earlyFullCompact,
+            @Nullable OffPeakHours offPeakHours,
+            BucketAccessStats stats,
+            double hotProbesPerSecond,
+            @Nullable CompactionIoBudget ioBudget) {
+        this(
+                maxSizeAmp,
+                sizeRatio,
+                numRunCompactionTrigger,
+                maxRunCompactionTrigger,
+                earlyFullCompact,
+                offPeakHours,
+                stats,
+                hotProbesPerSecond,
+                ioBudget,
+                System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    AdaptiveCompaction(
+            int maxSizeAmp,
+            int sizeRatio,
+            int numRunCompactionTrigger,
+            int maxRunCompactionTrigger,
+            @Nullable EarlyFullCompaction earlyFullCompact,
+            @Nullable OffPeakHours offPeakHours,
+            BucketAccessStats stats,
+            double hotProbesPerSecond,
+            @Nullable CompactionIoBudget ioBudget,
+            LongSupplier clock) {
+        super(maxSizeAmp, sizeRatio, numRunCompactionTrigger, earlyFullCompact, offPeakHours);
+        this.numRunCompactionTrigger = numRunCompactionTrigger;
+        this.maxRunCompactionTrigger = Math.max(numRunCompactionTrigger, maxRunCompactionTrigger);
+        this.stats = stats;
+        this.hotProbesPerSecond = hotProbesPerSecond;
+        this.ioBudget = ioBudget;
+        this.clock = clock;
+        this.windowStart = clock.getAsLong();
+    }
+
+    @Override
+    protected int numRunCompactionTrigger() {
+        double probeRate = stats.probeRate();
+        if (probeRate < 0) {
+            // no telemetry yet
+            return numRunCompactionTrigger;
+        }
+
+        double hotness = Math.min(1.0, probeRate / (hotProbesPerSecond * writeAmplification()));
+        int min = Math.min(MIN_RUN_COMPACTION_TRIGGER, maxRunCompactionTrigger);
+        return (int)
+                Math.round(maxRunCompactionTrigger - hotness * (maxRunCompactionTrigger - min));
+    }
+
+    @Override
+    public Optional<CompactUnit> pick(int numLevels, List<LevelSortedRun> runs) {
+        recordFlushedFiles(runs);
+        Optional<CompactUnit> unit = super.pick(numLevels, runs);
+        if (!unit.isPresent()) {
+            return unit;
+        }
+
+        boolean fullCompaction =
+                unit.get().files().size()
+                        == runs.stream().mapToInt(r -> r.run().files().size()).sum();
+        return admit(unit.get(), fullCompaction || runs.size() >= maxRunCompactionTrigger)
+                ? unit
+                : Optional.empty();
+    }
+
+    /**
+     * Called by {@link ForceUpLevel0Compaction} when {@link #pick} returns nothing. Level 0 files
+     * of read-cold buckets accumulate like other sorted runs until the max trigger is reached.
+     */
+    @Override
+    Optional<CompactUnit> forcePickL0(int numLevels, List<LevelSortedRun> runs) {
+        boolean mustCompact = runs.size() >= maxRunCompactionTrigger;
+        if (!mustCompact && numRunCompactionTrigger() > numRunCompactionTrigger) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Defer level 0 compaction of a read-cold bucket.");
+            }
+            return Optional.empty();
+        }
+
+        Optional<CompactUnit> unit = super.forcePickL0(numLevels, runs);
+        if (!unit.isPresent()) {
+            return unit;
+        }
+        return admit(unit.get(), mustCompact) ? unit : Optional.empty();
+    }
+
+    /**
+     * Charges the bytes rewritten by the compaction. Files kept under the same name were only
+     * upgraded to another level and are free.
+     */
+    @Override
+    public void notifyCompacted(CompactResult result) {
+        Map<String, DataFileMeta> rewritten = new HashMap<>();
+        for (DataFileMeta file : result.before()) {
+            rewritten.put(file.fileName(), file);
+        }
+        for (DataFileMeta file : result.after()) {
+            rewritten.remove(file.fileName());
+        }
+
+        long bytes = rewritten.values().stream().mapToLong(DataFileMeta::fileSize).sum();
+        windowRewrittenBytes += bytes;
+        if (ioBudget != null && bytes > 0) {
+            ioBudget.acquire(bytes);
+        }
+    }
+
+    /** Returns false if the compaction should be deferred due to the io budget. */
+    private boolean admit(CompactUnit unit, boolean mustCompact) {
+        if (ioBudget == null || mustCompact || ioBudget.available()) {
+            return true;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    "Defer adaptive compaction of {} files due to exhausted io budget.",
+                    unit.files().size());
+        }
+        return false;
+    }
+
+    /** Level 0 files not seen by the last pick have been flushed since then. */
+    private void recordFlushedFiles(List<LevelSortedRun> runs) {
+        Set<String> current = new HashSet<>();
+        for (LevelSortedRun run : runs) {
+            if (run.level() != 0) {
+                continue;
+            }
+            for (DataFileMeta file : run.run().files()) {
+                current.add(file.fileName());
+                if (!level0Files.contains(file.fileName())) {
+                    windowFlushedBytes += file.fileSize();
+                }
+            }
+        }
+        level0Files = current;
+    }
+
+    /**
+     * Write amplification smoothed over the closed windows. A window only closes once data has been
+     * flushed, bytes rewritten before are attributed to the next flushes.
+     */
+    private double writeAmplification() {
+        long now = clock.getAsLong();
+        if (now - windowStart >= WINDOW_MILLIS && windowFlushedBytes > 0) {
+            double amplification =
+                    (double) (windowFlushedBytes + windowRewrittenBytes) / windowFlushedBytes;
+            writeAmplification = (writeAmplification + amplification) / 2;
+            windowFlushedBytes = 0;
+            windowRewrittenBytes = 0;
+            windowStart = now;
+        }
+        return writeAmplification;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.utils.Triple;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Read access telemetry of a bucket, fed by the lookups of table queries and consumed by {@link
+ * AdaptiveCompaction}.
+ *
+ * <p>A probe is the lookup of one key in one data file, so the probe rate reflects both the read
+ * traffic and the read amplification caused by the current shape of the LSM tree. The rate is
+ * smoothed over fixed windows so that a single burst does not flip the strategy.
+ *
+ * <p>Stats are shared by all readers and writers of a bucket in the same JVM only, see {@link
+ * #of(String, BinaryRow, int)}. They are neither persisted nor propagated, so lookups served by
+ * other processes, for example a lookup join running in another task manager, are not visible to
+ * the writer. Until a reader is attached, there is no telemetry and the writer keeps its configured
+ * trigger.
+ */
+public class BucketAccessStats {
+
+    static final long WINDOW_MILLIS = 10_000;
+
+    // entries are dropped once neither a reader nor a writer of the bucket references them
+    private static final Cache<Triple<String, BinaryRow, Integer>, BucketAccessStats> SHARED =
+            Caffeine.newBuilder().weakValues().executor(Runnable::run).build();
+
+    private final LongSupplier clock;
+    private final LongAdder windowProbes;
+
+    private volatile boolean readerAttached;
+    private long windowStart;
+    private double probeRate = -1;
+
+    public BucketAccessStats() {
+        this(System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    BucketAccessStats(LongSupplier clock) {
+        this.clock = clock;
+        this.windowProbes = new LongAdder();
+        this.windowStart = clock.getAsLong();
+    }
+
+    /** Returns the stats of the given bucket shared in this process. */
+    public static BucketAccessStats of(String table, BinaryRow partition, int bucket) {
+        return SHARED.get(Triple.of(table, partition.copy(), bucket), k -> new BucketAccessStats());
+    }
+
+    /** Marks that the lookups of a reader are recorded, so the probe rate becomes meaningful. */
+    public synchronized void attachReader() {
+        if (!readerAttached) {
+            // probes before are not recorded, start a fresh window
+            windowProbes.reset();
+            windowStart = clock.getAsLong();
+            readerAttached = true;
+        }
+    }
+
+    public void recordProbes(int count) {
+        windowProbes.add(count);
+    }
+
+    /**
+     * Probes per second, smoothed over the closed windows. Returns a negative value if no reader is
+     * attached or until the first window is closed.
+     */
+    public synchronized double probeRate() {
+        if (!readerAttached) {
+            return -1;
+        }
+
+        long now = clock.getAsLong();
+        long elapsed = now - windowStart;
+        if (elapsed >= WINDOW_MILLIS) {
+            double rate = windowProbes.sumThenReset() * 1000.0 / elapsed;
+            probeRate = probeRate < 0 ? rate : (probeRate + rate) / 2;
+            windowStart = now;
+        }
+        return probeRate;
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.mergetree.compact;
 
+import org.apache.paimon.compact.CompactResult;
 import org.apache.paimon.compact.CompactUnit;
 import org.apache.paimon.deletionvectors.BucketedDvMaintainer;
 import org.apache.paimon.io.DataFileMeta;
@@ -49,6 +50,9 @@ public interface CompactStrategy {
      */
     Optional<CompactUnit> pick(int numLevels, List<LevelSortedRun> runs);
 
+    /** Notifies the strategy of the result of a finished compaction of the bucket. */
+    default void notifyCompacted(CompactResult result) {}
+
     /** Pick a compaction unit consisting of all existing files. */
     static Optional<CompactUnit> pickFullCompaction(
             int numLevels,
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket limiting the bytes rewritten by optional compactions, shared by all buckets of a
+ * writer.
+ *
+ * <p>Tokens refill at {@code bytesPerSecond} up to {@link #BURST_SECONDS} seconds of budget. A
+ * compaction is admitted as long as there are tokens left and is charged with the bytes it actually
+ * rewrote once it finished, so files which are only upgraded to another level cost nothing. The
+ * balance may go negative, so that a single unit bigger than the burst is delayed rather than
+ * starved forever.
+ */
+public class CompactionIoBudget {
+
+    static final int BURST_SECONDS = 60;
+
+    private final LongSupplier clock;
+    private final double bytesPerMilli;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefill;
+
+    public CompactionIoBudget(long bytesPerSecond) {
+        this(bytesPerSecond, System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    CompactionIoBudget(long bytesPerSecond, LongSupplier clock) {
+        this.clock = clock;
+        this.bytesPerMilli = bytesPerSecond / 1000.0;
+        this.capacity = (double) bytesPerSecond * BURST_SECONDS;
+        this.tokens = capacity;
+        this.lastRefill = clock.getAsLong();
+    }
+
+    /** Whether the budget is not exhausted, so that an optional compaction may start. */
+    public synchronized boolean available() {
+        refill();
+        return tokens > 0;
+    }
+
+    /** Takes the {@code bytes} rewritten by a finished compaction from the budget. */
+    public synchronized void acquire(long bytes) {
+        refill();
+        tokens -= bytes;
+    }
+
+    private void refill() {
+        long now = clock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * bytesPerMilli);
+        lastRefill = now;
+    }
+}
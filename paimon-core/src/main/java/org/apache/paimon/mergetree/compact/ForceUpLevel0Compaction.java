@@ -18,6 +18,7 @@
 
 package org.apache.paimon.mergetree.compact;
 
+import org.apache.paimon.compact.CompactResult;
 import org.apache.paimon.compact.CompactUnit;
 import org.apache.paimon.mergetree.LevelSortedRun;
 
@@ -75,4 +76,9 @@ public class ForceUpLevel0Compaction implements CompactStrategy {
             return Optional.empty();
         }
     }
+
+    @Override
+    public void notifyCompacted(CompactResult result) {
+        universal.notifyCompacted(result);
+    }
 }
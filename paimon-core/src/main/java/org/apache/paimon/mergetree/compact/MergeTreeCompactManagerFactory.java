@@ -54,6 +54,7 @@ import org.apache.paimon.mergetree.lookup.PersistValueAndPosProcessor;
 import org.apache.paimon.mergetree.lookup.PersistValueProcessor;
 import org.apache.paimon.mergetree.lookup.RemoteLookupFileManager;
 import org.apache.paimon.operation.metrics.CompactionMetrics;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
@@ -93,6 +94,7 @@ public class MergeTreeCompactManagerFactory implements KvCompactionManagerFactor
     private final TableSchema schema;
     @Nullable private final RecordLevelExpire recordLevelExpire;
     private final CacheManager cacheManager;
+    @Nullable private final CompactionIoBudget adaptiveIoBudget;
 
     @Nullable private IOManager ioManager;
     @Nullable private CompactionMetrics compactionMetrics;
@@ -129,6 +131,9 @@ public class MergeTreeCompactManagerFactory implements KvCompactionManagerFactor
         this.schema = schema;
         this.recordLevelExpire = recordLevelExpire;
         this.cacheManager = cacheManager;
+        MemorySize ioBudget = options.compactionAdaptiveIoBudget();
+        this.adaptiveIoBudget =
+                ioBudget == null ? null : new CompactionIoBudget(ioBudget.getBytes());
     }
 
     @Override
@@ -153,7 +158,11 @@ public class MergeTreeCompactManagerFactory implements KvCompactionManagerFactor
             return new NoopCompactManager();
         }
 
-        CompactStrategy compactStrategy = createCompactStrategy(options, restoreFiles);
+        BucketAccessStats accessStats =
+                options.compactionAdaptiveEnabled() && options.needLookup()
+                        ? BucketAccessStats.of(options.path().toString(), partition, bucket)
+                        : null;
+        CompactStrategy compactStrategy = createCompactStrategy(options, restoreFiles, accessStats);
         Comparator<InternalRow> keyComparator = keyComparatorSupplier.get();
         Levels levels = new Levels(keyComparator, restoreFiles, options.numLevels());
         @Nullable FieldsComparator userDefinedSeqComparator = udsComparatorSupplier.get();
@@ -198,7 +207,9 @@ public class MergeTreeCompactManagerFactory implements KvCompactionManagerFactor
     }
 
     private CompactStrategy createCompactStrategy(
-            CoreOptions options, List<DataFileMeta> restoreFiles) {
+            CoreOptions options,
+            List<DataFileMeta> restoreFiles,
+            @Nullable BucketAccessStats accessStats) {
         Long initialLastFullCompaction =
                 estimateLastFullCompactionTime(restoreFiles, options.numLevels());
         if (options.needLookup()) {
@@ -210,14 +221,29 @@ public class MergeTreeCompactManagerFactory implements KvCompactionManagerFactor
                 case RADICAL:
                     break;
             }
-            return new ForceUpLevel0Compaction(
-                    new UniversalCompaction(
-                            options.maxSizeAmplificationPercent(),
-                            options.sortedRunSizeRatio(),
-                            options.numSortedRunCompactionTrigger(),
-                            EarlyFullCompaction.create(options, initialLastFullCompaction),
-                            OffPeakHours.create(options)),
-                    compactMaxInterval);
+            UniversalCompaction universal;
+            if (accessStats != null) {
+                universal =
+                        new AdaptiveCompaction(
+                                options.maxSizeAmplificationPercent(),
+                                options.sortedRunSizeRatio(),
+                                options.numSortedRunCompactionTrigger(),
+                                options.numSortedRunStopTrigger() - 1,
+                                EarlyFullCompaction.create(options, initialLastFullCompaction),
+                                OffPeakHours.create(options),
+                                accessStats,
+                                options.compactionAdaptiveHotProbesPerSecond(),
+                                adaptiveIoBudget);
+            } else {
+                universal =
+                        new UniversalCompaction(
+                                options.maxSizeAmplificationPercent(),
+                                options.sortedRunSizeRatio(),
+                                options.numSortedRunCompactionTrigger(),
+                                EarlyFullCompaction.create(options, initialLastFullCompaction),
+                                OffPeakHours.create(options));
+            }
+            return new ForceUpLevel0Compaction(universal, compactMaxInterval);
         }
 
         UniversalCompaction universal =
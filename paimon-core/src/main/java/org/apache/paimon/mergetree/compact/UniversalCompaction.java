@@ -94,9 +94,10 @@ public class UniversalCompaction implements CompactStrategy {
         }
 
         // 3 checking for file num
-        if (runs.size() > numRunCompactionTrigger) {
+        int trigger = numRunCompactionTrigger();
+        if (runs.size() > trigger) {
             // compacting for file num
-            int candidateCount = runs.size() - numRunCompactionTrigger + 1;
+            int candidateCount = runs.size() - trigger + 1;
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Universal compaction due to file num");
             }
@@ -106,6 +107,11 @@ public class UniversalCompaction implements CompactStrategy {
         return Optional.empty();
     }
 
+    /** The number of sorted runs that triggers compaction, evaluated on every pick. */
+    protected int numRunCompactionTrigger() {
+        return numRunCompactionTrigger;
+    }
+
     Optional<CompactUnit> forcePickL0(int numLevels, List<LevelSortedRun> runs) {
         // collect all level 0 files
         int candidateCount = 0;
@@ -123,7 +129,7 @@ public class UniversalCompaction implements CompactStrategy {
 
     @VisibleForTesting
     CompactUnit pickForSizeAmp(int maxLevel, List<LevelSortedRun> runs) {
-        if (runs.size() < numRunCompactionTrigger) {
+        if (runs.size() < numRunCompactionTrigger()) {
             return null;
         }
 
@@ -148,7 +154,7 @@ public class UniversalCompaction implements CompactStrategy {
 
     @VisibleForTesting
     CompactUnit pickForSizeRatio(int maxLevel, List<LevelSortedRun> runs) {
-        if (runs.size() < numRunCompactionTrigger) {
+        if (runs.size() < numRunCompactionTrigger()) {
             return null;
         }
 
@@ -20,6 +20,7 @@ package org.apache.paimon.mergetree.compact.aggregate;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.CodeGenUtils;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.mergetree.compact.MergeFunction;
@@ -167,6 +168,14 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
                         FieldAggregatorFactory.create(fieldType, fieldName, aggFuncName, options);
             }
 
+            List<String> codeGenAggFuncNames =
+                    CodeGenAggregateMergeFunction.codeGenAggFuncNames(fieldAggregators, fieldTypes);
+            if (codeGenAggFuncNames != null) {
+                return new CodeGenAggregateMergeFunction(
+                        CodeGenUtils.newRecordAggregator(targetType, codeGenAggFuncNames),
+                        removeRecordOnDelete);
+            }
+
             return new AggregateMergeFunction(
                     createFieldGetters(fieldTypes),
                     fieldAggregators,
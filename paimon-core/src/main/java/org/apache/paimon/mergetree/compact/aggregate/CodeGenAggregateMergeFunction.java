@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact.aggregate;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.RecordAggregator;
+import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldLastNonNullValueAggFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldLastValueAggFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldMaxAggFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldMinAggFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldPrimaryKeyAggFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldSumAggFactory;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.RowKind;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
+
+/**
+ * A {@link MergeFunction} with the same semantics as {@link AggregateMergeFunction}, but
+ * aggregating by a code generated {@link RecordAggregator} which keeps unboxed accumulators. It is
+ * only used when every field is aggregated by a function supported by the code generator, see
+ * {@link #codeGenAggFuncNames}.
+ */
+public class CodeGenAggregateMergeFunction implements MergeFunction<KeyValue> {
+
+    private final RecordAggregator aggregator;
+    private final boolean removeRecordOnDelete;
+
+    private KeyValue latestKv;
+    private KeyValue reused;
+    private boolean currentDeleteRow;
+
+    public CodeGenAggregateMergeFunction(
+            RecordAggregator aggregator, boolean removeRecordOnDelete) {
+        this.aggregator = aggregator;
+        this.removeRecordOnDelete = removeRecordOnDelete;
+    }
+
+    @Override
+    public void reset() {
+        this.latestKv = null;
+        this.aggregator.reset();
+        this.currentDeleteRow = false;
+    }
+
+    @Override
+    public void add(KeyValue kv) {
+        latestKv = kv;
+
+        currentDeleteRow = removeRecordOnDelete && kv.valueKind() == RowKind.DELETE;
+        if (currentDeleteRow) {
+            aggregator.set(kv.value());
+        } else if (kv.valueKind().isRetract()) {
+            aggregator.retract(kv.value());
+        } else {
+            aggregator.agg(kv.value());
+        }
+    }
+
+    @Override
+    public KeyValue getResult() {
+        checkNotNull(
+                latestKv,
+                "Trying to get result from merge function without any input. This is unexpected.");
+
+        if (reused == null) {
+            reused = new KeyValue();
+        }
+        RowKind rowKind = currentDeleteRow ? RowKind.DELETE : RowKind.INSERT;
+        // the result row of the aggregator is reused, copy it as the results may be held
+        return reused.replace(
+                latestKv.key(), latestKv.sequenceNumber(), rowKind, aggregator.result().copy());
+    }
+
+    @Override
+    public boolean requireCopy() {
+        return false;
+    }
+
+    /**
+     * Returns the aggregate function names for {@link
+     * org.apache.paimon.codegen.CodeGenerator#generateRecordAggregator}, or null if any of the
+     * aggregators is not supported by the code generator.
+     */
+    @Nullable
+    public static List<String> codeGenAggFuncNames(
+            FieldAggregator[] aggregators, List<DataType> fieldTypes) {
+        List<String> names = new ArrayList<>(aggregators.length);
+        for (int i = 0; i < aggregators.length; i++) {
+            Class<?> clazz = aggregators[i].getClass();
+            DataType type = fieldTypes.get(i);
+            String name;
+            if (clazz == FieldSumAgg.class && isNumeric(type, false)) {
+                name = FieldSumAggFactory.NAME;
+            } else if (clazz == FieldMaxAgg.class && isNumeric(type, true)) {
+                name = FieldMaxAggFactory.NAME;
+            } else if (clazz == FieldMinAgg.class && isNumeric(type, true)) {
+                name = FieldMinAggFactory.NAME;
+            } else if (clazz == FieldPrimaryKeyAgg.class && isWritable(type)) {
+                name = FieldPrimaryKeyAggFactory.NAME;
+            } else if (clazz == FieldLastValueAgg.class && isWritable(type)) {
+                name = FieldLastValueAggFactory.NAME;
+            } else if (clazz == FieldLastNonNullValueAgg.class && isWritable(type)) {
+                name = FieldLastNonNullValueAggFactory.NAME;
+            } else {
+                return null;
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    private static boolean isNumeric(DataType type, boolean includeTime) {
+        switch (type.getTypeRoot()) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+                return true;
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return includeTime;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isWritable(DataType type) {
+        switch (type.getTypeRoot()) {
+            case VARIANT:
+            case BLOB:
+                return false;
+            default:
+                return true;
+        }
+    }
+}
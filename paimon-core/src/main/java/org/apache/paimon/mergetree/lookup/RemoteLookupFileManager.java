@@ -19,9 +19,11 @@
 package org.apache.paimon.mergetree.lookup;
 
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.FileRange;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.VectoredReadable;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.DataFilePathFactory;
 import org.apache.paimon.mergetree.LookupFile;
@@ -35,8 +37,10 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /** Manager to manage remote files for lookup. */
 public class RemoteLookupFileManager<T> implements RemoteFileDownloader {
@@ -91,7 +95,11 @@ public class RemoteLookupFileManager<T> implements RemoteFileDownloader {
         Path remoteSstPath = remoteSstPath(dataFile, remoteSstFile);
         try (SeekableInputStream is = fileIO.newInputStream(remoteSstPath);
                 FileOutputStream os = new FileOutputStream(localFile)) {
-            IOUtils.copy(is, os);
+            if (is instanceof VectoredReadable) {
+                copyVectored((VectoredReadable) is, fileIO.getFileSize(remoteSstPath), os);
+            } else {
+                IOUtils.copy(is, os);
+            }
             return true;
         } catch (Exception e) {
             LOG.warn("Failed to download remote lookup file {}, skipping.", remoteSstPath, e);
@@ -99,6 +107,36 @@ public class RemoteLookupFileManager<T> implements RemoteFileDownloader {
         }
     }
 
+    /**
+     * Copies the file by concurrent range reads, in windows of {@link
+     * VectoredReadable#parallelismForVectorReads()} ranges to bound the buffered bytes.
+     */
+    private static void copyVectored(VectoredReadable in, long length, OutputStream out)
+            throws IOException {
+        int batchSize = in.batchSizeForVectorReads();
+        int window = in.parallelismForVectorReads();
+        long position = 0;
+        while (position < length) {
+            List<FileRange> ranges = new ArrayList<>(window);
+            for (int i = 0; i < window && position < length; i++) {
+                int size = (int) Math.min(batchSize, length - position);
+                ranges.add(FileRange.createFileRange(position, size));
+                position += size;
+            }
+            in.readVectored(ranges);
+            for (FileRange range : ranges) {
+                try {
+                    out.write(range.getData().get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                } catch (ExecutionException e) {
+                    throw new IOException(e.getCause());
+                }
+            }
+        }
+    }
+
     private Path remoteSstPath(DataFileMeta file, String remoteSstName) {
         return new Path(pathFactory.toPath(file).getParent(), remoteSstName);
     }
@@ -57,6 +57,16 @@ public interface MetricGroup {
      */
     Histogram histogram(String name, int windowSize);
 
+    /**
+     * Registers the given {@link Histogram} with Paimon, e.g. a {@link StripedHistogram} for hot
+     * paths.
+     *
+     * @param name name of the histogram
+     * @param histogram histogram to register
+     * @return the registered histogram
+     */
+    Histogram histogram(String name, Histogram histogram);
+
     /** Returns a map of all variables and their associated value. */
     Map<String, String> getAllVariables();
 
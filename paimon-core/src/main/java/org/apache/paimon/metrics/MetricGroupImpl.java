@@ -69,6 +69,11 @@ public class MetricGroupImpl implements MetricGroup {
         return (Histogram) addMetric(name, new DescriptiveStatisticsHistogram(windowSize));
     }
 
+    @Override
+    public Histogram histogram(String name, Histogram histogram) {
+        return (Histogram) addMetric(name, histogram);
+    }
+
     /**
      * Adds the given metric to the group and registers it at the registry, if the group is not yet
      * closed, and if no metric with the same name has been registered before.
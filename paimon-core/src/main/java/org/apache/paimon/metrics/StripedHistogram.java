@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.metrics;
+
+import org.apache.paimon.utils.MathUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free {@link Histogram} for hot paths. Values are counted in log-linear buckets like a HDR
+ * histogram: values below {@link #SUB_BUCKET_COUNT} are counted exactly, larger values with a
+ * relative error of at most {@code 1 / SUB_BUCKET_COUNT}. So the memory is bounded regardless of
+ * how many values are recorded.
+ *
+ * <p>To avoid contention, the buckets are striped by thread and merged when creating {@link
+ * StripedHistogramStatistics}. Unlike {@link DescriptiveStatisticsHistogram}, the statistics cover
+ * all values recorded since the creation of this histogram. Negative values are recorded as 0.
+ */
+public class StripedHistogram implements Histogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int NUM_BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private static final int MAX_STRIPES = 4;
+
+    private final int stripeMask;
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final AtomicLong min;
+    private final AtomicLong max;
+
+    public StripedHistogram() {
+        this(
+                Math.min(
+                        MAX_STRIPES,
+                        MathUtils.roundDownToPowerOf2(Runtime.getRuntime().availableProcessors())));
+    }
+
+    public StripedHistogram(int numStripes) {
+        int stripes = MathUtils.isPowerOf2(numStripes) ? numStripes : 1;
+        this.stripeMask = stripes - 1;
+        this.buckets = new AtomicLongArray(stripes * NUM_BUCKETS);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.min = new AtomicLong(Long.MAX_VALUE);
+        this.max = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    @Override
+    public void update(long value) {
+        value = Math.max(0, value);
+
+        // the bounds are rarely changed after warming up, so mostly no write is needed. They are
+        // updated before the buckets, so the bounds of a snapshot always cover its buckets
+        long currentMin = min.get();
+        while (value < currentMin && !min.compareAndSet(currentMin, value)) {
+            currentMin = min.get();
+        }
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        buckets.incrementAndGet(stripe * NUM_BUCKETS + bucketIndex(value));
+        count.increment();
+        sum.add(value);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public StripedHistogramStatistics getStatistics() {
+        long[] merged = new long[NUM_BUCKETS];
+        for (int i = 0; i < buckets.length(); i++) {
+            merged[i % NUM_BUCKETS] += buckets.get(i);
+        }
+        return new StripedHistogramStatistics(merged, sum.sum(), min.get(), max.get());
+    }
+
+    /** Returns the index of the bucket counting the given non-negative value. */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        // the mantissa is in [SUB_BUCKET_COUNT, 2 * SUB_BUCKET_COUNT)
+        int mantissa = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKET_COUNT + mantissa - SUB_BUCKET_COUNT;
+    }
+
+    /** Returns the smallest value counted by the bucket. */
+    static long lowerBound(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long mantissa = bucketIndex % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return mantissa << shift;
+    }
+
+    /** Returns the largest value counted by the bucket. */
+    static long upperBound(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        return lowerBound(bucketIndex) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.metrics;
+
+import java.io.Serializable;
+
+import static org.apache.paimon.metrics.StripedHistogram.NUM_BUCKETS;
+import static org.apache.paimon.metrics.StripedHistogram.lowerBound;
+import static org.apache.paimon.metrics.StripedHistogram.upperBound;
+
+/**
+ * Histogram statistics implementation returned by {@link StripedHistogram}. It is a point-in-time
+ * snapshot of the bucket counts, and snapshots of several histograms can be merged with {@link
+ * #merge}.
+ *
+ * <p>Quantiles, the standard deviation and the values are computed from the middle values of the
+ * buckets, while the mean, the minimum and the maximum are exact.
+ */
+public class StripedHistogramStatistics extends HistogramStatistics implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long[] bucketCounts;
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+
+    StripedHistogramStatistics(long[] bucketCounts, long sum, long min, long max) {
+        this.bucketCounts = bucketCounts;
+        long count = 0;
+        for (long bucketCount : bucketCounts) {
+            count += bucketCount;
+        }
+        this.count = count;
+        this.sum = sum;
+        this.min = count == 0 ? 0 : min;
+        this.max = count == 0 ? 0 : max;
+    }
+
+    /** Returns the statistics without any recorded value. */
+    public static StripedHistogramStatistics empty() {
+        return new StripedHistogramStatistics(new long[NUM_BUCKETS], 0, 0, 0);
+    }
+
+    /** Returns the statistics of all values recorded by this and the other snapshot. */
+    public StripedHistogramStatistics merge(StripedHistogramStatistics other) {
+        long[] merged = new long[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            merged[i] = bucketCounts[i] + other.bucketCounts[i];
+        }
+        if (count == 0 || other.count == 0) {
+            StripedHistogramStatistics nonEmpty = count == 0 ? other : this;
+            return new StripedHistogramStatistics(
+                    merged, sum + other.sum, nonEmpty.min, nonEmpty.max);
+        }
+        return new StripedHistogramStatistics(
+                merged, sum + other.sum, Math.min(min, other.min), Math.max(max, other.max));
+    }
+
+    /** Returns the total count of recorded values. */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public double getQuantile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        if (rank >= count) {
+            // the extremes are tracked exactly
+            return max;
+        }
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, middleValue(i)));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the distinct middle values of the non-empty buckets, as the recorded values are not
+     * kept.
+     */
+    @Override
+    public long[] getValues() {
+        int numValues = 0;
+        for (long bucketCount : bucketCounts) {
+            if (bucketCount > 0) {
+                numValues++;
+            }
+        }
+        long[] values = new long[numValues];
+        int pos = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            if (bucketCounts[i] > 0) {
+                values[pos++] = Math.max(min, Math.min(max, middleValue(i)));
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, count);
+    }
+
+    @Override
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    @Override
+    public double getStdDev() {
+        if (count <= 1) {
+            return 0;
+        }
+        double mean = getMean();
+        double squaredSum = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            if (bucketCounts[i] > 0) {
+                double diff = middleValue(i) - mean;
+                squaredSum += diff * diff * bucketCounts[i];
+            }
+        }
+        return Math.sqrt(squaredSum / (count - 1));
+    }
+
+    @Override
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public long getMin() {
+        return min;
+    }
+
+    private static long middleValue(int bucketIndex) {
+        long lower = lowerBound(bucketIndex);
+        return lower + (upperBound(bucketIndex) - lower) / 2;
+    }
+}
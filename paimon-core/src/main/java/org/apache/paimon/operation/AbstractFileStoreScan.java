@@ -66,8 +66,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.utils.ManifestReadThreadPool.getExecutorService;
-import static org.apache.paimon.utils.ManifestReadThreadPool.randomlyExecuteSequentialReturn;
 import static org.apache.paimon.utils.ManifestReadThreadPool.sequentialBatchedExecute;
+import static org.apache.paimon.utils.ManifestReadThreadPool.sequentialPipelinedExecute;
 import static org.apache.paimon.utils.ThreadPoolUtils.randomlyOnlyExecute;
 
 /** Default implementation of {@link FileStoreScan}. */
@@ -441,7 +441,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         if (useSequential) {
             return sequentialBatchedExecute(processor, manifests, parallelism).iterator();
         } else {
-            return randomlyExecuteSequentialReturn(processor, manifests, parallelism);
+            return sequentialPipelinedExecute(processor, manifests, parallelism);
         }
     }
 
@@ -454,7 +454,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         if (useSequential) {
             return sequentialBatchedExecute(reader, manifests, parallelism).iterator();
         } else {
-            return randomlyExecuteSequentialReturn(reader, manifests, parallelism);
+            return sequentialPipelinedExecute(reader, manifests, parallelism);
         }
     }
 
@@ -496,6 +496,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
             @Nullable Filter<InternalRow> additionalFilter,
             @Nullable Filter<ManifestEntry> additionalTFilter) {
 
+        long started = System.nanoTime();
         Filter<InternalRow> entryRowFilter = createEntryRowFilter();
         Function<ManifestEntry, T> finalConverter =
                 dropStats ? e -> converter.apply(dropStats(e)) : converter;
@@ -517,6 +518,9 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                                                         || manifestEntryFilter.test(entry))
                                                 && filterByStats(entry),
                                 finalConverter);
+        if (scanMetrics != null) {
+            scanMetrics.reportManifestRead(System.nanoTime() - started);
+        }
         LOG.info("Read {} manifest entries from {}", entries.size(), manifest.fileName());
         return entries;
     }
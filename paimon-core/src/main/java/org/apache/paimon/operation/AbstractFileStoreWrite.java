@@ -259,9 +259,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                 }
                 CompactDeletionFile compactDeletionFile = increment.compactDeletionFile();
                 if (compactDeletionFile != null) {
-                    compactDeletionFile
-                            .getOrCompute()
-                            .ifPresent(compactIncrement.newIndexFiles()::add);
+                    compactIncrement.newIndexFiles().addAll(compactDeletionFile.getOrCompute());
                 }
                 CommitMessageImpl committable =
                         new CommitMessageImpl(
@@ -42,6 +42,7 @@ import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.manifest.PartitionEntry;
 import org.apache.paimon.manifest.SimpleFileEntry;
+import org.apache.paimon.operation.commit.BaseEntriesIndex;
 import org.apache.paimon.operation.commit.CommitChanges;
 import org.apache.paimon.operation.commit.CommitChangesProvider;
 import org.apache.paimon.operation.commit.CommitCleaner;
@@ -163,6 +164,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     @Nullable private final StrictModeChecker strictModeChecker;
     private final ConflictDetection conflictDetection;
     private final CommitCleaner commitCleaner;
+    @Nullable private final BaseEntriesIndex baseEntriesIndex;
 
     private boolean ignoreEmptyCommit;
     private CommitMetrics commitMetrics;
@@ -232,6 +234,12 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                         .orElse(null);
         this.conflictDetection = conflictDetectFactory.create(scanner);
         this.commitCleaner = new CommitCleaner(manifestList, manifestFile, indexManifestFile);
+        Integer baseEntriesCacheMaxEntries = options.commitBaseEntriesCacheMaxEntries();
+        this.baseEntriesIndex =
+                baseEntriesCacheMaxEntries == null
+                        ? null
+                        : new BaseEntriesIndex(
+                                scanner, snapshotManager, baseEntriesCacheMaxEntries);
     }
 
     @Override
@@ -963,7 +971,10 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             : null;
             // An overwrite may replace the base manifest list without recording the replacements
             // in its delta manifest, so the cached base cannot always be refreshed incrementally.
-            if (commitFailRetry != null
+            if (baseEntriesIndex != null) {
+                baseDataFiles =
+                        new ArrayList<>(baseEntriesIndex.read(latestSnapshot, changedPartitions));
+            } else if (commitFailRetry != null
                     && commitFailRetry.latestSnapshot != null
                     && commitFailRetry.baseDataFiles != null
                     && !hasOverwriteSinceLastAttempt) {
@@ -1559,12 +1570,13 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     }
 
     private boolean commitSnapshotImpl(Snapshot newSnapshot, List<PartitionEntry> deltaStatistics) {
+        boolean success;
         try {
             List<PartitionStatistics> statistics = new ArrayList<>(deltaStatistics.size());
             for (PartitionEntry entry : deltaStatistics) {
                 statistics.add(entry.toPartitionStatistics(partitionComputer));
             }
-            return snapshotCommit.commit(newSnapshot, options.branch(), statistics);
+            success = snapshotCommit.commit(newSnapshot, options.branch(), statistics);
         } catch (Throwable e) {
             // exception when performing the atomic rename,
             // we cannot clean up because we can't determine the success
@@ -1579,6 +1591,19 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             newSnapshot.commitKind().name()),
                     e);
         }
+
+        if (success
+                && options.snapshotTimelineIndexEnabled()
+                && newSnapshot.id() % options.snapshotTimelineIndexInterval() == 0) {
+            try {
+                snapshotManager.commitTimeline(
+                        newSnapshot.id(), options.snapshotTimelineIndexMaxReads());
+            } catch (Exception e) {
+                // the timeline is only an index, readers fall back to snapshot files
+                LOG.warn("Failed to update snapshot timeline to #{}.", newSnapshot.id(), e);
+            }
+        }
+        return success;
     }
 
     @Override
@@ -46,6 +46,7 @@ import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FieldsComparator;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.SnapshotManager;
@@ -59,6 +60,7 @@ import javax.annotation.Nullable;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -79,6 +81,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     private final String commitUser;
     private final KvCompactionManagerFactory compactManagerFactory;
 
+    @Nullable private ExecutorService lazyFlushExecutor;
+
     public KeyValueFileStoreWrite(
             FileIO fileIO,
             SchemaManager schemaManager,
@@ -227,21 +231,37 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                         dvMaintainer,
                         ignorePreviousFiles);
 
-        return new MergeTreeWriter(
-                options.writeBufferSpillable(),
-                options.writeBufferSpillDiskSize(),
-                options.localSortMaxNumFileHandles(),
-                options.spillCompressOptions(),
-                ioManager,
-                compactManager,
-                restoredMaxSeqNumber,
-                keyComparator,
-                mfFactory.create(),
-                writerFactory,
-                options.commitForceCompact(),
-                options.changelogProducer(),
-                restoreIncrement,
-                UserDefinedSeqComparator.create(valueType, options));
+        MergeTreeWriter writer =
+                new MergeTreeWriter(
+                        options.writeBufferSpillable(),
+                        options.writeBufferSpillDiskSize(),
+                        options.localSortMaxNumFileHandles(),
+                        options.spillCompressOptions(),
+                        ioManager,
+                        compactManager,
+                        restoredMaxSeqNumber,
+                        keyComparator,
+                        mfFactory.create(),
+                        writerFactory,
+                        options.commitForceCompact(),
+                        options.changelogProducer(),
+                        restoreIncrement,
+                        UserDefinedSeqComparator.create(valueType, options));
+        writer.withFlushLatency(flushLatency);
+        if (options.writeBufferAsyncFlush()) {
+            writer.withAsyncFlush(flushExecutor());
+        }
+        return writer;
+    }
+
+    private ExecutorService flushExecutor() {
+        if (lazyFlushExecutor == null) {
+            lazyFlushExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-write-buffer-flush"));
+        }
+        return lazyFlushExecutor;
     }
 
     @Override
@@ -253,5 +273,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     public void close() throws Exception {
         super.close();
         compactManagerFactory.close();
+        if (lazyFlushExecutor != null) {
+            lazyFlushExecutor.shutdownNow();
+        }
     }
 }
@@ -23,10 +23,13 @@ import org.apache.paimon.deletionvectors.BucketedDvMaintainer;
 import org.apache.paimon.index.DynamicBucketIndexMaintainer;
 import org.apache.paimon.index.pk.BucketedPrimaryKeyIndexMaintainer;
 import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.memory.MemoryOwner;
 import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.metrics.Histogram;
 import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.metrics.StripedHistogram;
 import org.apache.paimon.operation.metrics.WriterBufferMetric;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.types.RowType;
@@ -59,6 +62,8 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
     private MemoryPoolFactory writeBufferPool;
 
     private WriterBufferMetric writerBufferMetric;
+    // updated by the writer threads and the async flush threads
+    protected final Histogram flushLatency = new StripedHistogram(2);
 
     public MemoryFileStoreWrite(
             SnapshotManager snapshotManager,
@@ -79,9 +84,7 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
                 options,
                 partitionType);
         this.options = options;
-        this.cacheManager =
-                new CacheManager(
-                        options.lookupCacheMaxMemory(), options.lookupCacheHighPrioPoolRatio());
+        this.cacheManager = LookupStoreFactory.createCacheManager(options);
     }
 
     @Override
@@ -145,7 +148,8 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
     private void registerWriterBufferMetric(MetricRegistry metricRegistry) {
         if (metricRegistry != null) {
             writerBufferMetric =
-                    new WriterBufferMetric(() -> writeBufferPool, metricRegistry, tableName);
+                    new WriterBufferMetric(
+                            () -> writeBufferPool, flushLatency, metricRegistry, tableName);
         }
     }
 
@@ -165,5 +169,6 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
         if (this.writerBufferMetric != null) {
             this.writerBufferMetric.close();
         }
+        cacheManager.close();
     }
 }
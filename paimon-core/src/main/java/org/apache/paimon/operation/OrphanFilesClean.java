@@ -67,6 +67,7 @@ import static org.apache.paimon.utils.FileStorePathFactory.BUCKET_PATH_PREFIX;
 import static org.apache.paimon.utils.HintFileUtils.EARLIEST;
 import static org.apache.paimon.utils.HintFileUtils.LATEST;
 import static org.apache.paimon.utils.SnapshotManager.SNAPSHOT_PREFIX;
+import static org.apache.paimon.utils.SnapshotTimeline.TIMELINE;
 import static org.apache.paimon.utils.StringUtils.isNullOrWhitespaceOnly;
 
 /**
@@ -194,7 +195,8 @@ public abstract class OrphanFilesClean implements Serializable {
             String name = path.getName();
             return !name.startsWith(SNAPSHOT_PREFIX)
                     && !name.equals(EARLIEST)
-                    && !name.equals(LATEST);
+                    && !name.equals(LATEST)
+                    && !name.equals(TIMELINE);
         };
     }
 
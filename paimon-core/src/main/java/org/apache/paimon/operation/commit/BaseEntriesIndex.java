@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.commit;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.Snapshot.CommitKind;
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.SimpleFileEntry;
+import org.apache.paimon.utils.SnapshotManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A committer-resident index of the live files of partitions, used as the base entries of conflict
+ * detection.
+ *
+ * <p>The index remembers the snapshot it reflects. When a newer snapshot is committed, only the
+ * delta manifests of the snapshots in between are read and merged into the cached partitions, so
+ * the cost of a commit or a retry is proportional to the concurrent changes instead of the size of
+ * the changed partitions. Partitions not cached yet are read by a full scan. The index is rebuilt
+ * when a snapshot in between is an {@link CommitKind#OVERWRITE}, whose delta manifests may not
+ * describe all replaced files, or when the cached snapshot is no longer in the snapshot history.
+ */
+public class BaseEntriesIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BaseEntriesIndex.class);
+
+    private final CommitScanner scanner;
+    private final SnapshotManager snapshotManager;
+    private final int maxEntries;
+
+    // partitions in access order, for evicting the least recently used ones
+    private final LinkedHashMap<BinaryRow, Map<FileEntry.Identifier, SimpleFileEntry>> partitions =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private int numEntries;
+    @Nullable private Snapshot snapshot;
+
+    @VisibleForTesting int fullScanCount;
+    @VisibleForTesting int incrementalScanCount;
+
+    public BaseEntriesIndex(
+            CommitScanner scanner, SnapshotManager snapshotManager, int maxEntries) {
+        this.scanner = scanner;
+        this.snapshotManager = snapshotManager;
+        this.maxEntries = maxEntries;
+    }
+
+    /** Returns the live files of the given partitions in the given snapshot. */
+    public List<SimpleFileEntry> read(Snapshot latestSnapshot, List<BinaryRow> changedPartitions) {
+        if (snapshot != null
+                && (snapshot.id() != latestSnapshot.id()
+                        || !Objects.equals(
+                                snapshot.baseManifestList(), latestSnapshot.baseManifestList()))) {
+            if (!tryAdvance(latestSnapshot)) {
+                invalidate();
+            }
+        }
+        snapshot = latestSnapshot;
+
+        List<BinaryRow> missing = new ArrayList<>();
+        for (BinaryRow partition : changedPartitions) {
+            if (!partitions.containsKey(partition)) {
+                missing.add(partition);
+            }
+        }
+        if (!missing.isEmpty()) {
+            fullScanCount++;
+            // only cache the partitions after the scan succeeds
+            List<SimpleFileEntry> entries =
+                    scanner.readAllEntriesFromChangedPartitions(latestSnapshot, missing);
+            Map<BinaryRow, Map<FileEntry.Identifier, SimpleFileEntry>> scanned = new HashMap<>();
+            for (BinaryRow partition : missing) {
+                scanned.put(partition, new LinkedHashMap<>());
+            }
+            for (SimpleFileEntry entry : entries) {
+                scanned.get(entry.partition()).put(entry.identifier(), entry);
+            }
+            for (Map<FileEntry.Identifier, SimpleFileEntry> partitionEntries : scanned.values()) {
+                numEntries += partitionEntries.size();
+            }
+            partitions.putAll(scanned);
+        }
+
+        List<SimpleFileEntry> result = new ArrayList<>();
+        for (BinaryRow partition : changedPartitions) {
+            Map<FileEntry.Identifier, SimpleFileEntry> entries = partitions.get(partition);
+            if (entries != null) {
+                result.addAll(entries.values());
+            }
+        }
+        evict();
+        return result;
+    }
+
+    private boolean tryAdvance(Snapshot latestSnapshot) {
+        if (snapshot.id() > latestSnapshot.id() || partitions.isEmpty()) {
+            return false;
+        }
+
+        List<BinaryRow> cachedPartitions = new ArrayList<>(partitions.keySet());
+        List<SimpleFileEntry> changes;
+        try {
+            // snapshot ids may be reused after a rollback
+            Snapshot current = snapshotManager.tryGetSnapshot(snapshot.id());
+            if (!Objects.equals(current.baseManifestList(), snapshot.baseManifestList())) {
+                return false;
+            }
+            for (long id = snapshot.id() + 1; id <= latestSnapshot.id(); id++) {
+                if (snapshotManager.tryGetSnapshot(id).commitKind() == CommitKind.OVERWRITE) {
+                    return false;
+                }
+            }
+            changes = scanner.readIncrementalChanges(snapshot, latestSnapshot, cachedPartitions);
+        } catch (Exception e) {
+            // For example, the snapshots are being expired. Using full scan is safe.
+            LOG.info(
+                    "Cannot advance base entries from snapshot {} to {}, fall back to full scan.",
+                    snapshot.id(),
+                    latestSnapshot.id(),
+                    e);
+            return false;
+        }
+
+        incrementalScanCount++;
+        Map<BinaryRow, List<SimpleFileEntry>> changesPerPartition = new HashMap<>();
+        for (SimpleFileEntry entry : changes) {
+            changesPerPartition
+                    .computeIfAbsent(entry.partition(), p -> new ArrayList<>())
+                    .add(entry);
+        }
+        try {
+            for (Map.Entry<BinaryRow, List<SimpleFileEntry>> entry :
+                    changesPerPartition.entrySet()) {
+                Map<FileEntry.Identifier, SimpleFileEntry> entries = partitions.get(entry.getKey());
+                if (entries != null) {
+                    numEntries -= entries.size();
+                    FileEntry.mergeEntries(entry.getValue(), entries);
+                    numEntries += entries.size();
+                }
+            }
+        } catch (Exception e) {
+            LOG.warn(
+                    "Failed to merge delta manifests into base entries, fall back to full scan.",
+                    e);
+            return false;
+        }
+        return true;
+    }
+
+    private void evict() {
+        Iterator<Map<FileEntry.Identifier, SimpleFileEntry>> iterator =
+                partitions.values().iterator();
+        while (numEntries > maxEntries && iterator.hasNext()) {
+            numEntries -= iterator.next().size();
+            iterator.remove();
+        }
+    }
+
+    private void invalidate() {
+        partitions.clear();
+        numEntries = 0;
+    }
+}
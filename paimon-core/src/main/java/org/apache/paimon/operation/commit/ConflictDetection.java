@@ -55,6 +55,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -69,6 +70,7 @@ import static org.apache.paimon.format.blob.BlobFileFormat.isBlobFile;
 import static org.apache.paimon.operation.commit.ManifestEntryChanges.changedPartitions;
 import static org.apache.paimon.types.VectorType.isVectorStoreFile;
 import static org.apache.paimon.utils.InternalRowPartitionComputer.partToSimpleString;
+import static org.apache.paimon.utils.ManifestReadThreadPool.randomlyExecuteSequentialReturn;
 import static org.apache.paimon.utils.Preconditions.checkState;
 
 /** Util class for detecting conflicts between base and delta files. */
@@ -89,6 +91,7 @@ public class ConflictDetection {
     private final IndexFileHandler indexFileHandler;
     private final SnapshotManager snapshotManager;
     private final CommitScanner commitScanner;
+    private final @Nullable Integer checkParallelism;
     private final Map<BinaryRow, Boolean> sameBucketCheckedPartitions =
             new LinkedHashMap<BinaryRow, Boolean>(SAME_BUCKET_CHECK_CACHE_MAX_SIZE, 0.75f, false) {
                 @Override
@@ -113,6 +116,36 @@ public class ConflictDetection {
             IndexFileHandler indexFileHandler,
             SnapshotManager snapshotManager,
             CommitScanner commitScanner) {
+        this(
+                tableName,
+                commitUser,
+                partitionType,
+                pathFactory,
+                keyComparator,
+                bucketMode,
+                deletionVectorsEnabled,
+                dataEvolutionEnabled,
+                pkClusteringOverride,
+                indexFileHandler,
+                snapshotManager,
+                commitScanner,
+                null);
+    }
+
+    public ConflictDetection(
+            String tableName,
+            String commitUser,
+            RowType partitionType,
+            FileStorePathFactory pathFactory,
+            @Nullable Comparator<InternalRow> keyComparator,
+            BucketMode bucketMode,
+            boolean deletionVectorsEnabled,
+            boolean dataEvolutionEnabled,
+            boolean pkClusteringOverride,
+            IndexFileHandler indexFileHandler,
+            SnapshotManager snapshotManager,
+            CommitScanner commitScanner,
+            @Nullable Integer checkParallelism) {
         this.tableName = tableName;
         this.commitUser = commitUser;
         this.partitionType = partitionType;
@@ -125,6 +158,7 @@ public class ConflictDetection {
         this.indexFileHandler = indexFileHandler;
         this.snapshotManager = snapshotManager;
         this.commitScanner = commitScanner;
+        this.checkParallelism = checkParallelism;
     }
 
     public void setRowIdCheckFromSnapshot(@Nullable Long rowIdCheckFromSnapshot) {
@@ -378,32 +412,49 @@ public class ConflictDetection {
             }
         }
 
-        // check for all LSM level >= 1, key ranges of files do not intersect
-        for (List<SimpleFileEntry> entries : levels.values()) {
-            entries.sort((a, b) -> keyComparator.compare(a.minKey(), b.minKey()));
-            for (int i = 0; i + 1 < entries.size(); i++) {
-                SimpleFileEntry a = entries.get(i);
-                SimpleFileEntry b = entries.get(i + 1);
-                if (keyComparator.compare(a.maxKey(), b.minKey()) >= 0) {
-                    Pair<RuntimeException, RuntimeException> conflictException =
-                            createConflictException(
-                                    "LSM conflicts detected! Give up committing. Conflict files are:\n"
-                                            + a.identifier().toString(pathFactory)
-                                            + "\n"
-                                            + b.identifier().toString(pathFactory),
-                                    baseCommitUser,
-                                    baseEntries,
-                                    deltaEntries,
-                                    null);
-
-                    LOG.warn("", conflictException.getLeft());
-                    return Optional.of(conflictException.getRight());
-                }
-            }
+        // check for all LSM level >= 1, key ranges of files do not intersect, levels are
+        // independent of each other so that they are checked in parallel
+        Iterator<Pair<SimpleFileEntry, SimpleFileEntry>> conflicts =
+                levels.size() > 1
+                        ? randomlyExecuteSequentialReturn(
+                                this::findKeyRangeConflict,
+                                new ArrayList<>(levels.values()),
+                                checkParallelism)
+                        : levels.values().stream()
+                                .flatMap(entries -> findKeyRangeConflict(entries).stream())
+                                .iterator();
+        if (conflicts.hasNext()) {
+            Pair<SimpleFileEntry, SimpleFileEntry> conflict = conflicts.next();
+            Pair<RuntimeException, RuntimeException> conflictException =
+                    createConflictException(
+                            "LSM conflicts detected! Give up committing. Conflict files are:\n"
+                                    + conflict.getLeft().identifier().toString(pathFactory)
+                                    + "\n"
+                                    + conflict.getRight().identifier().toString(pathFactory),
+                            baseCommitUser,
+                            baseEntries,
+                            deltaEntries,
+                            null);
+
+            LOG.warn("", conflictException.getLeft());
+            return Optional.of(conflictException.getRight());
         }
         return Optional.empty();
     }
 
+    private List<Pair<SimpleFileEntry, SimpleFileEntry>> findKeyRangeConflict(
+            List<SimpleFileEntry> entries) {
+        entries.sort((a, b) -> keyComparator.compare(a.minKey(), b.minKey()));
+        for (int i = 0; i + 1 < entries.size(); i++) {
+            SimpleFileEntry a = entries.get(i);
+            SimpleFileEntry b = entries.get(i + 1);
+            if (keyComparator.compare(a.maxKey(), b.minKey()) >= 0) {
+                return Collections.singletonList(Pair.of(a, b));
+            }
+        }
+        return Collections.emptyList();
+    }
+
     private Function<Throwable, RuntimeException> conflictException(
             String baseCommitUser,
             List<SimpleFileEntry> baseEntries,
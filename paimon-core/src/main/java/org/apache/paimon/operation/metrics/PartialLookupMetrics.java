@@ -19,9 +19,14 @@
 package org.apache.paimon.operation.metrics;
 
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.io.cache.CacheMetrics;
 import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Histogram;
 import org.apache.paimon.metrics.MetricGroup;
 import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.metrics.StripedHistogram;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * Request-level metrics for local partial lookup. A remote access means that at least one lookup
@@ -33,23 +38,58 @@ public class PartialLookupMetrics {
     public static final String PARTIAL_LOOKUP_COUNT = "partialLookupCount";
     public static final String PARTIAL_LOOKUP_REMOTE_ACCESS_COUNT =
             "partialLookupRemoteAccessCount";
+    public static final String PARTIAL_LOOKUP_LATENCY = "partialLookupLatencyMicros";
+    public static final String BLOCK_CACHE_HIT_COUNT = "blockCacheHitCount";
+    public static final String BLOCK_CACHE_MISS_COUNT = "blockCacheMissCount";
+    public static final String BLOCK_CACHE_EVICTION_COUNT = "blockCacheEvictionCount";
 
     private final MetricGroup metricGroup;
     private final Counter lookupCount;
     private final Counter remoteAccessCount;
+    private final Histogram lookupLatency;
 
     public PartialLookupMetrics(MetricRegistry registry, String tableName) {
         this.metricGroup = registry.createTableMetricGroup(GROUP_NAME, tableName);
         this.lookupCount = metricGroup.counter(PARTIAL_LOOKUP_COUNT);
         this.remoteAccessCount = metricGroup.counter(PARTIAL_LOOKUP_REMOTE_ACCESS_COUNT);
+        this.lookupLatency = metricGroup.histogram(PARTIAL_LOOKUP_LATENCY, new StripedHistogram());
     }
 
-    /** Reports one lookup invocation and whether it accessed table storage. */
-    public void reportLookup(boolean remoteAccessed) {
+    /** Reports one lookup invocation, whether it accessed table storage and how long it took. */
+    public void reportLookup(boolean remoteAccessed, long durationNanos) {
         lookupCount.inc();
         if (remoteAccessed) {
             remoteAccessCount.inc();
         }
+        lookupLatency.update(NANOSECONDS.toMicros(durationNanos));
+    }
+
+    /** Registers the block cache counters of the lookup files of this table. */
+    public void registerBlockCacheMetrics(CacheMetrics cacheMetrics) {
+        Counter hitCount = metricGroup.counter(BLOCK_CACHE_HIT_COUNT);
+        Counter missCount = metricGroup.counter(BLOCK_CACHE_MISS_COUNT);
+        Counter evictionCount = metricGroup.counter(BLOCK_CACHE_EVICTION_COUNT);
+        cacheMetrics.setListener(
+                new CacheMetrics.Listener() {
+                    @Override
+                    public void onHit() {
+                        hitCount.inc();
+                    }
+
+                    @Override
+                    public void onMiss() {
+                        missCount.inc();
+                    }
+
+                    @Override
+                    public void onEviction() {
+                        evictionCount.inc();
+                    }
+                });
+        // events recorded before the registration
+        hitCount.inc(cacheMetrics.hitCount());
+        missCount.inc(cacheMetrics.missCount());
+        evictionCount.inc(cacheMetrics.evictionCount());
     }
 
     @VisibleForTesting
@@ -66,4 +106,9 @@ public class PartialLookupMetrics {
     public long remoteAccessCount() {
         return remoteAccessCount.getCount();
     }
+
+    @VisibleForTesting
+    public Histogram lookupLatency() {
+        return lookupLatency;
+    }
 }
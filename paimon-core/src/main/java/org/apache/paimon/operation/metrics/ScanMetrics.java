@@ -22,6 +22,9 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.metrics.Histogram;
 import org.apache.paimon.metrics.MetricGroup;
 import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.metrics.StripedHistogram;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /** Metrics to measure scan operation. */
 public class ScanMetrics {
@@ -38,9 +41,11 @@ public class ScanMetrics {
     public static final String MANIFEST_MISSED_CACHE = "manifestMissedCache";
     public static final String DVMETA_HIT_CACHE = "dvMetaHitCache";
     public static final String DVMETA_MISSED_CACHE = "dvMetaMissedCache";
+    public static final String MANIFEST_READ_LATENCY = "manifestReadLatencyMicros";
 
     private final MetricGroup metricGroup;
     private final Histogram durationHistogram;
+    private final Histogram manifestReadLatency;
     private final CacheMetrics cacheMetrics;
     private final CacheMetrics dvMetaCacheMetrics;
 
@@ -69,6 +74,7 @@ public class ScanMetrics {
         metricGroup.gauge(MANIFEST_MISSED_CACHE, () -> cacheMetrics.getMissedObject().get());
         metricGroup.gauge(DVMETA_HIT_CACHE, () -> dvMetaCacheMetrics.getHitObject().get());
         metricGroup.gauge(DVMETA_MISSED_CACHE, () -> dvMetaCacheMetrics.getMissedObject().get());
+        manifestReadLatency = metricGroup.histogram(MANIFEST_READ_LATENCY, new StripedHistogram());
     }
 
     @VisibleForTesting
@@ -81,6 +87,11 @@ public class ScanMetrics {
         durationHistogram.update(scanStats.getDuration());
     }
 
+    /** Reports the time taken to read one manifest file, it may be called concurrently. */
+    public void reportManifestRead(long durationNanos) {
+        manifestReadLatency.update(NANOSECONDS.toMicros(durationNanos));
+    }
+
     public CacheMetrics getCacheMetrics() {
         return cacheMetrics;
     }
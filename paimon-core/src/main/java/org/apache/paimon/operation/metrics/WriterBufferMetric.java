@@ -19,6 +19,7 @@
 package org.apache.paimon.operation.metrics;
 
 import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.metrics.Histogram;
 import org.apache.paimon.metrics.MetricGroup;
 import org.apache.paimon.metrics.MetricRegistry;
 
@@ -34,12 +35,14 @@ public class WriterBufferMetric {
     public static final String BUFFER_PREEMPT_COUNT = "bufferPreemptCount";
     public static final String USED_WRITE_BUFFER_SIZE = "usedWriteBufferSizeByte";
     public static final String TOTAL_WRITE_BUFFER_SIZE = "totalWriteBufferSizeByte";
+    public static final String BUFFER_FLUSH_LATENCY = "bufferFlushLatencyMicros";
 
     private final MetricGroup metricGroup;
     private final AtomicInteger numWriters;
 
     public WriterBufferMetric(
             Supplier<MemoryPoolFactory> memoryPoolFactorySupplier,
+            Histogram flushLatency,
             MetricRegistry metricRegistry,
             String tableName) {
         metricGroup = metricRegistry.createTableMetricGroup(GROUP_NAME, tableName);
@@ -58,6 +61,7 @@ public class WriterBufferMetric {
                 () ->
                         getMetricValue(
                                 memoryPoolFactorySupplier, MemoryPoolFactory::totalBufferSize));
+        metricGroup.histogram(BUFFER_FLUSH_LATENCY, flushLatency);
     }
 
     private long getMetricValue(
@@ -90,6 +90,8 @@ public class RollbackHelper {
 
         // modify the latest hint
         snapshotManager.commitLatestHint(retainedSnapshot.id());
+        // snapshot ids after the retained one will be reused, the timeline is stale now
+        snapshotManager.deleteTimeline();
 
         // it is possible that some snapshots have been expired
         long to = Math.max(earliest, retainedSnapshot.id() + 1);
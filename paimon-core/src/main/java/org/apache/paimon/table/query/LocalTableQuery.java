@@ -37,6 +37,7 @@ import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.mergetree.Levels;
 import org.apache.paimon.mergetree.LookupFile;
 import org.apache.paimon.mergetree.LookupLevels;
+import org.apache.paimon.mergetree.compact.BucketAccessStats;
 import org.apache.paimon.mergetree.lookup.LookupSerializerFactory;
 import org.apache.paimon.mergetree.lookup.PersistValueProcessor;
 import org.apache.paimon.mergetree.lookup.RemoteLookupFileManager;
@@ -48,16 +49,21 @@ import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.Filter;
 import org.apache.paimon.utils.KeyComparatorSupplier;
 import org.apache.paimon.utils.Preconditions;
+import org.apache.paimon.utils.ThreadPoolUtils;
 
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
@@ -76,10 +82,16 @@ public class LocalTableQuery implements TableQuery {
 
     private final KeyValueFileReaderFactory.Builder readerFactoryBuilder;
 
+    private final CacheManager cacheManager;
+
     private final LookupStoreFactory lookupStoreFactory;
 
     private final int startLevel;
 
+    @Nullable private final Integer prefetchParallelism;
+
+    @Nullable private volatile ExecutorService prefetchExecutor;
+
     private IOManager ioManager;
 
     @Nullable private volatile Cache<String, LookupFile> lookupFileCache;
@@ -108,14 +120,14 @@ public class LocalTableQuery implements TableQuery {
         this.fileIO = table.fileIO();
         RowType keyType = readerFactoryBuilder.keyType();
         this.keyComparatorSupplier = new KeyComparatorSupplier(readerFactoryBuilder.keyType());
+        this.cacheManager = LookupStoreFactory.createCacheManager(options);
         this.lookupStoreFactory =
                 LookupStoreFactory.create(
                         options,
-                        new CacheManager(
-                                options.lookupCacheMaxMemory(),
-                                options.lookupCacheHighPrioPoolRatio()),
+                        cacheManager,
                         new RowCompactedSerializer(keyType).createSliceComparator());
         startLevel = options.needLookup() ? 1 : 0;
+        this.prefetchParallelism = options.lookupPrefetchParallelism();
     }
 
     public void refreshFiles(
@@ -201,9 +213,39 @@ public class LocalTableQuery implements TableQuery {
                     this.options.lookupRemoteLevelThreshold());
         }
 
+        if (this.options.compactionAdaptiveEnabled()) {
+            // feed the adaptive compaction of writers in this process
+            BucketAccessStats accessStats =
+                    BucketAccessStats.of(this.options.path().toString(), partition, bucket);
+            accessStats.attachReader();
+            lookupLevels.setAccessStats(accessStats);
+        }
+
+        if (prefetchParallelism != null) {
+            lookupLevels.prefetch(startLevel, prefetchExecutor(prefetchParallelism));
+        }
         return lookupLevels;
     }
 
+    private ExecutorService prefetchExecutor(int parallelism) {
+        ExecutorService executor = prefetchExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = prefetchExecutor;
+                if (executor == null) {
+                    // shared by all buckets, prefetches beyond the queue are left to the lookups
+                    executor =
+                            ThreadPoolUtils.createCachedThreadPool(
+                                    parallelism,
+                                    "lookup-prefetch",
+                                    new ArrayBlockingQueue<>(parallelism * 64));
+                    prefetchExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
     private Cache<String, LookupFile> lookupFileCache(Options options) {
         Cache<String, LookupFile> cache = lookupFileCache;
         if (cache == null) {
@@ -227,11 +269,13 @@ public class LocalTableQuery implements TableQuery {
         PartialLookupMetrics currentMetrics = partialLookupMetrics;
         LookupLevels.LookupContext context =
                 currentMetrics == null ? null : new LookupLevels.LookupContext();
+        long started = currentMetrics == null ? 0 : System.nanoTime();
         try {
             return lookup(partition, bucket, key, context);
         } finally {
             if (currentMetrics != null) {
-                currentMetrics.reportLookup(context != null && context.remoteAccessed());
+                currentMetrics.reportLookup(
+                        context != null && context.remoteAccessed(), System.nanoTime() - started);
             }
         }
     }
@@ -270,6 +314,59 @@ public class LocalTableQuery implements TableQuery {
         }
     }
 
+    @Override
+    public List<InternalRow> lookup(BinaryRow partition, int bucket, List<InternalRow> keys)
+            throws IOException {
+        PartialLookupMetrics currentMetrics = partialLookupMetrics;
+        LookupLevels.LookupContext context =
+                currentMetrics == null ? null : new LookupLevels.LookupContext();
+        long started = currentMetrics == null ? 0 : System.nanoTime();
+        try {
+            return lookup(partition, bucket, keys, context);
+        } finally {
+            if (currentMetrics != null) {
+                currentMetrics.reportLookup(
+                        context != null && context.remoteAccessed(), System.nanoTime() - started);
+            }
+        }
+    }
+
+    private List<InternalRow> lookup(
+            BinaryRow partition,
+            int bucket,
+            List<InternalRow> keys,
+            @Nullable LookupLevels.LookupContext context)
+            throws IOException {
+        List<InternalRow> results = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        Map<Integer, BucketLookupState> buckets = tableView.get(partition);
+        if (buckets == null || buckets.isEmpty()) {
+            return results;
+        }
+        BucketLookupState state = buckets.get(bucket);
+        if (state == null) {
+            return results;
+        }
+
+        state.lock.readLock().lock();
+        try {
+            LookupLevels<KeyValue> lookupLevels = state.lookupLevels;
+            if (lookupLevels == null) {
+                return results;
+            }
+
+            List<KeyValue> kvs = lookupLevels.lookup(keys, startLevel, context);
+            for (int i = 0; i < kvs.size(); i++) {
+                KeyValue kv = kvs.get(i);
+                if (kv != null && !kv.valueKind().isRetract()) {
+                    results.set(i, kv.value());
+                }
+            }
+            return results;
+        } finally {
+            state.lock.readLock().unlock();
+        }
+    }
+
     @Override
     public LocalTableQuery withValueProjection(int[] projection) {
         this.readerFactoryBuilder.withReadValueType(rowType.project(projection));
@@ -288,6 +385,9 @@ public class LocalTableQuery implements TableQuery {
 
     public LocalTableQuery withMetrics(@Nullable PartialLookupMetrics metrics) {
         this.partialLookupMetrics = metrics;
+        if (metrics != null) {
+            metrics.registerBlockCacheMetrics(cacheManager.metrics());
+        }
         return this;
     }
 
@@ -317,6 +417,16 @@ public class LocalTableQuery implements TableQuery {
             lookupFileCache.invalidateAll();
         }
         tableView.clear();
+        synchronized (this) {
+            // prefetches were cancelled with their levels, a rebuilt query creates a new pool
+            if (prefetchExecutor != null) {
+                prefetchExecutor.shutdownNow();
+                prefetchExecutor = null;
+            }
+        }
+        // a rebuilt query still reads through the released pools, they are just no longer
+        // handed out to new queries once all references are closed
+        cacheManager.close();
     }
 
     private static class BucketLookupState {
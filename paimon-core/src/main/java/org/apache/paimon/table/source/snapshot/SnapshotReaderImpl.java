@@ -24,8 +24,8 @@ import org.apache.paimon.codegen.CodeGenUtils;
 import org.apache.paimon.codegen.RecordComparator;
 import org.apache.paimon.consumer.ConsumerManager;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.deletionvectors.DeletionVectorsIndexFile;
 import org.apache.paimon.fs.Path;
-import org.apache.paimon.index.DeletionVectorMeta;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.io.DataFileMeta;
@@ -728,14 +728,7 @@ public class SnapshotReaderImpl implements SnapshotReader {
     }
 
     private int deletionFileNumber(List<IndexFileMeta> fileMetas) {
-        int count = 0;
-        for (IndexFileMeta indexFile : fileMetas) {
-            LinkedHashMap<String, DeletionVectorMeta> dvRanges = indexFile.dvRanges();
-            if (dvRanges != null) {
-                count += dvRanges.size();
-            }
-        }
-        return count;
+        return DeletionVectorsIndexFile.mergeDvRanges(fileMetas).size();
     }
 
     /**
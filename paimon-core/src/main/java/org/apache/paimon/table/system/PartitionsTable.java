@@ -31,6 +31,7 @@ import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.deletionvectors.DeletionVectorsIndexFile;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.index.DeletionVectorMeta;
@@ -62,6 +63,7 @@ import org.apache.paimon.utils.InternalRowPartitionComputer;
 import org.apache.paimon.utils.InternalRowUtils;
 import org.apache.paimon.utils.IteratorRecordReader;
 import org.apache.paimon.utils.JsonSerdeUtil;
+import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.ProjectedRow;
 import org.apache.paimon.utils.SerializationUtils;
 
@@ -73,12 +75,13 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -341,28 +344,42 @@ public class PartitionsTable implements ReadonlyTable {
             }
 
             IndexFileHandler indexFileHandler = fileStoreTable.store().newIndexFileHandler();
-            Map<BinaryRow, Long> result = new HashMap<>();
+            // a bucket may hold a full index file and a delta file, merge them before counting
+            Map<Pair<BinaryRow, Integer>, List<IndexFileMeta>> bucketFiles = new HashMap<>();
             for (IndexManifestEntry entry :
                     indexFileHandler.scan(snapshot, DELETION_VECTORS_INDEX)) {
-                accumulateDeletionNum(result, entry.partition(), entry.indexFile());
+                bucketFiles
+                        .computeIfAbsent(
+                                Pair.of(entry.partition(), entry.bucket()), k -> new ArrayList<>())
+                        .add(entry.indexFile());
+            }
+
+            Map<BinaryRow, Long> result = new HashMap<>();
+            for (Map.Entry<Pair<BinaryRow, Integer>, List<IndexFileMeta>> entry :
+                    bucketFiles.entrySet()) {
+                accumulateDeletionNum(
+                        result,
+                        entry.getKey().getLeft(),
+                        DeletionVectorsIndexFile.mergeDvRanges(entry.getValue()).values());
             }
             return result;
         }
 
         private void accumulateDeletionNum(
-                Map<BinaryRow, Long> result, BinaryRow partition, IndexFileMeta indexFile) {
+                Map<BinaryRow, Long> result,
+                BinaryRow partition,
+                Collection<Pair<IndexFileMeta, DeletionVectorMeta>> dvRanges) {
             if (result.containsKey(partition) && result.get(partition) == null) {
                 return;
             }
 
-            LinkedHashMap<String, DeletionVectorMeta> dvRanges = indexFile.dvRanges();
-            if (dvRanges == null || dvRanges.isEmpty()) {
+            if (dvRanges.isEmpty()) {
                 return;
             }
 
             long count = result.getOrDefault(partition, 0L);
-            for (DeletionVectorMeta dvMeta : dvRanges.values()) {
-                Long cardinality = dvMeta.cardinality();
+            for (Pair<IndexFileMeta, DeletionVectorMeta> dvRange : dvRanges) {
+                Long cardinality = dvRange.getRight().cardinality();
                 if (cardinality == null) {
                     result.put(partition.copy(), null);
                     return;
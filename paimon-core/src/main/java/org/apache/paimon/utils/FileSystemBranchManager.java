@@ -201,6 +201,7 @@ public class FileSystemBranchManager implements BranchManager {
 
             // Delete latest snapshot hint
             snapshotManager.deleteLatestHint();
+            snapshotManager.deleteTimeline();
 
             fileIO.deleteFilesQuietly(deletePaths);
             fileIO.copyFiles(
@@ -57,13 +57,31 @@ public class ManifestReadThreadPool {
             Function<U, List<T>> processor, List<U> input, @Nullable Integer threadNum) {
         threadNum = normalizeThreadNum(threadNum);
         ExecutorService executor = getExecutorService(threadNum);
-        if (threadNum == null) {
-            threadNum =
-                    executor instanceof ThreadPoolExecutor
-                            ? ((ThreadPoolExecutor) executor).getMaximumPoolSize()
-                            : ((SemaphoredDelegatingExecutor) executor).getPermitCount();
+        return ThreadPoolUtils.sequentialBatchedExecute(
+                executor, processor, input, threadNum(executor, threadNum));
+    }
+
+    /**
+     * This method aims to parallel process tasks in a pipelined way and return values sequentially.
+     * At most twice the thread number of inputs are processed ahead of the consumer, so the threads
+     * never wait for a whole batch to be consumed. This only bounds memory if the consumer does not
+     * collect all results.
+     */
+    public static <T, U> Iterator<T> sequentialPipelinedExecute(
+            Function<U, List<T>> processor, List<U> input, @Nullable Integer threadNum) {
+        threadNum = normalizeThreadNum(threadNum);
+        ExecutorService executor = getExecutorService(threadNum);
+        return ThreadPoolUtils.sequentialPipelinedExecute(
+                executor, processor, input, 2 * threadNum(executor, threadNum));
+    }
+
+    private static int threadNum(ExecutorService executor, @Nullable Integer threadNum) {
+        if (threadNum != null) {
+            return threadNum;
         }
-        return ThreadPoolUtils.sequentialBatchedExecute(executor, processor, input, threadNum);
+        return executor instanceof ThreadPoolExecutor
+                ? ((ThreadPoolExecutor) executor).getMaximumPoolSize()
+                : ((SemaphoredDelegatingExecutor) executor).getPermitCount();
     }
 
     private static @Nullable Integer normalizeThreadNum(@Nullable Integer threadNum) {
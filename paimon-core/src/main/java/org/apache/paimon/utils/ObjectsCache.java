@@ -39,6 +39,7 @@ public abstract class ObjectsCache<K, V, S extends Segments> {
 
     protected final SegmentsCache<K> cache;
     protected final ObjectSerializer<V> projectedSerializer;
+    protected final RowType formatSchema;
     protected final ThreadLocal<InternalRowSerializer> formatSerializer;
     protected final FunctionWithIOException<K, Long> fileSizeFunction;
     protected final BiFunctionWithIOE<K, Long, CloseableIterator<InternalRow>> reader;
@@ -53,6 +54,7 @@ public abstract class ObjectsCache<K, V, S extends Segments> {
             BiFunctionWithIOE<K, Long, CloseableIterator<InternalRow>> reader) {
         this.cache = cache;
         this.projectedSerializer = projectedSerializer;
+        this.formatSchema = formatSchema;
         this.formatSerializer =
                 ThreadLocal.withInitial(() -> new InternalRowSerializer(formatSchema));
         this.fileSizeFunction = fileSizeFunction;
@@ -99,6 +101,25 @@ public abstract class ObjectsCache<K, V, S extends Segments> {
         }
     }
 
+    /**
+     * Reads the rows to create segments from. If the cache has a disk tier, the rows are served
+     * from local disk when present, otherwise they are read from the file and stored to disk.
+     */
+    protected CloseableIterator<InternalRow> readRows(K key, @Nullable Long fileSize)
+            throws Exception {
+        SegmentsDiskCache diskCache = cache.diskCache();
+        if (diskCache == null || fileSize == null) {
+            return reader.apply(key, fileSize);
+        }
+
+        CloseableIterator<InternalRow> rows = diskCache.read(key, fileSize, formatSchema);
+        if (rows != null) {
+            return rows;
+        }
+        return diskCache.write(
+                key, fileSize, formatSchema, formatSerializer.get(), reader.apply(key, fileSize));
+    }
+
     protected abstract <R> List<R> readFromSegments(
             S segments, Filters<V> filters, Function<V, R> convertor) throws IOException;
 
@@ -41,6 +41,7 @@ public class SegmentsCache<T> {
     private final long maxElementSize;
     @Nullable private final Duration expireAfterAccess;
     private final boolean softValues;
+    @Nullable private SegmentsDiskCache diskCache;
 
     public SegmentsCache(int pageSize, MemorySize maxMemorySize, long maxElementSize) {
         this(pageSize, maxMemorySize, maxElementSize, null, true);
@@ -97,6 +98,17 @@ public class SegmentsCache<T> {
         return softValues;
     }
 
+    /** Adds a local disk tier which survives restarts, only for caching immutable files. */
+    public SegmentsCache<T> withDiskCache(@Nullable SegmentsDiskCache diskCache) {
+        this.diskCache = diskCache;
+        return this;
+    }
+
+    @Nullable
+    public SegmentsDiskCache diskCache() {
+        return diskCache;
+    }
+
     @Nullable
     public Segments getIfPresents(T key) {
         return cache.getIfPresent(key);
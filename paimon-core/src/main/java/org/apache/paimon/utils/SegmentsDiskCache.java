@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.cache.LocalDiskCacheManager;
+import org.apache.paimon.fs.cache.LocalDiskCacheManager.BlockOutputStream;
+import org.apache.paimon.io.DataInputViewStreamWrapper;
+import org.apache.paimon.io.DataOutputViewStreamWrapper;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySegmentUtils;
+import org.apache.paimon.types.RowType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Local disk tier of {@link SegmentsCache}. Immutable files (for example manifests) are stored in
+ * their decoded binary row form, keyed by file name and file size, so they can be reloaded after a
+ * restart without downloading and decoding the original file again.
+ *
+ * <p>Rows are streamed from and to the cache files, so a file is never held in memory as a whole.
+ * The header stores the row type the rows were written with, files written with another row type
+ * are ignored.
+ *
+ * <p>The cache directory must not be used by several processes at the same time, see {@link
+ * LocalDiskCacheManager}.
+ */
+public class SegmentsDiskCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentsDiskCache.class);
+
+    private static final int MAGIC = 0x50534443;
+    private static final int VERSION = 2;
+
+    private final LocalDiskCacheManager diskCache;
+
+    public SegmentsDiskCache(String cacheDir, long maxSizeBytes) {
+        // files are always stored as a single block
+        this.diskCache = new LocalDiskCacheManager(cacheDir, maxSizeBytes, Integer.MAX_VALUE);
+    }
+
+    /** Returns the cached rows of the file, or null if absent or written with another type. */
+    @Nullable
+    public CloseableIterator<InternalRow> read(Object key, long fileSize, RowType rowType) {
+        InputStream stream = diskCache.openBlock(diskKey(key, fileSize), 0);
+        if (stream == null) {
+            return null;
+        }
+
+        DataInputViewStreamWrapper in =
+                new DataInputViewStreamWrapper(new BufferedInputStream(stream));
+        try {
+            if (in.readInt() != MAGIC
+                    || in.readInt() != VERSION
+                    || !in.readUTF().equals(rowType.asSQLString())) {
+                in.close();
+                return null;
+            }
+        } catch (IOException e) {
+            LOG.debug("Failed to read disk cached segments of {}.", key, e);
+            closeQuietly(in);
+            return null;
+        }
+        return new RowIterator(in, rowType.getFieldCount());
+    }
+
+    /**
+     * Returns an iterator over the rows of the given iterator, which stores them to the disk cache
+     * while they are consumed. The file is only added to the cache if all rows are consumed.
+     */
+    public CloseableIterator<InternalRow> write(
+            Object key,
+            long fileSize,
+            RowType rowType,
+            InternalRowSerializer serializer,
+            CloseableIterator<InternalRow> iterator)
+            throws IOException {
+        BlockOutputStream stream = diskCache.newBlockOutputStream(diskKey(key, fileSize), 0);
+        if (stream == null) {
+            return iterator;
+        }
+
+        DataOutputViewStreamWrapper out = new DataOutputViewStreamWrapper(stream);
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(rowType.asSQLString());
+        } catch (IOException e) {
+            LOG.debug("Failed to write disk cached segments of {}.", key, e);
+            closeQuietly(stream);
+            return iterator;
+        }
+        return new CloseableIterator<InternalRow>() {
+
+            @Override
+            public boolean hasNext() {
+                if (iterator.hasNext()) {
+                    return true;
+                }
+                try {
+                    stream.commit();
+                } catch (IOException e) {
+                    LOG.debug("Failed to write disk cached segments of {}.", key, e);
+                }
+                return false;
+            }
+
+            @Override
+            public InternalRow next() {
+                InternalRow row = iterator.next();
+                BinaryRow binaryRow = serializer.toBinaryRow(row);
+                try {
+                    out.writeInt(binaryRow.getSizeInBytes());
+                    MemorySegmentUtils.copyToView(
+                            binaryRow.getSegments(),
+                            binaryRow.getOffset(),
+                            binaryRow.getSizeInBytes(),
+                            out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return row;
+            }
+
+            @Override
+            public void close() throws Exception {
+                try {
+                    iterator.close();
+                } finally {
+                    // discards the file if not all rows have been consumed
+                    stream.close();
+                }
+            }
+        };
+    }
+
+    private static String diskKey(Object key, long fileSize) {
+        String name = key instanceof Path ? ((Path) key).getName() : key.toString();
+        return name + ":" + fileSize;
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+        }
+    }
+
+    /** Iterator reading the rows of a cache file one by one. */
+    private static class RowIterator implements CloseableIterator<InternalRow> {
+
+        private final DataInputViewStreamWrapper in;
+        private final int arity;
+
+        @Nullable private BinaryRow next;
+        private boolean end;
+
+        private RowIterator(DataInputViewStreamWrapper in, int arity) {
+            this.in = in;
+            this.arity = arity;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !end) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    end = true;
+                    return false;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                byte[] bytes = new byte[length];
+                try {
+                    in.readFully(bytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                next = new BinaryRow(arity);
+                next.pointTo(MemorySegment.wrap(bytes), 0, length);
+            }
+            return next != null;
+        }
+
+        @Override
+        public InternalRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BinaryRow row = next;
+            next = null;
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
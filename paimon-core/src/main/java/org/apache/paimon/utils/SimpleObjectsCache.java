@@ -68,7 +68,7 @@ public class SimpleObjectsCache<K, V> extends ObjectsCache<K, V, Segments> {
     @Override
     protected Segments createSegments(K key, @Nullable Long fileSize) {
         InternalRowSerializer formatSerializer = this.formatSerializer.get();
-        try (CloseableIterator<InternalRow> iterator = reader.apply(key, fileSize)) {
+        try (CloseableIterator<InternalRow> iterator = readRows(key, fileSize)) {
             ArrayList<MemorySegment> segments = new ArrayList<>();
             MemorySegmentSource segmentSource =
                     () -> MemorySegment.allocateHeapMemory(cache.pageSize());
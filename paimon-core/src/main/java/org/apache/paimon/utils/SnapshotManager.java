@@ -41,8 +41,10 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -115,6 +117,10 @@ public class SnapshotManager implements Serializable {
         return new Path(branchPath(tablePath, branch) + "/snapshot");
     }
 
+    public Path timelinePath() {
+        return new Path(snapshotDirectory(), SnapshotTimeline.TIMELINE);
+    }
+
     public void invalidateCache() {
         if (cache != null) {
             cache.invalidateAll();
@@ -297,6 +303,11 @@ public class SnapshotManager implements Serializable {
      * mills. If there is no such a snapshot, returns null.
      */
     public @Nullable Snapshot earlierOrEqualTimeMills(long timestampMills) {
+        return searchSnapshot(timeline -> earlierOrEqualTimeMills(timestampMills, timeline));
+    }
+
+    private @Nullable SnapshotTimeline.Entry earlierOrEqualTimeMills(
+            long timestampMills, @Nullable SnapshotTimeline timeline) {
         Long latest = latestSnapshotId();
         if (latest == null) {
             return null;
@@ -308,10 +319,10 @@ public class SnapshotManager implements Serializable {
         }
         long earliest = earliestSnapShot.id();
 
-        Snapshot finalSnapshot = null;
+        SnapshotTimeline.Entry finalSnapshot = null;
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
+            SnapshotTimeline.Entry snapshot = entry(mid, timeline);
             long commitTime = snapshot.timeMillis();
             if (commitTime > timestampMills) {
                 latest = mid - 1; // Search in the left half
@@ -331,6 +342,11 @@ public class SnapshotManager implements Serializable {
      * If there is no such a snapshot, returns null.
      */
     public @Nullable Snapshot laterOrEqualTimeMills(long timestampMills) {
+        return searchSnapshot(timeline -> laterOrEqualTimeMills(timestampMills, timeline));
+    }
+
+    private @Nullable SnapshotTimeline.Entry laterOrEqualTimeMills(
+            long timestampMills, @Nullable SnapshotTimeline timeline) {
         Long earliest = earliestSnapshotId();
         Long latest = latestSnapshotId();
         if (earliest == null || latest == null) {
@@ -341,10 +357,10 @@ public class SnapshotManager implements Serializable {
         if (latestSnapShot.timeMillis() < timestampMills) {
             return null;
         }
-        Snapshot finalSnapshot = null;
+        SnapshotTimeline.Entry finalSnapshot = null;
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
+            SnapshotTimeline.Entry snapshot = entry(mid, timeline);
             long commitTime = snapshot.timeMillis();
             if (commitTime > timestampMills) {
                 latest = mid - 1; // Search in the left half
@@ -360,6 +376,11 @@ public class SnapshotManager implements Serializable {
     }
 
     public @Nullable Snapshot earlierOrEqualWatermark(long watermark) {
+        return searchSnapshot(timeline -> earlierOrEqualWatermark(watermark, timeline));
+    }
+
+    private @Nullable SnapshotTimeline.Entry earlierOrEqualWatermark(
+            long watermark, @Nullable SnapshotTimeline timeline) {
         Long latest = latestSnapshotId();
         // If latest == Long.MIN_VALUE don't need next binary search for watermark
         // which can reduce IO cost with snapshot
@@ -378,7 +399,7 @@ public class SnapshotManager implements Serializable {
         if ((earliestWatermark = earliestSnapShot.watermark()) == null) {
             while (earliest < latest) {
                 earliest++;
-                earliestWatermark = snapshot(earliest).watermark();
+                earliestWatermark = entry(earliest, timeline).watermark();
                 if (earliestWatermark != null) {
                     break;
                 }
@@ -389,19 +410,19 @@ public class SnapshotManager implements Serializable {
         }
 
         if (earliestWatermark >= watermark) {
-            return snapshot(earliest);
+            return entry(earliest, timeline);
         }
-        Snapshot finalSnapshot = null;
+        SnapshotTimeline.Entry finalSnapshot = null;
 
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
+            SnapshotTimeline.Entry snapshot = entry(mid, timeline);
             Long commitWatermark = snapshot.watermark();
             if (commitWatermark == null) {
                 // find the first snapshot with watermark
                 while (mid >= earliest) {
                     mid--;
-                    commitWatermark = snapshot(mid).watermark();
+                    commitWatermark = entry(mid, timeline).watermark();
                     if (commitWatermark != null) {
                         break;
                     }
@@ -425,6 +446,11 @@ public class SnapshotManager implements Serializable {
     }
 
     public @Nullable Snapshot laterOrEqualWatermark(long watermark) {
+        return searchSnapshot(timeline -> laterOrEqualWatermark(watermark, timeline));
+    }
+
+    private @Nullable SnapshotTimeline.Entry laterOrEqualWatermark(
+            long watermark, @Nullable SnapshotTimeline timeline) {
         Long latest = latestSnapshotId();
         // If latest == Long.MIN_VALUE don't need next binary search for watermark
         // which can reduce IO cost with snapshot
@@ -443,7 +469,7 @@ public class SnapshotManager implements Serializable {
         if ((earliestWatermark = earliestSnapShot.watermark()) == null) {
             while (earliest < latest) {
                 earliest++;
-                earliestWatermark = snapshot(earliest).watermark();
+                earliestWatermark = entry(earliest, timeline).watermark();
                 if (earliestWatermark != null) {
                     break;
                 }
@@ -454,19 +480,19 @@ public class SnapshotManager implements Serializable {
         }
 
         if (earliestWatermark >= watermark) {
-            return snapshot(earliest);
+            return entry(earliest, timeline);
         }
-        Snapshot finalSnapshot = null;
+        SnapshotTimeline.Entry finalSnapshot = null;
 
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
+            SnapshotTimeline.Entry snapshot = entry(mid, timeline);
             Long commitWatermark = snapshot.watermark();
             if (commitWatermark == null) {
                 // find the first snapshot with watermark
                 while (mid >= earliest) {
                     mid--;
-                    commitWatermark = snapshot(mid).watermark();
+                    commitWatermark = entry(mid, timeline).watermark();
                     if (commitWatermark != null) {
                         break;
                     }
@@ -489,6 +515,68 @@ public class SnapshotManager implements Serializable {
         return finalSnapshot;
     }
 
+    /**
+     * Runs a snapshot search against the {@link SnapshotTimeline} if there is one, so that probes
+     * of indexed snapshots are served in memory. The resolved snapshot is verified against its
+     * snapshot file, and the search is repeated on snapshot files only if the timeline is stale.
+     */
+    private @Nullable Snapshot searchSnapshot(
+            Function<SnapshotTimeline, SnapshotTimeline.Entry> search) {
+        SnapshotTimeline timeline = readValidTimeline();
+        if (timeline != null) {
+            SnapshotTimeline.Entry entry = search.apply(timeline);
+            if (entry == null) {
+                return null;
+            }
+            Snapshot snapshot = snapshot(entry.id());
+            if (entry.matches(snapshot)) {
+                return snapshot;
+            }
+            LOG.warn(
+                    "Snapshot timeline in {} is stale, fall back to snapshot files.",
+                    snapshotDirectory());
+        }
+
+        SnapshotTimeline.Entry entry = search.apply(null);
+        return entry == null ? null : snapshot(entry.id());
+    }
+
+    /**
+     * Reads the {@link SnapshotTimeline} and checks its last entry against the snapshot files, so
+     * that a timeline left behind by a rollback is not used.
+     */
+    private @Nullable SnapshotTimeline readValidTimeline() {
+        SnapshotTimeline timeline = readTimeline();
+        if (timeline == null) {
+            return null;
+        }
+
+        long lastId = timeline.lastSnapshotId();
+        Long latestId = latestSnapshotId();
+        if (latestId == null || lastId > latestId) {
+            return null;
+        }
+        try {
+            if (timeline.entry(lastId).matches(tryGetSnapshot(lastId))) {
+                return timeline;
+            }
+        } catch (FileNotFoundException ignored) {
+            // all indexed snapshots are expired
+            return null;
+        }
+
+        LOG.warn(
+                "Snapshot timeline in {} is stale, fall back to snapshot files.",
+                snapshotDirectory());
+        return null;
+    }
+
+    private SnapshotTimeline.Entry entry(long snapshotId, @Nullable SnapshotTimeline timeline) {
+        return timeline != null && timeline.contains(snapshotId)
+                ? timeline.entry(snapshotId)
+                : SnapshotTimeline.Entry.of(snapshot(snapshotId));
+    }
+
     public long snapshotCount() throws IOException {
         return snapshotIdStream().count();
     }
@@ -639,6 +727,24 @@ public class SnapshotManager implements Serializable {
         if (identifiers.isEmpty()) {
             return Collections.emptyList();
         }
+
+        SnapshotTimeline timeline = readValidTimeline();
+        if (timeline != null) {
+            List<Snapshot> matchedSnapshots =
+                    findSnapshotsForIdentifiers(user, identifiers, timeline);
+            if (matchedSnapshots != null) {
+                return matchedSnapshots;
+            }
+            LOG.warn(
+                    "Snapshot timeline in {} is stale, fall back to snapshot files.",
+                    snapshotDirectory());
+        }
+        return findSnapshotsForIdentifiers(user, identifiers, null);
+    }
+
+    /** Returns null if the timeline disagrees with a matched snapshot file. */
+    private @Nullable List<Snapshot> findSnapshotsForIdentifiers(
+            String user, List<Long> identifiers, @Nullable SnapshotTimeline timeline) {
         Long latestId = latestSnapshotId();
         if (latestId == null) {
             return Collections.emptyList();
@@ -653,12 +759,16 @@ public class SnapshotManager implements Serializable {
         List<Snapshot> matchedSnapshots = new ArrayList<>();
         Set<Long> remainingIdentifiers = new HashSet<>(identifiers);
         for (long id = latestId; id >= earliestId && !remainingIdentifiers.isEmpty(); id--) {
-            Snapshot snapshot = snapshot(id);
-            if (user.equals(snapshot.commitUser())) {
-                if (remainingIdentifiers.remove(snapshot.commitIdentifier())) {
+            SnapshotTimeline.Entry entry = entry(id, timeline);
+            if (user.equals(entry.commitUser())) {
+                if (remainingIdentifiers.remove(entry.commitIdentifier())) {
+                    Snapshot snapshot = snapshot(id);
+                    if (!entry.matches(snapshot)) {
+                        return null;
+                    }
                     matchedSnapshots.add(snapshot);
                 }
-                if (snapshot.commitIdentifier() <= minSearchedIdentifier) {
+                if (entry.commitIdentifier() <= minSearchedIdentifier) {
                     break;
                 }
             }
@@ -749,6 +859,100 @@ public class SnapshotManager implements Serializable {
         HintFileUtils.commitEarliestHint(fileIO, snapshotId, snapshotDirectory());
     }
 
+    /** Reads the {@link SnapshotTimeline}, returns null if it does not exist or is unreadable. */
+    public @Nullable SnapshotTimeline readTimeline() {
+        try {
+            return fileIO.readOverwrittenFileUtf8(timelinePath())
+                    .map(SnapshotTimeline::fromJson)
+                    .orElse(null);
+        } catch (Exception e) {
+            LOG.warn("Failed to read snapshot timeline in {}.", snapshotDirectory(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Extends the {@link SnapshotTimeline} up to the given committed snapshot, dropping expired
+     * snapshots. Snapshots which are not indexed yet are read from their snapshot files, at most
+     * {@code maxReads} of them: the newest snapshots first, the rest of the budget is used to index
+     * older snapshots, so that the history of an existing table is indexed over several updates.
+     */
+    public void commitTimeline(long snapshotId, int maxReads) throws IOException {
+        Long earliestId = earliestSnapshotId();
+        if (earliestId == null || earliestId > snapshotId) {
+            return;
+        }
+
+        SnapshotTimeline timeline = readTimeline();
+        if (timeline != null && timeline.lastSnapshotId() >= snapshotId) {
+            // already written by a later commit
+            return;
+        }
+
+        List<SnapshotTimeline.Entry> indexed = new ArrayList<>();
+        long tailFrom;
+        if (timeline != null
+                && timeline.lastSnapshotId() >= earliestId - 1
+                && snapshotId - timeline.lastSnapshotId() <= maxReads) {
+            for (long id = Math.max(earliestId, timeline.firstSnapshotId());
+                    id <= timeline.lastSnapshotId();
+                    id++) {
+                indexed.add(timeline.entry(id));
+            }
+            tailFrom = timeline.lastSnapshotId() + 1;
+        } else {
+            tailFrom = Math.max(earliestId, snapshotId - maxReads + 1);
+        }
+        long headTo = (indexed.isEmpty() ? tailFrom : indexed.get(0).id()) - 1;
+        long headFrom = Math.max(earliestId, headTo - (maxReads - (snapshotId - tailFrom + 1)) + 1);
+
+        List<Path> paths =
+                LongStream.concat(
+                                LongStream.rangeClosed(headFrom, headTo),
+                                LongStream.rangeClosed(tailFrom, snapshotId))
+                        .mapToObj(this::snapshotPath)
+                        .collect(Collectors.toList());
+        Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+        collectSnapshots(
+                path -> {
+                    try {
+                        Snapshot snapshot = tryFromPath(fileIO, path);
+                        snapshots.put(snapshot.id(), snapshot);
+                    } catch (FileNotFoundException ignored) {
+                    }
+                },
+                paths);
+
+        List<SnapshotTimeline.Entry> entries = new ArrayList<>();
+        addContiguousEntries(headFrom, headTo, snapshots, entries);
+        entries.addAll(indexed);
+        addContiguousEntries(tailFrom, snapshotId, snapshots, entries);
+        if (!entries.isEmpty()) {
+            fileIO.overwriteFileUtf8(
+                    timelinePath(), SnapshotTimeline.of(entries.get(0).id(), entries).toJson());
+        }
+    }
+
+    private static void addContiguousEntries(
+            long from,
+            long to,
+            Map<Long, Snapshot> snapshots,
+            List<SnapshotTimeline.Entry> entries) {
+        for (long id = from; id <= to; id++) {
+            Snapshot snapshot = snapshots.get(id);
+            if (snapshot == null) {
+                // expired concurrently, only keep the contiguous snapshots after it
+                entries.clear();
+            } else {
+                entries.add(SnapshotTimeline.Entry.of(snapshot));
+            }
+        }
+    }
+
+    public void deleteTimeline() {
+        fileIO.deleteQuietly(timelinePath());
+    }
+
     public static Snapshot fromPath(FileIO fileIO, Path path) {
         try {
             return tryFromPath(fileIO, path);
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.Snapshot;
+
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonCreator;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonGetter;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact index over a contiguous range of snapshots, holding the few snapshot fields needed by
+ * time-travel and commit-identifier lookups. It is stored as a single {@link #TIMELINE} file in the
+ * snapshot directory, so readers can resolve these lookups in memory after one read instead of
+ * probing snapshot files one by one.
+ *
+ * <p>The index is only a hint: it may lag behind the latest snapshot, may still contain expired
+ * snapshots, and may be stale after a rollback. Readers must only consult it for snapshot ids that
+ * currently exist and must verify the snapshot they finally resolve.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SnapshotTimeline {
+
+    public static final String TIMELINE = "TIMELINE";
+
+    private static final int CURRENT_VERSION = 1;
+
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_FIRST_SNAPSHOT_ID = "firstSnapshotId";
+    private static final String FIELD_COMMIT_USERS = "commitUsers";
+    private static final String FIELD_TIME_MILLIS = "timeMillis";
+    private static final String FIELD_WATERMARKS = "watermarks";
+    private static final String FIELD_COMMIT_USER_INDEXES = "commitUserIndexes";
+    private static final String FIELD_COMMIT_IDENTIFIERS = "commitIdentifiers";
+
+    private final long firstSnapshotId;
+    private final List<String> commitUsers;
+    private final long[] timeMillis;
+    private final Long[] watermarks;
+    private final int[] commitUserIndexes;
+    private final long[] commitIdentifiers;
+
+    @JsonCreator
+    public SnapshotTimeline(
+            @JsonProperty(FIELD_VERSION) int version,
+            @JsonProperty(FIELD_FIRST_SNAPSHOT_ID) long firstSnapshotId,
+            @JsonProperty(FIELD_COMMIT_USERS) List<String> commitUsers,
+            @JsonProperty(FIELD_TIME_MILLIS) long[] timeMillis,
+            @JsonProperty(FIELD_WATERMARKS) Long[] watermarks,
+            @JsonProperty(FIELD_COMMIT_USER_INDEXES) int[] commitUserIndexes,
+            @JsonProperty(FIELD_COMMIT_IDENTIFIERS) long[] commitIdentifiers) {
+        Preconditions.checkArgument(
+                version == CURRENT_VERSION, "Unsupported snapshot timeline version %s.", version);
+        Preconditions.checkArgument(
+                timeMillis.length == watermarks.length
+                        && timeMillis.length == commitUserIndexes.length
+                        && timeMillis.length == commitIdentifiers.length,
+                "Corrupted snapshot timeline, columns have different lengths.");
+        this.firstSnapshotId = firstSnapshotId;
+        this.commitUsers = commitUsers;
+        this.timeMillis = timeMillis;
+        this.watermarks = watermarks;
+        this.commitUserIndexes = commitUserIndexes;
+        this.commitIdentifiers = commitIdentifiers;
+    }
+
+    @JsonGetter(FIELD_VERSION)
+    public int version() {
+        return CURRENT_VERSION;
+    }
+
+    @JsonGetter(FIELD_FIRST_SNAPSHOT_ID)
+    public long firstSnapshotId() {
+        return firstSnapshotId;
+    }
+
+    @JsonGetter(FIELD_COMMIT_USERS)
+    public List<String> commitUsers() {
+        return commitUsers;
+    }
+
+    @JsonGetter(FIELD_TIME_MILLIS)
+    public long[] timeMillis() {
+        return timeMillis;
+    }
+
+    @JsonGetter(FIELD_WATERMARKS)
+    public Long[] watermarks() {
+        return watermarks;
+    }
+
+    @JsonGetter(FIELD_COMMIT_USER_INDEXES)
+    public int[] commitUserIndexes() {
+        return commitUserIndexes;
+    }
+
+    @JsonGetter(FIELD_COMMIT_IDENTIFIERS)
+    public long[] commitIdentifiers() {
+        return commitIdentifiers;
+    }
+
+    /** Id of the last snapshot in this timeline, {@code firstSnapshotId - 1} if it is empty. */
+    public long lastSnapshotId() {
+        return firstSnapshotId + timeMillis.length - 1;
+    }
+
+    public boolean contains(long snapshotId) {
+        return snapshotId >= firstSnapshotId && snapshotId <= lastSnapshotId();
+    }
+
+    /** Returns the entry of the given snapshot id, which must be {@link #contains contained}. */
+    public Entry entry(long snapshotId) {
+        int i = Math.toIntExact(snapshotId - firstSnapshotId);
+        return new Entry(
+                snapshotId,
+                timeMillis[i],
+                watermarks[i],
+                commitUsers.get(commitUserIndexes[i]),
+                commitIdentifiers[i]);
+    }
+
+    public String toJson() {
+        return JsonSerdeUtil.toFlatJson(this);
+    }
+
+    public static SnapshotTimeline fromJson(String json) {
+        return JsonSerdeUtil.fromJson(json, SnapshotTimeline.class);
+    }
+
+    /** Builds a {@link SnapshotTimeline} from contiguous entries in ascending snapshot id order. */
+    public static SnapshotTimeline of(long firstSnapshotId, List<Entry> entries) {
+        List<String> commitUsers = new ArrayList<>();
+        Map<String, Integer> userIndexes = new HashMap<>();
+        int size = entries.size();
+        long[] timeMillis = new long[size];
+        Long[] watermarks = new Long[size];
+        int[] commitUserIndexes = new int[size];
+        long[] commitIdentifiers = new long[size];
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries.get(i);
+            Preconditions.checkArgument(
+                    entry.id() == firstSnapshotId + i,
+                    "Snapshot timeline entries must be contiguous, expected snapshot %s but got %s.",
+                    firstSnapshotId + i,
+                    entry.id());
+            timeMillis[i] = entry.timeMillis();
+            watermarks[i] = entry.watermark();
+            commitUserIndexes[i] =
+                    userIndexes.computeIfAbsent(
+                            entry.commitUser(),
+                            user -> {
+                                commitUsers.add(user);
+                                return commitUsers.size() - 1;
+                            });
+            commitIdentifiers[i] = entry.commitIdentifier();
+        }
+        return new SnapshotTimeline(
+                CURRENT_VERSION,
+                firstSnapshotId,
+                commitUsers,
+                timeMillis,
+                watermarks,
+                commitUserIndexes,
+                commitIdentifiers);
+    }
+
+    /** The indexed fields of one snapshot. */
+    public static class Entry {
+
+        private final long id;
+        private final long timeMillis;
+        @Nullable private final Long watermark;
+        private final String commitUser;
+        private final long commitIdentifier;
+
+        public Entry(
+                long id,
+                long timeMillis,
+                @Nullable Long watermark,
+                String commitUser,
+                long commitIdentifier) {
+            this.id = id;
+            this.timeMillis = timeMillis;
+            this.watermark = watermark;
+            this.commitUser = commitUser;
+            this.commitIdentifier = commitIdentifier;
+        }
+
+        public static Entry of(Snapshot snapshot) {
+            return new Entry(
+                    snapshot.id(),
+                    snapshot.timeMillis(),
+                    snapshot.watermark(),
+                    snapshot.commitUser(),
+                    snapshot.commitIdentifier());
+        }
+
+        public long id() {
+            return id;
+        }
+
+        public long timeMillis() {
+            return timeMillis;
+        }
+
+        @Nullable
+        public Long watermark() {
+            return watermark;
+        }
+
+        public String commitUser() {
+            return commitUser;
+        }
+
+        public long commitIdentifier() {
+            return commitIdentifier;
+        }
+
+        /** Whether this entry still describes the given snapshot. */
+        public boolean matches(Snapshot snapshot) {
+            return id == snapshot.id()
+                    && timeMillis == snapshot.timeMillis()
+                    && commitIdentifier == snapshot.commitIdentifier()
+                    && commitUser.equals(snapshot.commitUser());
+        }
+    }
+}
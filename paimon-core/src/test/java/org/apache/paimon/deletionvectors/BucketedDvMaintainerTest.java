@@ -283,14 +283,116 @@ public class BucketedDvMaintainerTest extends PrimaryKeyTableTestBase {
         assertThat(dvs.get("f3").getCardinality()).isEqualTo(2);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testDeltaIndexFile(boolean bitmap64) {
+        initIndexHandler(bitmap64, "1 mb");
+        BucketedDvMaintainer.Factory factory = BucketedDvMaintainer.factory(fileHandler);
+
+        // the first writing is always full
+        BucketedDvMaintainer dvMaintainer = factory.create(partition, 0, emptyList());
+        dvMaintainer.notifyNewDeletion("f1", 1);
+        dvMaintainer.notifyNewDeletion("f2", 2);
+        IndexFileMeta fullFile = dvMaintainer.writeDeletionVectorsIndex().get();
+        assertThat(DeletionVectorsIndexFile.isDeltaFile(fullFile)).isFalse();
+        commitIndexFile(fullFile);
+
+        // only changed deletion vectors are written into the delta
+        dvMaintainer = factory.create(partition, 0, scanIndexFiles());
+        dvMaintainer.notifyNewDeletion("f1", 3);
+        dvMaintainer.removeDeletionVectorOf("f2");
+        dvMaintainer.notifyNewDeletion("f3", 4);
+        IndexFileMeta deltaFile = dvMaintainer.writeDeletionVectorsIndex().get();
+        assertThat(DeletionVectorsIndexFile.isDeltaFile(deltaFile)).isTrue();
+        assertThat(deltaFile.dvRanges()).containsOnlyKeys("f1", "f2", "f3");
+        assertThat(deltaFile.dvRanges().get("f2").cardinality()).isEqualTo(0);
+        commitIndexFile(deltaFile);
+
+        List<IndexFileMeta> indexFiles = scanIndexFiles();
+        assertThat(indexFiles).containsExactlyInAnyOrder(fullFile, deltaFile);
+        Map<String, DeletionVector> deletionVectors =
+                fileHandler.readAllDeletionVectors(partition, 0, indexFiles);
+        assertThat(deletionVectors).containsOnlyKeys("f1", "f3");
+        assertThat(deletionVectors.get("f1").isDeleted(1)).isTrue();
+        assertThat(deletionVectors.get("f1").isDeleted(3)).isTrue();
+        assertThat(deletionVectors.get("f3").isDeleted(4)).isTrue();
+        assertThat(fileHandler.dvIndex(partition, 0).toDeletionFiles(indexFiles))
+                .containsOnlyKeys("f1", "f3");
+
+        // the next delta replaces the previous one and still contains all changes
+        dvMaintainer = factory.create(partition, 0, indexFiles);
+        assertThat(dvMaintainer.deletionVectors()).containsOnlyKeys("f1", "f3");
+        dvMaintainer.notifyNewDeletion("f3", 5);
+        IndexFileMeta deltaFile2 = dvMaintainer.writeDeletionVectorsIndex().get();
+        assertThat(DeletionVectorsIndexFile.isDeltaFile(deltaFile2)).isTrue();
+        assertThat(deltaFile2.dvRanges()).containsOnlyKeys("f1", "f2", "f3");
+        commitIndexFile(deltaFile2);
+        assertThat(scanIndexFiles()).containsExactlyInAnyOrder(fullFile, deltaFile2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testFoldDeltaIndexFile(boolean bitmap64) {
+        initIndexHandler(bitmap64, "1 b");
+        BucketedDvMaintainer.Factory factory = BucketedDvMaintainer.factory(fileHandler);
+
+        BucketedDvMaintainer dvMaintainer = factory.create(partition, 0, emptyList());
+        dvMaintainer.notifyNewDeletion("f1", 1);
+        commitIndexFile(dvMaintainer.writeDeletionVectorsIndex().get());
+
+        dvMaintainer.notifyNewDeletion("f2", 2);
+        IndexFileMeta deltaFile = dvMaintainer.writeDeletionVectorsIndex().get();
+        assertThat(DeletionVectorsIndexFile.isDeltaFile(deltaFile)).isTrue();
+        commitIndexFile(deltaFile);
+        assertThat(scanIndexFiles()).hasSize(2);
+
+        // the delta exceeds the threshold, so it is folded into a full file
+        dvMaintainer.notifyNewDeletion("f3", 3);
+        IndexFileMeta fullFile = dvMaintainer.writeDeletionVectorsIndex().get();
+        assertThat(DeletionVectorsIndexFile.isDeltaFile(fullFile)).isFalse();
+        assertThat(fullFile.dvRanges()).containsOnlyKeys("f1", "f2", "f3");
+        commitIndexFile(fullFile);
+        assertThat(scanIndexFiles()).containsExactly(fullFile);
+    }
+
+    private void commitIndexFile(IndexFileMeta file) {
+        CommitMessage commitMessage =
+                new CommitMessageImpl(
+                        partition,
+                        0,
+                        1,
+                        new DataIncrement(
+                                Collections.emptyList(),
+                                Collections.emptyList(),
+                                Collections.emptyList(),
+                                Collections.singletonList(file),
+                                Collections.emptyList()),
+                        CompactIncrement.emptyIncrement());
+        BatchTableCommit commit = table.newBatchWriteBuilder().newCommit();
+        commit.commit(Collections.singletonList(commitMessage));
+    }
+
+    private List<IndexFileMeta> scanIndexFiles() {
+        return fileHandler.scan(
+                table.snapshotManager().latestSnapshot(), DELETION_VECTORS_INDEX, partition, 0);
+    }
+
     private DeletionVector createDeletionVector(boolean bitmap64) {
         return bitmap64 ? new Bitmap64DeletionVector() : new BitmapDeletionVector();
     }
 
     private void initIndexHandler(boolean bitmap64) {
+        initIndexHandler(bitmap64, null);
+    }
+
+    private void initIndexHandler(boolean bitmap64, @Nullable String deltaThreshold) {
         Map<String, String> options = new HashMap<>();
 
         options.put(CoreOptions.DELETION_VECTOR_BITMAP64.key(), String.valueOf(bitmap64));
+        if (deltaThreshold != null) {
+            options.put(
+                    CoreOptions.DELETION_VECTOR_INDEX_FILE_DELTA_THRESHOLD.key(), deltaThreshold);
+        }
 
         table = table.copy(options);
         fileHandler = table.store().newIndexFileHandler();
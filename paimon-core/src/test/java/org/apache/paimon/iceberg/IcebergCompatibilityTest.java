@@ -456,6 +456,146 @@ public class IcebergCompatibilityTest {
         commit.close();
     }
 
+    @Test
+    public void testAsyncCreateMetadata() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT()}, new String[] {"k", "v"});
+        FileStoreTable table =
+                createPaimonTable(
+                        rowType,
+                        Collections.emptyList(),
+                        Collections.singletonList("k"),
+                        1,
+                        Collections.singletonMap(
+                                IcebergOptions.METADATA_ASYNC_ENABLED.key(), "true"));
+
+        String commitUser = UUID.randomUUID().toString();
+        TableWriteImpl<?> write = table.newWrite(commitUser);
+        TableCommitImpl commit = table.newCommit(commitUser);
+        write.write(GenericRow.of(1, 10));
+        write.write(GenericRow.of(2, 20));
+        commit.commit(1, write.prepareCommit(false, 1));
+        write.write(GenericRow.of(1, 11));
+        write.write(GenericRow.of(3, 30));
+        write.compact(BinaryRow.EMPTY_ROW, 0, true);
+        commit.commit(2, write.prepareCommit(true, 2));
+        write.close();
+        // closing the commit waits for the background thread
+        commit.close();
+
+        long icebergSnapshotId = table.snapshotManager().latestSnapshotId();
+        assertThat(getIcebergResult())
+                .containsExactlyInAnyOrder("Record(1, 11)", "Record(2, 20)", "Record(3, 30)");
+
+        // Iceberg metadata falls behind
+        FileStoreTable disabledTable =
+                table.copy(
+                        Collections.singletonMap(
+                                IcebergOptions.METADATA_ICEBERG_STORAGE.key(), "disabled"));
+        write = disabledTable.newWrite(commitUser);
+        commit = disabledTable.newCommit(commitUser);
+        write.write(GenericRow.of(2, 21));
+        write.compact(BinaryRow.EMPTY_ROW, 0, true);
+        commit.commit(3, write.prepareCommit(true, 3));
+        write.write(GenericRow.of(4, 40));
+        write.compact(BinaryRow.EMPTY_ROW, 0, true);
+        commit.commit(4, write.prepareCommit(true, 4));
+        write.close();
+        commit.close();
+        long disabledSnapshotId = table.snapshotManager().latestSnapshotId();
+
+        write = table.newWrite(commitUser);
+        commit = table.newCommit(commitUser);
+        write.write(GenericRow.of(5, 50));
+        write.compact(BinaryRow.EMPTY_ROW, 0, true);
+        commit.commit(5, write.prepareCommit(true, 5));
+        write.close();
+        commit.close();
+
+        // all snapshots since the last Iceberg snapshot are combined into one
+        long latestSnapshotId = table.snapshotManager().latestSnapshotId();
+        IcebergMetadata metadata =
+                IcebergMetadata.fromPath(
+                        table.fileIO(),
+                        new Path(
+                                table.location(),
+                                "metadata/v" + latestSnapshotId + ".metadata.json"));
+        assertThat(metadata.snapshots())
+                .noneMatch(
+                        snapshot ->
+                                snapshot.snapshotId() > icebergSnapshotId
+                                        && snapshot.snapshotId() <= disabledSnapshotId)
+                .anyMatch(
+                        snapshot ->
+                                snapshot.snapshotId() > disabledSnapshotId
+                                        && snapshot.parentSnapshotId() == icebergSnapshotId);
+        assertThat(getIcebergResult())
+                .containsExactlyInAnyOrder(
+                        "Record(1, 11)",
+                        "Record(2, 21)",
+                        "Record(3, 30)",
+                        "Record(4, 40)",
+                        "Record(5, 50)");
+    }
+
+    @Test
+    public void testAsyncCreateTag() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT()}, new String[] {"k", "v"});
+        FileStoreTable table =
+                createPaimonTable(
+                        rowType,
+                        Collections.emptyList(),
+                        Collections.singletonList("k"),
+                        1,
+                        Collections.singletonMap(
+                                IcebergOptions.METADATA_ASYNC_ENABLED.key(), "true"));
+
+        String commitUser = UUID.randomUUID().toString();
+        TableWriteImpl<?> write = table.newWrite(commitUser);
+        TableCommitImpl commit = table.newCommit(commitUser);
+        write.write(GenericRow.of(1, 10));
+        write.compact(BinaryRow.EMPTY_ROW, 0, true);
+        commit.commit(1, write.prepareCommit(true, 1));
+        write.close();
+        commit.close();
+
+        // Iceberg metadata falls behind, as if the background thread had not run yet
+        FileStoreTable disabledTable =
+                table.copy(
+                        Collections.singletonMap(
+                                IcebergOptions.METADATA_ICEBERG_STORAGE.key(), "disabled"));
+        write = disabledTable.newWrite(commitUser);
+        commit = disabledTable.newCommit(commitUser);
+        write.write(GenericRow.of(2, 20));
+        write.compact(BinaryRow.EMPTY_ROW, 0, true);
+        commit.commit(2, write.prepareCommit(true, 2));
+        long taggedSnapshotId = table.snapshotManager().latestSnapshotId();
+        write.write(GenericRow.of(3, 30));
+        write.compact(BinaryRow.EMPTY_ROW, 0, true);
+        commit.commit(3, write.prepareCommit(true, 3));
+        write.close();
+        commit.close();
+        long latestSnapshotId = table.snapshotManager().latestSnapshotId();
+
+        table.createTag("tag1", taggedSnapshotId);
+        Path latestMetadataPath =
+                new Path(table.location(), "metadata/v" + latestSnapshotId + ".metadata.json");
+        IcebergMetadata metadata = IcebergMetadata.fromPath(table.fileIO(), latestMetadataPath);
+        assertThat(metadata.refs()).containsKey("tag1");
+        assertThat(metadata.refs().get("tag1").snapshotId()).isEqualTo(taggedSnapshotId);
+        assertThat(metadata.snapshots())
+                .anyMatch(snapshot -> snapshot.snapshotId() == taggedSnapshotId);
+        assertThat(getIcebergResult())
+                .containsExactlyInAnyOrder("Record(1, 10)", "Record(2, 20)", "Record(3, 30)");
+
+        table.deleteTag("tag1");
+        metadata = IcebergMetadata.fromPath(table.fileIO(), latestMetadataPath);
+        assertThat(metadata.refs()).doesNotContainKey("tag1");
+    }
+
     @Test
     public void testSchemaChange() throws Exception {
         RowType rowType =
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.offheap;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.lookup.BulkLoader;
+import org.apache.paimon.lookup.ListBulkLoader;
+import org.apache.paimon.lookup.ListState;
+import org.apache.paimon.lookup.SetState;
+import org.apache.paimon.lookup.ValueBulkLoader;
+import org.apache.paimon.lookup.ValueState;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link OffHeapStateFactory}. */
+public class OffHeapStateFactoryTest {
+
+    private static final InternalRowSerializer INT_KEY = new InternalRowSerializer(DataTypes.INT());
+    private static final InternalRowSerializer STRING_KEY =
+            new InternalRowSerializer(DataTypes.STRING());
+    private static final InternalRowSerializer VALUE =
+            new InternalRowSerializer(DataTypes.INT(), DataTypes.STRING());
+
+    // small pages to exercise page switching and compaction
+    private final OffHeapStateFactory factory = new OffHeapStateFactory(4096);
+
+    @AfterEach
+    public void after() {
+        factory.close();
+    }
+
+    @Test
+    public void testValueStateRandomOperations() throws Exception {
+        innerTestValueState(INT_KEY, i -> GenericRow.of(i));
+        innerTestValueState(STRING_KEY, i -> GenericRow.of(BinaryString.fromString("key-" + i)));
+    }
+
+    private void innerTestValueState(
+            InternalRowSerializer keySerializer, IntFunction<InternalRow> key) throws Exception {
+        ValueState<InternalRow, InternalRow> state =
+                factory.valueState("value", keySerializer, VALUE, 0);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random();
+        for (int i = 0; i < 50_000; i++) {
+            int k = random.nextInt(5_000);
+            if (random.nextInt(4) == 0) {
+                state.delete(key.apply(k));
+                expected.remove(k);
+            } else {
+                int v = random.nextInt();
+                state.put(key.apply(k), GenericRow.of(v, BinaryString.fromString("v" + v)));
+                expected.put(k, v);
+            }
+        }
+
+        for (int k = 0; k < 5_000; k++) {
+            InternalRow value = state.get(key.apply(k));
+            if (expected.containsKey(k)) {
+                assertThat(value.getInt(0)).isEqualTo(expected.get(k));
+                assertThat(value.getString(1).toString()).isEqualTo("v" + expected.get(k));
+            } else {
+                assertThat(value).isNull();
+            }
+        }
+    }
+
+    @Test
+    public void testNullKey() throws Exception {
+        ValueState<InternalRow, InternalRow> state = factory.valueState("value", INT_KEY, VALUE, 0);
+        state.put(GenericRow.of(0), GenericRow.of(0, BinaryString.fromString("zero")));
+        state.put(GenericRow.of((Object) null), GenericRow.of(1, BinaryString.fromString("null")));
+        assertThat(state.get(GenericRow.of(0)).getInt(0)).isEqualTo(0);
+        assertThat(state.get(GenericRow.of((Object) null)).getInt(0)).isEqualTo(1);
+        state.delete(GenericRow.of((Object) null));
+        assertThat(state.get(GenericRow.of((Object) null))).isNull();
+        assertThat(state.get(GenericRow.of(0))).isNotNull();
+    }
+
+    @Test
+    public void testValueBulkLoad() throws Exception {
+        ValueState<InternalRow, InternalRow> state = factory.valueState("value", INT_KEY, VALUE, 0);
+        ValueBulkLoader bulkLoader = state.createBulkLoader();
+        byte[] key1 = state.serializeKey(GenericRow.of(1));
+        byte[] key2 = state.serializeKey(GenericRow.of(2));
+        bulkLoader.write(
+                key1, state.serializeValue(GenericRow.of(1, BinaryString.fromString("a"))));
+        bulkLoader.write(
+                key2, state.serializeValue(GenericRow.of(2, BinaryString.fromString("b"))));
+        assertThatThrownBy(() -> bulkLoader.write(key2, key2))
+                .isInstanceOf(BulkLoader.WriteException.class)
+                .hasMessageContaining("Keys must be added in strict ascending order");
+        bulkLoader.finish();
+
+        assertThat(state.get(GenericRow.of(1)).getString(1).toString()).isEqualTo("a");
+        assertThat(state.get(GenericRow.of(2)).getString(1).toString()).isEqualTo("b");
+        assertThat(state.get(GenericRow.of(3))).isNull();
+    }
+
+    @Test
+    public void testListState() throws Exception {
+        ListState<InternalRow, InternalRow> state = factory.listState("list", STRING_KEY, VALUE, 0);
+        InternalRow key = GenericRow.of(BinaryString.fromString("k"));
+        for (int i = 0; i < 3; i++) {
+            state.add(key, GenericRow.of(i, BinaryString.fromString("v" + i)));
+        }
+        assertThat(state.get(key)).extracting(r -> r.getInt(0)).containsExactly(0, 1, 2);
+
+        ListBulkLoader bulkLoader = state.createBulkLoader();
+        InternalRow other = GenericRow.of(BinaryString.fromString("z"));
+        bulkLoader.write(
+                state.serializeKey(other),
+                Arrays.asList(
+                        state.serializeValue(GenericRow.of(5, BinaryString.fromString("a"))),
+                        state.serializeValue(GenericRow.of(6, BinaryString.fromString("b")))));
+        bulkLoader.finish();
+        assertThat(state.get(other)).extracting(r -> r.getInt(0)).containsExactly(5, 6);
+        assertThat(state.get(GenericRow.of(BinaryString.fromString("none")))).isEmpty();
+    }
+
+    @Test
+    public void testSetState() throws Exception {
+        SetState<InternalRow, InternalRow> state = factory.setState("set", INT_KEY, INT_KEY, 0);
+        InternalRow key = GenericRow.of(1);
+        state.add(key, GenericRow.of(3));
+        state.add(key, GenericRow.of(1));
+        state.add(key, GenericRow.of(2));
+        state.add(key, GenericRow.of(1));
+        assertThat(state.get(key)).extracting(r -> r.getInt(0)).containsExactly(1, 2, 3);
+
+        state.retract(key, GenericRow.of(2));
+        state.retract(key, GenericRow.of(3));
+        state.retract(key, GenericRow.of(4));
+        assertThat(state.get(key)).extracting(r -> r.getInt(0)).containsExactly(1);
+
+        state.retract(key, GenericRow.of(1));
+        assertThat(state.get(key)).isEmpty();
+
+        // retracting removes duplicated copies too
+        state.add(key, GenericRow.of(5));
+        state.add(key, GenericRow.of(5));
+        state.retract(key, GenericRow.of(5));
+        assertThat(state.get(key)).isEmpty();
+    }
+
+    @Test
+    public void testSetStateManyValues() throws Exception {
+        SetState<InternalRow, InternalRow> state = factory.setState("set", INT_KEY, INT_KEY, 0);
+        InternalRow key = GenericRow.of(1);
+        int num = 100_000;
+        for (int i = 0; i < num; i++) {
+            state.add(key, GenericRow.of(i));
+        }
+        state.add(key, GenericRow.of(0));
+        assertThat(state.get(key)).hasSize(num);
+        state.retract(key, GenericRow.of(0));
+        assertThat(state.get(key)).hasSize(num - 1);
+    }
+
+    @Test
+    public void testCompactReclaimsReleasedRecords() throws Exception {
+        ValueState<InternalRow, InternalRow> state =
+                factory.valueState("value", STRING_KEY, VALUE, 0);
+        InternalRow key = GenericRow.of(BinaryString.fromString("k"));
+        for (int i = 0; i < 100_000; i++) {
+            state.put(key, GenericRow.of(i, BinaryString.fromString("value-" + i)));
+        }
+        assertThat(state.get(key).getInt(0)).isEqualTo(99_999);
+        // a single live entry, released records must not accumulate
+        assertThat(factory.memorySize()).isLessThan(64 * 1024);
+    }
+}
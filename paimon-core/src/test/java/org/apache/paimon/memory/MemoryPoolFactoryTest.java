@@ -76,6 +76,76 @@ public class MemoryPoolFactoryTest {
         assertThat(factory.memoryOwners()).containsExactlyInAnyOrderElementsOf(allAddedOwners);
     }
 
+    @Test
+    public void testPreemptCount() {
+        List<MemoryOwner> owners = new ArrayList<>();
+        MemoryPoolFactory factory =
+                new MemoryPoolFactory(new HeapMemorySegmentPool(1024 * 2, 1024)).addOwners(owners);
+        SegmentsMemoryOwner owner1 = new SegmentsMemoryOwner();
+        SegmentsMemoryOwner owner2 = new SegmentsMemoryOwner();
+        owners.add(owner1);
+        owners.add(owner2);
+        factory.notifyNewOwner(owner1);
+        factory.notifyNewOwner(owner2);
+
+        owner1.allocate();
+        owner1.allocate();
+        assertThat(factory.bufferPreemptCount()).isEqualTo(0);
+
+        // no memory left, the memory of owner1 is preempted
+        owner2.allocate();
+        assertThat(owner1.memoryOccupancy()).isEqualTo(0);
+        assertThat(factory.bufferPreemptCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testTotalPages() {
+        List<MemoryOwner> owners = new ArrayList<>();
+        MemoryPoolFactory factory =
+                new MemoryPoolFactory(new HeapMemorySegmentPool(1024 * 8, 1024)).addOwners(owners);
+        SegmentsMemoryOwner owner = new SegmentsMemoryOwner();
+        owners.add(owner);
+        factory.notifyNewOwner(owner);
+
+        owner.allocate();
+        owner.allocate();
+        assertThat(owner.memoryPool.freePages()).isEqualTo(6);
+        assertThat(owner.memoryPool.totalPages()).isEqualTo(8);
+
+        BoundedSegmentPool half = new BoundedSegmentPool(owner.memoryPool, 4);
+        half.nextSegment();
+        assertThat(half.freePages()).isEqualTo(3);
+        assertThat(half.totalPages()).isEqualTo(4);
+    }
+
+    private static class SegmentsMemoryOwner implements MemoryOwner {
+
+        private final List<MemorySegment> segments = new ArrayList<>();
+        private MemorySegmentPool memoryPool;
+
+        private void allocate() {
+            MemorySegment segment = memoryPool.nextSegment();
+            assertThat(segment).isNotNull();
+            segments.add(segment);
+        }
+
+        @Override
+        public void setMemoryPool(MemorySegmentPool memoryPool) {
+            this.memoryPool = memoryPool;
+        }
+
+        @Override
+        public long memoryOccupancy() {
+            return (long) segments.size() * memoryPool.pageSize();
+        }
+
+        @Override
+        public void flushMemory() {
+            memoryPool.returnAll(new ArrayList<>(segments));
+            segments.clear();
+        }
+    }
+
     private static class TestMemoryOwner implements MemoryOwner {
         @Override
         public void setMemoryPool(MemorySegmentPool memoryPool) {}
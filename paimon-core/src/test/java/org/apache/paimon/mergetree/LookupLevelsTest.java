@@ -72,11 +72,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -146,6 +148,126 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
     }
 
+    @Test
+    public void testPrefetch() throws Exception {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(0, kv(7, 77, 6)),
+                                newFile(1, kv(1, 11, 1), kv(3, 33, 2)),
+                                newFile(1, kv(5, 5, 3)),
+                                newFile(2, kv(2, 22, 4), kv(5, 55, 5))),
+                        3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            lookupLevels.prefetch(1, executor).get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // level 0 files are below the start level and not prefetched
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(3);
+        assertThat(lookupLevels.lookupFiles().asMap().keySet())
+                .isEqualTo(lookupLevels.cachedFiles());
+
+        KeyValue kv = lookupLevels.lookup(row(5), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.value().getInt(1)).isEqualTo(5);
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(3);
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testPrefetchCancelledByDropAndClose() throws Exception {
+        DataFileMeta dropped = newFile(1, kv(1, 11, 1), kv(3, 33, 2));
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(dropped, newFile(2, kv(2, 22, 4), kv(5, 55, 5))),
+                        3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        List<Runnable> tasks = new ArrayList<>();
+        CompletableFuture<Void> prefetch = lookupLevels.prefetch(1, tasks::add);
+        assertThat(tasks).hasSize(2);
+
+        lookupLevels.notifyDropFile(dropped.fileName());
+        lookupLevels.close();
+        tasks.forEach(Runnable::run);
+        assertThat(prefetch).isCompletedExceptionally();
+
+        // cancelled prefetches neither cache nor leave their files on local disk
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+        assertThat(lookupLevels.cachedFiles()).isEmpty();
+        assertThat(tempDir.toFile().list((dir, name) -> name.startsWith(LOOKUP_FILE_PREFIX)))
+                .isEmpty();
+    }
+
+    @Test
+    public void testPrefetchWithinFreeCapacity() throws Exception {
+        List<DataFileMeta> files = new ArrayList<>();
+        int fileNum = 10;
+        int recordInFile = 100;
+        for (int i = 0; i < fileNum; i++) {
+            List<KeyValue> kvs = new ArrayList<>();
+            for (int j = 0; j < recordInFile; j++) {
+                int key = i * recordInFile + j;
+                kvs.add(kv(key, key));
+            }
+            files.add(newFile(1, kvs.toArray(new KeyValue[0])));
+        }
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(new Levels(comparator, files, 1), MemorySize.ofKibiBytes(10));
+
+        lookupLevels.prefetch(1, Runnable::run).get();
+
+        // only the files which fit are prefetched, so none of them is evicted
+        long prefetched = lookupLevels.lookupFiles().estimatedSize();
+        assertThat(prefetched).isGreaterThan(0).isLessThan(fileNum);
+        String[] lookupFiles =
+                tempDir.toFile().list((dir, name) -> name.startsWith(LOOKUP_FILE_PREFIX));
+        assertThat(lookupFiles).hasSize((int) prefetched);
+
+        // the other files are created on demand
+        for (int i = 0; i < fileNum * recordInFile; i += recordInFile) {
+            assertThat(lookupLevels.lookup(row(i), 1)).isNotNull();
+        }
+        lookupLevels.close();
+    }
+
+    @Test
+    public void testPrefetchRejected() throws Exception {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(1, kv(1, 11, 1), kv(3, 33, 2)),
+                                newFile(2, kv(2, 22, 4), kv(5, 55, 5))),
+                        3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        CompletableFuture<Void> prefetch =
+                lookupLevels.prefetch(
+                        1,
+                        task -> {
+                            throw new RejectedExecutionException();
+                        });
+        assertThat(prefetch).isCompleted();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+
+        // the lookup creates the file by itself
+        assertThat(lookupLevels.lookup(row(5), 1)).isNotNull();
+        lookupLevels.close();
+    }
+
     @Test
     public void testMultiFiles() throws IOException {
         Levels levels =
@@ -283,6 +405,48 @@ public class LookupLevelsTest {
         assertThat(kv.value().getInt(1)).isEqualTo(11);
     }
 
+    @Test
+    public void testBatchLookup() throws Exception {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(0, kv(1, 0)),
+                                newFile(0, kv(7, 70), kv(9, 90)),
+                                newFile(1, kv(1, 11), kv(3, 33), kv(5, 5)),
+                                newFile(1, kv(7, 77), kv(8, 88)),
+                                newFile(2, kv(2, 22), kv(5, 55), kv(10, 1010))),
+                        3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        List<InternalRow> keys = new ArrayList<>();
+        for (int key : new int[] {10, 5, 0, 1, 8, 6, 2, 9, 3, 4, 7, 11, 5}) {
+            keys.add(row(key));
+        }
+
+        for (int startLevel = 0; startLevel < 3; startLevel++) {
+            List<KeyValue> results = lookupLevels.lookup(keys, startLevel);
+            assertThat(results).hasSize(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                KeyValue expected = lookupLevels.lookup(keys.get(i), startLevel);
+                KeyValue actual = results.get(i);
+                if (expected == null) {
+                    assertThat(actual).isNull();
+                } else {
+                    assertThat(actual).isNotNull();
+                    assertThat(actual.level()).isEqualTo(expected.level());
+                    assertThat(actual.value().getInt(1)).isEqualTo(expected.value().getInt(1));
+                }
+            }
+        }
+
+        assertThat(lookupLevels.lookup(Collections.emptyList(), 0)).isEmpty();
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
     @Test
     public void testConcurrentLookupCreatesSingleLookupFile() throws Exception {
         DataFileMeta file = newFile(1, kv(1, 11), kv(2, 22));
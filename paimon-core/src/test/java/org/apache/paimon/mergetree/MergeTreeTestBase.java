@@ -137,7 +137,8 @@ public abstract class MergeTreeTestBase {
 
     private void recreateMergeTree(long targetFileSize) {
         Options options = new Options();
-        options.set(CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * 3));
+        // async flush splits the write buffer into two halves of 3 pages
+        options.set(CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * (asyncFlush() ? 6 : 3)));
         options.set(CoreOptions.PAGE_SIZE, new MemorySize(4096));
         options.set(CoreOptions.TARGET_FILE_SIZE, new MemorySize(targetFileSize));
         options.set(CoreOptions.SORT_ENGINE, getSortEngine());
@@ -430,6 +431,9 @@ public abstract class MergeTreeTestBase {
                         ChangelogProducer.NONE,
                         null,
                         null);
+        if (asyncFlush()) {
+            writer.withAsyncFlush(service);
+        }
         writer.setMemoryPool(
                 new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
         return writer;
@@ -607,6 +611,10 @@ public abstract class MergeTreeTestBase {
 
     protected abstract SortEngine getSortEngine();
 
+    protected boolean asyncFlush() {
+        return false;
+    }
+
     private class TestRewriter extends AbstractCompactRewriter {
 
         @Override
@@ -680,4 +688,18 @@ public abstract class MergeTreeTestBase {
             return SortEngine.MIN_HEAP;
         }
     }
+
+    /** {@link MergeTreeTestBase} with async flush of the write buffer. */
+    public static class MergeTreeTestWithAsyncFlush extends MergeTreeTestBase {
+
+        @Override
+        protected SortEngine getSortEngine() {
+            return SortEngine.LOSER_TREE;
+        }
+
+        @Override
+        protected boolean asyncFlush() {
+            return true;
+        }
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.compact.CompactUnit;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.mergetree.LevelSortedRun;
+import org.apache.paimon.mergetree.SortedRun;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.apache.paimon.mergetree.compact.BucketAccessStats.WINDOW_MILLIS;
+import static org.apache.paimon.mergetree.compact.UniversalCompactionTest.file;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link AdaptiveCompaction}. */
+public class AdaptiveCompactionTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testTriggerFollowsProbeRate() {
+        BucketAccessStats stats = new BucketAccessStats(clock::get);
+        AdaptiveCompaction compaction = create(stats, null);
+
+        // no reader attached, use the configured trigger
+        stats.recordProbes(20_000);
+        clock.addAndGet(WINDOW_MILLIS);
+        assertThat(compaction.numRunCompactionTrigger()).isEqualTo(5);
+        assertThat(compaction.pick(5, runs(4))).isEmpty();
+
+        // no closed window yet
+        stats.attachReader();
+        assertThat(compaction.numRunCompactionTrigger()).isEqualTo(5);
+
+        // hot bucket compacts eagerly
+        stats.recordProbes(20_000);
+        clock.addAndGet(WINDOW_MILLIS);
+        assertThat(compaction.numRunCompactionTrigger()).isEqualTo(2);
+        assertThat(compaction.pick(5, runs(4))).isPresent();
+
+        // rate is smoothed over windows and decays towards the stop trigger
+        clock.addAndGet(WINDOW_MILLIS);
+        assertThat(compaction.numRunCompactionTrigger()).isEqualTo(2);
+        clock.addAndGet(WINDOW_MILLIS);
+        assertThat(compaction.numRunCompactionTrigger()).isEqualTo(5);
+        clock.addAndGet(WINDOW_MILLIS);
+        assertThat(compaction.numRunCompactionTrigger()).isEqualTo(6);
+        assertThat(compaction.pick(5, runs(4))).isEmpty();
+    }
+
+    @Test
+    public void testIoBudgetDefersOptionalCompaction() {
+        BucketAccessStats stats = hotStats();
+        // 1 byte per second, 60 bytes of burst
+        CompactionIoBudget budget = new CompactionIoBudget(1, clock::get);
+        AdaptiveCompaction compaction = create(stats, budget);
+
+        // upgraded files are not charged
+        Optional<CompactUnit> unit = compaction.pick(5, runs(4));
+        assertThat(unit).isPresent();
+        compaction.notifyCompacted(upgrade(unit.get()));
+        assertThat(compaction.pick(5, runs(4))).isPresent();
+
+        // rewritten files overdraw the budget
+        compaction.notifyCompacted(rewrite(unit.get()));
+        assertThat(compaction.pick(5, runs(4))).isEmpty();
+
+        // compactions at the max trigger are never deferred
+        unit = compaction.pick(8, runs(7));
+        assertThat(unit).isPresent();
+        assertThat(unit.get().files()).hasSize(6);
+
+        // budget refills over time
+        clock.addAndGet(1_000_000_000L);
+        assertThat(budget.available()).isTrue();
+    }
+
+    @Test
+    public void testWriteAmplificationRaisesTrigger() {
+        BucketAccessStats stats = hotStats();
+        AdaptiveCompaction compaction = create(stats, null);
+        assertThat(compaction.numRunCompactionTrigger()).isEqualTo(2);
+
+        // 100 bytes flushed to level 0, 900 bytes rewritten by a compaction
+        List<LevelSortedRun> runs = new ArrayList<>();
+        runs.add(new LevelSortedRun(0, SortedRun.fromSingle(file(100).rename("flushed"))));
+        compaction.pick(5, runs);
+        compaction.notifyCompacted(
+                new CompactResult(
+                        Collections.singletonList(file(900).rename("before")),
+                        Collections.singletonList(file(1000).rename("after"))));
+
+        // the same probe rate no longer makes the bucket fully hot
+        stats.recordProbes(20_000);
+        clock.addAndGet(WINDOW_MILLIS);
+        assertThat(compaction.numRunCompactionTrigger()).isEqualTo(5);
+    }
+
+    @Test
+    public void testForceUpLevel0FollowsAdaptiveDecision() {
+        BucketAccessStats stats = new BucketAccessStats(clock::get);
+        ForceUpLevel0Compaction compaction = new ForceUpLevel0Compaction(create(stats, null), null);
+
+        // without telemetry, level 0 files are forced up as usual
+        assertThat(compaction.pick(5, runs(2))).isPresent();
+
+        // read-cold bucket lets level 0 files accumulate until the max trigger
+        stats.attachReader();
+        clock.addAndGet(WINDOW_MILLIS);
+        assertThat(compaction.pick(5, runs(2))).isEmpty();
+        assertThat(compaction.pick(5, runs(6))).isEmpty();
+        assertThat(compaction.pick(8, runs(7))).isPresent();
+
+        // read-hot bucket forces level 0 files up
+        stats.recordProbes(100_000);
+        clock.addAndGet(WINDOW_MILLIS);
+        assertThat(compaction.pick(5, runs(2))).isPresent();
+    }
+
+    @Test
+    public void testForceUpLevel0ChargesIoBudget() {
+        CompactionIoBudget budget = new CompactionIoBudget(1, clock::get);
+        ForceUpLevel0Compaction compaction =
+                new ForceUpLevel0Compaction(create(hotStats(), budget), null);
+
+        // 100 bytes overdraw the budget, the next level 0 compaction is deferred
+        Optional<CompactUnit> unit = compaction.pick(5, runs(1, 100));
+        assertThat(unit).isPresent();
+        compaction.notifyCompacted(rewrite(unit.get()));
+        assertThat(compaction.pick(5, runs(2))).isEmpty();
+
+        // budget refills over time
+        clock.addAndGet(1_000_000L);
+        assertThat(compaction.pick(5, runs(2))).isPresent();
+    }
+
+    private BucketAccessStats hotStats() {
+        BucketAccessStats stats = new BucketAccessStats(clock::get);
+        stats.attachReader();
+        stats.recordProbes(20_000);
+        clock.addAndGet(WINDOW_MILLIS);
+        return stats;
+    }
+
+    private AdaptiveCompaction create(BucketAccessStats stats, CompactionIoBudget budget) {
+        return new AdaptiveCompaction(200, 1, 5, 7, null, null, stats, 1000, budget, clock::get);
+    }
+
+    /** Sorted runs with sizes growing by ten, so that only the run number triggers compaction. */
+    private List<LevelSortedRun> runs(int num) {
+        return runs(num, 1);
+    }
+
+    private List<LevelSortedRun> runs(int num, long firstSize) {
+        List<LevelSortedRun> runs = new ArrayList<>();
+        long size = firstSize;
+        for (int i = 0; i < num; i++) {
+            runs.add(new LevelSortedRun(i, SortedRun.fromSingle(file(size).rename("run-" + i))));
+            size *= 10;
+        }
+        return runs;
+    }
+
+    private static CompactResult upgrade(CompactUnit unit) {
+        return new CompactResult(
+                unit.files(),
+                unit.files().stream()
+                        .map(file -> file.upgrade(unit.outputLevel()))
+                        .collect(Collectors.toList()));
+    }
+
+    private static CompactResult rewrite(CompactUnit unit) {
+        long size = unit.files().stream().mapToLong(DataFileMeta::fileSize).sum();
+        return new CompactResult(
+                unit.files(), Collections.singletonList(file(size).rename("compacted")));
+    }
+}
@@ -18,19 +18,24 @@
 
 package org.apache.paimon.mergetree.compact.aggregate;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldAggregatorFactory;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.InternalRowUtils;
 
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.Random;
 
 import static org.apache.paimon.CoreOptions.FIELDS_DEFAULT_AGG_FUNC;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -146,20 +151,19 @@ class AggregateMergeFunctionTest {
         Options options = new Options();
         options.set(FIELDS_DEFAULT_AGG_FUNC, "sum");
         options.set("aggregation.remove-record-on-delete", "true");
+        RowType rowType =
+                RowType.builder()
+                        .fields(
+                                new DataType[] {
+                                    DataTypes.INT().notNull(),
+                                    DataTypes.INT().notNull(),
+                                    DataTypes.INT(),
+                                    DataTypes.INT()
+                                },
+                                new String[] {"k", "a", "b", "c"})
+                        .build();
         MergeFunction<KeyValue> aggregateFunction =
-                AggregateMergeFunction.factory(
-                                options,
-                                RowType.builder()
-                                        .fields(
-                                                new DataType[] {
-                                                    DataTypes.INT().notNull(),
-                                                    DataTypes.INT().notNull(),
-                                                    DataTypes.INT(),
-                                                    DataTypes.INT()
-                                                },
-                                                new String[] {"k", "a", "b", "c"})
-                                        .build(),
-                                Collections.singletonList("k"))
+                AggregateMergeFunction.factory(options, rowType, Collections.singletonList("k"))
                         .create();
         aggregateFunction.reset();
 
@@ -168,7 +172,144 @@ class AggregateMergeFunctionTest {
         // send a DELETE with nullable field as null, triggers initRow
         aggregateFunction.add(deleteValue(1, 2, 2, null));
         // after delete with removeRecordOnDelete, row is re-initialized via initRow
-        assertThat(aggregateFunction.getResult().value()).isEqualTo(GenericRow.of(1, 2, 2, null));
+        assertThat(aggregateFunction.getResult().value())
+                .isEqualTo(
+                        new InternalRowSerializer(rowType)
+                                .toBinaryRow(GenericRow.of(1, 2, 2, null)));
+    }
+
+    @Test
+    void testCodeGenAggFunc() {
+        Options options = new Options();
+        options.set("fields.a.aggregate-function", "sum");
+        options.set("fields.b.aggregate-function", "max");
+        options.set("fields.c.aggregate-function", "min");
+        RowType rowType =
+                RowType.builder()
+                        .fields(
+                                new DataType[] {
+                                    DataTypes.INT(),
+                                    DataTypes.INT(),
+                                    DataTypes.INT(),
+                                    DataTypes.INT(),
+                                    DataTypes.INT()
+                                },
+                                new String[] {"k", "a", "b", "c", "d"})
+                        .build();
+        MergeFunction<KeyValue> aggregateFunction =
+                AggregateMergeFunction.factory(options, rowType, Collections.singletonList("k"))
+                        .create();
+        assertThat(aggregateFunction).isInstanceOf(CodeGenAggregateMergeFunction.class);
+
+        aggregateFunction.reset();
+        aggregateFunction.add(value(1, null, 1, 1, 1));
+        aggregateFunction.add(value(1, 2, null, 2, 2));
+        aggregateFunction.add(value(1, 3, 3, null, 3));
+        aggregateFunction.add(value(1, 4, 4, 4, null));
+        assertThat(aggregateFunction.getResult().value())
+                .isEqualTo(
+                        new InternalRowSerializer(rowType)
+                                .toBinaryRow(GenericRow.of(1, 9, 4, 1, 3)));
+
+        // complex aggregators fall back to the interpreted merge function
+        options.set("fields.d.aggregate-function", "collect");
+        rowType =
+                RowType.builder()
+                        .fields(
+                                new DataType[] {
+                                    DataTypes.INT(),
+                                    DataTypes.INT(),
+                                    DataTypes.INT(),
+                                    DataTypes.INT(),
+                                    DataTypes.ARRAY(DataTypes.INT())
+                                },
+                                new String[] {"k", "a", "b", "c", "d"})
+                        .build();
+        assertThat(
+                        AggregateMergeFunction.factory(
+                                        options, rowType, Collections.singletonList("k"))
+                                .create())
+                .isInstanceOf(AggregateMergeFunction.class);
+    }
+
+    @Test
+    void testCodeGenConsistentWithInterpreted() {
+        Options options = new Options();
+        options.set("aggregation.remove-record-on-delete", "true");
+        options.set("fields.a.aggregate-function", "sum");
+        options.set("fields.b.aggregate-function", "sum");
+        options.set("fields.c.aggregate-function", "last_value");
+        options.set("fields.d.aggregate-function", "last_non_null_value");
+        RowType rowType =
+                RowType.builder()
+                        .fields(
+                                new DataType[] {
+                                    DataTypes.INT(),
+                                    DataTypes.BIGINT(),
+                                    DataTypes.DOUBLE(),
+                                    DataTypes.STRING(),
+                                    DataTypes.STRING()
+                                },
+                                new String[] {"k", "a", "b", "c", "d"})
+                        .build();
+        MergeFunction<KeyValue> codeGen =
+                AggregateMergeFunction.factory(options, rowType, Collections.singletonList("k"))
+                        .create();
+        assertThat(codeGen).isInstanceOf(CodeGenAggregateMergeFunction.class);
+
+        CoreOptions coreOptions = new CoreOptions(options);
+        FieldAggregator[] aggregators = new FieldAggregator[rowType.getFieldCount()];
+        for (int i = 0; i < aggregators.length; i++) {
+            String name = rowType.getFieldNames().get(i);
+            aggregators[i] =
+                    FieldAggregatorFactory.create(
+                            rowType.getTypeAt(i),
+                            name,
+                            AggregateMergeFunction.getAggFuncName(
+                                    name,
+                                    coreOptions,
+                                    Collections.singletonList("k"),
+                                    Collections.emptyList()),
+                            coreOptions);
+        }
+        MergeFunction<KeyValue> interpreted =
+                new AggregateMergeFunction(
+                        InternalRowUtils.createFieldGetters(rowType.getFieldTypes()),
+                        aggregators,
+                        true,
+                        new boolean[] {true, true, true, true, true});
+
+        InternalRowSerializer serializer = new InternalRowSerializer(rowType);
+        Random random = new Random();
+        RowKind[] kinds = RowKind.values();
+        for (int round = 0; round < 100; round++) {
+            codeGen.reset();
+            interpreted.reset();
+            int numRecords = random.nextInt(10) + 1;
+            for (int i = 0; i < numRecords; i++) {
+                GenericRow row =
+                        GenericRow.of(
+                                1,
+                                random.nextBoolean() ? null : (long) random.nextInt(100),
+                                random.nextBoolean() ? null : random.nextDouble(),
+                                random.nextBoolean()
+                                        ? null
+                                        : BinaryString.fromString("c" + random.nextInt(10)),
+                                random.nextBoolean()
+                                        ? null
+                                        : BinaryString.fromString("d" + random.nextInt(10)));
+                KeyValue kv =
+                        new KeyValue()
+                                .replace(
+                                        GenericRow.of(1), kinds[random.nextInt(kinds.length)], row);
+                codeGen.add(kv);
+                interpreted.add(kv);
+            }
+            KeyValue expected = interpreted.getResult();
+            KeyValue actual = codeGen.getResult();
+            assertThat(actual.valueKind()).isEqualTo(expected.valueKind());
+            assertThat(actual.value()).isEqualTo(serializer.toBinaryRow(expected.value()));
+        }
     }
 
     private KeyValue value(Integer... values) {
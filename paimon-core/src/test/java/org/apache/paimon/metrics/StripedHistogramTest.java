@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.metrics;
+
+import org.apache.paimon.utils.InstantiationUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.apache.paimon.metrics.StripedHistogram.NUM_BUCKETS;
+import static org.apache.paimon.metrics.StripedHistogram.SUB_BUCKET_COUNT;
+import static org.apache.paimon.metrics.StripedHistogram.bucketIndex;
+import static org.apache.paimon.metrics.StripedHistogram.lowerBound;
+import static org.apache.paimon.metrics.StripedHistogram.upperBound;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.assertj.core.api.Assertions.within;
+
+/** Tests for {@link StripedHistogram} and {@link StripedHistogramStatistics}. */
+class StripedHistogramTest {
+
+    @Test
+    void testBuckets() {
+        for (int i = 0; i < SUB_BUCKET_COUNT; i++) {
+            assertThat(bucketIndex(i)).isEqualTo(i);
+            assertThat(lowerBound(i)).isEqualTo(i);
+            assertThat(upperBound(i)).isEqualTo(i);
+        }
+
+        // buckets are adjacent and cover all non-negative longs
+        for (int i = 1; i < NUM_BUCKETS; i++) {
+            assertThat(lowerBound(i)).isEqualTo(upperBound(i - 1) + 1);
+        }
+        assertThat(upperBound(NUM_BUCKETS - 1)).isEqualTo(Long.MAX_VALUE);
+
+        for (int i = 0; i < 10000; i++) {
+            long value = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE >>> i % 63);
+            int index = bucketIndex(value);
+            assertThat(value).isBetween(lowerBound(index), upperBound(index));
+            // the relative error is bounded
+            assertThat((double) (upperBound(index) - lowerBound(index)))
+                    .isLessThanOrEqualTo((double) value / SUB_BUCKET_COUNT);
+        }
+    }
+
+    @Test
+    void testStatistics() {
+        StripedHistogram histogram = new StripedHistogram();
+        HistogramStatistics statistics = histogram.getStatistics();
+        assertThat(statistics.size()).isEqualTo(0);
+        assertThat(statistics.getMin()).isEqualTo(0);
+        assertThat(statistics.getMax()).isEqualTo(0);
+        assertThat(statistics.getQuantile(0.5)).isEqualTo(0);
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.update(i);
+        }
+        statistics = histogram.getStatistics();
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(statistics.size()).isEqualTo(1000);
+        assertThat(statistics.getMin()).isEqualTo(1);
+        assertThat(statistics.getMax()).isEqualTo(1000);
+        assertThat(statistics.getMean()).isEqualTo(500.5);
+        assertThat(statistics.getQuantile(0.01)).isEqualTo(10);
+        assertThat(statistics.getQuantile(0.5)).isCloseTo(500, within(500 / 32.0));
+        assertThat(statistics.getQuantile(0.99)).isCloseTo(990, within(990 / 32.0));
+        assertThat(statistics.getQuantile(1)).isEqualTo(1000);
+        assertThat(statistics.getStdDev()).isCloseTo(288.8, offset(5.0));
+        assertThat(statistics.getValues()).isSorted().startsWith(1, 2, 3).contains(31);
+
+        histogram.update(-1);
+        assertThat(histogram.getStatistics().getMin()).isEqualTo(0);
+    }
+
+    @Test
+    void testConcurrentUpdates() throws Exception {
+        StripedHistogram histogram = new StripedHistogram(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < 100_000; i++) {
+                                    histogram.update(i % 100);
+                                }
+                            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        StripedHistogramStatistics statistics = histogram.getStatistics();
+        assertThat(histogram.getCount()).isEqualTo(800_000);
+        assertThat(statistics.getCount()).isEqualTo(800_000);
+        assertThat(statistics.getMin()).isEqualTo(0);
+        assertThat(statistics.getMax()).isEqualTo(99);
+        assertThat(statistics.getMean()).isEqualTo(49.5);
+    }
+
+    @Test
+    void testMerge() throws Exception {
+        StripedHistogram histogram1 = new StripedHistogram();
+        StripedHistogram histogram2 = new StripedHistogram();
+        for (int i = 0; i < 100; i++) {
+            histogram1.update(i);
+            histogram2.update(i + 100);
+        }
+
+        StripedHistogramStatistics merged =
+                histogram1.getStatistics().merge(histogram2.getStatistics());
+        assertThat(merged.getCount()).isEqualTo(200);
+        assertThat(merged.getMin()).isEqualTo(0);
+        assertThat(merged.getMax()).isEqualTo(199);
+        assertThat(merged.getMean()).isEqualTo(99.5);
+
+        StripedHistogramStatistics empty = StripedHistogramStatistics.empty();
+        assertThat(empty.merge(merged).getMin()).isEqualTo(0);
+        assertThat(merged.merge(empty).getMax()).isEqualTo(199);
+        assertThat(
+                        new StripedHistogram()
+                                .getStatistics()
+                                .merge(histogram2.getStatistics())
+                                .getMin())
+                .isEqualTo(100);
+
+        // snapshots are serializable
+        StripedHistogramStatistics copy =
+                InstantiationUtil.deserializeObject(
+                        InstantiationUtil.serializeObject(merged), getClass().getClassLoader());
+        assertThat(copy.getCount()).isEqualTo(200);
+        assertThat(copy.getQuantile(0.5)).isEqualTo(merged.getQuantile(0.5));
+    }
+}
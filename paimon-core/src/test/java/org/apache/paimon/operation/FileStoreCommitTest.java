@@ -333,6 +333,16 @@ public class FileStoreCommitTest {
     protected void testRandomConcurrentWithConflict(
             int numThreads, boolean failing, CoreOptions.ChangelogProducer changelogProducer)
             throws Exception {
+        testRandomConcurrentWithConflict(
+                numThreads, failing, changelogProducer, Collections.emptyMap());
+    }
+
+    private void testRandomConcurrentWithConflict(
+            int numThreads,
+            boolean failing,
+            CoreOptions.ChangelogProducer changelogProducer,
+            Map<String, String> options)
+            throws Exception {
         // prepare test data
         Map<BinaryRow, List<KeyValue>> data =
                 generateData(ThreadLocalRandom.current().nextInt(1000) + 1);
@@ -356,7 +366,20 @@ public class FileStoreCommitTest {
             }
         }
 
-        testRandomConcurrent(dataPerThread, false, failing, changelogProducer);
+        testRandomConcurrent(dataPerThread, false, failing, changelogProducer, options);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testManyCommitUsersWithBaseEntriesCache(boolean failing) throws Exception {
+        // keep only a few entries so that partitions are evicted and rescanned
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.COMMIT_BASE_ENTRIES_CACHE_MAX_ENTRIES.key(), "10");
+        testRandomConcurrentWithConflict(
+                ThreadLocalRandom.current().nextInt(3) + 2,
+                failing,
+                CoreOptions.ChangelogProducer.NONE,
+                options);
     }
 
     private void testRandomConcurrent(
@@ -365,6 +388,17 @@ public class FileStoreCommitTest {
             boolean failing,
             CoreOptions.ChangelogProducer changelogProducer)
             throws Exception {
+        testRandomConcurrent(
+                dataPerThread, enableOverwrite, failing, changelogProducer, Collections.emptyMap());
+    }
+
+    private void testRandomConcurrent(
+            List<Map<BinaryRow, List<KeyValue>>> dataPerThread,
+            boolean enableOverwrite,
+            boolean failing,
+            CoreOptions.ChangelogProducer changelogProducer,
+            Map<String, String> options)
+            throws Exception {
         // concurrent commits
         List<TestCommitThread> threads = new ArrayList<>();
         for (Map<BinaryRow, List<KeyValue>> data : dataPerThread) {
@@ -374,13 +408,13 @@ public class FileStoreCommitTest {
                             TestKeyValueGenerator.DEFAULT_ROW_TYPE,
                             enableOverwrite,
                             data,
-                            createStore(failing, 1, changelogProducer),
-                            createStore(false, 1, changelogProducer));
+                            createStore(failing, 1, changelogProducer, options),
+                            createStore(false, 1, changelogProducer, options));
             thread.start();
             threads.add(thread);
         }
 
-        TestFileStore store = createStore(false, 1, changelogProducer);
+        TestFileStore store = createStore(false, 1, changelogProducer, options);
 
         // calculate expected results
         List<KeyValue> threadResults = new ArrayList<>();
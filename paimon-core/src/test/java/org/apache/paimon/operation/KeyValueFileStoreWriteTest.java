@@ -205,6 +205,20 @@ public class KeyValueFileStoreWriteTest {
         assertThat(write.startingMaxSequenceNumber(-1, snapshotWithProperties)).isEqualTo(0);
     }
 
+    @Test
+    public void testFlushLatency() throws Exception {
+        KeyValueFileStoreWrite write = createWriteWithOptions(new HashMap<>());
+        write.withIOManager(ioManager);
+        TestKeyValueGenerator gen = new TestKeyValueGenerator();
+        assertThat(write.flushLatency.getCount()).isZero();
+
+        KeyValue keyValue = gen.next();
+        write.write(gen.getPartition(keyValue), 1, keyValue);
+        write.prepareCommit(true, 1);
+        assertThat(write.flushLatency.getCount()).isEqualTo(1);
+        write.close();
+    }
+
     private CompactStrategy createCompactStrategy(Map<String, String> options) throws Exception {
         KeyValueFileStoreWrite write = createWriteWithOptions(options);
         write.withIOManager(ioManager);
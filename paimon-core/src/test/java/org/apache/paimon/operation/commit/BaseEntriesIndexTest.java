@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.commit;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.TestFileStore;
+import org.apache.paimon.TestKeyValueGenerator;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.SimpleFileEntry;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.schema.SchemaUtils;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.utils.TraceableFileIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link BaseEntriesIndex}. */
+public class BaseEntriesIndexTest {
+
+    private TestKeyValueGenerator gen;
+    @TempDir java.nio.file.Path tempDir;
+
+    @BeforeEach
+    public void beforeEach() {
+        gen = new TestKeyValueGenerator();
+    }
+
+    @Test
+    public void testAdvanceByDeltaManifests() throws Exception {
+        TestFileStore store = createStore();
+        CommitScanner scanner = scanner(store);
+        BinaryRow partition1 = gen.getPartition(record("20260501", 8));
+        BinaryRow partition2 = gen.getPartition(record("20260502", 8));
+        store.commitData(
+                Arrays.asList(record("20260501", 8), record("20260502", 8)),
+                gen::getPartition,
+                kv -> 0);
+
+        BaseEntriesIndex index =
+                new BaseEntriesIndex(scanner, store.snapshotManager(), Integer.MAX_VALUE);
+        Snapshot snapshot1 = store.snapshotManager().latestSnapshot();
+        List<BinaryRow> partitions = Collections.singletonList(partition1);
+        assertThat(identifiers(index.read(snapshot1, partitions)))
+                .containsExactlyInAnyOrderElementsOf(fullScan(scanner, snapshot1, partitions));
+        assertThat(index.fullScanCount).isEqualTo(1);
+
+        store.commitData(
+                Arrays.asList(record("20260501", 8), record("20260502", 8)),
+                gen::getPartition,
+                kv -> 0);
+        Snapshot snapshot2 = store.snapshotManager().latestSnapshot();
+        assertThat(identifiers(index.read(snapshot2, partitions)))
+                .containsExactlyInAnyOrderElementsOf(fullScan(scanner, snapshot2, partitions))
+                .hasSize(2);
+        assertThat(index.fullScanCount).isEqualTo(1);
+        assertThat(index.incrementalScanCount).isEqualTo(1);
+
+        // a partition not cached yet is read by a full scan
+        partitions = Arrays.asList(partition1, partition2);
+        assertThat(identifiers(index.read(snapshot2, partitions)))
+                .containsExactlyInAnyOrderElementsOf(fullScan(scanner, snapshot2, partitions))
+                .hasSize(4);
+        assertThat(index.fullScanCount).isEqualTo(2);
+        assertThat(index.incrementalScanCount).isEqualTo(1);
+    }
+
+    @Test
+    public void testRebuildAfterOverwrite() throws Exception {
+        TestFileStore store = createStore();
+        CommitScanner scanner = scanner(store);
+        BinaryRow partition = gen.getPartition(record("20260501", 8));
+        List<BinaryRow> partitions = Collections.singletonList(partition);
+        store.commitData(
+                Collections.singletonList(record("20260501", 8)), gen::getPartition, kv -> 0);
+
+        BaseEntriesIndex index =
+                new BaseEntriesIndex(scanner, store.snapshotManager(), Integer.MAX_VALUE);
+        index.read(store.snapshotManager().latestSnapshot(), partitions);
+
+        Map<String, String> partitionSpec = new HashMap<>();
+        partitionSpec.put("dt", "20260501");
+        partitionSpec.put("hr", "8");
+        store.overwriteData(
+                Collections.singletonList(record("20260501", 8)),
+                gen::getPartition,
+                kv -> 0,
+                partitionSpec);
+        store.commitData(
+                Collections.singletonList(record("20260501", 8)), gen::getPartition, kv -> 0);
+
+        Snapshot latest = store.snapshotManager().latestSnapshot();
+        assertThat(identifiers(index.read(latest, partitions)))
+                .containsExactlyInAnyOrderElementsOf(fullScan(scanner, latest, partitions))
+                .hasSize(2);
+        assertThat(index.fullScanCount).isEqualTo(2);
+        assertThat(index.incrementalScanCount).isZero();
+    }
+
+    @Test
+    public void testEvictPartitions() throws Exception {
+        TestFileStore store = createStore();
+        CommitScanner scanner = scanner(store);
+        BinaryRow partition1 = gen.getPartition(record("20260501", 8));
+        BinaryRow partition2 = gen.getPartition(record("20260502", 8));
+        store.commitData(
+                Arrays.asList(record("20260501", 8), record("20260502", 8)),
+                gen::getPartition,
+                kv -> 0);
+
+        BaseEntriesIndex index = new BaseEntriesIndex(scanner, store.snapshotManager(), 1);
+        Snapshot snapshot = store.snapshotManager().latestSnapshot();
+        index.read(snapshot, Collections.singletonList(partition1));
+        index.read(snapshot, Collections.singletonList(partition2));
+        assertThat(index.fullScanCount).isEqualTo(2);
+
+        // partition1 is evicted, partition2 is still cached
+        index.read(snapshot, Collections.singletonList(partition2));
+        assertThat(index.fullScanCount).isEqualTo(2);
+        assertThat(identifiers(index.read(snapshot, Collections.singletonList(partition1))))
+                .containsExactlyInAnyOrderElementsOf(
+                        fullScan(scanner, snapshot, Collections.singletonList(partition1)));
+        assertThat(index.fullScanCount).isEqualTo(3);
+    }
+
+    private CommitScanner scanner(TestFileStore store) {
+        return new CommitScanner(
+                store::newScan,
+                store.snapshotManager(),
+                store.indexManifestFileFactory().create(),
+                store.options());
+    }
+
+    private List<FileEntry.Identifier> fullScan(
+            CommitScanner scanner, Snapshot snapshot, List<BinaryRow> partitions) {
+        return identifiers(scanner.readAllEntriesFromChangedPartitions(snapshot, partitions));
+    }
+
+    private List<FileEntry.Identifier> identifiers(List<SimpleFileEntry> entries) {
+        return entries.stream().map(SimpleFileEntry::identifier).collect(Collectors.toList());
+    }
+
+    private KeyValue record(String dt, int hr) {
+        return gen.nextPartitionedData(RowKind.INSERT, dt, hr);
+    }
+
+    private TestFileStore createStore() throws Exception {
+        Path path = new Path(tempDir.toUri());
+        TableSchema tableSchema =
+                SchemaUtils.forceCommit(
+                        new SchemaManager(new LocalFileIO(), path),
+                        new Schema(
+                                TestKeyValueGenerator.DEFAULT_ROW_TYPE.getFields(),
+                                TestKeyValueGenerator.DEFAULT_PART_TYPE.getFieldNames(),
+                                TestKeyValueGenerator.getPrimaryKeys(
+                                        TestKeyValueGenerator.GeneratorMode.MULTI_PARTITIONED),
+                                Collections.emptyMap(),
+                                null));
+        return new TestFileStore.Builder(
+                        "avro",
+                        TraceableFileIO.SCHEME + "://" + tempDir,
+                        2,
+                        TestKeyValueGenerator.DEFAULT_PART_TYPE,
+                        TestKeyValueGenerator.KEY_TYPE,
+                        TestKeyValueGenerator.DEFAULT_ROW_TYPE,
+                        TestKeyValueGenerator.TestKeyValueFieldsExtractor.EXTRACTOR,
+                        DeduplicateMergeFunction.factory(),
+                        tableSchema)
+                .changelogProducer(CoreOptions.ChangelogProducer.NONE)
+                .build();
+    }
+}
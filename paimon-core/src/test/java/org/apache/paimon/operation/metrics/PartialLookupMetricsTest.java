@@ -18,12 +18,22 @@
 
 package org.apache.paimon.operation.metrics;
 
+import org.apache.paimon.io.cache.CacheKey;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.io.cache.CacheMetrics;
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.HistogramStatistics;
 import org.apache.paimon.metrics.Metric;
 import org.apache.paimon.metrics.MetricGroup;
 import org.apache.paimon.metrics.TestMetricRegistry;
+import org.apache.paimon.options.MemorySize;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,14 +53,60 @@ public class PartialLookupMetricsTest {
         assertThat(registeredMetrics.keySet())
                 .containsExactlyInAnyOrder(
                         PartialLookupMetrics.PARTIAL_LOOKUP_COUNT,
-                        PartialLookupMetrics.PARTIAL_LOOKUP_REMOTE_ACCESS_COUNT);
+                        PartialLookupMetrics.PARTIAL_LOOKUP_REMOTE_ACCESS_COUNT,
+                        PartialLookupMetrics.PARTIAL_LOOKUP_LATENCY);
 
-        metrics.reportLookup(false);
+        metrics.reportLookup(false, 20_000);
         assertThat(metrics.lookupCount()).isEqualTo(1);
         assertThat(metrics.remoteAccessCount()).isZero();
 
-        metrics.reportLookup(true);
+        metrics.reportLookup(true, 3_000_000);
         assertThat(metrics.lookupCount()).isEqualTo(2);
         assertThat(metrics.remoteAccessCount()).isEqualTo(1);
+
+        HistogramStatistics latency = metrics.lookupLatency().getStatistics();
+        assertThat(latency.size()).isEqualTo(2);
+        assertThat(latency.getMin()).isEqualTo(20);
+        assertThat(latency.getMax()).isEqualTo(3000);
+    }
+
+    @Test
+    public void testBlockCacheCounters(@TempDir Path tempDir) throws Exception {
+        PartialLookupMetrics metrics =
+                new PartialLookupMetrics(new TestMetricRegistry(), "myTable");
+        CacheMetrics cacheMetrics = new CacheMetrics();
+        CacheManager cacheManager =
+                new CacheManager(MemorySize.ofKibiBytes(1), 0).withMetrics(cacheMetrics);
+
+        File file = new File(tempDir.toFile(), "test.lookup");
+        assertThat(file.createNewFile()).isTrue();
+        try (RandomAccessFile accessFile = new RandomAccessFile(file, "r")) {
+            CacheKey key = CacheKey.forPageIndex(accessFile, 0, 0);
+            // recorded before the registration
+            cacheManager.getPage(key, k -> new byte[8], k -> {});
+            metrics.registerBlockCacheMetrics(cacheMetrics);
+            cacheManager.getPage(key, k -> new byte[8], k -> {});
+            cacheManager.getPage(key, k -> new byte[8], k -> {});
+        }
+
+        Map<String, Metric> registeredMetrics = metrics.metricGroup().getMetrics();
+        assertThat(
+                        ((Counter)
+                                        registeredMetrics.get(
+                                                PartialLookupMetrics.BLOCK_CACHE_MISS_COUNT))
+                                .getCount())
+                .isEqualTo(1);
+        assertThat(
+                        ((Counter)
+                                        registeredMetrics.get(
+                                                PartialLookupMetrics.BLOCK_CACHE_HIT_COUNT))
+                                .getCount())
+                .isEqualTo(2);
+        assertThat(
+                        ((Counter)
+                                        registeredMetrics.get(
+                                                PartialLookupMetrics.BLOCK_CACHE_EVICTION_COUNT))
+                                .getCount())
+                .isZero();
     }
 }
@@ -53,7 +53,8 @@ public class ScanMetricsTest {
                         ScanMetrics.MANIFEST_HIT_CACHE,
                         ScanMetrics.MANIFEST_MISSED_CACHE,
                         ScanMetrics.DVMETA_HIT_CACHE,
-                        ScanMetrics.DVMETA_MISSED_CACHE);
+                        ScanMetrics.DVMETA_MISSED_CACHE,
+                        ScanMetrics.MANIFEST_READ_LATENCY);
     }
 
     /** Tests that the metrics are updated properly. */
@@ -123,6 +124,26 @@ public class ScanMetricsTest {
         assertThat(lastScanResultedTableFiles.getValue()).isEqualTo(8);
     }
 
+    /** Tests that the manifest read latencies are recorded. */
+    @Test
+    public void testManifestReadLatency() {
+        ScanMetrics scanMetrics = getScanMetrics();
+        Histogram manifestReadLatency =
+                (Histogram)
+                        scanMetrics
+                                .getMetricGroup()
+                                .getMetrics()
+                                .get(ScanMetrics.MANIFEST_READ_LATENCY);
+        assertThat(manifestReadLatency.getCount()).isEqualTo(0);
+
+        scanMetrics.reportManifestRead(1_000_000);
+        scanMetrics.reportManifestRead(3_000_000);
+        assertThat(manifestReadLatency.getCount()).isEqualTo(2);
+        assertThat(manifestReadLatency.getStatistics().getMin()).isEqualTo(1000);
+        assertThat(manifestReadLatency.getStatistics().getMax()).isEqualTo(3000);
+        assertThat(manifestReadLatency.getStatistics().getMean()).isEqualTo(2000);
+    }
+
     private void reportOnce(ScanMetrics scanMetrics) {
         ScanStats scanStats = new ScanStats(200, 1L, 20, 25, 10);
         scanMetrics.reportScan(scanStats);
@@ -26,11 +26,13 @@ import org.apache.paimon.catalog.TableQueryAuthResult;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.deletionvectors.DeletionVectorsIndexFile;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.io.BundleRecords;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.FileKind;
@@ -982,6 +984,56 @@ public class PrimaryKeySimpleTableTest extends SimpleTableTestBase {
                                 "1|4|500|binary|varbinary|mapKey:mapVal|multiset"));
     }
 
+    @Test
+    public void testDeletionVectorsWithDeltaIndexFile() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(BUCKET, 1);
+                            conf.set(DELETION_VECTORS_ENABLED, true);
+                            conf.set(
+                                    CoreOptions.DELETION_VECTOR_INDEX_FILE_DELTA_THRESHOLD,
+                                    MemorySize.ofMebiBytes(1));
+                        });
+
+        StreamTableWrite write =
+                table.newWrite(commitUser).withIOManager(new IOManagerImpl(tempDir.toString()));
+        StreamTableCommit commit = table.newCommit(commitUser);
+
+        for (int i = 0; i < 10; i++) {
+            write.write(rowData(1, i, 100L));
+        }
+        commit.commit(0, write.prepareCommit(true, 0));
+
+        for (int round = 1; round <= 3; round++) {
+            write.write(rowData(1, round, 100L + round));
+            commit.commit(round, write.prepareCommit(true, round));
+        }
+        write.close();
+        commit.close();
+
+        List<IndexFileMeta> indexFiles =
+                table.store()
+                        .newIndexFileHandler()
+                        .scan(
+                                table.latestSnapshot().get(),
+                                DeletionVectorsIndexFile.DELETION_VECTORS_INDEX,
+                                binaryRow(1),
+                                0);
+        assertThat(indexFiles).anyMatch(DeletionVectorsIndexFile::isDeltaFile);
+        assertThat(indexFiles).hasSizeLessThanOrEqualTo(2);
+
+        List<Split> splits = toSplits(table.newSnapshotReader().read().dataSplits());
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            long value = i >= 1 && i <= 3 ? 100L + i : 100L;
+            expected.add(
+                    String.format("1|%d|%d|binary|varbinary|mapKey:mapVal|multiset", i, value));
+        }
+        assertThat(getResult(table.newRead(), splits, BATCH_ROW_TO_STRING))
+                .hasSameElementsAs(expected);
+    }
+
     @Test
     public void testDeletionVectorsWithParquetFilter() throws Exception {
         // RowGroup record range [pk] :
@@ -32,6 +32,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.apache.paimon.utils.ManifestReadThreadPool.sequentialBatchedExecute;
+import static org.apache.paimon.utils.ManifestReadThreadPool.sequentialPipelinedExecute;
 
 /** This test mainly test for the methods in {@link ManifestReadThreadPool}. */
 public class ManifestReadThreadPoolTest {
@@ -152,4 +153,50 @@ public class ManifestReadThreadPoolTest {
             Assertions.assertThat(re).hasSameElementsAs(Arrays.asList(result));
         }
     }
+
+    @Test
+    public void testPipelinedIterator() {
+        List<Integer> nums = new ArrayList<>();
+        for (int i = 0; i < 12345; i++) {
+            nums.add(i);
+        }
+
+        Iterator<Integer> iterator =
+                sequentialPipelinedExecute(
+                        i -> i % 3 == 0 ? emptyList() : singletonList(i + 1), nums, null);
+        for (int i = 0; i < 12345; i++) {
+            if (i % 3 != 0) {
+                Assertions.assertThat(iterator.hasNext()).isTrue();
+                Assertions.assertThat(iterator.next()).isEqualTo(i + 1);
+            }
+        }
+        Assertions.assertThat(iterator.hasNext()).isFalse();
+
+        Assertions.assertThat(sequentialPipelinedExecute(i -> singletonList(i), emptyList(), null))
+                .isExhausted();
+    }
+
+    @Test
+    public void testPipelinedWindowIsBounded() {
+        List<Integer> nums = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            nums.add(i);
+        }
+
+        AtomicInteger processed = new AtomicInteger(0);
+        Iterator<Integer> iterator =
+                sequentialPipelinedExecute(
+                        i -> {
+                            processed.incrementAndGet();
+                            return singletonList(i);
+                        },
+                        nums,
+                        2);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertThat(iterator.next()).isEqualTo(i);
+        }
+
+        // 10 consumed and at most a window of 2 * 2 submitted ahead
+        Assertions.assertThat(processed.get()).isLessThanOrEqualTo(14);
+    }
 }
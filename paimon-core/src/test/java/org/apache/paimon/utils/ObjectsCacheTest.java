@@ -21,6 +21,7 @@ package org.apache.paimon.utils;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.metrics.TestMetricRegistry;
 import org.apache.paimon.operation.metrics.ScanMetrics;
 import org.apache.paimon.options.MemorySize;
@@ -28,13 +29,16 @@ import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.apache.paimon.utils.ObjectsCache.Filters;
@@ -154,6 +158,93 @@ public class ObjectsCacheTest {
                         });
     }
 
+    @Test
+    public void testDiskCacheSurvivesRestart(@TempDir java.nio.file.Path tempDir)
+            throws IOException {
+        String diskDir = tempDir.toString();
+        List<String> expect = Arrays.asList("v1", "v2", "v3");
+        AtomicInteger remoteReads = new AtomicInteger(0);
+        BiFunctionWithIOE<String, Long, CloseableIterator<InternalRow>> reader =
+                (k, size) -> {
+                    remoteReads.incrementAndGet();
+                    return CloseableIterator.adapterForIterator(
+                            expect.stream()
+                                    .map(BinaryString::fromString)
+                                    .map(GenericRow::of)
+                                    .map(r -> (InternalRow) r)
+                                    .iterator());
+                };
+
+        for (int i = 0; i < 2; i++) {
+            // a new memory cache every round, like a restarted job
+            SegmentsCache<String> segmentsCache =
+                    new SegmentsCache<String>(1024, MemorySize.ofKibiBytes(5), Long.MAX_VALUE)
+                            .withDiskCache(new SegmentsDiskCache(diskDir, Long.MAX_VALUE));
+            SimpleObjectsCache<String, String> cache =
+                    new SimpleObjectsCache<>(
+                            segmentsCache,
+                            new StringSerializer(),
+                            RowType.of(DataTypes.STRING()),
+                            k -> 10L,
+                            reader);
+            List<String> values =
+                    cache.read(
+                            "k1",
+                            null,
+                            new Filters<>(
+                                    r -> !r.getString(0).toString().endsWith("2"),
+                                    Filter.alwaysTrue()),
+                            Function.identity());
+            assertThat(values).containsExactly("v1", "v3");
+        }
+        assertThat(remoteReads).hasValue(1);
+    }
+
+    @Test
+    public void testDiskCacheChecksRowType(@TempDir java.nio.file.Path tempDir) throws Exception {
+        SegmentsDiskCache diskCache = new SegmentsDiskCache(tempDir.toString(), Long.MAX_VALUE);
+        RowType rowType = RowType.of(DataTypes.INT(), DataTypes.STRING());
+        RowType otherType = RowType.of(DataTypes.BIGINT(), DataTypes.STRING());
+        List<InternalRow> rows =
+                Arrays.asList(
+                        GenericRow.of(1, BinaryString.fromString("a")),
+                        GenericRow.of(2, BinaryString.fromString("b")));
+
+        // not cached if not all rows are consumed
+        try (CloseableIterator<InternalRow> iterator =
+                diskCache.write(
+                        "k1",
+                        10L,
+                        rowType,
+                        new InternalRowSerializer(rowType),
+                        CloseableIterator.fromList(rows, r -> {}))) {
+            iterator.next();
+        }
+        assertThat(diskCache.read("k1", 10L, rowType)).isNull();
+
+        try (CloseableIterator<InternalRow> iterator =
+                diskCache.write(
+                        "k1",
+                        10L,
+                        rowType,
+                        new InternalRowSerializer(rowType),
+                        CloseableIterator.fromList(rows, r -> {}))) {
+            while (iterator.hasNext()) {
+                iterator.next();
+            }
+        }
+        try (CloseableIterator<InternalRow> iterator = diskCache.read("k1", 10L, rowType)) {
+            List<Integer> values = new ArrayList<>();
+            iterator.forEachRemaining(r -> values.add(r.getInt(0)));
+            assertThat(values).containsExactly(1, 2);
+        }
+
+        // rows written with another row type of the same arity are ignored
+        assertThat(diskCache.read("k1", 10L, otherType)).isNull();
+        // so are files of another size
+        assertThat(diskCache.read("k1", 11L, rowType)).isNull();
+    }
+
     private static class StringSerializer extends ObjectSerializer<String> {
 
         public StringSerializer() {
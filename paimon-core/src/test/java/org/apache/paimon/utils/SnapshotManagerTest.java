@@ -36,10 +36,12 @@ import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -272,6 +274,146 @@ public class SnapshotManagerTest {
         assertThat(snapshotManager.laterOrEqualWatermark(millis + 999)).isNull();
     }
 
+    @Test
+    public void testTimelineIndex() throws IOException {
+        long millis = 1684726826L;
+        FileIO localFileIO = LocalFileIO.create();
+        AtomicInteger snapshotReads = new AtomicInteger();
+        SnapshotManager snapshotManager =
+                new SnapshotManager(
+                        localFileIO,
+                        new Path(tempDir.toString()),
+                        DEFAULT_MAIN_BRANCH,
+                        null,
+                        null) {
+                    @Override
+                    public Snapshot snapshot(long snapshotId) {
+                        snapshotReads.incrementAndGet();
+                        return super.snapshot(snapshotId);
+                    }
+                };
+        for (long i = 1; i <= 100; i++) {
+            Snapshot snapshot =
+                    createSnapshot(i, i % 2 == 0 ? "user1" : "user2", i / 2, millis + i * 1000);
+            localFileIO.tryToWriteAtomic(snapshotManager.snapshotPath(i), snapshot.toJson());
+        }
+
+        assertThat(snapshotManager.readTimeline()).isNull();
+        snapshotManager.commitTimeline(80, 100);
+        SnapshotTimeline timeline = snapshotManager.readTimeline();
+        assertThat(timeline.firstSnapshotId()).isEqualTo(1);
+        assertThat(timeline.lastSnapshotId()).isEqualTo(80);
+        assertThat(timeline.commitUsers()).containsExactly("user2", "user1");
+
+        // expired snapshots are dropped and new snapshots are appended
+        for (long i = 1; i <= 10; i++) {
+            snapshotManager.deleteSnapshot(i);
+        }
+        snapshotManager.commitTimeline(90, 100);
+        timeline = snapshotManager.readTimeline();
+        assertThat(timeline.firstSnapshotId()).isEqualTo(11);
+        assertThat(timeline.lastSnapshotId()).isEqualTo(90);
+        assertThat(timeline.entry(42).timeMillis()).isEqualTo(millis + 42_000);
+
+        // probes of indexed snapshots are served from the timeline
+        snapshotReads.set(0);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 42_500).id()).isEqualTo(42);
+        assertThat(snapshotReads.get()).isEqualTo(1);
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis + 42_500).id()).isEqualTo(43);
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis + 95_500).id()).isEqualTo(96);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis)).isNull();
+        assertThat(
+                        snapshotManager
+                                .findSnapshotsForIdentifiers("user1", Arrays.asList(20L, 48L))
+                                .stream()
+                                .map(Snapshot::id))
+                .containsExactly(96L, 40L);
+
+        // a stale timeline, e.g. after a rollback, falls back to snapshot files
+        for (long i = 30; i <= 100; i++) {
+            snapshotManager.deleteSnapshot(i);
+            Snapshot snapshot = createSnapshot(i, "user3", i, millis + i * 2000);
+            localFileIO.tryToWriteAtomic(snapshotManager.snapshotPath(i), snapshot.toJson());
+        }
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 84_500).id()).isEqualTo(42);
+        assertThat(
+                        snapshotManager.findSnapshotsForIdentifiers("user3", Arrays.asList(50L))
+                                .stream()
+                                .map(Snapshot::id))
+                .containsExactly(50L);
+
+        snapshotManager.deleteTimeline();
+        assertThat(snapshotManager.readTimeline()).isNull();
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis + 84_500).id()).isEqualTo(43);
+    }
+
+    @Test
+    public void testTimelineIndexBoundedReads() throws IOException {
+        long millis = 1684726826L;
+        FileIO localFileIO = LocalFileIO.create();
+        SnapshotManager snapshotManager =
+                new SnapshotManager(
+                        localFileIO, new Path(tempDir.toString()), DEFAULT_MAIN_BRANCH, null, null);
+        for (long i = 1; i <= 100; i++) {
+            Snapshot snapshot = createSnapshot(i, "user", i, millis + i * 1000);
+            localFileIO.tryToWriteAtomic(snapshotManager.snapshotPath(i), snapshot.toJson());
+        }
+
+        // only the newest snapshots are indexed by the first update
+        snapshotManager.commitTimeline(60, 20);
+        SnapshotTimeline timeline = snapshotManager.readTimeline();
+        assertThat(timeline.firstSnapshotId()).isEqualTo(41);
+        assertThat(timeline.lastSnapshotId()).isEqualTo(60);
+
+        // new snapshots are appended first, older snapshots are indexed with the rest
+        snapshotManager.commitTimeline(70, 20);
+        timeline = snapshotManager.readTimeline();
+        assertThat(timeline.firstSnapshotId()).isEqualTo(31);
+        assertThat(timeline.lastSnapshotId()).isEqualTo(70);
+        assertThat(timeline.entry(35).timeMillis()).isEqualTo(millis + 35_000);
+
+        // older snapshots are only indexed down to the earliest snapshot
+        for (long i = 1; i <= 25; i++) {
+            snapshotManager.deleteSnapshot(i);
+        }
+        snapshotManager.commitTimeline(75, 20);
+        timeline = snapshotManager.readTimeline();
+        assertThat(timeline.firstSnapshotId()).isEqualTo(26);
+        assertThat(timeline.lastSnapshotId()).isEqualTo(75);
+
+        // the timeline is rebuilt if it lags too far behind
+        snapshotManager.commitTimeline(100, 20);
+        timeline = snapshotManager.readTimeline();
+        assertThat(timeline.firstSnapshotId()).isEqualTo(81);
+        assertThat(timeline.lastSnapshotId()).isEqualTo(100);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 42_500).id()).isEqualTo(42);
+    }
+
+    private Snapshot createSnapshot(long id, String user, long identifier, long millis) {
+        return new Snapshot(
+                id,
+                0L,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                user,
+                identifier,
+                Snapshot.CommitKind.APPEND,
+                millis,
+                0L,
+                0L,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null);
+    }
+
     public static Snapshot createSnapshotWithMillis(long id, long millis) {
         return new Snapshot(
                 id,
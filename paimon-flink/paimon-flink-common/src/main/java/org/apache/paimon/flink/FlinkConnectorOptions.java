@@ -260,11 +260,33 @@ public class FlinkConnectorOptions {
                     .defaultValue(16)
                     .withDescription("The thread number for lookup async.");
 
+    public static final ConfigOption<Integer> QUERY_SERVICE_LOOKUP_THREAD_NUMBER =
+            ConfigOptions.key("query-service.lookup.thread-number")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The thread number for lookups of the query service, every bucket is "
+                                    + "always served by the same thread.");
+
+    public static final ConfigOption<Integer> QUERY_SERVICE_LOOKUP_QUEUE_CAPACITY =
+            ConfigOptions.key("query-service.lookup.queue-capacity")
+                    .intType()
+                    .defaultValue(1024)
+                    .withDescription(
+                            "The max number of pending requests per lookup thread of the query "
+                                    + "service, requests beyond it are rejected as server busy.");
+
     public static final ConfigOption<LookupCacheMode> LOOKUP_CACHE_MODE =
             ConfigOptions.key("lookup.cache")
                     .enumType(LookupCacheMode.class)
                     .defaultValue(LookupCacheMode.AUTO)
-                    .withDescription("The cache mode of lookup join.");
+                    .withDescription(
+                            "The cache mode of lookup join. OFF_HEAP keeps the full cache in "
+                                    + "direct memory, which is only released by garbage collection "
+                                    + "after the lookup table is closed. The direct memory limit "
+                                    + "of the JVM (-XX:MaxDirectMemorySize, derived from "
+                                    + "'taskmanager.memory.task.off-heap.size' in Flink) must "
+                                    + "cover the whole cached table.");
 
     public static final ConfigOption<String> SCAN_PARTITIONS =
             ConfigOptions.key("scan.partitions")
@@ -464,6 +486,23 @@ public class FlinkConnectorOptions {
                                     + "${UID_PREFIX}_${TABLE_NAME}_${USER_UID_SUFFIX}. If the uid suffix is not set, flink will "
                                     + "automatically generate the operator uid, which may be incompatible when the topology changes.");
 
+    public static final ConfigOption<Integer> SOURCE_SPLIT_PREFETCH_COUNT =
+            key("source.split.prefetch-count")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "How many of the following splits the source reader opens in the "
+                                    + "background while consuming the current split, including "
+                                    + "their first batch. 0 disables prefetching.");
+
+    public static final ConfigOption<MemorySize> SOURCE_SPLIT_PREFETCH_MAX_SIZE =
+            key("source.split.prefetch-max-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(256))
+                    .withDescription(
+                            "Maximum total size of the data files of the prefetched splits, "
+                                    + "at least one split is prefetched.");
+
     public static final ConfigOption<String> SINK_OPERATOR_UID_SUFFIX =
             key("sink.operator-uid.suffix")
                     .stringType()
@@ -624,7 +663,10 @@ public class FlinkConnectorOptions {
         FULL,
 
         /** Use in-memory caching mode. */
-        MEMORY
+        MEMORY,
+
+        /** Use full caching mode with off-heap hash tables. */
+        OFF_HEAP
     }
 
     /** Watermark emit strategy for scan. */
@@ -691,7 +733,10 @@ public class FlinkConnectorOptions {
                 "Distribute splits evenly when batch reading to prevent a few tasks from reading all."),
         PREEMPTIVE(
                 "preemptive",
-                "Distribute splits preemptively according to the consumption speed of the task.");
+                "Distribute splits preemptively according to the consumption speed of the task."),
+        WORK_STEALING(
+                "work-stealing",
+                "Distribute splits by estimated bytes and keep the splits of a bucket on the same task, idle tasks steal pending splits from the most loaded task.");
 
         private final String value;
         private final String description;
@@ -26,6 +26,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.lookup.StateFactory;
 import org.apache.paimon.lookup.memory.InMemoryStateFactory;
+import org.apache.paimon.lookup.offheap.OffHeapStateFactory;
 import org.apache.paimon.lookup.rocksdb.RocksDBBulkLoader;
 import org.apache.paimon.lookup.rocksdb.RocksDBState;
 import org.apache.paimon.lookup.rocksdb.RocksDBStateFactory;
@@ -75,6 +76,7 @@ import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_CACHE_MODE;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC_PENDING_SNAPSHOT_COUNT;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheMode.MEMORY;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheMode.OFF_HEAP;
 
 /** Lookup table of full cache. */
 public abstract class FullCacheLookupTable implements LookupTable {
@@ -184,6 +186,8 @@ public abstract class FullCacheLookupTable implements LookupTable {
         Options options = context.table.coreOptions().toConfiguration();
         if (options.get(LOOKUP_CACHE_MODE) == MEMORY) {
             return new InMemoryStateFactory();
+        } else if (options.get(LOOKUP_CACHE_MODE) == OFF_HEAP) {
+            return new OffHeapStateFactory();
         } else {
             return new RocksDBStateFactory(diskDir, options, null);
         }
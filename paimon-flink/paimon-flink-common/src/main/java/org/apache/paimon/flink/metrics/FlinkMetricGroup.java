@@ -72,6 +72,13 @@ public class FlinkMetricGroup implements MetricGroup {
                                 windowSize)));
     }
 
+    @Override
+    public Histogram histogram(String name, Histogram histogram) {
+        // values are recorded into the given histogram directly, Flink only reads the statistics
+        wrapped.histogram(name, new PaimonHistogram(histogram));
+        return histogram;
+    }
+
     @Override
     public Map<String, String> getAllVariables() {
         return variables;
@@ -35,6 +35,8 @@ import org.apache.paimon.utils.TypeUtils;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -92,6 +94,35 @@ public class RemoteTableQuery implements TableQuery {
         return ProjectedRow.from(projection).replaceRow(row);
     }
 
+    @Override
+    public List<InternalRow> lookup(BinaryRow partition, int bucket, List<InternalRow> keys)
+            throws IOException {
+        BinaryRow[] keyRows = new BinaryRow[keys.size()];
+        for (int i = 0; i < keyRows.length; i++) {
+            keyRows[i] = keySerializer.toBinaryRow(keys.get(i)).copy();
+        }
+
+        BinaryRow[] rows;
+        try {
+            rows = client.getValues(partition, bucket, keyRows).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        List<InternalRow> results = new ArrayList<>(rows.length);
+        for (BinaryRow row : rows) {
+            if (projection == null || row == null) {
+                results.add(row);
+            } else {
+                results.add(ProjectedRow.from(projection).replaceRow(row));
+            }
+        }
+        return results;
+    }
+
     @Override
     public RemoteTableQuery withValueProjection(int[] projection) {
         this.projection = projection;
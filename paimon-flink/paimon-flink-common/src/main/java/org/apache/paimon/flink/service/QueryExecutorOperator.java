@@ -26,6 +26,7 @@ import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.utils.RuntimeContextUtils;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.DataFileMetaSerializer;
+import org.apache.paimon.options.Options;
 import org.apache.paimon.service.network.NetworkUtils;
 import org.apache.paimon.service.network.stats.DisabledServiceRequestStats;
 import org.apache.paimon.service.server.KvQueryServer;
@@ -44,6 +45,8 @@ import java.net.InetSocketAddress;
 import java.util.Collections;
 import java.util.List;
 
+import static org.apache.paimon.flink.FlinkConnectorOptions.QUERY_SERVICE_LOOKUP_QUEUE_CAPACITY;
+import static org.apache.paimon.flink.FlinkConnectorOptions.QUERY_SERVICE_LOOKUP_THREAD_NUMBER;
 import static org.apache.paimon.utils.SerializationUtils.deserializeBinaryRow;
 
 /** Operator for query executor. */
@@ -76,6 +79,7 @@ public class QueryExecutorOperator extends AbstractStreamOperator<InternalRow>
                                 .getIOManager()
                                 .getSpillingDirectoriesPaths());
         this.query = ((FileStoreTable) table).newLocalTableQuery().withIOManager(ioManager);
+        Options options = Options.fromMap(table.options());
         KvQueryServer server =
                 new KvQueryServer(
                         RuntimeContextUtils.getIndexOfThisSubtask(getRuntimeContext()),
@@ -84,6 +88,8 @@ public class QueryExecutorOperator extends AbstractStreamOperator<InternalRow>
                         Collections.singletonList(0).iterator(),
                         1,
                         1,
+                        options.get(QUERY_SERVICE_LOOKUP_THREAD_NUMBER),
+                        options.get(QUERY_SERVICE_LOOKUP_QUEUE_CAPACITY),
                         query,
                         new DisabledServiceRequestStats());
 
@@ -241,13 +241,13 @@ public class CompactorSourceBuilder {
             CompactionBucketDistributionStrategy bucketDistributionStrategy,
             SplitAssignMode splitAssignMode) {
         if (bucketDistributionStrategy == CompactionBucketDistributionStrategy.SIZE_AWARE_BATCH
-                && splitAssignMode == SplitAssignMode.PREEMPTIVE) {
+                && splitAssignMode != SplitAssignMode.FAIR) {
             throw new IllegalArgumentException(
                     "compaction.bucket-distribution-strategy=size-aware-batch requires "
                             + "scan.split-enumerator.mode=fair because it relies on grouped "
-                            + "bucket assignment. Preemptive split assignment can split the "
-                            + "same bucket across different writers while the sink skips "
-                            + "bucket shuffle.");
+                            + "bucket assignment. Preemptive or work-stealing split assignment "
+                            + "can split the same bucket across different writers while the sink "
+                            + "skips bucket shuffle.");
         }
     }
 
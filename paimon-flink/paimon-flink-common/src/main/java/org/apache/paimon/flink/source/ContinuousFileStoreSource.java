@@ -65,7 +65,11 @@ public class ContinuousFileStoreSource extends FlinkSource {
                 limit,
                 rowData,
                 Boolean.parseBoolean(
-                        options.getOrDefault(CoreOptions.BLOB_AS_DESCRIPTOR.key(), "false")));
+                        options.getOrDefault(CoreOptions.BLOB_AS_DESCRIPTOR.key(), "false")),
+                Options.fromMap(options).get(FlinkConnectorOptions.SOURCE_SPLIT_PREFETCH_COUNT),
+                Options.fromMap(options)
+                        .get(FlinkConnectorOptions.SOURCE_SPLIT_PREFETCH_MAX_SIZE)
+                        .getBytes());
         this.options = options;
         this.unordered = unordered;
     }
@@ -35,6 +35,7 @@ import javax.annotation.Nullable;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /** A {@link SourceReader} that read records from {@link FileStoreSourceSplit}. */
 public class FileStoreSourceReader
@@ -54,6 +55,32 @@ public class FileStoreSourceReader
             @Nullable NestedProjectedRowData rowData,
             @Nullable RowType readType,
             boolean blobAsDescriptor) {
+        this(
+                readerContext,
+                tableRead,
+                metrics,
+                ioManager,
+                limit,
+                rowData,
+                readType,
+                blobAsDescriptor,
+                0,
+                0,
+                null);
+    }
+
+    public FileStoreSourceReader(
+            SourceReaderContext readerContext,
+            TableRead tableRead,
+            FileStoreSourceReaderMetrics metrics,
+            IOManager ioManager,
+            @Nullable Long limit,
+            @Nullable NestedProjectedRowData rowData,
+            @Nullable RowType readType,
+            boolean blobAsDescriptor,
+            int splitPrefetchCount,
+            long splitPrefetchMaxSize,
+            @Nullable Supplier<TableRead> prefetchReadFactory) {
         // limiter is created in SourceReader, it can be shared in all split readers
         super(
                 () ->
@@ -62,7 +89,12 @@ public class FileStoreSourceReader
                                 RecordLimiter.create(limit),
                                 metrics,
                                 readType,
-                                blobAsDescriptor),
+                                blobAsDescriptor,
+                                splitPrefetchCount,
+                                splitPrefetchMaxSize,
+                                prefetchReadFactory == null
+                                        ? null
+                                        : () -> prefetchReadFactory.get().withIOManager(ioManager)),
                 (element, output, state) ->
                         FlinkRecordsWithSplitIds.emitRecord(
                                 readerContext, element, output, state, metrics, rowData),
@@ -22,6 +22,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.flink.FlinkRowData;
 import org.apache.paimon.flink.FlinkRowDataWithBlob;
 import org.apache.paimon.flink.source.metrics.FileStoreSourceReaderMetrics;
+import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.reader.RecordReader.RecordIterator;
 import org.apache.paimon.table.source.DataSplit;
@@ -30,6 +31,7 @@ import org.apache.paimon.table.source.TableRead;
 import org.apache.paimon.types.BlobType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.Pool;
+import org.apache.paimon.utils.ThreadPoolUtils;
 
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
@@ -46,16 +48,30 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
-/** The {@link SplitReader} implementation for the file store source. */
+/**
+ * The {@link SplitReader} implementation for the file store source.
+ *
+ * <p>When prefetching is enabled, the readers of the following splits are opened and their first
+ * batches are read by a background pool while the current split is consumed. {@link TableRead} is
+ * not thread safe, so each prefetched split uses its own {@link TableRead}, which is reused once
+ * the split is finished.
+ */
 public class FileStoreSourceSplitReader
         implements SplitReader<BulkFormat.RecordIterator<RowData>, FileStoreSourceSplit> {
 
@@ -79,12 +95,32 @@ public class FileStoreSourceSplitReader
     private final FileStoreSourceReaderMetrics metrics;
     private final boolean blobAsDescriptor;
 
+    private final int prefetchCount;
+    private final long prefetchMaxSize;
+    @Nullable private final Supplier<TableRead> prefetchReadFactory;
+    private final Deque<LazyRecordReader> prefetched;
+    private final Deque<TableRead> idlePrefetchReads;
+    private long prefetchedSize;
+    @Nullable private ExecutorService prefetchExecutor;
+
     public FileStoreSourceSplitReader(
             TableRead tableRead,
             @Nullable RecordLimiter limiter,
             FileStoreSourceReaderMetrics metrics,
             @Nullable RowType readType,
             boolean blobAsDescriptor) {
+        this(tableRead, limiter, metrics, readType, blobAsDescriptor, 0, 0, null);
+    }
+
+    public FileStoreSourceSplitReader(
+            TableRead tableRead,
+            @Nullable RecordLimiter limiter,
+            FileStoreSourceReaderMetrics metrics,
+            @Nullable RowType readType,
+            boolean blobAsDescriptor,
+            int prefetchCount,
+            long prefetchMaxSize,
+            @Nullable Supplier<TableRead> prefetchReadFactory) {
         this.tableRead = tableRead;
         this.limiter = limiter;
         this.splits = new LinkedList<>();
@@ -94,6 +130,12 @@ public class FileStoreSourceSplitReader
         this.metrics = metrics;
         this.wakeup = new AtomicBoolean(false);
         this.blobAsDescriptor = blobAsDescriptor;
+        this.prefetchCount = prefetchReadFactory == null ? 0 : prefetchCount;
+        this.prefetchMaxSize = prefetchMaxSize;
+        this.prefetchReadFactory = prefetchReadFactory;
+        this.prefetched = new ArrayDeque<>();
+        this.idlePrefetchReads = new ArrayDeque<>();
+        this.prefetchedSize = 0;
     }
 
     @Override
@@ -160,6 +202,7 @@ public class FileStoreSourceSplitReader
         }
 
         splits.addAll(splitsChange.splits());
+        prefetchSplits();
     }
 
     /**
@@ -200,9 +243,19 @@ public class FileStoreSourceSplitReader
                 }
             }
         } finally {
-            if (currentReader != null) {
-                if (currentReader.lazyRecordReader != null) {
-                    currentReader.lazyRecordReader.close();
+            try {
+                if (currentReader != null) {
+                    currentReader.close();
+                }
+            } finally {
+                try {
+                    while (!prefetched.isEmpty()) {
+                        prefetched.poll().close();
+                    }
+                } finally {
+                    if (prefetchExecutor != null) {
+                        prefetchExecutor.shutdownNow();
+                    }
                 }
             }
         }
@@ -213,10 +266,20 @@ public class FileStoreSourceSplitReader
             return;
         }
 
-        final FileStoreSourceSplit nextSplit = splits.poll();
-        if (nextSplit == null) {
-            throw new IOException("Cannot fetch from another split - no split remaining");
+        LazyRecordReader nextReader = prefetched.poll();
+        if (nextReader != null) {
+            prefetchedSize -= nextReader.size;
+        } else {
+            FileStoreSourceSplit split = splits.poll();
+            if (split == null) {
+                throw new IOException("Cannot fetch from another split - no split remaining");
+            }
+            nextReader = new LazyRecordReader(split);
         }
+        // keep the pipeline full while the new split is consumed
+        prefetchSplits();
+
+        final FileStoreSourceSplit nextSplit = nextReader.sourceSplit;
 
         // update metric when split changes
         if (nextSplit.split() instanceof DataSplit) {
@@ -228,7 +291,7 @@ public class FileStoreSourceSplitReader
         }
 
         currentSplitId = nextSplit.splitId();
-        currentReader = new LazyRecordReader(nextSplit.split());
+        currentReader = nextReader;
         currentNumRead = nextSplit.recordsToSkip();
         if (limiter != null) {
             limiter.add(currentNumRead);
@@ -258,11 +321,59 @@ public class FileStoreSourceSplitReader
         }
     }
 
+    private void prefetchSplits() {
+        if (prefetchCount <= 0 || reachLimit()) {
+            return;
+        }
+
+        while (prefetched.size() < prefetchCount && !splits.isEmpty()) {
+            long size = splitSize(splits.peek());
+            // always allow one split, even if it is larger than the budget
+            if (!prefetched.isEmpty() && prefetchedSize + size > prefetchMaxSize) {
+                return;
+            }
+
+            TableRead read = idlePrefetchReads.poll();
+            if (read == null) {
+                read = Objects.requireNonNull(prefetchReadFactory).get();
+            }
+            if (prefetchExecutor == null) {
+                prefetchExecutor =
+                        ThreadPoolUtils.createCachedThreadPool(
+                                prefetchCount, "paimon-split-prefetch");
+            }
+
+            LazyRecordReader reader = new LazyRecordReader(splits.poll(), read, size);
+            TableRead prefetchRead = read;
+            Split split = reader.sourceSplit.split();
+            AtomicBoolean started = reader.prefetchStarted;
+            reader.prefetch =
+                    prefetchExecutor.submit(
+                            () ->
+                                    started.compareAndSet(false, true)
+                                            ? PrefetchedRecordReader.open(
+                                                    prefetchRead.createReader(split))
+                                            : null);
+            prefetched.add(reader);
+            prefetchedSize += size;
+        }
+    }
+
+    private static long splitSize(FileStoreSourceSplit split) {
+        if (!(split.split() instanceof DataSplit)) {
+            return 0;
+        }
+
+        long size = 0;
+        for (DataFileMeta file : ((DataSplit) split.split()).dataFiles()) {
+            size += file.fileSize();
+        }
+        return size;
+    }
+
     private FlinkRecordsWithSplitIds finishSplit() throws IOException {
         if (currentReader != null) {
-            if (currentReader.lazyRecordReader != null) {
-                currentReader.lazyRecordReader.close();
-            }
+            currentReader.close();
             currentReader = null;
         }
 
@@ -337,23 +448,145 @@ public class FileStoreSourceSplitReader
         }
     }
 
-    /** Lazy to create {@link RecordReader} to improve performance for limit. */
+    /**
+     * Lazy to create {@link RecordReader} to improve performance for limit. A prefetched reader is
+     * opened in background, failures of the prefetching are only thrown when the reader is used.
+     */
     private class LazyRecordReader {
 
-        private final Split split;
+        private final FileStoreSourceSplit sourceSplit;
+        @Nullable private final TableRead prefetchRead;
+        private final long size;
+        private final AtomicBoolean prefetchStarted = new AtomicBoolean(false);
+
+        @Nullable private Future<RecordReader<InternalRow>> prefetch;
 
         private RecordReader<InternalRow> lazyRecordReader;
 
-        private LazyRecordReader(Split split) {
-            this.split = split;
+        private LazyRecordReader(FileStoreSourceSplit sourceSplit) {
+            this(sourceSplit, null, 0);
+        }
+
+        private LazyRecordReader(
+                FileStoreSourceSplit sourceSplit, @Nullable TableRead prefetchRead, long size) {
+            this.sourceSplit = sourceSplit;
+            this.prefetchRead = prefetchRead;
+            this.size = size;
         }
 
         public RecordReader<InternalRow> recordReader() throws IOException {
             if (lazyRecordReader == null) {
-                lazyRecordReader = tableRead.createReader(split);
+                long start = System.currentTimeMillis();
+                if (prefetch == null) {
+                    lazyRecordReader = tableRead.createReader(sourceSplit.split());
+                } else {
+                    lazyRecordReader = waitPrefetch(prefetch);
+                    prefetch = null;
+                }
+                metrics.recordReaderWait(System.currentTimeMillis() - start);
             }
             return lazyRecordReader;
         }
+
+        private RecordReader<InternalRow> waitPrefetch(Future<RecordReader<InternalRow>> future)
+                throws IOException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+
+        public void close() throws IOException {
+            // the prefetch read may only be reused once no prefetching uses it anymore
+            boolean readIdle = true;
+            try {
+                if (lazyRecordReader != null) {
+                    lazyRecordReader.close();
+                } else if (prefetch != null && !prefetchStarted.compareAndSet(false, true)) {
+                    // the prefetching has started, wait for it to close the reader it opened
+                    RecordReader<InternalRow> reader;
+                    try {
+                        reader = waitPrefetch(prefetch);
+                    } catch (CancellationException | IOException e) {
+                        LOG.debug("Ignore failed prefetching of unused split.", e);
+                        reader = null;
+                    }
+                    readIdle = prefetch.isDone();
+                    if (reader != null) {
+                        reader.close();
+                    }
+                }
+            } finally {
+                lazyRecordReader = null;
+                prefetch = null;
+                if (prefetchRead != null && readIdle) {
+                    idlePrefetchReads.add(prefetchRead);
+                }
+            }
+        }
+    }
+
+    /** A {@link RecordReader} whose first batch has already been read by the prefetching. */
+    private static class PrefetchedRecordReader implements RecordReader<InternalRow> {
+
+        private final RecordReader<InternalRow> reader;
+
+        @Nullable private RecordIterator<InternalRow> firstBatch;
+        private boolean firstBatchReturned;
+
+        private PrefetchedRecordReader(
+                RecordReader<InternalRow> reader,
+                @Nullable RecordIterator<InternalRow> firstBatch) {
+            this.reader = reader;
+            this.firstBatch = firstBatch;
+            this.firstBatchReturned = false;
+        }
+
+        private static RecordReader<InternalRow> open(RecordReader<InternalRow> reader)
+                throws IOException {
+            try {
+                return new PrefetchedRecordReader(reader, reader.readBatch());
+            } catch (Exception e) {
+                try {
+                    reader.close();
+                } catch (Exception closeException) {
+                    e.addSuppressed(closeException);
+                }
+                throw e;
+            }
+        }
+
+        @Nullable
+        @Override
+        public RecordIterator<InternalRow> readBatch() throws IOException {
+            if (!firstBatchReturned) {
+                firstBatchReturned = true;
+                RecordIterator<InternalRow> batch = firstBatch;
+                firstBatch = null;
+                return batch;
+            }
+            return reader.readBatch();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (firstBatch != null) {
+                    firstBatch.releaseBatch();
+                    firstBatch = null;
+                }
+            } finally {
+                reader.close();
+            }
+        }
     }
 
     /**
@@ -49,16 +49,30 @@ public abstract class FlinkSource
     @Nullable protected final Long limit;
     @Nullable protected final NestedProjectedRowData rowData;
     protected final boolean blobAsDescriptor;
+    protected final int splitPrefetchCount;
+    protected final long splitPrefetchMaxSize;
 
     public FlinkSource(
             ReadBuilder readBuilder,
             @Nullable Long limit,
             @Nullable NestedProjectedRowData rowData,
             boolean blobAsDescriptor) {
+        this(readBuilder, limit, rowData, blobAsDescriptor, 0, 0);
+    }
+
+    public FlinkSource(
+            ReadBuilder readBuilder,
+            @Nullable Long limit,
+            @Nullable NestedProjectedRowData rowData,
+            boolean blobAsDescriptor,
+            int splitPrefetchCount,
+            long splitPrefetchMaxSize) {
         this.readBuilder = readBuilder;
         this.limit = limit;
         this.rowData = rowData;
         this.blobAsDescriptor = blobAsDescriptor;
+        this.splitPrefetchCount = splitPrefetchCount;
+        this.splitPrefetchMaxSize = splitPrefetchMaxSize;
     }
 
     @Override
@@ -68,8 +82,8 @@ public abstract class FlinkSource
         SourceReaderMetricGroup metricGroup = context.metricGroup();
         FileStoreSourceReaderMetrics sourceReaderMetrics =
                 new FileStoreSourceReaderMetrics(metricGroup);
-        TableRead tableRead =
-                readBuilder.newRead().withMetricRegistry(new FlinkMetricRegistry(metricGroup));
+        FlinkMetricRegistry metricRegistry = new FlinkMetricRegistry(metricGroup);
+        TableRead tableRead = readBuilder.newRead().withMetricRegistry(metricRegistry);
 
         return new FileStoreSourceReader(
                 context,
@@ -79,7 +93,10 @@ public abstract class FlinkSource
                 limit,
                 NestedProjectedRowData.copy(rowData),
                 readBuilder.readType(),
-                blobAsDescriptor);
+                blobAsDescriptor,
+                splitPrefetchCount,
+                splitPrefetchMaxSize,
+                () -> readBuilder.newRead().withMetricRegistry(metricRegistry));
     }
 
     @Override
@@ -220,8 +220,13 @@ public class FlinkSourceBuilder {
                         options.get(FlinkConnectorOptions.SCAN_SPLIT_ENUMERATOR_ASSIGN_MODE),
                         dynamicPartitionFilteringInfo,
                         outerProject(),
+                        null,
+                        null,
                         options.get(CoreOptions.BLOB_AS_DESCRIPTOR),
-                        skipPreloadTargetSnapshot));
+                        skipPreloadTargetSnapshot,
+                        options.get(FlinkConnectorOptions.SOURCE_SPLIT_PREFETCH_COUNT),
+                        options.get(FlinkConnectorOptions.SOURCE_SPLIT_PREFETCH_MAX_SIZE)
+                                .getBytes()));
     }
 
     private DataStream<RowData> buildContinuousFileSource() {
@@ -23,6 +23,7 @@ import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.flink.source.assigners.FIFOSplitAssigner;
 import org.apache.paimon.flink.source.assigners.PreAssignSplitAssigner;
 import org.apache.paimon.flink.source.assigners.SplitAssigner;
+import org.apache.paimon.flink.source.assigners.WorkStealingSplitAssigner;
 import org.apache.paimon.table.ChainGroupReadTable;
 import org.apache.paimon.table.source.InnerTableScan;
 import org.apache.paimon.table.source.ReadBuilder;
@@ -130,7 +131,41 @@ public class StaticFileStoreSource extends FlinkSource {
             @Nullable SerializableFunction<FileStoreSourceSplit, ?> splitGroupFunc,
             boolean blobAsDescriptor,
             boolean skipPreloadTargetSnapshot) {
-        super(readBuilder, limit, rowData, blobAsDescriptor);
+        this(
+                readBuilder,
+                limit,
+                splitBatchSize,
+                splitAssignMode,
+                dynamicPartitionFilteringInfo,
+                rowData,
+                splitWeightFunc,
+                splitGroupFunc,
+                blobAsDescriptor,
+                skipPreloadTargetSnapshot,
+                0,
+                0);
+    }
+
+    public StaticFileStoreSource(
+            ReadBuilder readBuilder,
+            @Nullable Long limit,
+            int splitBatchSize,
+            SplitAssignMode splitAssignMode,
+            @Nullable DynamicPartitionFilteringInfo dynamicPartitionFilteringInfo,
+            @Nullable NestedProjectedRowData rowData,
+            @Nullable SerializableFunction<FileStoreSourceSplit, Long> splitWeightFunc,
+            @Nullable SerializableFunction<FileStoreSourceSplit, ?> splitGroupFunc,
+            boolean blobAsDescriptor,
+            boolean skipPreloadTargetSnapshot,
+            int splitPrefetchCount,
+            long splitPrefetchMaxSize) {
+        super(
+                readBuilder,
+                limit,
+                rowData,
+                blobAsDescriptor,
+                splitPrefetchCount,
+                splitPrefetchMaxSize);
         this.splitBatchSize = splitBatchSize;
         this.splitAssignMode = splitAssignMode;
         this.dynamicPartitionFilteringInfo = dynamicPartitionFilteringInfo;
@@ -207,6 +242,9 @@ public class StaticFileStoreSource extends FlinkSource {
                         splitBatchSize, context, splits, splitWeightFunc, splitGroupFunc);
             case PREEMPTIVE:
                 return new FIFOSplitAssigner(splits);
+            case WORK_STEALING:
+                return new WorkStealingSplitAssigner(
+                        splitBatchSize, context, splits, splitWeightFunc);
             default:
                 throw new UnsupportedOperationException(
                         "Unsupported assign mode " + splitAssignMode);
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.source.assigners;
+
+import org.apache.paimon.flink.source.FileStoreSourceSplit;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.utils.Pair;
+import org.apache.paimon.utils.SerializableFunction;
+
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.paimon.flink.utils.TableScanUtils.getSnapshotId;
+
+/**
+ * A {@link SplitAssigner} for batch reading which balances the subtasks by the estimated bytes of
+ * splits, and lets an idle subtask steal pending splits from the most loaded one.
+ *
+ * <p>Splits of the same partition and bucket are pre-assigned to the same subtask, so the local
+ * caches of a subtask (such as the lookup files and the cached blocks of data files) can be reused
+ * by the following splits of the bucket. Splits added later follow the subtask which has read their
+ * bucket. Stealing happens from the tail of the victim queue, and moves the bucket to the thief, to
+ * keep the head of the victim queue local.
+ */
+public class WorkStealingSplitAssigner implements SplitAssigner {
+
+    private final int splitBatchSize;
+
+    private final SerializableFunction<FileStoreSourceSplit, Long> weightFunc;
+
+    private final Map<Integer, LinkedList<FileStoreSourceSplit>> pendingSplitAssignment;
+
+    private final Map<Integer, Long> pendingWeights;
+
+    private final Map<Object, Integer> affinities;
+
+    private final AtomicInteger numberOfPendingSplits;
+
+    public WorkStealingSplitAssigner(
+            int splitBatchSize,
+            SplitEnumeratorContext<FileStoreSourceSplit> context,
+            Collection<FileStoreSourceSplit> splits,
+            @Nullable SerializableFunction<FileStoreSourceSplit, Long> weightFunc) {
+        this(splitBatchSize, context.currentParallelism(), splits, weightFunc);
+    }
+
+    public WorkStealingSplitAssigner(
+            int splitBatchSize,
+            int parallelism,
+            Collection<FileStoreSourceSplit> splits,
+            @Nullable SerializableFunction<FileStoreSourceSplit, Long> weightFunc) {
+        this.splitBatchSize = splitBatchSize;
+        this.weightFunc = weightFunc == null ? WorkStealingSplitAssigner::estimateSize : weightFunc;
+        this.pendingSplitAssignment = new TreeMap<>();
+        this.pendingWeights = new HashMap<>();
+        this.affinities = new HashMap<>();
+        this.numberOfPendingSplits = new AtomicInteger(0);
+        preAssign(parallelism, splits);
+    }
+
+    /** Assigns the buckets to subtasks by longest-processing-time-first on estimated bytes. */
+    private void preAssign(int parallelism, Collection<FileStoreSourceSplit> splits) {
+        Map<Object, Long> groupWeights = new LinkedHashMap<>();
+        for (FileStoreSourceSplit split : splits) {
+            groupWeights.merge(affinityKey(split), weightFunc.apply(split), Long::sum);
+        }
+
+        List<Map.Entry<Object, Long>> groups = new ArrayList<>(groupWeights.entrySet());
+        groups.sort(Map.Entry.<Object, Long>comparingByValue().reversed());
+
+        long[] assignedWeights = new long[parallelism];
+        int[] assignedGroups = new int[parallelism];
+        for (Map.Entry<Object, Long> group : groups) {
+            int target = 0;
+            for (int i = 1; i < parallelism; i++) {
+                if (assignedWeights[i] < assignedWeights[target]
+                        || (assignedWeights[i] == assignedWeights[target]
+                                && assignedGroups[i] < assignedGroups[target])) {
+                    target = i;
+                }
+            }
+            assignedWeights[target] += group.getValue();
+            assignedGroups[target]++;
+            affinities.put(group.getKey(), target);
+        }
+
+        // keep the original order of splits in each subtask
+        for (FileStoreSourceSplit split : splits) {
+            addLast(affinities.get(affinityKey(split)), split);
+        }
+    }
+
+    @Override
+    public List<FileStoreSourceSplit> getNext(int subtask, @Nullable String hostname) {
+        LinkedList<FileStoreSourceSplit> taskSplits = pendingSplitAssignment.get(subtask);
+        List<FileStoreSourceSplit> assignment = new ArrayList<>();
+        while (taskSplits != null && !taskSplits.isEmpty() && assignment.size() < splitBatchSize) {
+            FileStoreSourceSplit split = taskSplits.poll();
+            pendingWeights.merge(subtask, -weightFunc.apply(split), Long::sum);
+            assignment.add(split);
+        }
+
+        if (assignment.isEmpty()) {
+            assignment = steal(subtask);
+        }
+        numberOfPendingSplits.getAndAdd(-assignment.size());
+        return assignment;
+    }
+
+    private List<FileStoreSourceSplit> steal(int thief) {
+        Integer victim = mostLoadedSubtask();
+        if (victim == null) {
+            return new ArrayList<>();
+        }
+
+        // steal about half of the pending bytes of the victim from its tail
+        LinkedList<FileStoreSourceSplit> victimSplits = pendingSplitAssignment.get(victim);
+        long victimWeight = pendingWeights.get(victim);
+        long stolenWeight = 0;
+        LinkedList<FileStoreSourceSplit> stolen = new LinkedList<>();
+        while (!victimSplits.isEmpty()
+                && stolen.size() < splitBatchSize
+                && (stolen.isEmpty() || stolenWeight * 2 < victimWeight)) {
+            FileStoreSourceSplit split = victimSplits.pollLast();
+            long weight = weightFunc.apply(split);
+            stolenWeight += weight;
+            pendingWeights.merge(victim, -weight, Long::sum);
+            affinities.put(affinityKey(split), thief);
+            stolen.addFirst(split);
+        }
+        return stolen;
+    }
+
+    @Nullable
+    private Integer mostLoadedSubtask() {
+        return pendingSplitAssignment.entrySet().stream()
+                .filter(e -> !e.getValue().isEmpty())
+                .max(
+                        Comparator
+                                .<Map.Entry<Integer, LinkedList<FileStoreSourceSplit>>>
+                                        comparingLong(e -> pendingWeights.get(e.getKey()))
+                                .thenComparingInt(e -> e.getValue().size()))
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+
+    @Override
+    public void addSplit(int suggestedTask, FileStoreSourceSplit split) {
+        addLast(affinities.getOrDefault(affinityKey(split), suggestedTask), split);
+    }
+
+    @Override
+    public void addSplitsBack(int subtask, List<FileStoreSourceSplit> splits) {
+        LinkedList<FileStoreSourceSplit> remainingSplits =
+                pendingSplitAssignment.computeIfAbsent(subtask, k -> new LinkedList<>());
+        ListIterator<FileStoreSourceSplit> iterator = splits.listIterator(splits.size());
+        while (iterator.hasPrevious()) {
+            FileStoreSourceSplit split = iterator.previous();
+            remainingSplits.addFirst(split);
+            pendingWeights.merge(subtask, weightFunc.apply(split), Long::sum);
+        }
+        numberOfPendingSplits.getAndAdd(splits.size());
+    }
+
+    private void addLast(int subtask, FileStoreSourceSplit split) {
+        pendingSplitAssignment.computeIfAbsent(subtask, k -> new LinkedList<>()).add(split);
+        pendingWeights.merge(subtask, weightFunc.apply(split), Long::sum);
+        numberOfPendingSplits.incrementAndGet();
+    }
+
+    @Override
+    public Collection<FileStoreSourceSplit> remainingSplits() {
+        List<FileStoreSourceSplit> splits = new ArrayList<>();
+        pendingSplitAssignment.values().forEach(splits::addAll);
+        return splits;
+    }
+
+    @Override
+    public Optional<Long> getNextSnapshotId(int subtask) {
+        LinkedList<FileStoreSourceSplit> pendingSplits = pendingSplitAssignment.get(subtask);
+        if (pendingSplits != null && !pendingSplits.isEmpty()) {
+            return getSnapshotId(pendingSplits.peekFirst());
+        }
+
+        Integer victim = mostLoadedSubtask();
+        return victim == null
+                ? Optional.empty()
+                : getSnapshotId(pendingSplitAssignment.get(victim).peekLast());
+    }
+
+    @Override
+    public int numberOfRemainingSplits() {
+        return numberOfPendingSplits.get();
+    }
+
+    private static Object affinityKey(FileStoreSourceSplit split) {
+        if (split.split() instanceof DataSplit) {
+            DataSplit dataSplit = (DataSplit) split.split();
+            return Pair.of(dataSplit.partition(), dataSplit.bucket());
+        }
+        return split.splitId();
+    }
+
+    /** Estimates the bytes to read of a split, falls back to row count for non data splits. */
+    public static long estimateSize(FileStoreSourceSplit split) {
+        if (!(split.split() instanceof DataSplit)) {
+            return split.split().rowCount();
+        }
+
+        long size = 0;
+        for (DataFileMeta file : ((DataSplit) split.split()).dataFiles()) {
+            size += file.fileSize();
+        }
+        return size;
+    }
+}
@@ -25,14 +25,21 @@ import org.apache.flink.runtime.metrics.MetricNames;
 /** Source reader metrics. */
 public class FileStoreSourceReaderMetrics {
 
+    public static final String READER_WAIT_TIME = "readerWaitTime";
+    public static final String LAST_READER_WAIT_TIME = "lastReaderWaitTime";
+
     private long latestFileCreationTime = UNDEFINED;
     private long lastSplitUpdateTime = UNDEFINED;
+    private volatile long readerWaitTime = 0;
+    private volatile long lastReaderWaitTime = UNDEFINED;
     public static final long UNDEFINED = -1L;
     public static final long ACTIVE = Long.MAX_VALUE;
 
     public FileStoreSourceReaderMetrics(MetricGroup sourceReaderMetricGroup) {
         sourceReaderMetricGroup.gauge(
                 MetricNames.CURRENT_FETCH_EVENT_TIME_LAG, this::getFetchTimeLag);
+        sourceReaderMetricGroup.gauge(READER_WAIT_TIME, () -> readerWaitTime);
+        sourceReaderMetricGroup.gauge(LAST_READER_WAIT_TIME, () -> lastReaderWaitTime);
     }
 
     /** Called when consumed snapshot changes. */
@@ -41,6 +48,19 @@ public class FileStoreSourceReaderMetrics {
         lastSplitUpdateTime = System.currentTimeMillis();
     }
 
+    /**
+     * Called when the split reader has waited for the reader of a split to be opened, either
+     * directly or by the prefetching.
+     */
+    public void recordReaderWait(long waitTimeMillis) {
+        this.lastReaderWaitTime = waitTimeMillis;
+        this.readerWaitTime += waitTimeMillis;
+    }
+
+    public long getReaderWaitTime() {
+        return readerWaitTime;
+    }
+
     @VisibleForTesting
     long getFetchTimeLag() {
         if (latestFileCreationTime != UNDEFINED) {
@@ -26,6 +26,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.JoinedRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.FlinkConnectorOptions;
+import org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheMode;
 import org.apache.paimon.flink.lookup.FullCacheLookupTable.TableBulkLoader;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.local.LocalFileIO;
@@ -75,6 +76,7 @@ import static java.util.Collections.singletonList;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_CACHE_MODE;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheMode.FULL;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheMode.MEMORY;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheMode.OFF_HEAP;
 import static org.apache.paimon.types.DataTypes.INT;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -84,20 +86,20 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @ExtendWith(ParameterizedTestExtension.class)
 public class LookupTableTest extends TableTestBase {
 
-    private final boolean inMemory;
+    private final LookupCacheMode cacheMode;
 
     @TempDir Path tempDir;
     private RowType rowType;
     private FullCacheLookupTable table;
 
-    public LookupTableTest(boolean inMemory) {
-        this.inMemory = inMemory;
+    public LookupTableTest(LookupCacheMode cacheMode) {
+        this.cacheMode = cacheMode;
     }
 
     @SuppressWarnings("unused")
     @Parameters(name = "{0}")
-    public static List<Boolean> getVarSeg() {
-        return Arrays.asList(true, false);
+    public static List<LookupCacheMode> getVarSeg() {
+        return Arrays.asList(MEMORY, FULL, OFF_HEAP);
     }
 
     @BeforeEach
@@ -119,8 +121,8 @@ public class LookupTableTest extends TableTestBase {
     private FileStoreTable createTable(
             List<String> partitionKeys, List<String> primaryKeys, Options options)
             throws Exception {
-        if (inMemory) {
-            options.set(LOOKUP_CACHE_MODE, MEMORY);
+        if (cacheMode != FULL) {
+            options.set(LOOKUP_CACHE_MODE, cacheMode);
         }
         Identifier identifier = new Identifier("default", "t");
         Schema schema =
@@ -149,10 +151,11 @@ public class LookupTableTest extends TableTestBase {
         table.open();
 
         // test bulk load error
-        if (!inMemory) {
+        if (cacheMode != MEMORY) {
             TableBulkLoader bulkLoader = table.createBulkLoader();
-            bulkLoader.write(new byte[] {1}, new byte[] {1});
-            assertThatThrownBy(() -> bulkLoader.write(new byte[] {1}, new byte[] {2}))
+            byte[] key = table.toKeyBytes(row(1, 11, 111));
+            bulkLoader.write(key, table.toValueBytes(row(1, 11, 111)));
+            assertThatThrownBy(() -> bulkLoader.write(key, table.toValueBytes(row(1, 22, 222))))
                     .hasMessageContaining("Keys must be added in strict ascending order");
         }
 
@@ -931,7 +934,7 @@ public class LookupTableTest extends TableTestBase {
     public void testFullCacheLookupTableWithForceLookup() throws Exception {
         Options options = new Options();
         options.set(CoreOptions.MERGE_ENGINE, CoreOptions.MergeEngine.PARTIAL_UPDATE);
-        options.set(LOOKUP_CACHE_MODE, inMemory ? MEMORY : FULL);
+        options.set(LOOKUP_CACHE_MODE, cacheMode);
         options.set(CoreOptions.WRITE_ONLY, true);
         options.set(CoreOptions.FORCE_LOOKUP, true);
         options.set(CoreOptions.BUCKET, 1);
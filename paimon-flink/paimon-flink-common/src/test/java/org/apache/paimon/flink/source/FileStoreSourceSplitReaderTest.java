@@ -58,11 +58,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -146,6 +148,19 @@ public class FileStoreSourceSplitReaderTest {
                 false);
     }
 
+    private FileStoreSourceSplitReader createPrefetchReader(
+            TestChangelogDataReadWrite rw, @Nullable Long limit, int prefetchCount) {
+        return new FileStoreSourceSplitReader(
+                rw.createReadWithKey(),
+                limit == null ? null : new RecordLimiter(limit),
+                new FileStoreSourceReaderMetrics(new DummyMetricGroup()),
+                null,
+                false,
+                prefetchCount,
+                Long.MAX_VALUE,
+                rw::createReadWithKey);
+    }
+
     private void innerTestOnce(int skip) throws Exception {
         TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString());
         FileStoreSourceSplitReader reader = createReader(rw.createReadWithKey(), null);
@@ -344,6 +359,122 @@ public class FileStoreSourceSplitReaderTest {
         reader.close();
     }
 
+    @Test
+    public void testMultipleSplitsWithPrefetch() throws Exception {
+        TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString());
+        FileStoreSourceSplitReader reader = createPrefetchReader(rw, null, 2);
+
+        List<List<Tuple2<Long, Long>>> inputs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            List<Tuple2<Long, Long>> input = kvs(i * 10);
+            List<DataFileMeta> files = rw.writeFiles(row(i), i, input);
+            assignSplit(reader, newSourceSplit("id" + i, row(i), i, files));
+            inputs.add(input);
+        }
+
+        for (int i = 0; i < 4; i++) {
+            RecordsWithSplitIds<BulkFormat.RecordIterator<RowData>> records = reader.fetch();
+            assertRecords(
+                    records,
+                    null,
+                    "id" + i,
+                    0,
+                    inputs.get(i).stream().map(t -> t.f1).collect(Collectors.toList()));
+
+            records = reader.fetch();
+            assertRecords(records, "id" + i, "id" + i, 0, null);
+        }
+
+        reader.close();
+    }
+
+    @Test
+    public void testPrefetchWithLimit() throws Exception {
+        TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString());
+        FileStoreSourceSplitReader reader = createPrefetchReader(rw, 2L, 1);
+
+        List<Tuple2<Long, Long>> input = kvs();
+        List<DataFileMeta> files = rw.writeFiles(row(1), 0, input);
+        assignSplit(reader, newSourceSplit("id1", row(1), 0, files, 0));
+        // a fake file, the failure of prefetching it should not be thrown after limit reached
+        assignSplit(
+                reader, newSourceSplit("id2", row(1), 0, Collections.singletonList(newFile(0)), 0));
+
+        RecordsWithSplitIds<BulkFormat.RecordIterator<RowData>> records = reader.fetch();
+        List<Tuple2<RowKind, Long>> result = readRecords(records, "id1", 0);
+        assertThat(result)
+                .containsExactly(
+                        new Tuple2<>(RowKind.INSERT, input.get(0).f1),
+                        new Tuple2<>(RowKind.INSERT, input.get(1).f1));
+
+        records = reader.fetch();
+        assertRecords(records, "id1", null, 0, Collections.emptyList());
+
+        records = reader.fetch();
+        assertRecords(records, "id2", null, 0, null);
+
+        reader.close();
+    }
+
+    @Test
+    public void testCloseWhilePrefetching() throws Exception {
+        TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString());
+        CountDownLatch prefetchStarted = new CountDownLatch(1);
+        CountDownLatch prefetchReleased = new CountDownLatch(1);
+        AtomicBoolean prefetchedReaderClosed = new AtomicBoolean(false);
+        RecordReader<InternalRow> prefetchedReader =
+                new SingleBatchRecordReader(new TrackingRecordIterator()) {
+                    @Override
+                    public void close() {
+                        prefetchedReaderClosed.set(true);
+                    }
+                };
+        TableRead blockingRead =
+                new TestingTableRead(prefetchedReader) {
+                    @Override
+                    public RecordReader<InternalRow> createReader(Split split) {
+                        prefetchStarted.countDown();
+                        try {
+                            prefetchReleased.await();
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                        return super.createReader(split);
+                    }
+                };
+        FileStoreSourceSplitReader reader =
+                new FileStoreSourceSplitReader(
+                        rw.createReadWithKey(),
+                        null,
+                        new FileStoreSourceReaderMetrics(new DummyMetricGroup()),
+                        null,
+                        false,
+                        1,
+                        Long.MAX_VALUE,
+                        () -> blockingRead);
+
+        // the split is prefetched once assigned
+        List<DataFileMeta> files = rw.writeFiles(row(1), 0, kvs());
+        assignSplit(reader, newSourceSplit("id1", row(1), 0, files));
+        prefetchStarted.await();
+
+        // closing waits for the running prefetching and closes the reader it opened
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> closing =
+                    executorService.submit(
+                            () -> {
+                                reader.close();
+                                return null;
+                            });
+            prefetchReleased.countDown();
+            closing.get(30, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(prefetchedReaderClosed).isTrue();
+    }
+
     @Test
     public void testNoSplit() throws Exception {
         TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString());
@@ -141,8 +141,12 @@ public abstract class StaticFileStoreSplitEnumeratorTestBase
             RowType partitionRowProjection,
             List<String> dynamicPartitionFilteringFields) {
         FlinkConnectorOptions.SplitAssignMode mode = splitAssignMode();
-        // make sure one request assigns one split in FAIR mode
-        int splitBatchSize = mode == FlinkConnectorOptions.SplitAssignMode.FAIR ? 1 : 10;
+        // make sure one request assigns one split in FAIR and WORK_STEALING mode
+        int splitBatchSize =
+                mode == FlinkConnectorOptions.SplitAssignMode.FAIR
+                                || mode == FlinkConnectorOptions.SplitAssignMode.WORK_STEALING
+                        ? 1
+                        : 10;
         return new StaticFileStoreSplitEnumerator(
                 context,
                 null,
@@ -65,6 +65,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.CoreOptions.DELETION_VECTORS_ENABLED;
+import static org.apache.paimon.CoreOptions.READ_LATE_MATERIALIZATION;
 import static org.apache.paimon.format.OrcOptions.ORC_TIMESTAMP_LTZ_LEGACY_TYPE;
 
 /** Orc {@link FileFormat}. */
@@ -94,6 +95,12 @@ public class OrcFileFormat extends FileFormat implements SupportsFieldMetadata {
         this.orcProperties.forEach((k, v) -> readerConf.set(k.toString(), v.toString()));
         OrcConf.IS_SCHEMA_EVOLUTION_CASE_SENSITIVE.setBoolean(
                 readerConf, formatContext.caseSensitive());
+        if (formatContext.options().get(READ_LATE_MATERIALIZATION)) {
+            // let the orc reader decode the filter columns first and the others only for the
+            // rows selected by the search argument
+            OrcConf.ALLOW_SARG_TO_FILTER.setBoolean(readerConf, true);
+            OrcConf.READER_USE_SELECTED.setBoolean(readerConf, true);
+        }
         this.writerConf = new org.apache.hadoop.conf.Configuration(false);
         this.orcProperties.forEach((k, v) -> writerConf.set(k.toString(), v.toString()));
         this.readBatchSize = formatContext.readBatchSize();
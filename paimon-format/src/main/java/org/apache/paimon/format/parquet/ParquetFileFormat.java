@@ -18,6 +18,7 @@
 
 package org.apache.paimon.format.parquet;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FileFormatFactory.FormatContext;
@@ -147,6 +148,9 @@ public class ParquetFileFormat extends FileFormat implements SupportsFieldMetada
         // case-sensitive is not a parquet.* key, so it is dropped by getIdentifierPrefixOptions;
         // carry the resolved value onto the reader options bus for ParquetReaderFactory to read.
         parquetOptions.set(CatalogOptions.CASE_SENSITIVE, context.caseSensitive());
+        parquetOptions.set(
+                CoreOptions.READ_LATE_MATERIALIZATION,
+                context.options().get(CoreOptions.READ_LATE_MATERIALIZATION));
 
         return parquetOptions;
     }
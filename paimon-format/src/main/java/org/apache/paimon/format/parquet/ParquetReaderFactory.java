@@ -18,6 +18,7 @@
 
 package org.apache.paimon.format.parquet;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.columnar.VectorizedColumnBatch;
@@ -33,7 +34,11 @@ import org.apache.paimon.format.shredding.ShreddingReadPlanFactories;
 import org.apache.paimon.format.shredding.ShreddingReadPlanFactory;
 import org.apache.paimon.options.CatalogOptions;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.CompoundPredicate;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.predicate.LeafPredicate;
 import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.types.ArrayType;
 import org.apache.paimon.types.DataField;
@@ -89,6 +94,7 @@ public class ParquetReaderFactory implements FormatReaderFactory {
     private final int batchSize;
     private final boolean caseSensitive;
     @Nullable private final List<Predicate> predicates;
+    @Nullable private final Predicate lateMaterializationFilter;
 
     /**
      * Cache: fileSchema -> requestedSchema.
@@ -110,6 +116,60 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         this.batchSize = batchSize;
         this.caseSensitive = conf.getOptional(CatalogOptions.CASE_SENSITIVE).orElse(true);
         this.predicates = predicates;
+        this.lateMaterializationFilter =
+                conf.get(CoreOptions.READ_LATE_MATERIALIZATION)
+                        ? lateMaterializationFilter(predicates)
+                        : null;
+    }
+
+    /**
+     * Maps the predicates to the indexes of the read fields, predicates referencing fields which
+     * are not read with the same type are ignored.
+     */
+    @Nullable
+    private Predicate lateMaterializationFilter(@Nullable List<Predicate> predicates) {
+        if (predicates == null || predicates.isEmpty()) {
+            return null;
+        }
+
+        List<FieldRef> fieldRefs = new ArrayList<>();
+        for (Predicate predicate : predicates) {
+            collectFieldRefs(predicate, fieldRefs);
+        }
+        int maxIndex = fieldRefs.stream().mapToInt(FieldRef::index).max().orElse(-1);
+        int[] mapping = new int[maxIndex + 1];
+        Arrays.fill(mapping, -1);
+        List<DataField> fields = readType.getFields();
+        for (FieldRef ref : fieldRefs) {
+            for (int i = 0; i < fields.size(); i++) {
+                DataField field = fields.get(i);
+                boolean nameMatched =
+                        caseSensitive
+                                ? field.name().equals(ref.name())
+                                : field.name().equalsIgnoreCase(ref.name());
+                if (nameMatched && field.type().equalsIgnoreNullable(ref.type())) {
+                    mapping[ref.index()] = i;
+                    break;
+                }
+            }
+        }
+
+        List<Predicate> mapped = PredicateBuilder.pickTransformFieldMapping(predicates, mapping);
+        return mapped.isEmpty() ? null : PredicateBuilder.and(mapped);
+    }
+
+    private static void collectFieldRefs(Predicate predicate, List<FieldRef> fieldRefs) {
+        if (predicate instanceof CompoundPredicate) {
+            for (Predicate child : ((CompoundPredicate) predicate).children()) {
+                collectFieldRefs(child, fieldRefs);
+            }
+        } else {
+            for (Object input : ((LeafPredicate) predicate).transform().inputs()) {
+                if (input instanceof FieldRef) {
+                    fieldRefs.add((FieldRef) input);
+                }
+            }
+        }
     }
 
     @VisibleForTesting
@@ -184,7 +244,8 @@ public class ParquetReaderFactory implements FormatReaderFactory {
                         requestedSchema.fields,
                         writableVectors,
                         actualBatchSize,
-                        context.fileIO());
+                        context.fileIO(),
+                        readPlan.isIdentity() ? lateMaterializationFilter : null);
         return readPlan.isIdentity()
                 ? parquetReader
                 : new ShreddingFormatReader(parquetReader, readPlan);
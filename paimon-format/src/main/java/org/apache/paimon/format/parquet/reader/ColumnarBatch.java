@@ -18,6 +18,7 @@
 
 package org.apache.paimon.format.parquet.reader;
 
+import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.columnar.ArrayColumnVector;
 import org.apache.paimon.data.columnar.ColumnVector;
 import org.apache.paimon.data.columnar.ColumnarRow;
@@ -30,14 +31,19 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.utils.LongIterator;
 
+import javax.annotation.Nullable;
+
 import java.util.Arrays;
 
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
 /** A batch of rows in columnar format. */
 public class ColumnarBatch {
     protected final ColumnVector[] columns;
 
     protected final VectorizedColumnBatch vectorizedColumnBatch;
     protected final ColumnarRowIterator vectorizedRowIterator;
+    protected final SelectedRowIterator selectedRowIterator;
 
     public ColumnarBatch(Path filePath, ColumnVector[] columns, FileIO fileIO) {
         this.columns = columns;
@@ -55,6 +61,7 @@ public class ColumnarBatch {
                 containsNestedColumn
                         ? new ColumnarRowIterator(filePath, row, null)
                         : new VectorizedRowIterator(filePath, row, null);
+        this.selectedRowIterator = new SelectedRowIterator(filePath, row);
     }
 
     /** Reset next record position and return self. */
@@ -62,6 +69,15 @@ public class ColumnarBatch {
         vectorizedRowIterator.reset(positions);
     }
 
+    /**
+     * Returns an iterator over the selected rows of this batch only. It is not a vectorized
+     * iterator, because the column vectors hold undefined values for rows not selected.
+     */
+    public ColumnarRowIterator select(int[] selected, int numSelected, LongIterator positions) {
+        selectedRowIterator.reset(positions, selected, numSelected);
+        return selectedRowIterator;
+    }
+
     /** Sets the number of rows in this batch. */
     public void setNumRows(int numRows) {
         this.vectorizedColumnBatch.setNumRows(numRows);
@@ -71,4 +87,39 @@ public class ColumnarBatch {
     public ColumnVector column(int ordinal) {
         return columns[ordinal];
     }
+
+    /** A {@link ColumnarRowIterator} which only returns the selected rows of the batch. */
+    private static class SelectedRowIterator extends ColumnarRowIterator {
+
+        private int[] selected;
+
+        private SelectedRowIterator(Path filePath, ColumnarRow row) {
+            super(filePath, row, null);
+        }
+
+        private void reset(LongIterator positions, int[] selected, int numSelected) {
+            reset(positions);
+            this.selected = selected;
+            this.num = numSelected;
+        }
+
+        @Nullable
+        @Override
+        public InternalRow next() {
+            if (index < num) {
+                row.setRowId(selected[index++]);
+                return row;
+            } else {
+                return null;
+            }
+        }
+
+        @Override
+        public SelectedRowIterator copy(ColumnVector[] vectors) {
+            checkArgument(returnedPositionIndex == 0, "copy() should not be called after next()");
+            SelectedRowIterator newIterator = new SelectedRowIterator(filePath, row.copy(vectors));
+            newIterator.reset(positionIterator, selected, num);
+            return newIterator;
+        }
+    }
 }
@@ -55,4 +55,20 @@ public class RowIndexGenerator {
     public void populateRowIndex(ColumnarBatch columnarBatch) {
         columnarBatch.resetPositions(rowIndexIterator);
     }
+
+    /**
+     * Consumes the row indexes of the next {@code numRows} rows and returns the ones of the
+     * selected rows, which are in ascending order.
+     */
+    public LongIterator selectedRowIndex(int numRows, int[] selected, int numSelected) {
+        long[] positions = new long[numSelected];
+        int next = 0;
+        for (int i = 0; i < numRows; i++) {
+            long position = rowIndexIterator.next();
+            if (next < numSelected && selected[next] == i) {
+                positions[next++] = position;
+            }
+        }
+        return LongIterator.fromArray(positions);
+    }
 }
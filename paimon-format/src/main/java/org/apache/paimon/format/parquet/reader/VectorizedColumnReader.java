@@ -147,6 +147,50 @@ public class VectorizedColumnReader {
             WritableIntVector repetitionLevels,
             WritableIntVector definitionLevels)
             throws IOException {
+        readBatch(0, total, type, column, repetitionLevels, definitionLevels, true);
+    }
+
+    /**
+     * Reads `total` rows of this non-repeated column into column, starting at position `offset` of
+     * the column. Dictionary ids are decoded eagerly, because positions of the column which are not
+     * read may hold stale ids.
+     */
+    void readBatch(int offset, int total, DataType type, WritableColumnVector column)
+            throws IOException {
+        column.setDictionary(null);
+        readBatch(offset, total, type, column, null, null, false);
+    }
+
+    /** Skips `total` rows of this non-repeated column without decoding them. */
+    void skipBatch(int total, DataType type) throws IOException {
+        ParquetVectorUpdater updater = ParquetVectorUpdaterFactory.getUpdater(descriptor, type);
+        readState.resetForNewBatch(total);
+        while (readState.rowsToReadInBatch > 0) {
+            if (readState.valuesToReadInPage == 0) {
+                int pageValueCount = readPage();
+                if (pageValueCount < 0) {
+                    break;
+                }
+                readState.resetForNewPage(pageValueCount, pageFirstRowIndex);
+            }
+            defColumn.skipBatch(
+                    readState,
+                    (VectorizedValuesReader) dataColumn,
+                    isCurrentPageDictionaryEncoded
+                            ? new ParquetVectorUpdaterFactory.IntegerUpdater()
+                            : updater);
+        }
+    }
+
+    private void readBatch(
+            int offset,
+            int total,
+            DataType type,
+            WritableColumnVector column,
+            WritableIntVector repetitionLevels,
+            WritableIntVector definitionLevels,
+            boolean lazyDictionaryDecoding)
+            throws IOException {
         WritableIntVector dictionaryIds = null;
         ParquetVectorUpdater updater = ParquetVectorUpdaterFactory.getUpdater(descriptor, type);
 
@@ -156,9 +200,11 @@ public class VectorizedColumnReader {
             // decode all previous dictionary encoded pages if we ever encounter a non-dictionary
             // encoded
             // page.
-            dictionaryIds = column.reserveDictionaryIds(total);
+            dictionaryIds = column.reserveDictionaryIds(offset + total);
         }
         readState.resetForNewBatch(total);
+        readState.valueOffset = offset;
+        readState.levelOffset = offset;
         while (readState.rowsToReadInBatch > 0 || !readState.lastListCompleted) {
             if (readState.valuesToReadInPage == 0) {
                 int pageValueCount = readPage();
@@ -201,9 +247,10 @@ public class VectorizedColumnReader {
                 // TIMESTAMP_MILLIS encoded as INT64 can't be lazily decoded as we need to post
                 // process
                 // the values to add microseconds precision.
-                if (column.hasDictionary()
-                        || (startRowId == pageFirstRowIndex
-                                && isLazyDecodingSupported(typeName, column))) {
+                if (lazyDictionaryDecoding
+                        && (column.hasDictionary()
+                                || (startRowId == pageFirstRowIndex
+                                        && isLazyDecodingSupported(typeName, column)))) {
                     column.setDictionary(new ParquetDictionary(dictionary));
                 } else {
                     updater.decodeDictionaryIds(
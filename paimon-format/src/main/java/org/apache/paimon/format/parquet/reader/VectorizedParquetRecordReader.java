@@ -19,13 +19,21 @@
 package org.apache.paimon.format.parquet.reader;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.ColumnarRowIterator;
 import org.apache.paimon.data.columnar.writable.WritableColumnVector;
 import org.apache.paimon.format.parquet.type.ParquetField;
 import org.apache.paimon.format.parquet.type.ParquetPrimitiveField;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.predicate.CompoundPredicate;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.predicate.LeafPredicate;
+import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.FileRecordReader;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.utils.LongIterator;
 
 import org.apache.parquet.VersionParser;
 import org.apache.parquet.column.ColumnDescriptor;
@@ -47,7 +55,14 @@ import java.util.stream.Collectors;
 import static java.lang.String.format;
 import static org.apache.paimon.data.columnar.ColumnVectorUtils.createReadableColumnVectors;
 
-/** Record reader for parquet. */
+/**
+ * Record reader for parquet.
+ *
+ * <p>If a filter is given, the reader materializes each batch lazily: the columns referenced by the
+ * filter are decoded first, the filter is evaluated per row, and the other top-level primitive
+ * columns are only decoded for the rows that match, the rest of their values are skipped. Rows not
+ * matching the filter are not returned.
+ */
 public class VectorizedParquetRecordReader implements FileRecordReader<InternalRow> {
 
     private ParquetFileReader reader;
@@ -81,9 +96,18 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
     private final List<ParquetField> fields;
     private final RowIndexGenerator rowIndexGenerator;
 
+    /** Filter on the read fields for late materialization, null if disabled. */
+    @Nullable private final Predicate filter;
+
+    private final boolean[] filterColumns;
+
     private Set<ParquetField> missingColumns;
     private VersionParser.ParsedVersion writerVersion;
 
+    private ColumnarRow filterRow;
+    private int[] selected;
+    private ColumnarRowIterator result;
+
     public VectorizedParquetRecordReader(
             Path filePath,
             ParquetFileReader reader,
@@ -91,7 +115,8 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
             List<ParquetField> fields,
             WritableColumnVector[] vectors,
             int batchSize,
-            FileIO fileIO)
+            FileIO fileIO,
+            @Nullable Predicate filter)
             throws IOException {
         this.filePath = filePath;
         this.reader = reader;
@@ -101,6 +126,11 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
         this.batchSize = batchSize;
         this.fileIO = fileIO;
         this.rowIndexGenerator = new RowIndexGenerator();
+        this.filter = filter;
+        this.filterColumns = new boolean[fields.size()];
+        if (filter != null) {
+            collectFilterColumns(filter, filterColumns);
+        }
 
         // fetch writer version from file metadata
         try {
@@ -132,6 +162,24 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
                     new ParquetColumnVector(
                             fields.get(i), vectors[i], batchSize, missingColumns, true);
         }
+        if (filter != null) {
+            filterRow = new ColumnarRow(columnarBatch.vectorizedColumnBatch);
+            selected = new int[batchSize];
+        }
+    }
+
+    private static void collectFilterColumns(Predicate predicate, boolean[] filterColumns) {
+        if (predicate instanceof CompoundPredicate) {
+            for (Predicate child : ((CompoundPredicate) predicate).children()) {
+                collectFilterColumns(child, filterColumns);
+            }
+        } else {
+            for (Object input : ((LeafPredicate) predicate).transform().inputs()) {
+                if (input instanceof FieldRef) {
+                    filterColumns[((FieldRef) input).index()] = true;
+                }
+            }
+        }
     }
 
     private void checkMissingColumns() throws IOException {
@@ -187,23 +235,17 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
             checkEndOfRowGroup();
 
             int num = (int) Math.min(batchSize, totalCountLoadedSoFar - rowsReturned);
-            for (ParquetColumnVector cv : columnVectors) {
-                for (ParquetColumnVector leafCv : cv.getLeaves()) {
-                    VectorizedColumnReader columnReader = leafCv.getColumnReader();
-                    if (columnReader != null) {
-                        columnReader.readBatch(
-                                num,
-                                leafCv.getColumn().getType(),
-                                leafCv.getValueVector(),
-                                leafCv.getRepetitionLevelVector(),
-                                leafCv.getDefinitionLevelVector());
-                    }
+            if (filter == null) {
+                for (ParquetColumnVector cv : columnVectors) {
+                    readColumn(cv, num);
                 }
-                cv.assemble();
+                rowsReturned += num;
+                columnarBatch.setNumRows(num);
+                rowIndexGenerator.populateRowIndex(columnarBatch);
+                result = columnarBatch.vectorizedRowIterator;
+            } else {
+                readBatchLazily(num);
             }
-            rowsReturned += num;
-            columnarBatch.setNumRows(num);
-            rowIndexGenerator.populateRowIndex(columnarBatch);
             return true;
         } catch (IOException e) {
             throw new IOException(
@@ -220,6 +262,85 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
         }
     }
 
+    private void readColumn(ParquetColumnVector cv, int num) throws IOException {
+        for (ParquetColumnVector leafCv : cv.getLeaves()) {
+            VectorizedColumnReader columnReader = leafCv.getColumnReader();
+            if (columnReader != null) {
+                columnReader.readBatch(
+                        num,
+                        leafCv.getColumn().getType(),
+                        leafCv.getValueVector(),
+                        leafCv.getRepetitionLevelVector(),
+                        leafCv.getDefinitionLevelVector());
+            }
+        }
+        cv.assemble();
+    }
+
+    private void readBatchLazily(int num) throws IOException {
+        for (int i = 0; i < columnVectors.length; i++) {
+            if (filterColumns[i]) {
+                readColumn(columnVectors[i], num);
+            }
+        }
+        columnarBatch.setNumRows(num);
+
+        int numSelected = 0;
+        for (int row = 0; row < num; row++) {
+            filterRow.setRowId(row);
+            if (filter.test(filterRow)) {
+                selected[numSelected++] = row;
+            }
+        }
+
+        for (int i = 0; i < columnVectors.length; i++) {
+            if (filterColumns[i]) {
+                continue;
+            }
+            ParquetColumnVector cv = columnVectors[i];
+            if (numSelected == num
+                    || !cv.getColumn().isPrimitive()
+                    || cv.getColumnReader() == null) {
+                readColumn(cv, num);
+            } else {
+                readSelectedRows(cv, num, numSelected);
+            }
+        }
+
+        rowsReturned += num;
+        LongIterator positions = rowIndexGenerator.selectedRowIndex(num, selected, numSelected);
+        if (numSelected == num) {
+            columnarBatch.resetPositions(positions);
+            result = columnarBatch.vectorizedRowIterator;
+        } else {
+            result = columnarBatch.select(selected, numSelected, positions);
+        }
+    }
+
+    /** Decodes the selected rows of a top-level primitive column and skips the others. */
+    private void readSelectedRows(ParquetColumnVector cv, int num, int numSelected)
+            throws IOException {
+        VectorizedColumnReader columnReader = cv.getColumnReader();
+        DataType type = cv.getColumn().getType();
+        int row = 0;
+        int i = 0;
+        while (i < numSelected) {
+            int start = selected[i];
+            int end = start + 1;
+            while (++i < numSelected && selected[i] == end) {
+                end++;
+            }
+            if (start > row) {
+                columnReader.skipBatch(start - row, type);
+            }
+            columnReader.readBatch(start, end - start, type, cv.getValueVector());
+            row = end;
+        }
+        if (num > row) {
+            columnReader.skipBatch(num - row, type);
+        }
+    }
+
     private void checkEndOfRowGroup() throws IOException {
         if (rowsReturned != totalCountLoadedSoFar) {
             return;
@@ -263,7 +384,7 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
     @Override
     public @Nullable FileRecordIterator<InternalRow> readBatch() throws IOException {
         if (nextBatch()) {
-            return columnarBatch.vectorizedRowIterator;
+            return result;
         } else {
             return null;
         }
@@ -352,6 +352,51 @@ public final class VectorizedRleValuesReader extends ValuesReader
         state.rowId = rowId;
     }
 
+    /**
+     * Skips the rows of a batch of a non-repeated column without decoding them. The rows which are
+     * not in the row ranges tracked by 'state' are skipped too, but not counted into the batch, the
+     * same as {@link #readBatch}.
+     */
+    public void skipBatch(
+            ParquetReadState state,
+            VectorizedValuesReader valueReader,
+            ParquetVectorUpdater updater) {
+        long rowId = state.rowId;
+        int leftInBatch = state.rowsToReadInBatch;
+        int leftInPage = state.valuesToReadInPage;
+
+        while (leftInBatch > 0 && leftInPage > 0) {
+            if (currentCount == 0 && !readNextGroup()) {
+                break;
+            }
+            int n = Math.min(leftInBatch, Math.min(leftInPage, this.currentCount));
+
+            long rangeStart = state.currentRangeStart();
+            long rangeEnd = state.currentRangeEnd();
+
+            if (rowId + n < rangeStart) {
+                skipValues(n, state, valueReader, updater);
+                rowId += n;
+                leftInPage -= n;
+            } else if (rowId > rangeEnd) {
+                state.nextRange();
+            } else {
+                // skip [rowId, end], only the part [start, end] belongs to the batch
+                long start = Math.max(rangeStart, rowId);
+                long end = Math.min(rangeEnd, rowId + n - 1);
+                int toSkip = (int) (end - rowId + 1);
+                skipValues(toSkip, state, valueReader, updater);
+                rowId += toSkip;
+                leftInPage -= toSkip;
+                leftInBatch -= (int) (end - start + 1);
+            }
+        }
+
+        state.rowsToReadInBatch = leftInBatch;
+        state.valuesToReadInPage = leftInPage;
+        state.rowId = rowId;
+    }
+
     /**
      * Reads a batch of repetition levels, definition levels and values into 'repLevels',
      * 'defLevels' and 'values' respectively. The definition levels and values are read via
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.row;
+
+import org.apache.paimon.data.GenericArray;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalArray;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.format.SimpleColStats;
+import org.apache.paimon.format.SimpleStatsCollector;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.statistics.NoneSimpleColStatsCollector;
+import org.apache.paimon.statistics.SimpleColStatsCollector;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.ProjectedRow;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Per-block min/max/null-count statistics (zone maps) of a row file, stored between the block index
+ * and the footer.
+ *
+ * <p>Layout: {@code [block_count (int32)][column_count (int32)][column_index (int32) x
+ * column_count]} followed by, for each block, {@code [min row][max row][null_count (int64) x
+ * column_count]}. Only columns whose stats mode is not {@code none} are stored, rows are serialized
+ * by {@link InternalRowSerializer} over these columns, a null field or a negative null count means
+ * the statistic is unknown.
+ */
+class RowBlockStats {
+
+    private final InternalRow[] minValues;
+    private final InternalRow[] maxValues;
+    private final InternalArray[] nullCounts;
+
+    private RowBlockStats(
+            InternalRow[] minValues, InternalRow[] maxValues, InternalArray[] nullCounts) {
+        this.minValues = minValues;
+        this.maxValues = maxValues;
+        this.nullCounts = nullCounts;
+    }
+
+    int blockCount() {
+        return minValues.length;
+    }
+
+    /** Returns false only if no row of the block can match the predicate. */
+    boolean test(int blockIdx, long rowCount, Predicate predicate) {
+        return predicate.test(
+                rowCount, minValues[blockIdx], maxValues[blockIdx], nullCounts[blockIdx]);
+    }
+
+    static RowBlockStats readFrom(byte[] data, RowType rowType) throws IOException {
+        int fieldCount = rowType.getFieldCount();
+        DataInputDeserializer in = new DataInputDeserializer(data);
+        int blockCount = in.readInt();
+        int[] columns = new int[in.readInt()];
+        // maps the fields of the file to the stored columns, fields without statistics are null
+        int[] mapping = new int[fieldCount];
+        Arrays.fill(mapping, -1);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = in.readInt();
+            mapping[columns[i]] = i;
+        }
+
+        InternalRowSerializer serializer = new InternalRowSerializer(rowType.project(columns));
+        InternalRow[] minValues = new InternalRow[blockCount];
+        InternalRow[] maxValues = new InternalRow[blockCount];
+        InternalArray[] nullCounts = new InternalArray[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            minValues[i] = ProjectedRow.from(mapping).replaceRow(serializer.deserialize(in));
+            maxValues[i] = ProjectedRow.from(mapping).replaceRow(serializer.deserialize(in));
+            Long[] counts = new Long[fieldCount];
+            for (int column : columns) {
+                long count = in.readLong();
+                counts[column] = count < 0 ? null : count;
+            }
+            nullCounts[i] = new GenericArray(counts);
+        }
+        return new RowBlockStats(minValues, maxValues, nullCounts);
+    }
+
+    /** Collects the statistics of blocks while writing and serializes them. */
+    static class Writer {
+
+        private final int[] columns;
+        private final RowType statsType;
+        private final SimpleColStatsCollector.Factory[] factories;
+        private final ProjectedRow projectedRow;
+        private final InternalRowSerializer serializer;
+        private final DataOutputSerializer out;
+
+        private SimpleStatsCollector collector;
+        private int blockCount;
+
+        private Writer(RowType rowType, SimpleColStatsCollector.Factory[] factories) {
+            this.columns =
+                    IntStream.range(0, factories.length)
+                            .filter(
+                                    i ->
+                                            !(factories[i].create()
+                                                    instanceof NoneSimpleColStatsCollector))
+                            .toArray();
+            this.statsType = rowType.project(columns);
+            this.factories =
+                    Arrays.stream(columns)
+                            .mapToObj(i -> factories[i])
+                            .toArray(SimpleColStatsCollector.Factory[]::new);
+            this.projectedRow = ProjectedRow.from(columns);
+            this.serializer = new InternalRowSerializer(statsType);
+            this.out = new DataOutputSerializer(1024);
+            this.collector = new SimpleStatsCollector(statsType, this.factories);
+        }
+
+        /**
+         * Creates a writer collecting the statistics of the given stats collectors, or null if the
+         * stats mode of all fields is {@code none}.
+         */
+        @Nullable
+        static Writer create(RowType rowType, SimpleColStatsCollector.Factory[] factories) {
+            Writer writer = new Writer(rowType, factories);
+            return writer.columns.length == 0 ? null : writer;
+        }
+
+        void collect(InternalRow row) {
+            collector.collect(projectedRow.replaceRow(row));
+        }
+
+        void finishBlock() throws IOException {
+            SimpleColStats[] stats = collector.extract();
+            GenericRow min = new GenericRow(stats.length);
+            GenericRow max = new GenericRow(stats.length);
+            for (int i = 0; i < stats.length; i++) {
+                min.setField(i, stats[i].min());
+                max.setField(i, stats[i].max());
+            }
+            serializer.serialize(min, out);
+            serializer.serialize(max, out);
+            for (SimpleColStats stat : stats) {
+                Long nullCount = stat.nullCount();
+                out.writeLong(nullCount == null ? -1 : nullCount);
+            }
+            blockCount++;
+            collector = new SimpleStatsCollector(statsType, factories);
+        }
+
+        byte[] serialize() throws IOException {
+            DataOutputSerializer result =
+                    new DataOutputSerializer(out.length() + 8 + 4 * columns.length);
+            result.writeInt(blockCount);
+            result.writeInt(columns.length);
+            for (int column : columns) {
+                result.writeInt(column);
+            }
+            result.write(out.getSharedBuffer(), 0, out.length());
+            return result.getCopyOfBuffer();
+        }
+    }
+}
@@ -23,23 +23,44 @@ import org.apache.paimon.fs.SeekableInputStream;
 
 import java.io.IOException;
 
-/** Fixed 32-byte footer at the end of a row file. */
+/**
+ * Fixed 32-byte footer at the end of a row file.
+ *
+ * <p>If {@link #FLAG_BLOCK_STATS} is set, the {@link RowBlockStats} are stored between the block
+ * index and the footer.
+ */
 class RowFileFooter {
 
     static final int FOOTER_SIZE = 32;
     static final int MAGIC = 0x524F5753; // "ROWS"
     static final byte VERSION = 1;
+    static final byte FLAG_BLOCK_STATS = 1;
 
     final long totalRowCount;
     final int blockCount;
     final long indexOffset;
     final int indexLength;
+    final byte flags;
 
     RowFileFooter(long totalRowCount, int blockCount, long indexOffset, int indexLength) {
+        this(totalRowCount, blockCount, indexOffset, indexLength, (byte) 0);
+    }
+
+    RowFileFooter(
+            long totalRowCount, int blockCount, long indexOffset, int indexLength, byte flags) {
         this.totalRowCount = totalRowCount;
         this.blockCount = blockCount;
         this.indexOffset = indexOffset;
         this.indexLength = indexLength;
+        this.flags = flags;
+    }
+
+    boolean hasBlockStats() {
+        return (flags & FLAG_BLOCK_STATS) != 0;
+    }
+
+    long blockStatsOffset() {
+        return indexOffset + indexLength;
     }
 
     void writeTo(PositionOutputStream out) throws IOException {
@@ -49,7 +70,8 @@ class RowFileFooter {
         writeLongLE(buf, 12, indexOffset);
         writeIntLE(buf, 20, indexLength);
         buf[24] = VERSION;
-        // bytes 25-27 reserved (zeros)
+        buf[25] = flags;
+        // bytes 26-27 reserved (zeros)
         writeIntLE(buf, 28, MAGIC);
         out.write(buf);
     }
@@ -78,8 +100,9 @@ class RowFileFooter {
         int blockCount = readIntLE(buf, offset + 8);
         long indexOffset = readLongLE(buf, offset + 12);
         int indexLength = readIntLE(buf, offset + 20);
+        byte flags = buf[offset + 25];
 
-        return new RowFileFooter(totalRowCount, blockCount, indexOffset, indexLength);
+        return new RowFileFooter(totalRowCount, blockCount, indexOffset, indexLength, flags);
     }
 
     private static void readFully(SeekableInputStream in, byte[] buf) throws IOException {
@@ -18,32 +18,59 @@
 
 package org.apache.paimon.format.row;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FileFormatFactory.FormatContext;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.FormatWriterFactory;
+import org.apache.paimon.options.ConfigOption;
 import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.predicate.FieldRef;
 import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateReplaceVisitor;
+import org.apache.paimon.statistics.SimpleColStatsCollector;
+import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.NestedProjectedRow;
+import org.apache.paimon.utils.StatsCollectorFactories;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+
+import static org.apache.paimon.options.ConfigOptions.key;
 
 /** Row-store file format with block-level ZSTD compression and O(1) row-number lookup. */
 public class RowFileFormat extends FileFormat {
 
+    public static final ConfigOption<Boolean> BLOCK_STATS_ENABLED =
+            key("row.block-stats.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to write per-block min/max/null-count statistics, which "
+                                    + "allow readers to skip blocks by the pushed down filters. "
+                                    + "The statistics of each field follow 'metadata.stats-mode', "
+                                    + "'fields.{field_name}.stats-mode' and "
+                                    + "'metadata.stats-keep-first-n-columns', fields whose stats "
+                                    + "mode is 'none' are not stored.");
+
     private static final int DEFAULT_BLOCK_SIZE = 65536;
 
     private final int blockSize;
     private final int zstdLevel;
+    private final boolean blockStatsEnabled;
+    private final CoreOptions coreOptions;
 
     public RowFileFormat(FormatContext formatContext) {
         super(RowFileFormatFactory.IDENTIFIER);
         this.zstdLevel = formatContext.zstdLevel();
         MemorySize bs = formatContext.blockSize();
         this.blockSize = bs != null ? (int) bs.getBytes() : DEFAULT_BLOCK_SIZE;
+        this.blockStatsEnabled = formatContext.options().get(BLOCK_STATS_ENABLED);
+        this.coreOptions = new CoreOptions(formatContext.options());
     }
 
     @Override
@@ -53,12 +80,55 @@ public class RowFileFormat extends FileFormat {
             @Nullable List<Predicate> filters) {
         NestedProjectedRow projection =
                 NestedProjectedRow.create(dataSchemaRowType, projectedRowType);
-        return new RowFormatReaderFactory(dataSchemaRowType, projection);
+        return new RowFormatReaderFactory(
+                dataSchemaRowType, projection, blockFilters(dataSchemaRowType, filters));
     }
 
     @Override
     public FormatWriterFactory createWriterFactory(RowType type) {
-        return new RowFormatWriterFactory(type, blockSize, zstdLevel);
+        SimpleColStatsCollector.Factory[] blockStatsCollectors =
+                blockStatsEnabled
+                        ? StatsCollectorFactories.createStatsFactories(
+                                coreOptions.statsMode(), coreOptions, type.getFieldNames())
+                        : null;
+        return new RowFormatWriterFactory(type, blockSize, zstdLevel, blockStatsCollectors);
+    }
+
+    /**
+     * Binds the filters to the fields of the file by name, filters referring to fields absent in
+     * the file are dropped.
+     */
+    private static List<Predicate> blockFilters(
+            RowType rowType, @Nullable List<Predicate> filters) {
+        List<Predicate> result = new ArrayList<>();
+        if (filters == null) {
+            return result;
+        }
+
+        PredicateReplaceVisitor visitor =
+                predicate -> {
+                    List<Object> inputs = new ArrayList<>();
+                    for (Object input : predicate.transform().inputs()) {
+                        if (input instanceof FieldRef) {
+                            FieldRef ref = (FieldRef) input;
+                            int index = rowType.getFieldIndex(ref.name());
+                            if (index < 0) {
+                                return Optional.empty();
+                            }
+                            DataField field = rowType.getFields().get(index);
+                            if (!field.type().equalsIgnoreNullable(ref.type())) {
+                                return Optional.empty();
+                            }
+                            input = new FieldRef(index, ref.name(), field.type());
+                        }
+                        inputs.add(input);
+                    }
+                    return Optional.<Predicate>of(predicate.copyWithNewInputs(inputs));
+                };
+        for (Predicate filter : filters) {
+            filter.visit(visitor).ifPresent(result::add);
+        }
+        return result;
     }
 
     @Override
@@ -21,6 +21,7 @@ package org.apache.paimon.format.row;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.types.RowType;
@@ -50,6 +51,19 @@ public class RowFormatReader implements FileRecordReader<InternalRow> {
             RowType rowType,
             @Nullable NestedProjectedRow projection,
             @Nullable RoaringBitmap32 selection) {
+        this(inputStream, filePath, footer, blockIndex, rowType, projection, selection, null, null);
+    }
+
+    RowFormatReader(
+            SeekableInputStream inputStream,
+            Path filePath,
+            RowFileFooter footer,
+            RowBlockIndex blockIndex,
+            RowType rowType,
+            @Nullable NestedProjectedRow projection,
+            @Nullable RoaringBitmap32 selection,
+            @Nullable RowBlockStats blockStats,
+            @Nullable Predicate filter) {
         this.filePath = filePath;
         this.footer = footer;
         this.blockIndex = blockIndex;
@@ -60,7 +74,8 @@ public class RowFormatReader implements FileRecordReader<InternalRow> {
                 new BlockPrefetcher(
                         inputStream,
                         blockIndex,
-                        computeBlocksToRead(blockIndex, footer.totalRowCount, selection));
+                        computeBlocksToRead(
+                                blockIndex, footer.totalRowCount, selection, blockStats, filter));
     }
 
     @Nullable
@@ -98,9 +113,17 @@ public class RowFormatReader implements FileRecordReader<InternalRow> {
     }
 
     private static int[] computeBlocksToRead(
-            RowBlockIndex blockIndex, long totalRowCount, @Nullable RoaringBitmap32 selection) {
+            RowBlockIndex blockIndex,
+            long totalRowCount,
+            @Nullable RoaringBitmap32 selection,
+            @Nullable RowBlockStats blockStats,
+            @Nullable Predicate filter) {
         int blockCount = blockIndex.blockCount();
-        if (selection == null) {
+        if (filter != null && blockStats != null && blockStats.blockCount() != blockCount) {
+            // statistics do not match the blocks, do not use them
+            filter = null;
+        }
+        if (selection == null && filter == null) {
             int[] all = new int[blockCount];
             for (int i = 0; i < blockCount; i++) {
                 all[i] = i;
@@ -113,9 +136,13 @@ public class RowFormatReader implements FileRecordReader<InternalRow> {
         for (int i = 0; i < blockCount; i++) {
             long blockStart = blockIndex.blockRowStart(i);
             long blockEnd = (i + 1 < blockCount) ? blockIndex.blockRowStart(i + 1) : totalRowCount;
-            if (selection.intersects(blockStart, blockEnd)) {
-                blocks[count++] = i;
+            if (selection != null && !selection.intersects(blockStart, blockEnd)) {
+                continue;
+            }
+            if (filter != null && !blockStats.test(i, blockEnd - blockStart, filter)) {
+                continue;
             }
+            blocks[count++] = i;
         }
 
         int[] result = new int[count];
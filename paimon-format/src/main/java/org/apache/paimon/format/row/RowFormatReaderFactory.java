@@ -23,6 +23,8 @@ import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.IOUtils;
@@ -31,6 +33,8 @@ import org.apache.paimon.utils.NestedProjectedRow;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 /** Factory for creating {@link RowFormatReader}. */
 public class RowFormatReaderFactory implements FormatReaderFactory {
@@ -39,10 +43,21 @@ public class RowFormatReaderFactory implements FormatReaderFactory {
 
     private final RowType rowType;
     @Nullable private final NestedProjectedRow projection;
+    private final List<Predicate> filters;
 
     public RowFormatReaderFactory(RowType rowType, @Nullable NestedProjectedRow projection) {
+        this(rowType, projection, Collections.emptyList());
+    }
+
+    /**
+     * @param filters filters bound to the fields of {@code rowType}, used to skip blocks by their
+     *     {@link RowBlockStats}
+     */
+    public RowFormatReaderFactory(
+            RowType rowType, @Nullable NestedProjectedRow projection, List<Predicate> filters) {
         this.rowType = rowType;
         this.projection = projection;
+        this.filters = filters;
     }
 
     @Override
@@ -72,7 +87,29 @@ public class RowFormatReaderFactory implements FormatReaderFactory {
             blockIndex = RowBlockIndex.readFrom(in, footer.indexOffset, footer.indexLength);
         }
 
+        RowBlockStats blockStats = null;
+        if (!filters.isEmpty() && footer.hasBlockStats()) {
+            long statsOffset = footer.blockStatsOffset();
+            byte[] statsData = new byte[(int) (fileSize - RowFileFooter.FOOTER_SIZE - statsOffset)];
+            if (statsOffset >= tailOffset) {
+                System.arraycopy(
+                        tailBuf, (int) (statsOffset - tailOffset), statsData, 0, statsData.length);
+            } else {
+                in.seek(statsOffset);
+                IOUtils.readFully(in, statsData);
+            }
+            blockStats = RowBlockStats.readFrom(statsData, rowType);
+        }
+
         return new RowFormatReader(
-                in, path, footer, blockIndex, rowType, projection, context.selection());
+                in,
+                path,
+                footer,
+                blockIndex,
+                rowType,
+                projection,
+                context.selection(),
+                blockStats,
+                blockStats == null ? null : PredicateBuilder.and(filters));
     }
 }
@@ -22,9 +22,12 @@ import org.apache.paimon.compression.ZstdBlockCompressor;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.format.FormatWriter;
 import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.statistics.SimpleColStatsCollector;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.LongArrayList;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 
 /** Writer that produces row-store format files with block-level ZSTD compression. */
@@ -34,6 +37,7 @@ public class RowFormatWriter implements FormatWriter {
     private final ZstdBlockCompressor compressor;
     private final int blockSizeThreshold;
     private final RowBlockWriter blockWriter;
+    @Nullable private final RowBlockStats.Writer statsWriter;
 
     private final LongArrayList blockCompressedSizes;
     private final LongArrayList blockUncompressedSizes;
@@ -43,10 +47,23 @@ public class RowFormatWriter implements FormatWriter {
 
     public RowFormatWriter(
             PositionOutputStream out, RowType rowType, int blockSize, int zstdLevel) {
+        this(out, rowType, blockSize, zstdLevel, null);
+    }
+
+    public RowFormatWriter(
+            PositionOutputStream out,
+            RowType rowType,
+            int blockSize,
+            int zstdLevel,
+            @Nullable SimpleColStatsCollector.Factory[] blockStatsCollectors) {
         this.out = out;
         this.compressor = new ZstdBlockCompressor(zstdLevel);
         this.blockSizeThreshold = blockSize;
         this.blockWriter = new RowBlockWriter(new BlockOutput(blockSize), rowType);
+        this.statsWriter =
+                blockStatsCollectors == null
+                        ? null
+                        : RowBlockStats.Writer.create(rowType, blockStatsCollectors);
         this.blockCompressedSizes = new LongArrayList(128);
         this.blockUncompressedSizes = new LongArrayList(128);
         this.blockRowStarts = new LongArrayList(128);
@@ -55,6 +72,9 @@ public class RowFormatWriter implements FormatWriter {
     @Override
     public void addElement(InternalRow element) throws IOException {
         blockWriter.writeRow(element);
+        if (statsWriter != null) {
+            statsWriter.collect(element);
+        }
         totalRowCount++;
 
         if (blockWriter.estimatedSize() >= blockSizeThreshold) {
@@ -83,9 +103,19 @@ public class RowFormatWriter implements FormatWriter {
         index.writeTo(out);
         int indexLength = (int) (out.getPos() - indexOffset);
 
+        byte flags = 0;
+        if (statsWriter != null) {
+            out.write(statsWriter.serialize());
+            flags |= RowFileFooter.FLAG_BLOCK_STATS;
+        }
+
         RowFileFooter footer =
                 new RowFileFooter(
-                        totalRowCount, blockCompressedSizes.size(), indexOffset, indexLength);
+                        totalRowCount,
+                        blockCompressedSizes.size(),
+                        indexOffset,
+                        indexLength,
+                        flags);
         footer.writeTo(out);
 
         out.flush();
@@ -109,6 +139,10 @@ public class RowFormatWriter implements FormatWriter {
         out.write(compressed, 0, compressedLen);
         blockCompressedSizes.add(compressedLen);
 
+        if (statsWriter != null) {
+            statsWriter.finishBlock();
+        }
+
         blockWriter.reset();
     }
 }
@@ -21,8 +21,11 @@ package org.apache.paimon.format.row;
 import org.apache.paimon.format.FormatWriter;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.statistics.SimpleColStatsCollector;
 import org.apache.paimon.types.RowType;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 
 /** Factory for creating {@link RowFormatWriter}. */
@@ -31,15 +34,25 @@ public class RowFormatWriterFactory implements FormatWriterFactory {
     private final RowType rowType;
     private final int blockSize;
     private final int zstdLevel;
+    @Nullable private final SimpleColStatsCollector.Factory[] blockStatsCollectors;
 
     public RowFormatWriterFactory(RowType rowType, int blockSize, int zstdLevel) {
+        this(rowType, blockSize, zstdLevel, null);
+    }
+
+    public RowFormatWriterFactory(
+            RowType rowType,
+            int blockSize,
+            int zstdLevel,
+            @Nullable SimpleColStatsCollector.Factory[] blockStatsCollectors) {
         this.rowType = rowType;
         this.blockSize = blockSize;
         this.zstdLevel = zstdLevel;
+        this.blockStatsCollectors = blockStatsCollectors;
     }
 
     @Override
     public FormatWriter create(PositionOutputStream out, String compression) throws IOException {
-        return new RowFormatWriter(out, rowType, blockSize, zstdLevel);
+        return new RowFormatWriter(out, rowType, blockSize, zstdLevel, blockStatsCollectors);
     }
 }
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.format.parquet;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.BinaryVector;
 import org.apache.paimon.data.Decimal;
@@ -35,6 +36,7 @@ import org.apache.paimon.format.parquet.writer.RowDataParquetBuilder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.ArrayType;
@@ -462,6 +464,75 @@ public class ParquetReadWriteTest {
         }
     }
 
+    @RepeatedTest(10)
+    void testLateMaterialization() throws IOException {
+        Random random = new Random();
+        int recordNumber = random.nextInt(10000) + 1;
+        int batchSize = random.nextInt(1000) + 1;
+        int rowGroupSize = random.nextInt(1000) + 1;
+        List<InternalRow> records = new ArrayList<>(recordNumber);
+        for (int i = 0; i < recordNumber; i++) {
+            records.add(newRow(i % 7 == 3 ? null : i));
+        }
+        Path testPath = createTempParquetFileByPaimon(folder, records, rowGroupSize, ROW_TYPE);
+
+        // selects a prefix, a range and some scattered rows
+        int prefixEnd = random.nextInt(recordNumber);
+        int rangeStart = random.nextInt(recordNumber);
+        int rangeEnd = rangeStart + random.nextInt(recordNumber - rangeStart + 1);
+        List<Object> scattered = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            scattered.add(random.nextInt(recordNumber));
+        }
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        Predicate filter =
+                PredicateBuilder.or(
+                        builder.lessThan(4, prefixEnd),
+                        PredicateBuilder.and(
+                                builder.greaterOrEqual(4, rangeStart),
+                                builder.lessThan(4, rangeEnd)),
+                        builder.in(4, scattered));
+
+        Options options = new Options();
+        options.set(CoreOptions.READ_LATE_MATERIALIZATION, true);
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(
+                        options,
+                        ROW_TYPE.project("f0", "f1", "f4", "f7", "f10", "f21"),
+                        batchSize,
+                        Collections.singletonList(filter));
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < recordNumber; i++) {
+            if (i % 7 != 3
+                    && (i < prefixEnd
+                            || (i >= rangeStart && i < rangeEnd)
+                            || scattered.contains(i))) {
+                expected.add(i);
+            }
+        }
+        List<Integer> actual = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                testPath,
+                                new LocalFileIO().getFileSize(testPath)))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        int v = row.getInt(2);
+                        assertThat(rowPosition).isEqualTo(v);
+                        assertThat(row.getString(0).toString()).isEqualTo(String.valueOf(v));
+                        assertThat(row.getBoolean(1)).isEqualTo(v % 2 == 0);
+                        assertThat(row.getDouble(3)).isEqualTo(v);
+                        assertThat(row.getTimestamp(4, 9)).isEqualTo(toNanos(v));
+                        assertThat(row.getArray(5).getInt(0)).isEqualTo(v);
+                        actual.add(v);
+                    });
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+
     @ParameterizedTest
     @CsvSource({"10, paimon", "1000, paimon", "10, origin", "1000, origin"})
     public void testNestedRead(int rowGroupSize, String writerType) throws Exception {
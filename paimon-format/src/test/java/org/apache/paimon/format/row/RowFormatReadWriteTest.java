@@ -32,8 +32,11 @@ import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.FormatWriter;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.SeekableInputStream;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.types.ArrayType;
@@ -62,6 +65,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -1296,6 +1300,75 @@ public class RowFormatReadWriteTest {
         assertThat(results).containsExactlyInAnyOrder(100, 200);
     }
 
+    @Test
+    public void testBlockStatsSkipBlocks() throws IOException {
+        RowType rowType =
+                RowType.builder()
+                        .fields(Arrays.asList(new IntType(), new VarCharType(100)))
+                        .build();
+
+        Path path = new Path(tempDir.toUri().toString(), "block_stats.row");
+        Options options = new Options();
+        options.setString("file.block-size", "1kb");
+        options.set(RowFileFormat.BLOCK_STATS_ENABLED, true);
+        FileFormat format = FileFormat.fromIdentifier("row", options);
+
+        List<InternalRow> rows = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            rows.add(GenericRow.of(i, i < 5000 ? null : BinaryString.fromString("val" + i)));
+        }
+        writeRows(format, rowType, path, rows);
+
+        PredicateBuilder builder = new PredicateBuilder(rowType);
+        List<Integer> result = readIntsWithFilter(format, rowType, path, builder.equal(0, 5000));
+        assertThat(result).contains(5000).hasSizeLessThan(1000);
+
+        result = readIntsWithFilter(format, rowType, path, builder.between(0, 100, 200));
+        assertThat(result).contains(100, 200).hasSizeLessThan(1000);
+
+        result = readIntsWithFilter(format, rowType, path, builder.isNotNull(1));
+        assertThat(result).contains(5000, 9999).doesNotContain(0, 4000);
+
+        result = readIntsWithFilter(format, rowType, path, builder.greaterThan(0, 10000));
+        assertThat(result).isEmpty();
+
+        // filters on fields absent in the file are ignored
+        RowType otherType = RowType.builder().field("x", new IntType()).build();
+        result =
+                readIntsWithFilter(
+                        format, rowType, path, new PredicateBuilder(otherType).equal(0, 1));
+        assertThat(result).hasSize(10000);
+
+        // no statistics for fields whose stats mode is none
+        options.setString("fields.f1.stats-mode", "none");
+        format = FileFormat.fromIdentifier("row", options);
+        Path fieldNonePath = new Path(tempDir.toUri().toString(), "field_none_block_stats.row");
+        writeRows(format, rowType, fieldNonePath, rows);
+        result = readIntsWithFilter(format, rowType, fieldNonePath, builder.isNotNull(1));
+        assertThat(result).hasSize(10000);
+        result = readIntsWithFilter(format, rowType, fieldNonePath, builder.equal(0, 5000));
+        assertThat(result).contains(5000).hasSizeLessThan(1000);
+
+        // no statistics at all if the stats mode of all fields is none
+        options.setString("metadata.stats-mode", "none");
+        format = FileFormat.fromIdentifier("row", options);
+        Path allNonePath = new Path(tempDir.toUri().toString(), "all_none_block_stats.row");
+        writeRows(format, rowType, allNonePath, rows);
+        assertThat(readFooter(allNonePath).hasBlockStats()).isFalse();
+        result = readIntsWithFilter(format, rowType, allNonePath, builder.equal(0, 5000));
+        assertThat(result).hasSize(10000);
+
+        // statistics disabled
+        options.remove("fields.f1.stats-mode");
+        options.remove("metadata.stats-mode");
+        options.set(RowFileFormat.BLOCK_STATS_ENABLED, false);
+        format = FileFormat.fromIdentifier("row", options);
+        Path noStatsPath = new Path(tempDir.toUri().toString(), "no_block_stats.row");
+        writeRows(format, rowType, noStatsPath, rows);
+        result = readIntsWithFilter(format, rowType, noStatsPath, builder.equal(0, 5000));
+        assertThat(result).hasSize(10000);
+    }
+
     // ======================== Helpers ========================
 
     private void writeRows(FileFormat format, RowType rowType, Path path, List<InternalRow> rows)
@@ -1309,6 +1382,27 @@ public class RowFormatReadWriteTest {
         writer.close();
     }
 
+    private RowFileFooter readFooter(Path path) throws IOException {
+        LocalFileIO fileIO = new LocalFileIO();
+        try (SeekableInputStream in = fileIO.newInputStream(path)) {
+            return RowFileFooter.readFrom(in, fileIO.getFileSize(path));
+        }
+    }
+
+    private List<Integer> readIntsWithFilter(
+            FileFormat format, RowType rowType, Path path, Predicate filter) throws IOException {
+        LocalFileIO fileIO = new LocalFileIO();
+        FormatReaderFactory readerFactory =
+                format.createReaderFactory(rowType, rowType, Collections.singletonList(filter));
+        FileRecordReader<InternalRow> reader =
+                readerFactory.createReader(
+                        new FormatReaderContext(fileIO, path, fileIO.getFileSize(path)));
+        List<Integer> result = new ArrayList<>();
+        reader.forEachRemaining(row -> result.add(row.getInt(0)));
+        reader.close();
+        return result;
+    }
+
     private List<InternalRow> readAllRows(FileFormat format, RowType rowType, Path path)
             throws IOException {
         LocalFileIO fileIO = new LocalFileIO();
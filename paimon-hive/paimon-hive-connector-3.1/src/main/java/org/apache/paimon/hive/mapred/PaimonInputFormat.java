@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.hive.mapred;
+
+import org.apache.paimon.hive.RowDataContainer;
+import org.apache.paimon.table.FileStoreTable;
+
+import org.apache.hadoop.hive.ql.exec.Utilities;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedInputFormatInterface;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedSupport;
+import org.apache.hadoop.mapred.InputFormat;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reporter;
+
+import java.io.IOException;
+
+import static org.apache.paimon.hive.mapred.PaimonRecordReader.createRecordReader;
+import static org.apache.paimon.hive.mapred.PaimonVectorizedRecordReader.createVectorizedRecordReader;
+import static org.apache.paimon.hive.utils.HiveSplitGenerator.generateSplits;
+import static org.apache.paimon.hive.utils.HiveUtils.createFileStoreTable;
+
+/**
+ * {@link InputFormat} for paimon. It divides all files into {@link InputSplit}s (one split per
+ * bucket) and creates {@link RecordReader} for each split.
+ *
+ * <p>When Hive plans a vectorized input file format, the created {@link RecordReader} produces
+ * {@link org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch}es instead of rows.
+ *
+ * <p>NOTE: This class overrides the one of the common connector, as the vectorized input format
+ * interface of Hive 3.x requires the supported features.
+ */
+public class PaimonInputFormat
+        implements InputFormat<Void, RowDataContainer>, VectorizedInputFormatInterface {
+
+    @Override
+    public InputSplit[] getSplits(JobConf jobConf, int numSplits) {
+        FileStoreTable table = createFileStoreTable(jobConf);
+        return generateSplits(table, jobConf, numSplits);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RecordReader<Void, RowDataContainer> getRecordReader(
+            InputSplit inputSplit, JobConf jobConf, Reporter reporter) throws IOException {
+        PaimonInputSplit split = (PaimonInputSplit) inputSplit;
+        if (Utilities.getUseVectorizedInputFileFormat(jobConf)) {
+            return (RecordReader) createVectorizedRecordReader(split, jobConf);
+        }
+        return createRecordReader(split, jobConf);
+    }
+
+    @Override
+    public VectorizedSupport.Support[] getSupportedFeatures() {
+        // decimals are filled into DecimalColumnVector, DECIMAL_64 is not supported
+        return new VectorizedSupport.Support[0];
+    }
+}
@@ -0,0 +1,615 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.hive.mapred;
+
+import org.apache.paimon.data.DataGetters;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.InternalArray;
+import org.apache.paimon.data.InternalMap;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.ArrayColumnVector;
+import org.apache.paimon.data.columnar.BooleanColumnVector;
+import org.apache.paimon.data.columnar.ByteColumnVector;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.DoubleColumnVector;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.RowColumnVector;
+import org.apache.paimon.data.columnar.ShortColumnVector;
+import org.apache.paimon.data.columnar.VecColumnVector;
+import org.apache.paimon.types.ArrayType;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeChecks;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.MapType;
+import org.apache.paimon.types.MultisetType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.types.VectorType;
+import org.apache.paimon.utils.DateTimeUtils;
+
+import org.apache.hadoop.hive.common.type.HiveDecimal;
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DecimalColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ListColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.MultiValuedColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.StructColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.TimestampColumnVector;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the values of one Paimon column into a Hive {@link
+ * org.apache.hadoop.hive.ql.exec.vector.ColumnVector}. Values can either come from a Paimon {@link
+ * ColumnVector} of a vectorized batch or from {@link DataGetters} such as an {@link InternalRow}.
+ *
+ * <p>Nested types are written into the child vectors of Hive {@link ListColumnVector}s, {@link
+ * org.apache.hadoop.hive.ql.exec.vector.MapColumnVector}s and {@link StructColumnVector}s, which
+ * Hive creates when vectorization of complex types is enabled.
+ *
+ * <p>Strings and binaries of Paimon vectors are referenced by the Hive vector without copying, so
+ * the Paimon batch must not be released before Hive finishes consuming the Hive batch.
+ */
+public abstract class HiveColumnVectorWriter {
+
+    /** Writes the value at {@code rowId} of a Paimon vector to {@code index} of a Hive vector. */
+    public void write(
+            ColumnVector from,
+            int rowId,
+            org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+            int index) {
+        if (from.isNullAt(rowId)) {
+            setNull(to, index);
+        } else {
+            writeVectorValue(from, rowId, to, index);
+        }
+    }
+
+    /**
+     * Writes the field at {@code pos} of a Paimon row or array to {@code index} of a Hive vector.
+     */
+    public void write(
+            DataGetters from,
+            int pos,
+            org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+            int index) {
+        if (from.isNullAt(pos)) {
+            setNull(to, index);
+        } else {
+            writeRowValue(from, pos, to, index);
+        }
+    }
+
+    protected abstract void writeVectorValue(
+            ColumnVector from,
+            int rowId,
+            org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+            int index);
+
+    protected abstract void writeRowValue(
+            DataGetters from,
+            int pos,
+            org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+            int index);
+
+    private static void setNull(org.apache.hadoop.hive.ql.exec.vector.ColumnVector to, int index) {
+        to.noNulls = false;
+        to.isNull[index] = true;
+    }
+
+    public static HiveColumnVectorWriter create(DataType type) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                return new BooleanWriter();
+            case TINYINT:
+                return new ByteWriter();
+            case SMALLINT:
+                return new ShortWriter();
+            case INTEGER:
+            case DATE:
+                // Hive vectors store dates as epoch days, same as Paimon
+                return new IntWriter();
+            case BIGINT:
+                return new LongWriter();
+            case FLOAT:
+                return new FloatWriter();
+            case DOUBLE:
+                return new DoubleWriter();
+            case CHAR:
+                return new BytesWriter(true, true);
+            case VARCHAR:
+                return new BytesWriter(true, false);
+            case BINARY:
+            case VARBINARY:
+                return new BytesWriter(false, false);
+            case TIME_WITHOUT_TIME_ZONE:
+                return new TimeWriter();
+            case DECIMAL:
+                return new DecimalWriter(
+                        DataTypeChecks.getPrecision(type), DataTypeChecks.getScale(type));
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return new TimestampWriter(DataTypeChecks.getPrecision(type));
+            case ARRAY:
+                return new ArrayWriter(create(((ArrayType) type).getElementType()), false);
+            case VECTOR:
+                return new ArrayWriter(create(((VectorType) type).getElementType()), true);
+            case MAP:
+                MapType mapType = (MapType) type;
+                return new MapWriter(create(mapType.getKeyType()), create(mapType.getValueType()));
+            case MULTISET:
+                // Hive reads MULTISET as a map from elements to their counts
+                return new MapWriter(
+                        create(((MultisetType) type).getElementType()), create(DataTypes.INT()));
+            case ROW:
+                RowType rowType = (RowType) type;
+                HiveColumnVectorWriter[] fieldWriters =
+                        new HiveColumnVectorWriter[rowType.getFieldCount()];
+                for (int i = 0; i < fieldWriters.length; i++) {
+                    fieldWriters[i] = create(rowType.getTypeAt(i));
+                }
+                return new RowWriter(fieldWriters);
+            default:
+                throw new UnsupportedOperationException(
+                        "Type " + type + " is not supported by vectorized read.");
+        }
+    }
+
+    private static class BooleanWriter extends HiveColumnVectorWriter {
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((LongColumnVector) to).vector[index] =
+                    ((BooleanColumnVector) from).getBoolean(rowId) ? 1 : 0;
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((LongColumnVector) to).vector[index] = from.getBoolean(pos) ? 1 : 0;
+        }
+    }
+
+    private static class ByteWriter extends HiveColumnVectorWriter {
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((LongColumnVector) to).vector[index] = ((ByteColumnVector) from).getByte(rowId);
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((LongColumnVector) to).vector[index] = from.getByte(pos);
+        }
+    }
+
+    private static class ShortWriter extends HiveColumnVectorWriter {
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((LongColumnVector) to).vector[index] = ((ShortColumnVector) from).getShort(rowId);
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((LongColumnVector) to).vector[index] = from.getShort(pos);
+        }
+    }
+
+    private static class IntWriter extends HiveColumnVectorWriter {
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((LongColumnVector) to).vector[index] = ((IntColumnVector) from).getInt(rowId);
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((LongColumnVector) to).vector[index] = from.getInt(pos);
+        }
+    }
+
+    private static class LongWriter extends HiveColumnVectorWriter {
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((LongColumnVector) to).vector[index] =
+                    ((org.apache.paimon.data.columnar.LongColumnVector) from).getLong(rowId);
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((LongColumnVector) to).vector[index] = from.getLong(pos);
+        }
+    }
+
+    private static class FloatWriter extends HiveColumnVectorWriter {
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector) to).vector[index] =
+                    ((FloatColumnVector) from).getFloat(rowId);
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector) to).vector[index] =
+                    from.getFloat(pos);
+        }
+    }
+
+    private static class DoubleWriter extends HiveColumnVectorWriter {
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector) to).vector[index] =
+                    ((DoubleColumnVector) from).getDouble(rowId);
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            ((org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector) to).vector[index] =
+                    from.getDouble(pos);
+        }
+    }
+
+    private static class BytesWriter extends HiveColumnVectorWriter {
+
+        private final boolean isString;
+        // Hive vectors store CHAR values without trailing spaces
+        private final boolean stripTrailingSpaces;
+
+        private BytesWriter(boolean isString, boolean stripTrailingSpaces) {
+            this.isString = isString;
+            this.stripTrailingSpaces = stripTrailingSpaces;
+        }
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            org.apache.paimon.data.columnar.BytesColumnVector.Bytes bytes =
+                    ((org.apache.paimon.data.columnar.BytesColumnVector) from).getBytes(rowId);
+            setRef(to, index, bytes.data, bytes.offset, bytes.len);
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            // the returned bytes are copied, rows may be reused by the reader
+            byte[] bytes = isString ? from.getString(pos).toBytes() : from.getBinary(pos);
+            setRef(to, index, bytes, 0, bytes.length);
+        }
+
+        private void setRef(
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index,
+                byte[] data,
+                int offset,
+                int len) {
+            if (stripTrailingSpaces) {
+                while (len > 0 && data[offset + len - 1] == ' ') {
+                    len--;
+                }
+            }
+            ((BytesColumnVector) to).setRef(index, data, offset, len);
+        }
+    }
+
+    private static class TimeWriter extends HiveColumnVectorWriter {
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            setTime(to, index, ((IntColumnVector) from).getInt(rowId));
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            setTime(to, index, from.getInt(pos));
+        }
+
+        private static void setTime(
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to, int index, int millis) {
+            // Hive reads TIME as a string, see PaimonTimeObjectInspector
+            byte[] bytes =
+                    DateTimeUtils.toLocalTime(millis).toString().getBytes(StandardCharsets.UTF_8);
+            ((BytesColumnVector) to).setRef(index, bytes, 0, bytes.length);
+        }
+    }
+
+    private static class DecimalWriter extends HiveColumnVectorWriter {
+
+        private final int precision;
+        private final int scale;
+
+        private DecimalWriter(int precision, int scale) {
+            this.precision = precision;
+            this.scale = scale;
+        }
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            setDecimal(
+                    to,
+                    index,
+                    ((org.apache.paimon.data.columnar.DecimalColumnVector) from)
+                            .getDecimal(rowId, precision, scale));
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            setDecimal(to, index, from.getDecimal(pos, precision, scale));
+        }
+
+        private void setDecimal(
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to, int index, Decimal decimal) {
+            // HiveDecimalWritable#setFromLongAndScale is not available before Hive 2.2
+            ((DecimalColumnVector) to).set(index, HiveDecimal.create(decimal.toBigDecimal()));
+        }
+    }
+
+    private static class TimestampWriter extends HiveColumnVectorWriter {
+
+        private final int precision;
+
+        private TimestampWriter(int precision) {
+            this.precision = precision;
+        }
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            setTimestamp(
+                    to,
+                    index,
+                    ((org.apache.paimon.data.columnar.TimestampColumnVector) from)
+                            .getTimestamp(rowId, precision));
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            setTimestamp(to, index, from.getTimestamp(pos, precision));
+        }
+
+        private static void setTimestamp(
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index,
+                Timestamp timestamp) {
+            TimestampVectorWriter.write((TimestampColumnVector) to, index, timestamp);
+        }
+    }
+
+    private static class ArrayWriter extends HiveColumnVectorWriter {
+
+        private final HiveColumnVectorWriter elementWriter;
+        private final boolean isVector;
+
+        private ArrayWriter(HiveColumnVectorWriter elementWriter, boolean isVector) {
+            this.elementWriter = elementWriter;
+            this.isVector = isVector;
+        }
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            InternalArray array =
+                    isVector
+                            ? ((VecColumnVector) from).getVector(rowId)
+                            : ((ArrayColumnVector) from).getArray(rowId);
+            writeArray(array, (ListColumnVector) to, index);
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            InternalArray array = isVector ? from.getVector(pos) : from.getArray(pos);
+            writeArray(array, (ListColumnVector) to, index);
+        }
+
+        private void writeArray(InternalArray array, ListColumnVector to, int index) {
+            int offset = appendChildren(to, index, array.size());
+            to.child.ensureSize(to.childCount, true);
+            for (int i = 0; i < array.size(); i++) {
+                elementWriter.write(array, i, to.child, offset + i);
+            }
+        }
+    }
+
+    private static class MapWriter extends HiveColumnVectorWriter {
+
+        private final HiveColumnVectorWriter keyWriter;
+        private final HiveColumnVectorWriter valueWriter;
+
+        private MapWriter(HiveColumnVectorWriter keyWriter, HiveColumnVectorWriter valueWriter) {
+            this.keyWriter = keyWriter;
+            this.valueWriter = valueWriter;
+        }
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            writeMap(
+                    ((org.apache.paimon.data.columnar.MapColumnVector) from).getMap(rowId),
+                    (org.apache.hadoop.hive.ql.exec.vector.MapColumnVector) to,
+                    index);
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            writeMap(
+                    from.getMap(pos),
+                    (org.apache.hadoop.hive.ql.exec.vector.MapColumnVector) to,
+                    index);
+        }
+
+        private void writeMap(
+                InternalMap map,
+                org.apache.hadoop.hive.ql.exec.vector.MapColumnVector to,
+                int index) {
+            InternalArray keys = map.keyArray();
+            InternalArray values = map.valueArray();
+            int offset = appendChildren(to, index, map.size());
+            to.keys.ensureSize(to.childCount, true);
+            to.values.ensureSize(to.childCount, true);
+            for (int i = 0; i < map.size(); i++) {
+                keyWriter.write(keys, i, to.keys, offset + i);
+                valueWriter.write(values, i, to.values, offset + i);
+            }
+        }
+    }
+
+    /** Reserves {@code size} children for {@code index}, returns the offset of the first one. */
+    private static int appendChildren(MultiValuedColumnVector to, int index, int size) {
+        int offset = to.childCount;
+        to.offsets[index] = offset;
+        to.lengths[index] = size;
+        to.childCount = offset + size;
+        return offset;
+    }
+
+    private static class RowWriter extends HiveColumnVectorWriter {
+
+        private final HiveColumnVectorWriter[] fieldWriters;
+
+        private RowWriter(HiveColumnVectorWriter[] fieldWriters) {
+            this.fieldWriters = fieldWriters;
+        }
+
+        @Override
+        protected void writeVectorValue(
+                ColumnVector from,
+                int rowId,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            writeRow(((RowColumnVector) from).getRow(rowId), (StructColumnVector) to, index);
+        }
+
+        @Override
+        protected void writeRowValue(
+                DataGetters from,
+                int pos,
+                org.apache.hadoop.hive.ql.exec.vector.ColumnVector to,
+                int index) {
+            writeRow(from.getRow(pos, fieldWriters.length), (StructColumnVector) to, index);
+        }
+
+        private void writeRow(InternalRow row, StructColumnVector to, int index) {
+            for (int i = 0; i < fieldWriters.length; i++) {
+                fieldWriters[i].write(row, i, to.fields[i], index);
+            }
+        }
+    }
+}
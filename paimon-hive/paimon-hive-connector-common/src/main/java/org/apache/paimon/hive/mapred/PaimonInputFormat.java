@@ -21,6 +21,8 @@ package org.apache.paimon.hive.mapred;
 import org.apache.paimon.hive.RowDataContainer;
 import org.apache.paimon.table.FileStoreTable;
 
+import org.apache.hadoop.hive.ql.exec.Utilities;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedInputFormatInterface;
 import org.apache.hadoop.mapred.InputFormat;
 import org.apache.hadoop.mapred.InputSplit;
 import org.apache.hadoop.mapred.JobConf;
@@ -30,14 +32,19 @@ import org.apache.hadoop.mapred.Reporter;
 import java.io.IOException;
 
 import static org.apache.paimon.hive.mapred.PaimonRecordReader.createRecordReader;
+import static org.apache.paimon.hive.mapred.PaimonVectorizedRecordReader.createVectorizedRecordReader;
 import static org.apache.paimon.hive.utils.HiveSplitGenerator.generateSplits;
 import static org.apache.paimon.hive.utils.HiveUtils.createFileStoreTable;
 
 /**
  * {@link InputFormat} for paimon. It divides all files into {@link InputSplit}s (one split per
  * bucket) and creates {@link RecordReader} for each split.
+ *
+ * <p>When Hive plans a vectorized input file format, the created {@link RecordReader} produces
+ * {@link org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch}es instead of rows.
  */
-public class PaimonInputFormat implements InputFormat<Void, RowDataContainer> {
+public class PaimonInputFormat
+        implements InputFormat<Void, RowDataContainer>, VectorizedInputFormatInterface {
 
     @Override
     public InputSplit[] getSplits(JobConf jobConf, int numSplits) {
@@ -46,9 +53,13 @@ public class PaimonInputFormat implements InputFormat<Void, RowDataContainer> {
     }
 
     @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public RecordReader<Void, RowDataContainer> getRecordReader(
             InputSplit inputSplit, JobConf jobConf, Reporter reporter) throws IOException {
         PaimonInputSplit split = (PaimonInputSplit) inputSplit;
+        if (Utilities.getUseVectorizedInputFileFormat(jobConf)) {
+            return (RecordReader) createVectorizedRecordReader(split, jobConf);
+        }
         return createRecordReader(split, jobConf);
     }
 }
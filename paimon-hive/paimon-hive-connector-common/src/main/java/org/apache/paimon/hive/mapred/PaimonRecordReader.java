@@ -205,7 +205,7 @@ public class PaimonRecordReader implements RecordReader<Void, RowDataContainer>
         }
     }
 
-    private static String[] getSelectedColumns(JobConf jobConf) {
+    static String[] getSelectedColumns(JobConf jobConf) {
         // when using tez engine or when same table is joined multiple times,
         // it is possible that some selected columns are duplicated
         return Arrays.stream(ColumnProjectionUtils.getReadColumnNames(jobConf))
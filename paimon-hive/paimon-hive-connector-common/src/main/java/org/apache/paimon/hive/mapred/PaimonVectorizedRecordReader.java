@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.hive.mapred;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.deletionvectors.DeletionFileRecordIterator;
+import org.apache.paimon.deletionvectors.DeletionVectorJudger;
+import org.apache.paimon.reader.FileRecordIterator;
+import org.apache.paimon.reader.VectorizedRecordIterator;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.source.ReadBuilder;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.IntArrayList;
+
+import org.apache.hadoop.hive.ql.exec.Utilities;
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatchCtx;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.RecordReader;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.paimon.hive.mapred.PaimonRecordReader.getSelectedColumns;
+import static org.apache.paimon.hive.utils.HiveUtils.createPredicate;
+import static org.apache.paimon.hive.utils.HiveUtils.extractTagName;
+
+/**
+ * Vectorized {@link RecordReader} for paimon. Fills Hive {@link VectorizedRowBatch}es directly from
+ * the Paimon {@link VectorizedColumnBatch}es of vectorized file readers, and from rows for other
+ * readers (e.g. merge on read of primary key tables).
+ *
+ * <p>Only the selected columns and the partition columns of the Hive batch are filled. Columns
+ * which do not exist in Paimon are null, the partition field from tag name is filled with the tag.
+ */
+public class PaimonVectorizedRecordReader
+        implements RecordReader<NullWritable, VectorizedRowBatch> {
+
+    private final VectorizedRowBatchCtx batchCtx;
+    private final org.apache.paimon.reader.RecordReader<InternalRow> reader;
+    private final long splitLength;
+
+    // Hive column index of each Paimon field to read
+    private final int[] hiveIndexes;
+    private final HiveColumnVectorWriter[] writers;
+    private final int[] nullColumns;
+    private final int tagColumn;
+    @Nullable private final byte[] tag;
+
+    @Nullable private org.apache.paimon.reader.RecordReader.RecordIterator<InternalRow> iterator;
+    @Nullable private VectorizedColumnBatch columnBatch;
+    @Nullable private int[] rowIdMapping;
+    private int numBatchRows;
+    private int batchOffset;
+    private boolean releasePending;
+
+    private float progress;
+
+    /**
+     * @param paimonColumns columns stored in Paimon table
+     * @param selectedColumns columns we really have to read
+     * @param batchCtx context describing the columns of Hive batches
+     */
+    public PaimonVectorizedRecordReader(
+            ReadBuilder readBuilder,
+            PaimonInputSplit split,
+            List<String> paimonColumns,
+            List<String> selectedColumns,
+            VectorizedRowBatchCtx batchCtx,
+            @Nullable String tagToPartField)
+            throws IOException {
+        this.batchCtx = batchCtx;
+
+        Map<String, Integer> paimonColumnIndexMap = new HashMap<>();
+        for (int i = 0; i < paimonColumns.size(); i++) {
+            paimonColumnIndexMap.putIfAbsent(paimonColumns.get(i).toLowerCase(), i);
+        }
+
+        String[] hiveColumns = batchCtx.getRowColumnNames();
+        int dataColumnCount = batchCtx.getDataColumnCount();
+        int columnCount = dataColumnCount + batchCtx.getPartitionColumnCount();
+        IntArrayList projection = new IntArrayList(columnCount);
+        IntArrayList hiveIndexes = new IntArrayList(columnCount);
+        IntArrayList nullColumns = new IntArrayList(columnCount);
+        int tagColumn = -1;
+        for (int i = 0; i < columnCount; i++) {
+            String name = hiveColumns[i].toLowerCase();
+            if (tagToPartField != null && name.equalsIgnoreCase(tagToPartField)) {
+                tagColumn = i;
+                continue;
+            }
+
+            // partition columns are always filled by the input format
+            if (i < dataColumnCount && !selectedColumns.contains(name)) {
+                continue;
+            }
+
+            Integer paimonIndex = paimonColumnIndexMap.get(name);
+            if (paimonIndex == null) {
+                nullColumns.add(i);
+            } else {
+                projection.add(paimonIndex);
+                hiveIndexes.add(i);
+            }
+        }
+
+        readBuilder.withProjection(projection.toArray());
+        RowType readType = readBuilder.readType();
+        this.hiveIndexes = hiveIndexes.toArray();
+        this.writers = new HiveColumnVectorWriter[readType.getFieldCount()];
+        for (int i = 0; i < writers.length; i++) {
+            writers[i] = HiveColumnVectorWriter.create(readType.getTypeAt(i));
+        }
+        this.nullColumns = nullColumns.toArray();
+        this.tagColumn = tagColumn;
+        this.tag =
+                tagColumn < 0
+                        ? null
+                        : extractTagName(split.getPath().getName(), tagToPartField)
+                                .getBytes(StandardCharsets.UTF_8);
+
+        this.reader = readBuilder.newRead().createReader(split.split());
+        this.splitLength = split.getLength();
+        this.progress = 0;
+    }
+
+    @Override
+    public boolean next(NullWritable key, VectorizedRowBatch value) throws IOException {
+        if (releasePending) {
+            // the previous Hive batch may reference the bytes of the Paimon batch, so we release
+            // it only when Hive asks for the next batch
+            releaseIterator();
+        }
+
+        value.reset();
+        int numRows = 0;
+        while (numRows == 0) {
+            if (iterator == null) {
+                iterator = reader.readBatch();
+                if (iterator == null) {
+                    progress = 1;
+                    return false;
+                }
+                prepareColumnBatch(iterator);
+            }
+
+            numRows =
+                    columnBatch == null
+                            ? copyRows(value, value.getMaxSize())
+                            : copyColumnBatch(value, value.getMaxSize());
+        }
+
+        fillConstantColumns(value);
+        value.size = numRows;
+        return true;
+    }
+
+    private void prepareColumnBatch(
+            org.apache.paimon.reader.RecordReader.RecordIterator<InternalRow> iterator)
+            throws IOException {
+        columnBatch = null;
+        rowIdMapping = null;
+        batchOffset = 0;
+        if (iterator instanceof VectorizedRecordIterator) {
+            columnBatch = ((VectorizedRecordIterator) iterator).batch();
+            numBatchRows = columnBatch.getNumRows();
+        } else if (iterator instanceof DeletionFileRecordIterator
+                && ((DeletionFileRecordIterator) iterator).iterator()
+                        instanceof VectorizedRecordIterator) {
+            FileRecordIterator<InternalRow> inner =
+                    ((DeletionFileRecordIterator) iterator).iterator();
+            DeletionVectorJudger deletionVector =
+                    ((DeletionFileRecordIterator) iterator).deletionVector();
+            columnBatch = ((VectorizedRecordIterator) inner).batch();
+            int numRows = columnBatch.getNumRows();
+            IntArrayList picked = new IntArrayList(numRows);
+            for (int i = 0; i < numRows; i++) {
+                inner.next();
+                if (!deletionVector.isDeleted(inner.returnedPosition())) {
+                    picked.add(i);
+                }
+            }
+            rowIdMapping = picked.size() == numRows ? null : picked.toArray();
+            numBatchRows = picked.size();
+        }
+    }
+
+    /** Copies at most {@code maxRows} rows of the current column batch into the Hive batch. */
+    private int copyColumnBatch(VectorizedRowBatch value, int maxRows) {
+        int numRows = Math.min(maxRows, numBatchRows - batchOffset);
+        for (int i = 0; i < writers.length; i++) {
+            org.apache.paimon.data.columnar.ColumnVector from = columnBatch.columns[i];
+            ColumnVector to = value.cols[hiveIndexes[i]];
+            HiveColumnVectorWriter writer = writers[i];
+            if (rowIdMapping == null) {
+                for (int r = 0; r < numRows; r++) {
+                    writer.write(from, batchOffset + r, to, r);
+                }
+            } else {
+                for (int r = 0; r < numRows; r++) {
+                    writer.write(from, rowIdMapping[batchOffset + r], to, r);
+                }
+            }
+        }
+
+        batchOffset += numRows;
+        if (batchOffset == numBatchRows) {
+            if (numRows == 0) {
+                releaseIterator();
+            } else {
+                releasePending = true;
+            }
+        }
+        return numRows;
+    }
+
+    /** Copies at most {@code maxRows} rows of the current row iterator into the Hive batch. */
+    private int copyRows(VectorizedRowBatch value, int maxRows) throws IOException {
+        int numRows = 0;
+        while (numRows < maxRows) {
+            InternalRow row = iterator.next();
+            if (row == null) {
+                // values are copied, so the iterator can be released right now
+                releaseIterator();
+                break;
+            }
+            for (int i = 0; i < writers.length; i++) {
+                writers[i].write(row, i, value.cols[hiveIndexes[i]], numRows);
+            }
+            numRows++;
+        }
+        return numRows;
+    }
+
+    private void fillConstantColumns(VectorizedRowBatch value) {
+        for (int column : nullColumns) {
+            ColumnVector vector = value.cols[column];
+            vector.noNulls = false;
+            vector.isNull[0] = true;
+            vector.isRepeating = true;
+        }
+        if (tag != null) {
+            BytesColumnVector vector = (BytesColumnVector) value.cols[tagColumn];
+            vector.setRef(0, tag, 0, tag.length);
+            vector.isRepeating = true;
+        }
+    }
+
+    private void releaseIterator() {
+        if (iterator != null) {
+            iterator.releaseBatch();
+            iterator = null;
+        }
+        columnBatch = null;
+        rowIdMapping = null;
+        releasePending = false;
+    }
+
+    @Override
+    public NullWritable createKey() {
+        return NullWritable.get();
+    }
+
+    @Override
+    public VectorizedRowBatch createValue() {
+        return batchCtx.createVectorizedRowBatch();
+    }
+
+    @Override
+    public long getPos() throws IOException {
+        return (long) (splitLength * getProgress());
+    }
+
+    @Override
+    public void close() throws IOException {
+        releaseIterator();
+        reader.close();
+    }
+
+    @Override
+    public float getProgress() throws IOException {
+        // currently the value of progress is either 0 or 1
+        // only when the reading finishes will this be set to 1
+        return progress;
+    }
+
+    public static RecordReader<NullWritable, VectorizedRowBatch> createVectorizedRecordReader(
+            PaimonInputSplit split, JobConf jobConf) throws IOException {
+        FileStoreTable table = split.getTable();
+        ReadBuilder readBuilder = table.newReadBuilder();
+        createPredicate(table.schema(), jobConf, true).ifPresent(readBuilder::withFilter);
+        return new PaimonVectorizedRecordReader(
+                readBuilder,
+                split,
+                table.schema().fieldNames(),
+                Arrays.asList(getSelectedColumns(jobConf)),
+                Utilities.getVectorizedRowBatchCtx(jobConf),
+                table.coreOptions().tagToPartitionField());
+    }
+}
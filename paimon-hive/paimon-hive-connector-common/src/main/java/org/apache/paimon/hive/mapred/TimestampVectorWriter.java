@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.hive.mapred;
+
+import org.apache.paimon.data.Timestamp;
+
+import org.apache.hadoop.hive.ql.exec.vector.TimestampColumnVector;
+
+/**
+ * Writes Paimon {@link Timestamp}s into Hive {@link TimestampColumnVector}s. The values are
+ * consistent with {@link org.apache.paimon.hive.objectinspector.PaimonTimestampObjectInspector}.
+ *
+ * <p>NOTE: Hive 3.x uses different timestamp semantics, this class is replaced in the Hive 3.1
+ * connector.
+ */
+public class TimestampVectorWriter {
+
+    private TimestampVectorWriter() {}
+
+    public static void write(TimestampColumnVector vector, int index, Timestamp timestamp) {
+        vector.set(index, timestamp.toSQLTimestamp());
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.hive.mapred;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.GenericArray;
+import org.apache.paimon.data.GenericMap;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.hive.FileStoreTestUtils;
+import org.apache.paimon.options.CatalogOptions;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.Table;
+import org.apache.paimon.table.sink.StreamTableCommit;
+import org.apache.paimon.table.sink.StreamTableWrite;
+import org.apache.paimon.table.sink.StreamWriteBuilder;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.Split;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DecimalColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ListColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.MapColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.StructColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatchCtx;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link PaimonVectorizedRecordReader}. */
+public class PaimonVectorizedRecordReaderTest {
+
+    private static final String[] COLUMNS = new String[] {"a", "b", "c", "d"};
+    private static final TypeInfo[] TYPES =
+            new TypeInfo[] {
+                TypeInfoFactory.intTypeInfo,
+                TypeInfoFactory.longTypeInfo,
+                TypeInfoFactory.stringTypeInfo,
+                TypeInfoFactory.getDecimalTypeInfo(10, 2)
+            };
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testAppendTable() throws Exception {
+        Options conf = new Options();
+        conf.set(CatalogOptions.WAREHOUSE, tempDir.toString());
+        conf.set(CoreOptions.FILE_FORMAT, CoreOptions.FILE_FORMAT_PARQUET);
+        conf.set(CoreOptions.READ_BATCH_SIZE, 2);
+        Table table = createTable(conf, Collections.emptyList());
+
+        StreamWriteBuilder streamWriteBuilder = table.newStreamWriteBuilder();
+        StreamTableWrite write = streamWriteBuilder.newWrite();
+        StreamTableCommit commit = streamWriteBuilder.newCommit();
+        write.write(GenericRow.of(1, 10L, BinaryString.fromString("Hi"), decimal("1.10")));
+        write.write(GenericRow.of(2, null, BinaryString.fromString("Hello"), decimal("2.20")));
+        write.write(GenericRow.of(3, 30L, null, null));
+        commit.commit(0, write.prepareCommit(true, 0));
+
+        write.close();
+        commit.close();
+
+        List<String> actual = readAll(table, Arrays.asList("a", "b", "c", "d"));
+        assertThat(actual)
+                .containsExactlyInAnyOrder("1|10|Hi|1.1", "2|null|Hello|2.2", "3|30|null|null");
+    }
+
+    @Test
+    public void testProjectionPushdown() throws Exception {
+        Options conf = new Options();
+        conf.set(CatalogOptions.WAREHOUSE, tempDir.toString());
+        conf.set(CoreOptions.FILE_FORMAT, CoreOptions.FILE_FORMAT_ORC);
+        Table table = createTable(conf, Collections.emptyList());
+
+        StreamWriteBuilder streamWriteBuilder = table.newStreamWriteBuilder();
+        StreamTableWrite write = streamWriteBuilder.newWrite();
+        StreamTableCommit commit = streamWriteBuilder.newCommit();
+        write.write(GenericRow.of(1, 10L, BinaryString.fromString("Hi"), decimal("1.10")));
+        write.write(GenericRow.of(2, 20L, BinaryString.fromString("Hello"), decimal("2.20")));
+        write.write(GenericRow.of(1, 10L, BinaryString.fromString("Hi"), decimal("1.10")));
+        commit.commit(0, write.prepareCommit(true, 0));
+
+        write.close();
+        commit.close();
+
+        Map<String, Integer> actual = new HashMap<>();
+        for (String value : readAll(table, Arrays.asList("c", "a"))) {
+            actual.compute(value, (k, v) -> (v == null ? 0 : v) + 1);
+        }
+
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("1|Hi", 2);
+        expected.put("2|Hello", 1);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void testPk() throws Exception {
+        Options conf = new Options();
+        conf.set(CatalogOptions.WAREHOUSE, tempDir.toString());
+        conf.set(CoreOptions.FILE_FORMAT, CoreOptions.FILE_FORMAT_AVRO);
+        conf.set("bucket", "1");
+        Table table = createTable(conf, Collections.singletonList("a"));
+
+        StreamWriteBuilder streamWriteBuilder = table.newStreamWriteBuilder();
+        StreamTableWrite write = streamWriteBuilder.newWrite();
+        StreamTableCommit commit = streamWriteBuilder.newCommit();
+        write.write(GenericRow.of(1, 10L, BinaryString.fromString("Hi"), decimal("1.10")));
+        write.write(GenericRow.of(2, 20L, BinaryString.fromString("Hello"), decimal("2.20")));
+        write.write(GenericRow.of(3, 30L, BinaryString.fromString("World"), decimal("3.30")));
+        write.write(GenericRow.of(1, 11L, BinaryString.fromString("Hi again"), decimal("1.11")));
+        write.write(
+                GenericRow.ofKind(
+                        RowKind.DELETE, 2, 20L, BinaryString.fromString("Hello"), decimal("2.20")));
+        commit.commit(0, write.prepareCommit(true, 0));
+
+        write.close();
+        commit.close();
+
+        List<String> actual = readAll(table, Arrays.asList("a", "b", "c", "d"));
+        assertThat(actual).containsExactlyInAnyOrder("1|11|Hi again|1.11", "3|30|World|3.3");
+    }
+
+    @Test
+    public void testNestedTypes() throws Exception {
+        String[] columns = new String[] {"id", "arr", "m", "r"};
+        TypeInfo[] types =
+                new TypeInfo[] {
+                    TypeInfoFactory.intTypeInfo,
+                    TypeInfoFactory.getListTypeInfo(TypeInfoFactory.stringTypeInfo),
+                    TypeInfoFactory.getMapTypeInfo(
+                            TypeInfoFactory.stringTypeInfo, TypeInfoFactory.intTypeInfo),
+                    TypeInfoFactory.getStructTypeInfo(
+                            Arrays.asList("x", "y"),
+                            Arrays.asList(
+                                    TypeInfoFactory.intTypeInfo, TypeInfoFactory.stringTypeInfo))
+                };
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {
+                            DataTypes.INT(),
+                            DataTypes.ARRAY(DataTypes.STRING()),
+                            DataTypes.MAP(DataTypes.STRING(), DataTypes.INT()),
+                            DataTypes.ROW(
+                                    DataTypes.FIELD(4, "x", DataTypes.INT()),
+                                    DataTypes.FIELD(5, "y", DataTypes.STRING()))
+                        },
+                        columns);
+
+        // parquet fills Hive vectors from Paimon vectors, avro of primary key tables from rows
+        for (String format : Arrays.asList("parquet", "avro")) {
+            Options conf = new Options();
+            conf.set(CatalogOptions.WAREHOUSE, tempDir.resolve(format).toString());
+            conf.set(CoreOptions.FILE_FORMAT, format);
+            conf.set(CoreOptions.READ_BATCH_SIZE, 2);
+            List<String> primaryKeys = Collections.emptyList();
+            if (format.equals("avro")) {
+                conf.set("bucket", "1");
+                primaryKeys = Collections.singletonList("id");
+            }
+            Table table =
+                    FileStoreTestUtils.createFileStoreTable(
+                            conf, rowType, Collections.emptyList(), primaryKeys);
+
+            StreamWriteBuilder streamWriteBuilder = table.newStreamWriteBuilder();
+            StreamTableWrite write = streamWriteBuilder.newWrite();
+            StreamTableCommit commit = streamWriteBuilder.newCommit();
+            Map<BinaryString, Integer> map = new HashMap<>();
+            map.put(BinaryString.fromString("k"), 1);
+            write.write(
+                    GenericRow.of(
+                            1,
+                            new GenericArray(
+                                    new Object[] {
+                                        BinaryString.fromString("a"),
+                                        null,
+                                        BinaryString.fromString("b")
+                                    }),
+                            new GenericMap(map),
+                            GenericRow.of(10, BinaryString.fromString("x"))));
+            write.write(
+                    GenericRow.of(
+                            2,
+                            new GenericArray(new Object[0]),
+                            null,
+                            GenericRow.of(null, BinaryString.fromString("y"))));
+            write.write(
+                    GenericRow.of(
+                            3,
+                            new GenericArray(new Object[] {BinaryString.fromString("c")}),
+                            new GenericMap(map),
+                            null));
+            commit.commit(0, write.prepareCommit(true, 0));
+
+            write.close();
+            commit.close();
+
+            PaimonVectorizedRecordReader reader =
+                    read(
+                            table,
+                            BinaryRow.EMPTY_ROW,
+                            0,
+                            Arrays.asList(columns),
+                            new VectorizedRowBatchCtx(columns, types, null, 0, new String[0]));
+            VectorizedRowBatch batch = reader.createValue();
+            List<String> actual = new ArrayList<>();
+            while (reader.next(reader.createKey(), batch)) {
+                for (int i = 0; i < batch.size; i++) {
+                    List<String> values = new ArrayList<>();
+                    for (ColumnVector vector : batch.cols) {
+                        values.add(toString(vector, i));
+                    }
+                    actual.add(String.join("|", values));
+                }
+            }
+            reader.close();
+
+            assertThat(actual)
+                    .containsExactlyInAnyOrder(
+                            "1|[a, null, b]|{k=1}|(10, x)",
+                            "2|[]|null|(null, y)",
+                            "3|[c]|{k=1}|null");
+        }
+    }
+
+    private Table createTable(Options conf, List<String> primaryKeys) throws Exception {
+        return FileStoreTestUtils.createFileStoreTable(
+                conf,
+                RowType.of(
+                        new DataType[] {
+                            DataTypes.INT(),
+                            DataTypes.BIGINT(),
+                            DataTypes.STRING(),
+                            DataTypes.DECIMAL(10, 2)
+                        },
+                        COLUMNS),
+                Collections.emptyList(),
+                primaryKeys);
+    }
+
+    private static Decimal decimal(String value) {
+        return Decimal.fromBigDecimal(new BigDecimal(value), 10, 2);
+    }
+
+    private List<String> readAll(Table table, List<String> selectedColumns) throws Exception {
+        PaimonVectorizedRecordReader reader = read(table, BinaryRow.EMPTY_ROW, 0, selectedColumns);
+        VectorizedRowBatch batch = reader.createValue();
+        List<String> result = new ArrayList<>();
+        while (reader.next(reader.createKey(), batch)) {
+            for (int i = 0; i < batch.size; i++) {
+                // columns which are not selected are not filled
+                List<String> values = new ArrayList<>();
+                for (int column = 0; column < COLUMNS.length; column++) {
+                    if (selectedColumns.contains(COLUMNS[column])) {
+                        values.add(toString(batch.cols[column], i));
+                    }
+                }
+                result.add(String.join("|", values));
+            }
+        }
+        reader.close();
+        return result;
+    }
+
+    private static String toString(ColumnVector vector, int i) {
+        int index = vector.isRepeating ? 0 : i;
+        if (!vector.noNulls && vector.isNull[index]) {
+            return "null";
+        }
+        if (vector instanceof LongColumnVector) {
+            return String.valueOf(((LongColumnVector) vector).vector[index]);
+        } else if (vector instanceof BytesColumnVector) {
+            BytesColumnVector bytes = (BytesColumnVector) vector;
+            return new String(
+                    bytes.vector[index],
+                    bytes.start[index],
+                    bytes.length[index],
+                    StandardCharsets.UTF_8);
+        } else if (vector instanceof DecimalColumnVector) {
+            return ((DecimalColumnVector) vector).vector[index].toString();
+        } else if (vector instanceof ListColumnVector) {
+            ListColumnVector list = (ListColumnVector) vector;
+            List<String> elements = new ArrayList<>();
+            for (long j = 0; j < list.lengths[index]; j++) {
+                elements.add(toString(list.child, (int) (list.offsets[index] + j)));
+            }
+            return elements.toString();
+        } else if (vector instanceof MapColumnVector) {
+            MapColumnVector map = (MapColumnVector) vector;
+            List<String> entries = new ArrayList<>();
+            for (long j = 0; j < map.lengths[index]; j++) {
+                int child = (int) (map.offsets[index] + j);
+                entries.add(toString(map.keys, child) + "=" + toString(map.values, child));
+            }
+            return "{" + String.join(", ", entries) + "}";
+        } else if (vector instanceof StructColumnVector) {
+            return Arrays.stream(((StructColumnVector) vector).fields)
+                    .map(field -> toString(field, index))
+                    .collect(Collectors.joining(", ", "(", ")"));
+        }
+        throw new UnsupportedOperationException("Unexpected vector " + vector);
+    }
+
+    private PaimonVectorizedRecordReader read(
+            Table table, BinaryRow partition, int bucket, List<String> selectedColumns)
+            throws Exception {
+        return read(
+                table,
+                partition,
+                bucket,
+                selectedColumns,
+                new VectorizedRowBatchCtx(COLUMNS, TYPES, null, 0, new String[0]));
+    }
+
+    private PaimonVectorizedRecordReader read(
+            Table table,
+            BinaryRow partition,
+            int bucket,
+            List<String> selectedColumns,
+            VectorizedRowBatchCtx batchCtx)
+            throws Exception {
+        for (Split split : table.newReadBuilder().newScan().plan().splits()) {
+            DataSplit dataSplit = (DataSplit) split;
+            if (dataSplit.partition().equals(partition) && dataSplit.bucket() == bucket) {
+                return new PaimonVectorizedRecordReader(
+                        table.newReadBuilder(),
+                        new PaimonInputSplit(tempDir.toString(), dataSplit, (FileStoreTable) table),
+                        ((FileStoreTable) table).schema().fieldNames(),
+                        selectedColumns,
+                        batchCtx,
+                        null);
+            }
+        }
+        throw new IllegalArgumentException(
+                "Input split not found for partition " + partition + " and bucket " + bucket);
+    }
+}
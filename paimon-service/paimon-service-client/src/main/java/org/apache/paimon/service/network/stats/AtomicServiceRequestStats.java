@@ -18,11 +18,16 @@
 
 package org.apache.paimon.service.network.stats;
 
+import org.apache.paimon.metrics.DescriptiveStatisticsHistogram;
+import org.apache.paimon.metrics.Histogram;
+
 import java.util.concurrent.atomic.AtomicLong;
 
 /** Atomic {@link ServiceRequestStats} implementation. */
 public class AtomicServiceRequestStats implements ServiceRequestStats {
 
+    private static final int HISTOGRAM_WINDOW_SIZE = 10_000;
+
     /** Number of active connections. */
     private final AtomicLong numConnections = new AtomicLong();
 
@@ -38,6 +43,13 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
     /** Total number of failed requests (<= reported requests). */
     private final AtomicLong numFailed = new AtomicLong();
 
+    /** Time requests waited for an execution thread. */
+    private final Histogram queueTime = new DescriptiveStatisticsHistogram(HISTOGRAM_WINDOW_SIZE);
+
+    /** Time requests spent on their execution thread. */
+    private final Histogram executionTime =
+            new DescriptiveStatisticsHistogram(HISTOGRAM_WINDOW_SIZE);
+
     @Override
     public void reportActiveConnection() {
         numConnections.incrementAndGet();
@@ -64,6 +76,16 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
         numFailed.incrementAndGet();
     }
 
+    @Override
+    public void reportRequestQueueTime(long queueTimeMillis) {
+        queueTime.update(queueTimeMillis);
+    }
+
+    @Override
+    public void reportRequestExecutionTime(long executionTimeMillis) {
+        executionTime.update(executionTimeMillis);
+    }
+
     public long getNumConnections() {
         return numConnections.get();
     }
@@ -80,6 +102,14 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
         return numFailed.get();
     }
 
+    public Histogram getQueueTime() {
+        return queueTime;
+    }
+
+    public Histogram getExecutionTime() {
+        return executionTime;
+    }
+
     @Override
     public String toString() {
         return "AtomicServiceRequestStats{"
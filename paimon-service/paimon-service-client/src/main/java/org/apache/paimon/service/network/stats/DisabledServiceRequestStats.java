@@ -35,4 +35,10 @@ public class DisabledServiceRequestStats implements ServiceRequestStats {
 
     @Override
     public void reportFailedRequest() {}
+
+    @Override
+    public void reportRequestQueueTime(long queueTimeMillis) {}
+
+    @Override
+    public void reportRequestExecutionTime(long executionTimeMillis) {}
 }
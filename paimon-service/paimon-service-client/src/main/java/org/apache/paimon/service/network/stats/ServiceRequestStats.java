@@ -39,4 +39,18 @@ public interface ServiceRequestStats {
 
     /** Reports a failure during a request. */
     void reportFailedRequest();
+
+    /**
+     * Reports the time a request waited for an execution thread.
+     *
+     * @param queueTimeMillis Time between submission and start of execution (in milliseconds).
+     */
+    void reportRequestQueueTime(long queueTimeMillis);
+
+    /**
+     * Reports the time a request spent on its execution thread.
+     *
+     * @param executionTimeMillis Execution time of the request (in milliseconds).
+     */
+    void reportRequestExecutionTime(long executionTimeMillis);
 }
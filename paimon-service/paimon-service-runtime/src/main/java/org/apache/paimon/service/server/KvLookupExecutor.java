@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.service.server;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.service.exceptions.ServerBusyException;
+import org.apache.paimon.service.network.stats.ServiceRequestStats;
+import org.apache.paimon.utils.ExecutorThreadFactory;
+import org.apache.paimon.utils.MurmurHashUtils;
+import org.apache.paimon.utils.Preconditions;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes lookups of a {@link KvQueryServer} on dedicated threads.
+ *
+ * <p>Every partition and bucket is pinned to one single-threaded executor, so the lookup state of a
+ * bucket stays on one thread and a cold bucket only delays requests which share its thread. Each
+ * executor has a bounded queue, a request which does not fit into it is rejected with a {@link
+ * ServerBusyException} instead of piling up.
+ *
+ * <p>Servers receive the buckets of {@link org.apache.paimon.table.sink.ChannelComputer#select}, so
+ * the executor is chosen by a different hash. Otherwise the buckets of one server would only reach
+ * some of its executors.
+ */
+public class KvLookupExecutor {
+
+    private final String serverName;
+    private final ServiceRequestStats stats;
+    private final ThreadPoolExecutor[] executors;
+
+    public KvLookupExecutor(
+            String serverName, int numThreads, int queueCapacity, ServiceRequestStats stats) {
+        Preconditions.checkArgument(numThreads >= 1, "Non-positive number of lookup threads.");
+        Preconditions.checkArgument(queueCapacity >= 1, "Non-positive lookup queue capacity.");
+        this.serverName = serverName;
+        this.stats = stats;
+        this.executors = new ThreadPoolExecutor[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            executors[i] =
+                    new ThreadPoolExecutor(
+                            1,
+                            1,
+                            0L,
+                            TimeUnit.MILLISECONDS,
+                            new LinkedBlockingQueue<>(queueCapacity),
+                            new ExecutorThreadFactory(
+                                    "Paimon " + serverName + " Lookup Thread " + i));
+        }
+    }
+
+    /** Runs the lookup on the executor owning the given partition and bucket. */
+    public <T> CompletableFuture<T> submit(BinaryRow partition, int bucket, Callable<T> lookup) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submitNanos = System.nanoTime();
+        Runnable task =
+                () -> {
+                    long startNanos = System.nanoTime();
+                    stats.reportRequestQueueTime(
+                            TimeUnit.NANOSECONDS.toMillis(startNanos - submitNanos));
+                    try {
+                        future.complete(lookup.call());
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    } finally {
+                        stats.reportRequestExecutionTime(
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                    }
+                };
+
+        try {
+            executors[executorIndex(partition, bucket)].execute(task);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new ServerBusyException(serverName));
+        }
+        return future;
+    }
+
+    private int executorIndex(BinaryRow partition, int bucket) {
+        int hash = MurmurHashUtils.fmix(partition.hashCode() * 31 + bucket);
+        return Math.floorMod(hash, executors.length);
+    }
+
+    public void shutdown() {
+        for (ThreadPoolExecutor executor : executors) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -40,10 +40,36 @@ public class KvQueryServer extends NetworkServer<KvRequest, KvResponse> implemen
 
     private static final Logger LOG = LoggerFactory.getLogger(KvQueryServer.class);
 
+    public static final int DEFAULT_LOOKUP_QUEUE_CAPACITY = 1024;
+
     private final int serverId;
     private final int numServers;
     private final TableQuery lookup;
     private final ServiceRequestStats stats;
+    private final int numLookupThreads;
+    private final int lookupQueueCapacity;
+
+    public KvQueryServer(
+            final int serverId,
+            final int numServers,
+            final String bindAddress,
+            final Iterator<Integer> bindPortIterator,
+            final Integer numEventLoopThreads,
+            final Integer numQueryThreads,
+            final TableQuery lookup,
+            final ServiceRequestStats stats) {
+        this(
+                serverId,
+                numServers,
+                bindAddress,
+                bindPortIterator,
+                numEventLoopThreads,
+                numQueryThreads,
+                numQueryThreads,
+                DEFAULT_LOOKUP_QUEUE_CAPACITY,
+                lookup,
+                stats);
+    }
 
     public KvQueryServer(
             final int serverId,
@@ -52,6 +78,8 @@ public class KvQueryServer extends NetworkServer<KvRequest, KvResponse> implemen
             final Iterator<Integer> bindPortIterator,
             final Integer numEventLoopThreads,
             final Integer numQueryThreads,
+            final int numLookupThreads,
+            final int lookupQueueCapacity,
             final TableQuery lookup,
             final ServiceRequestStats stats) {
         super(
@@ -64,6 +92,8 @@ public class KvQueryServer extends NetworkServer<KvRequest, KvResponse> implemen
         this.numServers = numServers;
         this.stats = Preconditions.checkNotNull(stats);
         this.lookup = Preconditions.checkNotNull(lookup);
+        this.numLookupThreads = numLookupThreads;
+        this.lookupQueueCapacity = lookupQueueCapacity;
     }
 
     @Override
@@ -72,7 +102,10 @@ public class KvQueryServer extends NetworkServer<KvRequest, KvResponse> implemen
                 new MessageSerializer<>(
                         new KvRequest.KvRequestDeserializer(),
                         new KvResponse.KvResponseDeserializer());
-        return new KvServerHandler(this, serverId, numServers, lookup, serializer, stats);
+        KvLookupExecutor lookupExecutor =
+                new KvLookupExecutor(getServerName(), numLookupThreads, lookupQueueCapacity, stats);
+        return new KvServerHandler(
+                this, serverId, numServers, lookup, lookupExecutor, serializer, stats);
     }
 
     @Override
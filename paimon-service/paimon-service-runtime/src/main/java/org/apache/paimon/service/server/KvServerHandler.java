@@ -33,6 +33,8 @@ import org.apache.paimon.utils.Preconditions;
 
 import org.apache.paimon.shade.netty4.io.netty.channel.ChannelHandler;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.apache.paimon.table.sink.ChannelComputer.select;
@@ -42,8 +44,9 @@ import static org.apache.paimon.table.sink.ChannelComputer.select;
  * channel.
  *
  * <p>The network threads receive the message, deserialize it and dispatch the query task. The
- * actual query is handled in a separate thread as it might otherwise block the network threads
- * (file I/O etc.).
+ * actual lookup is handled by a {@link KvLookupExecutor}, which pins every bucket to one lookup
+ * thread and rejects requests when its queue is full, as it might otherwise block the network
+ * threads (file I/O etc.).
  */
 @ChannelHandler.Sharable
 public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse> {
@@ -51,13 +54,15 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
     private final int serverId;
     private final int numServers;
     private final TableQuery lookup;
-    private final InternalRowSerializer valueSerializer;
+    private final KvLookupExecutor lookupExecutor;
+    private final ThreadLocal<InternalRowSerializer> valueSerializer;
 
     /**
      * Create the handler used by the {@link KvQueryServer}.
      *
      * @param server the {@link KvQueryServer} using the handler.
      * @param lookup to be queried.
+     * @param lookupExecutor the executor running the lookups.
      * @param serializer the {@link MessageSerializer} used to (de-) serialize the different
      *     messages.
      * @param stats server statistics collector.
@@ -67,52 +72,59 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
             final int serverId,
             final int numServers,
             final TableQuery lookup,
+            final KvLookupExecutor lookupExecutor,
             final MessageSerializer<KvRequest, KvResponse> serializer,
             final ServiceRequestStats stats) {
         super(server, serializer, stats);
         this.serverId = serverId;
         this.numServers = numServers;
         this.lookup = Preconditions.checkNotNull(lookup);
-        this.valueSerializer = lookup.createValueSerializer();
+        this.lookupExecutor = Preconditions.checkNotNull(lookupExecutor);
+        this.valueSerializer = ThreadLocal.withInitial(lookup::createValueSerializer);
     }
 
     @Override
     public CompletableFuture<KvResponse> handleRequest(
             final long requestId, final KvRequest request) {
-        final CompletableFuture<KvResponse> responseFuture = new CompletableFuture<>();
-
         int selectServerId = select(request.partition(), request.bucket(), numServers);
         if (selectServerId != serverId) {
+            final CompletableFuture<KvResponse> responseFuture = new CompletableFuture<>();
             responseFuture.completeExceptionally(
                     new UnknownPartitionBucketException(getServerName()));
             return responseFuture;
         }
 
+        return lookupExecutor.submit(
+                request.partition(), request.bucket(), () -> lookup(requestId, request));
+    }
+
+    private KvResponse lookup(final long requestId, final KvRequest request) {
         try {
+            InternalRowSerializer valueSerializer = this.valueSerializer.get();
             BinaryRow[] keys = request.keys();
             BinaryRow[] values = new BinaryRow[keys.length];
+            List<InternalRow> results =
+                    this.lookup.lookup(request.partition(), request.bucket(), Arrays.asList(keys));
             for (int i = 0; i < values.length; i++) {
-                InternalRow value =
-                        this.lookup.lookup(request.partition(), request.bucket(), keys[i]);
+                InternalRow value = results.get(i);
                 if (value != null) {
                     values[i] = valueSerializer.toBinaryRow(value).copy();
                 }
             }
-            responseFuture.complete(new KvResponse(values));
-            return responseFuture;
+            return new KvResponse(values);
         } catch (Throwable t) {
             String errMsg =
                     "Error while processing request with ID "
                             + requestId
                             + ". Caused by: "
                             + ExceptionUtils.stringifyException(t);
-            responseFuture.completeExceptionally(new RuntimeException(errMsg));
-            return responseFuture;
+            throw new RuntimeException(errMsg);
         }
     }
 
     @Override
     public CompletableFuture<Void> shutdown() {
+        lookupExecutor.shutdown();
         return CompletableFuture.completedFuture(null);
     }
 }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.service.server;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.service.exceptions.ServerBusyException;
+import org.apache.paimon.service.network.stats.AtomicServiceRequestStats;
+import org.apache.paimon.table.sink.ChannelComputer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link KvLookupExecutor}. */
+class KvLookupExecutorTest {
+
+    @Test
+    void testBucketAffinity() throws Exception {
+        AtomicServiceRequestStats stats = new AtomicServiceRequestStats();
+        KvLookupExecutor executor = new KvLookupExecutor("test", 4, 16, stats);
+        try {
+            Set<String> threads = new HashSet<>();
+            for (int i = 0; i < 10; i++) {
+                threads.add(
+                        executor.submit(
+                                        BinaryRow.EMPTY_ROW,
+                                        3,
+                                        () -> Thread.currentThread().getName())
+                                .get());
+            }
+            assertThat(threads).hasSize(1);
+            assertThat(stats.getQueueTime().getCount()).isEqualTo(10);
+            assertThat(stats.getExecutionTime().getCount()).isEqualTo(10);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testBucketsOfOneServerUseAllExecutors() throws Exception {
+        KvLookupExecutor executor =
+                new KvLookupExecutor("test", 4, 16, new AtomicServiceRequestStats());
+        try {
+            Set<String> threads = new HashSet<>();
+            for (int bucket = 0; bucket < 64; bucket++) {
+                // buckets routed to server 0 of 2 servers
+                if (ChannelComputer.select(BinaryRow.EMPTY_ROW, bucket, 2) == 0) {
+                    threads.add(
+                            executor.submit(
+                                            BinaryRow.EMPTY_ROW,
+                                            bucket,
+                                            () -> Thread.currentThread().getName())
+                                    .get());
+                }
+            }
+            assertThat(threads).hasSize(4);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testRejectWhenQueueIsFull() throws Exception {
+        KvLookupExecutor executor =
+                new KvLookupExecutor("test", 1, 1, new AtomicServiceRequestStats());
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Integer> blocking =
+                    executor.submit(
+                            BinaryRow.EMPTY_ROW,
+                            0,
+                            () -> {
+                                running.countDown();
+                                release.await();
+                                return 1;
+                            });
+            running.await();
+            CompletableFuture<Integer> queued = executor.submit(BinaryRow.EMPTY_ROW, 0, () -> 2);
+            CompletableFuture<Integer> rejected = executor.submit(BinaryRow.EMPTY_ROW, 0, () -> 3);
+
+            assertThatThrownBy(rejected::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(ServerBusyException.class);
+
+            release.countDown();
+            assertThat(blocking.get()).isEqualTo(1);
+            assertThat(queued.get()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
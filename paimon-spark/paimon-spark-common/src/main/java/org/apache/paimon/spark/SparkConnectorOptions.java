@@ -137,6 +137,15 @@ public class SparkConnectorOptions {
                     .withDescription(
                             "Whether to allow full scan when reading a partitioned table.");
 
+    public static final ConfigOption<Boolean> READ_COLUMNAR_ENABLED =
+            key("read.columnar.enabled")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to return columnar batches to Spark for batch scans whose splits "
+                                    + "can be read without merging and whose columns are all of primitive types. "
+                                    + "Scans with merge-on-read splits or metadata columns always read rows.");
+
     public static final ConfigOption<Boolean> SOURCE_SPLIT_TARGET_SIZE_WITH_COLUMN_PRUNING =
             key("source.split.target-size-with-column-pruning")
                     .booleanType()
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark.data;
+
+import org.apache.paimon.data.columnar.BooleanColumnVector;
+import org.apache.paimon.data.columnar.ByteColumnVector;
+import org.apache.paimon.data.columnar.BytesColumnVector;
+import org.apache.paimon.data.columnar.DecimalColumnVector;
+import org.apache.paimon.data.columnar.DoubleColumnVector;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.LongColumnVector;
+import org.apache.paimon.data.columnar.ShortColumnVector;
+import org.apache.paimon.data.columnar.TimestampColumnVector;
+import org.apache.paimon.spark.DataConverter;
+import org.apache.paimon.spark.SparkTypeUtils;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeChecks;
+import org.apache.paimon.types.RowType;
+
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarArray;
+import org.apache.spark.sql.vectorized.ColumnarMap;
+import org.apache.spark.unsafe.types.UTF8String;
+
+import javax.annotation.Nullable;
+
+/**
+ * A Spark {@link ColumnVector} which reads values from a Paimon {@link
+ * org.apache.paimon.data.columnar.ColumnVector} without copying them. Strings and binaries are
+ * served from the underlying bytes vector, so dictionary encoded columns are decoded lazily by the
+ * Paimon vector.
+ *
+ * <p>An optional row id mapping selects the visible rows of the underlying vector, e.g. the rows
+ * which are not deleted by a deletion vector.
+ */
+public class PaimonColumnVector extends ColumnVector {
+
+    private final DataType paimonType;
+    private final boolean isTimestamp;
+    private final int precision;
+    private final int scale;
+
+    private org.apache.paimon.data.columnar.ColumnVector vector;
+    @Nullable private int[] rowIdMapping;
+    private int numRows;
+    private int numNulls = -1;
+
+    public PaimonColumnVector(DataType paimonType) {
+        super(SparkTypeUtils.fromPaimonType(paimonType));
+        this.paimonType = paimonType;
+        switch (paimonType.getTypeRoot()) {
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                this.isTimestamp = true;
+                this.precision = DataTypeChecks.getPrecision(paimonType);
+                this.scale = 0;
+                break;
+            case DECIMAL:
+                this.isTimestamp = false;
+                this.precision = DataTypeChecks.getPrecision(paimonType);
+                this.scale = DataTypeChecks.getScale(paimonType);
+                break;
+            default:
+                this.isTimestamp = false;
+                this.precision = 0;
+                this.scale = 0;
+        }
+    }
+
+    /** Points this vector to a new Paimon vector, only the mapped rows are visible if present. */
+    public PaimonColumnVector replace(
+            org.apache.paimon.data.columnar.ColumnVector vector,
+            int numRows,
+            @Nullable int[] rowIdMapping) {
+        this.vector = vector;
+        this.numRows = numRows;
+        this.rowIdMapping = rowIdMapping;
+        this.numNulls = -1;
+        return this;
+    }
+
+    public DataType paimonType() {
+        return paimonType;
+    }
+
+    private int rowId(int rowId) {
+        return rowIdMapping == null ? rowId : rowIdMapping[rowId];
+    }
+
+    @Override
+    public void close() {
+        // the underlying vector is owned by the Paimon reader
+    }
+
+    @Override
+    public boolean hasNull() {
+        return numNulls() > 0;
+    }
+
+    @Override
+    public int numNulls() {
+        if (numNulls < 0) {
+            int count = 0;
+            for (int i = 0; i < numRows; i++) {
+                if (vector.isNullAt(rowId(i))) {
+                    count++;
+                }
+            }
+            numNulls = count;
+        }
+        return numNulls;
+    }
+
+    @Override
+    public boolean isNullAt(int rowId) {
+        return vector.isNullAt(rowId(rowId));
+    }
+
+    @Override
+    public boolean getBoolean(int rowId) {
+        return ((BooleanColumnVector) vector).getBoolean(rowId(rowId));
+    }
+
+    @Override
+    public byte getByte(int rowId) {
+        return ((ByteColumnVector) vector).getByte(rowId(rowId));
+    }
+
+    @Override
+    public short getShort(int rowId) {
+        return ((ShortColumnVector) vector).getShort(rowId(rowId));
+    }
+
+    @Override
+    public int getInt(int rowId) {
+        return ((IntColumnVector) vector).getInt(rowId(rowId));
+    }
+
+    @Override
+    public long getLong(int rowId) {
+        if (isTimestamp) {
+            return DataConverter.fromPaimon(
+                    ((TimestampColumnVector) vector).getTimestamp(rowId(rowId), precision));
+        }
+        return ((LongColumnVector) vector).getLong(rowId(rowId));
+    }
+
+    @Override
+    public float getFloat(int rowId) {
+        return ((FloatColumnVector) vector).getFloat(rowId(rowId));
+    }
+
+    @Override
+    public double getDouble(int rowId) {
+        return ((DoubleColumnVector) vector).getDouble(rowId(rowId));
+    }
+
+    @Override
+    public Decimal getDecimal(int rowId, int precision, int scale) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        org.apache.paimon.data.Decimal decimal =
+                ((DecimalColumnVector) vector).getDecimal(rowId(rowId), precision, scale);
+        if (decimal.isCompact()) {
+            return Decimal.createUnsafe(decimal.toUnscaledLong(), precision, scale);
+        }
+        return DataConverter.fromPaimon(decimal);
+    }
+
+    @Override
+    public UTF8String getUTF8String(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        BytesColumnVector.Bytes bytes = ((BytesColumnVector) vector).getBytes(rowId(rowId));
+        return UTF8String.fromBytes(bytes.data, bytes.offset, bytes.len);
+    }
+
+    @Override
+    public byte[] getBinary(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        return ((BytesColumnVector) vector).getBytes(rowId(rowId)).getBytes();
+    }
+
+    @Override
+    public ColumnarArray getArray(int rowId) {
+        throw new UnsupportedOperationException(
+                "Nested type " + paimonType + " is not supported by columnar read.");
+    }
+
+    @Override
+    public ColumnarMap getMap(int ordinal) {
+        throw new UnsupportedOperationException(
+                "Nested type " + paimonType + " is not supported by columnar read.");
+    }
+
+    @Override
+    public ColumnVector getChild(int ordinal) {
+        throw new UnsupportedOperationException(
+                "Nested type " + paimonType + " is not supported by columnar read.");
+    }
+
+    /** Whether all the fields of the row type can be read through {@link PaimonColumnVector}. */
+    public static boolean isSupported(RowType rowType) {
+        if (rowType.getFieldCount() == 0) {
+            return false;
+        }
+        for (DataType type : rowType.getFieldTypes()) {
+            if (!isSupported(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSupported(DataType type) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+            case DECIMAL:
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
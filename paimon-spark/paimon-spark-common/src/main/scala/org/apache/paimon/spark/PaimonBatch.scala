@@ -28,12 +28,13 @@ case class PaimonBatch(
     inputPartitions: Seq[PaimonInputPartition],
     readBuilder: ReadBuilder,
     blobAsDescriptor: Boolean,
-    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty)
+    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty,
+    columnarBatchSize: Option[Int] = None)
   extends Batch {
 
   override def planInputPartitions(): Array[InputPartition] =
     inputPartitions.map(_.asInstanceOf[InputPartition]).toArray
 
   override def createReaderFactory(): PartitionReaderFactory =
-    PaimonPartitionReaderFactory(readBuilder, metadataColumns, blobAsDescriptor)
+    PaimonPartitionReaderFactory(readBuilder, metadataColumns, blobAsDescriptor, columnarBatchSize)
 }
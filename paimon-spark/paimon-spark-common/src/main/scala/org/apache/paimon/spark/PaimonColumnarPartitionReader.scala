@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark
+
+import org.apache.paimon.data.{InternalRow => PaimonInternalRow}
+import org.apache.paimon.data.columnar.{ColumnVectorUtils, RowToColumnConverter, VectorizedColumnBatch}
+import org.apache.paimon.data.columnar.writable.WritableColumnVector
+import org.apache.paimon.deletionvectors.DeletionFileRecordIterator
+import org.apache.paimon.disk.IOManager
+import org.apache.paimon.fs.Path
+import org.apache.paimon.reader.{FileRecordIterator, RecordReader, VectorizedRecordIterator}
+import org.apache.paimon.spark.SparkUtils.createIOManager
+import org.apache.paimon.spark.data.PaimonColumnVector
+import org.apache.paimon.spark.util.SplitUtils
+import org.apache.paimon.table.source.{ReadBuilder, Split}
+import org.apache.paimon.utils.IntArrayList
+
+import org.apache.spark.sql.PaimonUtils
+import org.apache.spark.sql.connector.metric.CustomTaskMetric
+import org.apache.spark.sql.connector.read.PartitionReader
+import org.apache.spark.sql.vectorized.{ColumnarBatch, ColumnVector}
+
+import java.util.concurrent.TimeUnit.NANOSECONDS
+
+import scala.collection.JavaConverters._
+
+/**
+ * A [[PartitionReader]] which returns Spark [[ColumnarBatch]]es. Batches produced by vectorized
+ * file readers are exposed to Spark without copying, batches of other readers are materialized into
+ * reusable column vectors of at most `batchSize` rows.
+ */
+case class PaimonColumnarPartitionReader(
+    readBuilder: ReadBuilder,
+    partition: PaimonInputPartition,
+    batchSize: Int)
+  extends PartitionReader[ColumnarBatch] {
+
+  private val splits: Iterator[Split] = partition.splits.toIterator
+  private val ioManager: IOManager = createIOManager()
+  private lazy val read = readBuilder.newRead().withIOManager(ioManager)
+
+  private val readType = readBuilder.readType()
+  private val vectors: Array[PaimonColumnVector] =
+    readType.getFieldTypes.asScala.map(new PaimonColumnVector(_)).toArray
+  private val columnarBatch = new ColumnarBatch(vectors.map(_.asInstanceOf[ColumnVector]))
+
+  // Used for the iterators which are not backed by a vectorized batch
+  private lazy val rowToColumnConverter = new RowToColumnConverter(readType)
+  private lazy val writableVectors: Array[WritableColumnVector] =
+    readType.getFieldTypes.asScala
+      .map(ColumnVectorUtils.createWritableColumnVector(batchSize, _))
+      .toArray
+
+  private var currentReader: RecordReader[PaimonInternalRow] = readSplit()
+  private var currentIterator: RecordReader.RecordIterator[PaimonInternalRow] = _
+  private var rowBased = false
+  private var lastFilePath: Path = _
+  private var readBatchTimeNs: Long = 0L
+
+  override def next(): Boolean = {
+    if (!rowBased) {
+      releaseIterator()
+    }
+
+    var hasNext = false
+    while (!hasNext && currentReader != null) {
+      if (currentIterator == null) {
+        currentIterator = readBatch()
+        if (currentIterator == null) {
+          currentReader.close()
+          currentReader = readSplit()
+        } else {
+          rowBased = !replaceVectorized(currentIterator)
+          if (!rowBased) {
+            hasNext = columnarBatch.numRows() > 0
+            if (!hasNext) {
+              releaseIterator()
+            }
+          }
+        }
+      }
+
+      if (rowBased && currentIterator != null) {
+        hasNext = materializeRows() > 0
+      }
+    }
+    hasNext
+  }
+
+  override def get(): ColumnarBatch = columnarBatch
+
+  /** Points the Spark vectors to the batch of a vectorized iterator, returns false if it is not. */
+  private def replaceVectorized(
+      iterator: RecordReader.RecordIterator[PaimonInternalRow]): Boolean = {
+    iterator match {
+      case vectorized: VectorizedRecordIterator =>
+        replaceVectors(vectorized.batch(), null)
+      case deletion: DeletionFileRecordIterator
+          if deletion.iterator().isInstanceOf[VectorizedRecordIterator] =>
+        val inner = deletion.iterator()
+        val batch = inner.asInstanceOf[VectorizedRecordIterator].batch()
+        if (batch.getArity != vectors.length) {
+          false
+        } else {
+          val deletionVector = deletion.deletionVector()
+          val numRows = batch.getNumRows
+          val picked = new IntArrayList(numRows)
+          var i = 0
+          while (i < numRows) {
+            inner.next()
+            if (!deletionVector.isDeleted(inner.returnedPosition())) {
+              picked.add(i)
+            }
+            i += 1
+          }
+          replaceVectors(batch, if (picked.size() == numRows) null else picked.toArray)
+        }
+      case _ => false
+    }
+  }
+
+  private def replaceVectors(batch: VectorizedColumnBatch, rowIdMapping: Array[Int]): Boolean = {
+    if (batch.getArity != vectors.length) {
+      false
+    } else {
+      val numRows = if (rowIdMapping == null) batch.getNumRows else rowIdMapping.length
+      var i = 0
+      while (i < vectors.length) {
+        vectors(i).replace(batch.columns(i), numRows, rowIdMapping)
+        i += 1
+      }
+      columnarBatch.setNumRows(numRows)
+      true
+    }
+  }
+
+  /** Copies at most `batchSize` rows of the current row based iterator into column vectors. */
+  private def materializeRows(): Int = {
+    writableVectors.foreach(_.reset())
+    var numRows = 0
+    var exhausted = false
+    while (!exhausted && numRows < batchSize) {
+      val row = currentIterator.next()
+      if (row == null) {
+        exhausted = true
+      } else {
+        rowToColumnConverter.convert(row, writableVectors)
+        numRows += 1
+      }
+    }
+
+    if (exhausted) {
+      releaseIterator()
+      rowBased = false
+    }
+
+    var i = 0
+    while (i < vectors.length) {
+      vectors(i).replace(writableVectors(i), numRows, null)
+      i += 1
+    }
+    columnarBatch.setNumRows(numRows)
+    numRows
+  }
+
+  private def readBatch(): RecordReader.RecordIterator[PaimonInternalRow] = {
+    val startTimeNs = System.nanoTime()
+    val iter = currentReader.readBatch()
+    iter match {
+      case fileRecordIterator: FileRecordIterator[_] =>
+        if (lastFilePath != fileRecordIterator.filePath()) {
+          PaimonUtils.setInputFileName(fileRecordIterator.filePath().toString)
+          lastFilePath = fileRecordIterator.filePath()
+        }
+      case _ =>
+    }
+    readBatchTimeNs += System.nanoTime() - startTimeNs
+    iter
+  }
+
+  private def releaseIterator(): Unit = {
+    if (currentIterator != null) {
+      currentIterator.releaseBatch()
+      currentIterator = null
+    }
+  }
+
+  private def readSplit(): RecordReader[PaimonInternalRow] = {
+    if (splits.hasNext) {
+      read.createReader(splits.next())
+    } else {
+      null
+    }
+  }
+
+  // Partition metrics need to be computed only once.
+  private lazy val partitionMetrics: Array[CustomTaskMetric] = {
+    val numSplits = partition.splits.length
+    val splitSize = partition.splits.map(SplitUtils.splitSize).sum
+    Array(
+      PaimonNumSplitsTaskMetric(numSplits),
+      PaimonPartitionSizeTaskMetric(splitSize)
+    )
+  }
+
+  override def currentMetricsValues(): Array[CustomTaskMetric] = {
+    partitionMetrics ++ Array(PaimonReadBatchTimeTaskMetric(NANOSECONDS.toMillis(readBatchTimeNs)))
+  }
+
+  override def close(): Unit = {
+    try {
+      releaseIterator()
+      if (currentReader != null) {
+        currentReader.close()
+      }
+    } finally {
+      ioManager.close()
+      PaimonUtils.unsetInputFileName()
+    }
+  }
+}
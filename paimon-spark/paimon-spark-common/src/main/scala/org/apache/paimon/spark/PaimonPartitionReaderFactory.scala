@@ -23,13 +23,19 @@ import org.apache.paimon.table.source.ReadBuilder
 
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.connector.read.{InputPartition, PartitionReader, PartitionReaderFactory}
+import org.apache.spark.sql.vectorized.ColumnarBatch
 
 import java.util.Objects
 
+/**
+ * A [[PartitionReaderFactory]] for paimon. Columnar reads are used for all partitions when
+ * `columnarBatchSize` is defined, otherwise rows are returned.
+ */
 case class PaimonPartitionReaderFactory(
     readBuilder: ReadBuilder,
     metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty,
-    blobAsDescriptor: Boolean)
+    blobAsDescriptor: Boolean,
+    columnarBatchSize: Option[Int] = None)
   extends PartitionReaderFactory {
 
   override def createReader(partition: InputPartition): PartitionReader[InternalRow] = {
@@ -41,10 +47,25 @@ case class PaimonPartitionReaderFactory(
     }
   }
 
+  override def supportColumnarReads(partition: InputPartition): Boolean = {
+    columnarBatchSize.isDefined
+  }
+
+  override def createColumnarReader(partition: InputPartition): PartitionReader[ColumnarBatch] = {
+    partition match {
+      case paimonInputPartition: PaimonInputPartition if columnarBatchSize.isDefined =>
+        PaimonColumnarPartitionReader(readBuilder, paimonInputPartition, columnarBatchSize.get)
+      case _ =>
+        throw new RuntimeException(s"Cannot create columnar reader for partition $partition")
+    }
+  }
+
   override def equals(obj: Any): Boolean = {
     obj match {
       case other: PaimonPartitionReaderFactory =>
-        this.readBuilder.equals(other.readBuilder) && this.metadataColumns == other.metadataColumns
+        this.readBuilder.equals(other.readBuilder) &&
+        this.metadataColumns == other.metadataColumns &&
+        this.columnarBatchSize == other.columnarBatchSize
 
       case _ => false
     }
@@ -22,16 +22,18 @@ import org.apache.paimon.CoreOptions
 import org.apache.paimon.partition.PartitionPredicate
 import org.apache.paimon.predicate.{FullTextSearch, HybridSearch, Predicate, TopN, VectorSearch}
 import org.apache.paimon.spark.{PaimonBatch, PaimonInputPartition, PaimonNumSplitMetric, PaimonPartitionSizeMetric, PaimonReadBatchTimeMetric, PaimonResultedTableFilesMetric, PaimonResultedTableFilesTaskMetric, SparkTypeUtils}
+import org.apache.paimon.spark.data.PaimonColumnVector
 import org.apache.paimon.spark.schema.PaimonMetadataColumn
 import org.apache.paimon.spark.schema.PaimonMetadataColumn._
 import org.apache.paimon.spark.util.{OptionUtils, SplitUtils}
 import org.apache.paimon.table.{SpecialFields, Table}
-import org.apache.paimon.table.source.{ReadBuilder, Split}
+import org.apache.paimon.table.source.{DataSplit, ReadBuilder, Split}
 import org.apache.paimon.types.RowType
 
 import org.apache.spark.internal.Logging
 import org.apache.spark.sql.connector.metric.{CustomMetric, CustomTaskMetric}
 import org.apache.spark.sql.connector.read.{Batch, Scan, Statistics, SupportsReportStatistics}
+import org.apache.spark.sql.internal.SQLConf
 import org.apache.spark.sql.types.StructType
 
 import scala.collection.JavaConverters._
@@ -144,7 +146,37 @@ trait BaseScan extends Scan with SupportsReportStatistics with Logging {
   override def toBatch: Batch = {
     val metadataColumns = metadataFields.map(
       field => PaimonMetadataColumn.get(field.name, SparkTypeUtils.toSparkPartitionType(table)))
-    PaimonBatch(inputPartitions, readBuilder, coreOptions.blobAsDescriptor(), metadataColumns)
+    val partitions = inputPartitions
+    val columnarBatchSize = if (supportColumnarRead(partitions, metadataColumns)) {
+      Some(coreOptions.toConfiguration.get(CoreOptions.READ_BATCH_SIZE).intValue())
+    } else {
+      None
+    }
+    PaimonBatch(
+      partitions,
+      readBuilder,
+      coreOptions.blobAsDescriptor(),
+      metadataColumns,
+      columnarBatchSize)
+  }
+
+  /**
+   * Spark requires all the partitions of a scan to be either columnar or row based, so columnar
+   * batches are only returned when no split needs to be merged on read.
+   */
+  private def supportColumnarRead(
+      partitions: Seq[PaimonInputPartition],
+      metadataColumns: Seq[PaimonMetadataColumn]): Boolean = {
+    val sqlConf = SQLConf.get
+    OptionUtils.readColumnarEnabled() &&
+    metadataColumns.isEmpty &&
+    sqlConf.wholeStageEnabled &&
+    readTableRowType.getFieldCount <= sqlConf.wholeStageMaxNumFields &&
+    PaimonColumnVector.isSupported(readTableRowType) &&
+    partitions.forall(_.splits.forall {
+      case dataSplit: DataSplit => dataSplit.rawConvertible()
+      case _ => false
+    })
   }
 
   def estimateStatistics: Statistics = {
@@ -138,6 +138,10 @@ object OptionUtils extends SQLConfHelper with Logging {
     getOptionString(SparkConnectorOptions.READ_ALLOW_FULL_SCAN).toBoolean
   }
 
+  def readColumnarEnabled(): Boolean = {
+    getOptionString(SparkConnectorOptions.READ_COLUMNAR_ENABLED).toBoolean
+  }
+
   def sourceSplitTargetSizeWithColumnPruning(): Boolean = {
     getOptionString(SparkConnectorOptions.SOURCE_SPLIT_TARGET_SIZE_WITH_COLUMN_PRUNING).toBoolean
   }
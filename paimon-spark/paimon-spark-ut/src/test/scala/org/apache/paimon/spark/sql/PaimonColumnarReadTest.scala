@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark.sql
+
+import org.apache.paimon.spark.PaimonSparkTestBase
+
+import org.apache.spark.sql.Row
+import org.apache.spark.sql.execution.ColumnarToRowExec
+
+class PaimonColumnarReadTest extends PaimonSparkTestBase {
+
+  private def supportColumnarReads(sqlText: String): Boolean = {
+    val batch = getPaimonScan(sqlText).toBatch
+    val factory = batch.createReaderFactory()
+    val partitions = batch.planInputPartitions()
+    partitions.nonEmpty && partitions.forall(factory.supportColumnarReads)
+  }
+
+  private def checkColumnarConsistent(sqlText: String): Unit = {
+    var expected: Array[Row] = null
+    withSparkSQLConf("spark.paimon.read.columnar.enabled" -> "false") {
+      expected = sql(sqlText).collect()
+    }
+    checkAnswer(sql(sqlText), expected)
+  }
+
+  Seq("parquet", "orc", "avro").foreach {
+    format =>
+      test(s"Paimon columnar read: append table with $format") {
+        withTable("T") {
+          sql(s"""
+                 |CREATE TABLE T (
+                 |  a BOOLEAN, b TINYINT, c SMALLINT, d INT, e BIGINT, f FLOAT, g DOUBLE,
+                 |  h STRING, i BINARY, j DECIMAL(10, 2), k DECIMAL(30, 5), l DATE, m TIMESTAMP,
+                 |  pt STRING)
+                 |PARTITIONED BY (pt)
+                 |TBLPROPERTIES ('file.format' = '$format', 'read.batch-size' = '3')
+                 |""".stripMargin)
+          sql("""
+                |INSERT INTO T VALUES
+                |(true, 1, 2, 3, 4, 5.5, 6.6, 'a', X'01', 1.23, 12345.678, DATE '2024-01-01',
+                | TIMESTAMP '2024-01-01 10:00:00', 'p1'),
+                |(false, null, null, null, null, null, null, null, null, null, null, null, null, 'p1'),
+                |(true, 7, 8, 9, 10, 11.5, 12.6, 'b', X'0203', 4.56, 0.00001, DATE '2024-02-02',
+                | TIMESTAMP '2024-02-02 20:00:00', 'p2')
+                |""".stripMargin)
+          sql("INSERT INTO T SELECT * FROM T")
+          sql("INSERT INTO T SELECT * FROM T")
+
+          assert(supportColumnarReads("SELECT * FROM T"))
+          val plan = sql("SELECT * FROM T").queryExecution.executedPlan
+          assert(plan.find(_.isInstanceOf[ColumnarToRowExec]).isDefined)
+
+          checkColumnarConsistent("SELECT * FROM T")
+          checkColumnarConsistent("SELECT h, pt, d FROM T WHERE d > 3")
+          checkColumnarConsistent("SELECT pt, count(*), sum(e), max(h) FROM T GROUP BY pt")
+          checkAnswer(sql("SELECT count(*) FROM T WHERE h IS NULL"), Row(4))
+        }
+      }
+  }
+
+  test("Paimon columnar read: primary key table") {
+    withTable("T") {
+      sql("""
+            |CREATE TABLE T (id INT, name STRING, v DOUBLE)
+            |TBLPROPERTIES ('primary-key' = 'id', 'bucket' = '1')
+            |""".stripMargin)
+      sql("INSERT INTO T VALUES (1, 'a', 1.0), (2, 'b', 2.0)")
+      sql("INSERT INTO T VALUES (1, 'c', 3.0)")
+
+      // merge on read keeps the row path
+      assert(!supportColumnarReads("SELECT * FROM T"))
+      checkAnswer(sql("SELECT * FROM T ORDER BY id"), Seq(Row(1, "c", 3.0), Row(2, "b", 2.0)))
+
+      sql("CALL sys.compact(table => 'T')")
+      assert(supportColumnarReads("SELECT * FROM T"))
+      checkAnswer(sql("SELECT * FROM T ORDER BY id"), Seq(Row(1, "c", 3.0), Row(2, "b", 2.0)))
+    }
+  }
+
+  test("Paimon columnar read: deletion vectors") {
+    withTable("T") {
+      sql("""
+            |CREATE TABLE T (id INT, name STRING)
+            |TBLPROPERTIES (
+            |  'primary-key' = 'id', 'bucket' = '1', 'deletion-vectors.enabled' = 'true')
+            |""".stripMargin)
+      sql("INSERT INTO T SELECT id, CAST(id AS STRING) FROM range(0, 100)")
+      sql("DELETE FROM T WHERE id % 3 = 0")
+
+      assert(supportColumnarReads("SELECT * FROM T"))
+      checkColumnarConsistent("SELECT * FROM T")
+      checkAnswer(sql("SELECT count(*) FROM T"), Row(66))
+    }
+  }
+
+  test("Paimon columnar read: fallback to row read") {
+    withTable("T") {
+      sql("CREATE TABLE T (id INT, tags ARRAY<STRING>)")
+      sql("INSERT INTO T VALUES (1, array('a', 'b'))")
+
+      // nested types
+      assert(!supportColumnarReads("SELECT * FROM T"))
+      // metadata columns
+      assert(!supportColumnarReads("SELECT id, __paimon_file_path FROM T"))
+      assert(supportColumnarReads("SELECT id FROM T"))
+
+      withSparkSQLConf("spark.paimon.read.columnar.enabled" -> "false") {
+        assert(!supportColumnarReads("SELECT id FROM T"))
+      }
+    }
+  }
+}